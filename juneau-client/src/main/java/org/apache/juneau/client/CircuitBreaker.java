@@ -0,0 +1,119 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+/**
+ * Tracks failures against a single route and stops requests from being sent while the route appears to be down.
+ * <p>
+ * 	The breaker starts {@link State#CLOSED CLOSED}.
+ * 	After <code>failureThreshold</code> consecutive failures it becomes {@link State#OPEN OPEN}, and calls fail
+ * 	immediately without contacting the server.
+ * 	After <code>openMillis</code> it becomes {@link State#HALF_OPEN HALF_OPEN} and lets a single trial request through.
+ * 	If that request succeeds the breaker closes again, otherwise it reopens.
+ * <p>
+ * 	Instances are created per route (scheme, host and port) by {@link RestClient#setCircuitBreaker(int, long)}.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class CircuitBreaker {
+
+	/** Circuit breaker states. */
+	public static enum State {
+
+		/** Requests are allowed. */
+		CLOSED,
+
+		/** Requests fail immediately. */
+		OPEN,
+
+		/** A single trial request is allowed. */
+		HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openMillis;
+	private State state = State.CLOSED;
+	private int failures;
+	private long openedAt;
+	private boolean trialInProgress;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param failureThreshold The number of consecutive failures that cause the breaker to open.
+	 * @param openMillis The number of milliseconds the breaker stays open before allowing a trial request.
+	 */
+	public CircuitBreaker(int failureThreshold, long openMillis) {
+		this.failureThreshold = Math.max(failureThreshold, 1);
+		this.openMillis = openMillis;
+	}
+
+	/**
+	 * Returns whether a request should be sent.
+	 * <p>
+	 * 	If this method returns <jk>true</jk>, the caller must report the outcome by calling either {@link #onSuccess()} or {@link #onFailure()}.
+	 *
+	 * @return <jk>true</jk> if the request is allowed.
+	 */
+	public synchronized boolean allowRequest() {
+		if (state == State.CLOSED)
+			return true;
+		if (state == State.OPEN) {
+			if (System.currentTimeMillis() - openedAt < openMillis)
+				return false;
+			state = State.HALF_OPEN;
+			trialInProgress = false;
+		}
+		if (trialInProgress)
+			return false;
+		trialInProgress = true;
+		return true;
+	}
+
+	/**
+	 * Records a successful request.
+	 */
+	public synchronized void onSuccess() {
+		failures = 0;
+		trialInProgress = false;
+		state = State.CLOSED;
+	}
+
+	/**
+	 * Records a failed request.
+	 */
+	public synchronized void onFailure() {
+		failures++;
+		trialInProgress = false;
+		if (state == State.HALF_OPEN || failures >= failureThreshold) {
+			state = State.OPEN;
+			openedAt = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * Returns the current state of this breaker.
+	 *
+	 * @return The current state of this breaker.
+	 */
+	public synchronized State getState() {
+		if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis)
+			return State.HALF_OPEN;
+		return state;
+	}
+
+	@Override /* Object */
+	public synchronized String toString() {
+		return "CircuitBreaker{state=" + getState() + ",failures=" + failures + "}";
+	}
+}
@@ -0,0 +1,95 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+/**
+ * Retry policy that waits exponentially longer between attempts, with random jitter.
+ * <p>
+ * 	The delay before retry <code>n</code> is <code>initialDelay * multiplier<sup>n-1</sup></code> capped at <code>maxDelay</code>,
+ * 	minus a random amount up to <code>jitter</code> times that value.
+ * 	The jitter prevents clients that failed at the same time from retrying in lockstep against a recovering server.
+ *
+ * <h6 class='topic'>Example:</h6>
+ * <p class='bcode'>
+ * 	<jc>// Retry up to 3 times on 503 or connection errors, waiting around 100ms, 200ms, then 400ms.</jc>
+ * 	RetryPolicy p = <jk>new</jk> ExponentialBackoff(3, 100, 1000, <jk>new</jk> RetryOn() {
+ * 		<jk>public boolean</jk> onCode(<jk>int</jk> code) {
+ * 			<jk>return</jk> code == -1 || code == 503;
+ * 		}
+ * 	});
+ * 	client.setRetryPolicy(p);
+ * </p>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class ExponentialBackoff implements RetryPolicy {
+
+	private final int maxRetries;
+	private final long initialDelay, maxDelay;
+	private final RetryOn retryOn;
+	private volatile double multiplier = 2, jitter = 0.5;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxRetries The maximum number of retries (not including the first attempt).
+	 * @param initialDelay The delay in milliseconds before the first retry.
+	 * @param maxDelay The maximum delay in milliseconds between attempts.
+	 * @param retryOn Optional object used for determining whether a response code is retryable.
+	 * 	If <jk>null</jk>, uses {@link RetryOn#DEFAULT}.
+	 */
+	public ExponentialBackoff(int maxRetries, long initialDelay, long maxDelay, RetryOn retryOn) {
+		this.maxRetries = maxRetries;
+		this.initialDelay = Math.max(initialDelay, 0);
+		this.maxDelay = Math.max(maxDelay, this.initialDelay);
+		this.retryOn = (retryOn == null ? RetryOn.DEFAULT : retryOn);
+	}
+
+	/**
+	 * Sets the factor the delay is multiplied by after each attempt.
+	 * <p>
+	 * 	The default value is <code>2</code>.
+	 * 	A value of <code>1</code> results in a fixed interval between attempts.
+	 *
+	 * @param multiplier The new multiplier.
+	 * @return This object (for method chaining).
+	 */
+	public ExponentialBackoff setMultiplier(double multiplier) {
+		this.multiplier = Math.max(multiplier, 1);
+		return this;
+	}
+
+	/**
+	 * Sets the maximum fraction of the delay that's randomly subtracted from it.
+	 * <p>
+	 * 	The default value is <code>0.5</code>.
+	 * 	A value of <code>0</code> disables jitter, and a value of <code>1</code> results in a random delay between zero and the computed delay.
+	 *
+	 * @param jitter The new jitter value between <code>0</code> and <code>1</code>.
+	 * @return This object (for method chaining).
+	 */
+	public ExponentialBackoff setJitter(double jitter) {
+		this.jitter = Math.min(Math.max(jitter, 0), 1);
+		return this;
+	}
+
+	@Override /* RetryPolicy */
+	public long getDelay(int attempt, int httpResponseCode, Exception e) {
+		if (attempt > maxRetries || ! retryOn.onCode(httpResponseCode))
+			return -1;
+		double d = Math.min(initialDelay * Math.pow(multiplier, attempt-1), maxDelay);
+		if (jitter > 0)
+			d -= d * jitter * Math.random();
+		return (long)d;
+	}
+}
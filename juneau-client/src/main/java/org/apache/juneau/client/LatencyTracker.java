@@ -0,0 +1,58 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+import java.util.*;
+
+/**
+ * Keeps the most recent request latencies for a route so that percentiles can be computed for hedged requests.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class LatencyTracker {
+
+	private static final int SIZE = 128, MIN_SAMPLES = 20;
+
+	private final long[] samples = new long[SIZE];
+	private int count, next;
+
+	/**
+	 * Records the latency of a successful request.
+	 *
+	 * @param millis The latency in milliseconds.
+	 */
+	synchronized void record(long millis) {
+		samples[next] = millis;
+		next = (next + 1) % SIZE;
+		if (count < SIZE)
+			count++;
+	}
+
+	/**
+	 * Returns the specified percentile of the recorded latencies.
+	 *
+	 * @param percentile The percentile between <code>0</code> and <code>100</code>.
+	 * @return The latency in milliseconds, or <code>-1</code> if not enough requests have been recorded yet.
+	 */
+	long getPercentile(double percentile) {
+		long[] l;
+		synchronized(this) {
+			if (count < MIN_SAMPLES)
+				return -1;
+			l = Arrays.copyOf(samples, count);
+		}
+		Arrays.sort(l);
+		int i = (int)Math.ceil(percentile / 100 * l.length) - 1;
+		return l[Math.min(Math.max(i, 0), l.length-1)];
+	}
+}
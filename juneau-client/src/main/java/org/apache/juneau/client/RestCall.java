@@ -15,6 +15,7 @@ package org.apache.juneau.client;
 import java.io.*;
 import java.net.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.logging.*;
 import java.util.regex.*;
 
@@ -57,16 +58,15 @@ import org.apache.juneau.utils.*;
 public final class RestCall {
 
 	private final RestClient client;                       // The client that created this call.
-	private final HttpRequestBase request;                 // The request.
+	private HttpRequestBase request;                       // The request.  Replaced by the hedged copy if that one wins.
 	private HttpResponse response;                         // The response.
 	private List<RestCallInterceptor> interceptors = new ArrayList<RestCallInterceptor>();               // Used for intercepting and altering requests.
 
 	private boolean isConnected = false;                   // connect() has been called.
 	private boolean allowRedirectsOnPosts;
-	private int retries = 1;
 	private int redirectOnPostsTries = 5;
-	private long retryInterval = -1;
-	private RetryOn retryOn = RetryOn.DEFAULT;
+	private RetryPolicy retryPolicy;                       // Null if this call should not be retried.
+	private boolean isRetryable;                           // setRetryable() or setRetryPolicy() was called on this call.
 	private boolean ignoreErrors;
 	private boolean byLines = false;
 	private TeeWriter writers = new TeeWriter();
@@ -86,6 +86,7 @@ public final class RestCall {
 	protected RestCall(RestClient client, HttpRequestBase request) throws RestCallException {
 		this.client = client;
 		this.request = request;
+		this.retryPolicy = client.retryPolicy;
 		for (RestCallInterceptor i : this.client.interceptors)
 			addInterceptor(i);
 	}
@@ -101,15 +102,18 @@ public final class RestCall {
 	 * 		<li>{@link Object} - POJO to be converted to text using the {@link Serializer} registered with the {@link RestClient}.
 	 * 		<li>{@link HttpEntity} - Bypass Juneau serialization and pass HttpEntity directly to HttpClient.
 	 * 	</ul>
+	 * 	POJOs are serialized once and the result is reused if the request is retried or redirected.
+	 * 	To serialize a very large POJO directly to the connection instead, pass in a {@link RestRequestEntity} with
+	 * 	{@link RestRequestEntity#setStreaming(boolean)} enabled.
 	 * @return This object (for method chaining).
 	 * @throws RestCallException If a retry was attempted, but the entity was not repeatable.
 	 */
 	public RestCall setInput(final Object input) throws RestCallException {
 		if (! (request instanceof HttpEntityEnclosingRequestBase))
 			throw new RestCallException(0, "Method does not support content entity.", request.getMethod(), request.getURI(), null);
-		HttpEntity entity = (input instanceof HttpEntity ? (HttpEntity)input : new RestRequestEntity(input, client.serializer));
+		HttpEntity entity = (input instanceof HttpEntity ? (HttpEntity)input : new RestRequestEntity(input, client.serializer).setEncoder(client.requestEncoder));
 		((HttpEntityEnclosingRequestBase)request).setEntity(entity);
-		if (retries > 1 && ! entity.isRepeatable())
+		if (isRetryable && retryPolicy != null && ! entity.isRepeatable())
 			throw new RestCallException("Rest call set to retryable, but entity is not repeatable.");
 		return this;
 	}
@@ -130,8 +134,11 @@ public final class RestCall {
 
 	/**
 	 * Make this call retryable if an error response (>=400) is received.
+	 * <p>
+	 * 	Equivalent to calling {@link #setRetryPolicy(RetryPolicy)} with an {@link ExponentialBackoff} with a
+	 * 	multiplier of <code>1</code> and no jitter.
 	 *
-	 * @param retries The number of retries to attempt.
+	 * @param retries The number of attempts to make (including the first attempt).
 	 * @param interval The time in milliseconds between attempts.
 	 * @param retryOn Optional object used for determining whether a retry should be attempted.
 	 * 	If <jk>null</jk>, uses {@link RetryOn#DEFAULT}.
@@ -139,16 +146,27 @@ public final class RestCall {
 	 * @throws RestCallException If current entity is not repeatable.
 	 */
 	public RestCall setRetryable(int retries, long interval, RetryOn retryOn) throws RestCallException {
-		if (request instanceof HttpEntityEnclosingRequestBase) {
-		HttpEntity e = ((HttpEntityEnclosingRequestBase)request).getEntity();
-		if (e != null && ! e.isRepeatable())
-			throw new RestCallException("Attempt to make call retryable, but entity is not repeatable.");
+		return setRetryPolicy(retries > 1 ? new ExponentialBackoff(retries-1, interval, interval, retryOn).setMultiplier(1).setJitter(0) : null);
+	}
+
+	/**
+	 * Sets the policy used to decide whether and when this call is retried.
+	 * <p>
+	 * 	Overrides the policy set by {@link RestClient#setRetryPolicy(RetryPolicy)}.
+	 *
+	 * @param retryPolicy The retry policy, or <jk>null</jk> to disable retries.
+	 * @return This object (for method chaining).
+	 * @throws RestCallException If current entity is not repeatable.
+	 */
+	public RestCall setRetryPolicy(RetryPolicy retryPolicy) throws RestCallException {
+		if (retryPolicy != null && request instanceof HttpEntityEnclosingRequestBase) {
+			HttpEntity e = ((HttpEntityEnclosingRequestBase)request).getEntity();
+			if (e != null && ! e.isRepeatable())
+				throw new RestCallException("Attempt to make call retryable, but entity is not repeatable.");
 		}
-		this.retries = retries;
-		this.retryInterval = interval;
-		this.retryOn = (retryOn == null ? RetryOn.DEFAULT : retryOn);
+		this.retryPolicy = retryPolicy;
+		this.isRetryable = true;
 		return this;
-
 	}
 
 	/**
@@ -503,11 +521,31 @@ public final class RestCall {
 
 		try {
 			int sc = 0;
-			while (retries > 0) {
-				retries--;
+			CircuitBreaker cb = client.getCircuitBreaker(request.getURI());
+			RetryBudget budget = client.retryBudget;
+			RetryPolicy rp = retryPolicy;
+			if (rp != null && request instanceof HttpEntityEnclosingRequestBase) {
+				HttpEntity e = ((HttpEntityEnclosingRequestBase)request).getEntity();
+				if (e != null && ! e.isRepeatable())
+					rp = null;
+			}
+			if (budget != null)
+				budget.onRequest();
+			AtomicReference<HttpRequestBase> sent = new AtomicReference<HttpRequestBase>();
+			for (int attempt = 1; ; attempt++) {
 				Exception ex = null;
+				if (cb != null && ! cb.allowRequest()) {
+					ex = new RestCallException(String.format("Circuit breaker is open for the route of '%s'.", request.getURI()));
+					for (RestCallInterceptor rci : interceptors)
+						rci.onError(this, request, ex);
+					throw ex;
+				}
+				for (RestCallInterceptor rci : interceptors)
+					rci.onSend(this, request);
+				response = null;
 				try {
-			response = client.execute(request);
+					response = client.executeCall(request, sent);
+					request = sent.get();
 					sc = (response == null || response.getStatusLine() == null) ? -1 : response.getStatusLine().getStatusCode();
 				} catch (Exception e) {
 					ex = e;
@@ -515,19 +553,30 @@ public final class RestCall {
 					if (response != null)
 						EntityUtils.consumeQuietly(response.getEntity());
 				}
-				if (! retryOn.onCode(sc))
-					retries = 0;
-				if (retries > 0) {
-					for (RestCallInterceptor rci : interceptors)
-						rci.onRetry(this, sc, request, response, ex);
-					request.reset();
-					long w = retryInterval;
-					synchronized(this) {
-						wait(w);
+				if (cb != null) {
+					if (sc == -1 || sc >= 500)
+						cb.onFailure();
+					else
+						cb.onSuccess();
+				}
+				long delay = (rp == null ? -1 : rp.getDelay(attempt, sc, ex));
+				if (delay >= 0 && budget != null && ! budget.tryRetry())
+					delay = -1;
+				if (delay < 0) {
+					if (ex != null) {
+						for (RestCallInterceptor rci : interceptors)
+							rci.onError(this, request, ex);
+						throw ex;
 					}
-				} else if (ex != null) {
-					throw ex;
+					break;
 				}
+				for (RestCallInterceptor rci : interceptors)
+					rci.onRetry(this, sc, request, response, ex);
+				if (response != null)
+					EntityUtils.consumeQuietly(response.getEntity());
+				request.reset();
+				if (delay > 0)
+					Thread.sleep(delay);
 			}
 			for (RestCallInterceptor rci : interceptors)
 				rci.onConnect(this, sc, request, response);
@@ -545,7 +594,6 @@ public final class RestCall {
 				if (h != null) {
 					reset();
 					request.setURI(URI.create(h.getValue()));
-					retries++;  // Redirects should affect retries.
 					connect();
 				}
 			}
@@ -830,6 +878,112 @@ public final class RestCall {
 		return getResponse(cm);
 	}
 
+	/**
+	 * Returns an iterator that parses the elements of an array response one at a time as they're requested.
+	 * <p>
+	 * 	Unlike {@link #getResponseCollection(Class, Class)}, only the current element is kept in memory, so this method can be
+	 * 	used for responses that are too large to be parsed into a collection.
+	 * 	Elements are parsed lazily by parsers that support it (e.g. JSON and MessagePack).
+	 * 	Other parsers parse the entire response up front.
+	 * <p>
+	 * 	This call is closed when the iterator is exhausted or closed.
+	 * 	If the iterator is closed before the end of the response is reached, the connection is aborted instead of
+	 * 	reading the remainder of the response.
+	 *
+	 * <h6 class='topic'>Example:</h6>
+	 * <p class='bcode'>
+	 * 	ParserIterator&lt;MyBean&gt; i = client.doGet(url).getResponseIterator(MyBean.<jk>class</jk>);
+	 * 	<jk>try</jk> {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	} <jk>finally</jk> {
+	 * 		i.close();
+	 * 	}
+	 * </p>
+	 *
+	 * @param elementType The class type of the elements (e.g. <code>MyBean</code>).
+	 * @param <E> The class type of the elements.
+	 * @return A new iterator over the response elements.
+	 * @throws IOException If a connection error occurred.
+	 * @throws ParseException If the start of the response could not be parsed.
+	 */
+	public <E> ParserIterator<E> getResponseIterator(Class<E> elementType) throws IOException, ParseException {
+		try {
+			Parser p = getParser();
+			Object in = null;
+			if (! p.isReaderParser()) {
+				final InputStream is = getInputStream();
+				if (is != null) {
+					in = new FilterInputStream(is) {
+						boolean eof;
+						@Override /* InputStream */
+						public int read() throws IOException {
+							int i = super.read();
+							eof |= (i == -1);
+							return i;
+						}
+						@Override /* InputStream */
+						public int read(byte[] b, int off, int len) throws IOException {
+							int i = super.read(b, off, len);
+							eof |= (i == -1);
+							return i;
+						}
+						@Override /* InputStream */
+						public void close() throws IOException {
+							onResponseClosed(eof);
+						}
+					};
+				}
+			} else {
+				final Reader r = getReader();
+				if (r != null) {
+					in = new FilterReader(r) {
+						boolean eof;
+						@Override /* Reader */
+						public int read() throws IOException {
+							int i = super.read();
+							eof |= (i == -1);
+							return i;
+						}
+						@Override /* Reader */
+						public int read(char[] b, int off, int len) throws IOException {
+							int i = super.read(b, off, len);
+							eof |= (i == -1);
+							return i;
+						}
+						@Override /* Reader */
+						public void close() throws IOException {
+							onResponseClosed(eof);
+						}
+					};
+				}
+			}
+			if (in == null)
+				close();
+			return p.parseIterator(in, elementType);
+		} catch (ParseException e) {
+			isFailed = true;
+			close();
+			throw e;
+		} catch (IOException e) {
+			isFailed = true;
+			close();
+			throw e;
+		}
+	}
+
+	/*
+	 * Called when the response stream of an iterator is closed.
+	 * Aborts the request instead of reading the remainder of the response if the end wasn't reached.
+	 */
+	void onResponseClosed(boolean eof) throws RestCallException {
+		if (isClosed)
+			return;
+		if (! eof)
+			request.abort();
+		close();
+	}
+
 	<T> T getResponse(ClassMeta<T> type) throws IOException, ParseException {
 		try {
 		Parser p = getParser();
@@ -29,6 +29,14 @@ public abstract class RestCallInterceptor {
 	 */
 	public void onInit(RestCall restCall) {}
 
+	/**
+	 * Called immediately before an HTTP request is sent, including retries.
+	 *
+	 * @param restCall The restCall object invoking this method.
+	 * @param req The HTTP request object.
+	 */
+	public void onSend(RestCall restCall, HttpRequest req) {}
+
 	/**
 	 * Called immediately after an HTTP response has been received.
 	 *
@@ -50,6 +58,17 @@ public abstract class RestCallInterceptor {
 	 */
 	public void onRetry(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res, Exception ex) {}
 
+	/**
+	 * Called if the call failed without receiving a response and isn't going to be retried.
+	 * <p>
+	 * 	This includes calls rejected by an open {@link CircuitBreaker}.
+	 *
+	 * @param restCall The restCall object invoking this method.
+	 * @param req The HTTP request object.
+	 * @param ex The exception thrown from the client.
+	 */
+	public void onError(RestCall restCall, HttpRequest req, Exception ex) {}
+
 	/**
 	 * Called when {@link RestCall#close()} is called.
 	 *
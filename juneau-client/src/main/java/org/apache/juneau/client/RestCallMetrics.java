@@ -0,0 +1,388 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.http.entity.*;
+import org.apache.http.pool.*;
+
+/**
+ * Interceptor that collects per-route call statistics.
+ * <p>
+ * 	For each route (scheme, host and port), keeps the number of calls, error responses and retries, the number of
+ * 	request and response body bytes, a histogram of call latencies, and the connection pool statistics for that route.
+ * <p>
+ * 	Use the {@link RestClient#enableMetrics()} method to create an instance of this class, and {@link RestClient#getMetrics()}
+ * 	to retrieve it.
+ * <p>
+ * 	The metrics and route objects have getters for all values so they can be serialized by any of the Juneau serializers.
+ *
+ * <h6 class='topic'>Notes</h6>
+ * <ul class='spaced-list'>
+ * 	<li>Latency is measured from when the request is first sent until the response headers are received or the call fails,
+ * 		and includes retries.
+ * 	<li>Response bytes are counted as they're read by the caller, after any <code>Content-Encoding</code> has been decoded.
+ * 	<li>Request bytes are only counted for entities with a known content length.
+ * 	<li>Calls that fail without receiving a response (including calls rejected by an open circuit breaker) are counted as errors.
+ * </ul>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class RestCallMetrics extends RestCallInterceptor {
+
+	private final RestClient client;
+	private final ConcurrentHashMap<String,Route> routes = new ConcurrentHashMap<String,Route>();
+	private final Map<RestCall,Long> startTimes = Collections.synchronizedMap(new WeakHashMap<RestCall,Long>());
+
+	/**
+	 * Constructor.
+	 *
+	 * @param client The client whose connection pool statistics are reported.
+	 */
+	protected RestCallMetrics(RestClient client) {
+		this.client = client;
+	}
+
+	@Override /* RestCallInterceptor */
+	public void onSend(RestCall restCall, HttpRequest req) {
+		// Retries are included in the latency of the call.
+		if (! startTimes.containsKey(restCall))
+			startTimes.put(restCall, System.nanoTime());
+	}
+
+	@Override /* RestCallInterceptor */
+	public void onConnect(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res) {
+		Route r = onCall(restCall, statusCode <= 0 || statusCode >= 400);
+		if (req instanceof HttpEntityEnclosingRequest) {
+			HttpEntity e = ((HttpEntityEnclosingRequest)req).getEntity();
+			if (e != null && e.getContentLength() > 0)
+				r.bytesOut.addAndGet(e.getContentLength());
+		}
+		if (res != null && res.getEntity() != null)
+			res.setEntity(new CountingEntity(res.getEntity(), r.bytesIn));
+	}
+
+	@Override /* RestCallInterceptor */
+	public void onRetry(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res, Exception ex) {
+		getRoute(restCall).retries.incrementAndGet();
+	}
+
+	@Override /* RestCallInterceptor */
+	public void onError(RestCall restCall, HttpRequest req, Exception ex) {
+		onCall(restCall, true);
+	}
+
+	/*
+	 * Records the end of a call and returns its route.
+	 */
+	private Route onCall(RestCall restCall, boolean isError) {
+		Route r = getRoute(restCall);
+		Long t = startTimes.remove(restCall);
+		if (t != null)
+			r.latency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t));
+		r.calls.incrementAndGet();
+		if (isError)
+			r.errors.incrementAndGet();
+		return r;
+	}
+
+	/**
+	 * Returns the metrics of all routes called so far.
+	 *
+	 * @return An unmodifiable map of route names (e.g. <js>"http://localhost:10000"</js>) to route metrics.
+	 */
+	public Map<String,Route> getRoutes() {
+		return Collections.unmodifiableMap(new TreeMap<String,Route>(routes));
+	}
+
+	/**
+	 * Returns the metrics of the route of the specified URI.
+	 *
+	 * @param uri The URI.
+	 * @return The route metrics, or <jk>null</jk> if the route hasn't been called.
+	 */
+	public Route getRoute(URI uri) {
+		return routes.get(RestClient.getRoute(uri));
+	}
+
+	/**
+	 * Returns the statistics of the whole connection pool.
+	 *
+	 * @return The pool statistics, or <jk>null</jk> if the client doesn't use a connection pool.
+	 * @see RestClient#getPoolStats()
+	 */
+	public PoolStats getPoolStats() {
+		return client.getPoolStats();
+	}
+
+	/**
+	 * Clears all metrics.
+	 */
+	public void reset() {
+		routes.clear();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		PoolStats ps = getPoolStats();
+		if (ps != null)
+			sb.append("pool: ").append(ps).append('\n');
+		for (Map.Entry<String,Route> e : getRoutes().entrySet())
+			sb.append(e.getKey()).append(": ").append(e.getValue()).append('\n');
+		return sb.toString();
+	}
+
+	private Route getRoute(RestCall restCall) {
+		String name = RestClient.getRoute(restCall.getRequest().getURI());
+		Route r = routes.get(name);
+		if (r == null) {
+			r = new Route(name);
+			Route r2 = routes.putIfAbsent(name, r);
+			if (r2 != null)
+				r = r2;
+		}
+		return r;
+	}
+
+	/**
+	 * Metrics for a single route.
+	 */
+	public class Route {
+		private final String name;
+		final AtomicLong calls = new AtomicLong(), errors = new AtomicLong(), retries = new AtomicLong(), bytesOut = new AtomicLong(), bytesIn = new AtomicLong();
+		final Histogram latency = new Histogram();
+
+		Route(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Returns the number of calls, including calls that failed without receiving a response.
+		 *
+		 * @return The number of calls.
+		 */
+		public long getCalls() {
+			return calls.get();
+		}
+
+		/**
+		 * Returns the number of calls that failed without receiving a response or received a response with a status
+		 * code of <code>400</code> or higher.
+		 *
+		 * @return The number of failed calls.
+		 */
+		public long getErrors() {
+			return errors.get();
+		}
+
+		/**
+		 * Returns the number of retries.
+		 *
+		 * @return The number of retries.
+		 */
+		public long getRetries() {
+			return retries.get();
+		}
+
+		/**
+		 * Returns the number of request body bytes sent.
+		 *
+		 * @return The number of request body bytes sent.
+		 */
+		public long getBytesOut() {
+			return bytesOut.get();
+		}
+
+		/**
+		 * Returns the number of response body bytes read.
+		 *
+		 * @return The number of response body bytes read.
+		 */
+		public long getBytesIn() {
+			return bytesIn.get();
+		}
+
+		/**
+		 * Returns the histogram of call latencies.
+		 *
+		 * @return The histogram of call latencies.
+		 */
+		public Histogram getLatency() {
+			return latency;
+		}
+
+		/**
+		 * Returns the connection pool statistics for this route.
+		 *
+		 * @return The pool statistics, or <jk>null</jk> if the client doesn't use a connection pool.
+		 * @see RestClient#getPoolStats(URI)
+		 */
+		public PoolStats getPoolStats() {
+			return client.getPoolStats(URI.create(name));
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return "calls=" + calls + ", errors=" + errors + ", retries=" + retries + ", bytesOut=" + bytesOut + ", bytesIn=" + bytesIn + ", latency=[" + latency + "], pool=" + getPoolStats();
+		}
+	}
+
+	/**
+	 * Histogram of latencies in milliseconds with fixed bucket boundaries.
+	 */
+	public static class Histogram {
+
+		private static final long[] BOUNDS = {1,2,5,10,20,50,100,200,500,1000,2000,5000,10000,30000,60000,Long.MAX_VALUE};
+
+		private final AtomicLongArray counts = new AtomicLongArray(BOUNDS.length);
+		private final AtomicLong count = new AtomicLong(), total = new AtomicLong(), max = new AtomicLong();
+
+		void record(long millis) {
+			int i = 0;
+			while (millis > BOUNDS[i])
+				i++;
+			counts.incrementAndGet(i);
+			count.incrementAndGet();
+			total.addAndGet(millis);
+			long m = max.get();
+			while (millis > m && ! max.compareAndSet(m, millis))
+				m = max.get();
+		}
+
+		/**
+		 * Returns the number of recorded values.
+		 *
+		 * @return The number of recorded values.
+		 */
+		public long getCount() {
+			return count.get();
+		}
+
+		/**
+		 * Returns the average of the recorded values.
+		 *
+		 * @return The average in milliseconds, or <code>0</code> if no values have been recorded.
+		 */
+		public long getMean() {
+			long c = count.get();
+			return c == 0 ? 0 : total.get() / c;
+		}
+
+		/**
+		 * Returns the largest recorded value.
+		 *
+		 * @return The largest recorded value in milliseconds.
+		 */
+		public long getMax() {
+			return max.get();
+		}
+
+		/**
+		 * Returns the upper bound of the bucket containing the specified percentile.
+		 *
+		 * @param percentile The percentile between <code>0</code> and <code>100</code>.
+		 * @return The upper bound in milliseconds (capped at {@link #getMax()}), or <code>0</code> if no values have been recorded.
+		 */
+		public long getPercentile(double percentile) {
+			long c = count.get();
+			if (c == 0)
+				return 0;
+			long target = (long)Math.ceil(percentile / 100 * c), n = 0;
+			for (int i = 0; i < BOUNDS.length; i++) {
+				n += counts.get(i);
+				if (n >= target)
+					return Math.min(BOUNDS[i], max.get());
+			}
+			return max.get();
+		}
+
+		/**
+		 * Returns the number of recorded values in each bucket.
+		 *
+		 * @return A map of bucket upper bounds in milliseconds (<js>"inf"</js> for the last bucket) to counts.
+		 */
+		public Map<String,Long> getBuckets() {
+			Map<String,Long> m = new LinkedHashMap<String,Long>();
+			for (int i = 0; i < BOUNDS.length; i++)
+				m.put(BOUNDS[i] == Long.MAX_VALUE ? "inf" : String.valueOf(BOUNDS[i]), counts.get(i));
+			return m;
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return "count=" + getCount() + ", mean=" + getMean() + ", p50=" + getPercentile(50) + ", p95=" + getPercentile(95) + ", p99=" + getPercentile(99) + ", max=" + getMax();
+		}
+	}
+
+	/*
+	 * Entity wrapper that counts the bytes read from the content stream.
+	 */
+	private static class CountingEntity extends HttpEntityWrapper {
+		private final AtomicLong counter;
+
+		CountingEntity(HttpEntity e, AtomicLong counter) {
+			super(e);
+			this.counter = counter;
+		}
+
+		@Override /* HttpEntityWrapper */
+		public InputStream getContent() throws IOException {
+			InputStream is = super.getContent();
+			if (is == null)
+				return null;
+			return new FilterInputStream(is) {
+				@Override /* InputStream */
+				public int read() throws IOException {
+					int i = super.read();
+					if (i != -1)
+						counter.incrementAndGet();
+					return i;
+				}
+				@Override /* InputStream */
+				public int read(byte[] b, int off, int len) throws IOException {
+					int i = super.read(b, off, len);
+					if (i > 0)
+						counter.addAndGet(i);
+					return i;
+				}
+				@Override /* InputStream */
+				public long skip(long n) throws IOException {
+					long l = super.skip(n);
+					if (l > 0)
+						counter.addAndGet(l);
+					return l;
+				}
+			};
+		}
+
+		@Override /* HttpEntityWrapper */
+		public void writeTo(OutputStream os) throws IOException {
+			InputStream is = getContent();
+			try {
+				byte[] b = new byte[4096];
+				int i;
+				while ((i = is.read(b)) != -1)
+					os.write(b, 0, i);
+			} finally {
+				is.close();
+			}
+		}
+	}
+}
@@ -21,6 +21,7 @@ import java.net.*;
 import java.security.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.logging.*;
 import java.util.regex.*;
 
@@ -43,8 +44,11 @@ import org.apache.http.cookie.*;
 import org.apache.http.entity.*;
 import org.apache.http.impl.client.*;
 import org.apache.http.impl.conn.*;
+import org.apache.http.pool.*;
 import org.apache.http.protocol.*;
+import org.apache.http.util.*;
 import org.apache.juneau.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
@@ -88,6 +92,19 @@ public class RestClient extends CoreApi {
 	private SSLOpts sslOpts;
 	private boolean pooled;
 	private volatile boolean isClosed = false;
+	Encoder requestEncoder;
+	RetryPolicy retryPolicy;
+	RetryBudget retryBudget;
+	private int circuitBreakerThreshold;
+	private long circuitBreakerOpenMillis;
+	private ConcurrentHashMap<String,CircuitBreaker> circuitBreakers = new ConcurrentHashMap<String,CircuitBreaker>();
+	private double hedgingPercentile = -1;
+	private long hedgingMinDelay;
+	private ConcurrentHashMap<String,LatencyTracker> latencies = new ConcurrentHashMap<String,LatencyTracker>();
+	private volatile ExecutorService hedgingExecutor;
+	private volatile HttpClientConnectionManager connectionManager;
+	private int maxConnTotal, maxConnPerRoute;
+	private RestCallMetrics metrics;
 	private StackTraceElement[] creationStack;
 
 	/**
@@ -219,8 +236,18 @@ public class RestClient extends CoreApi {
 	 */
 	protected CloseableHttpClient createHttpClient() throws Exception {
 		// Don't call createConnectionManager() if RestClient.setConnectionManager() was called.
-		if (httpClientConnectionManager == null)
-			httpClientBuilder.setConnectionManager(createConnectionManager());
+		if (httpClientConnectionManager == null) {
+			HttpClientConnectionManager cm = createConnectionManager();
+			if (cm instanceof PoolingHttpClientConnectionManager) {
+				PoolingHttpClientConnectionManager pcm = (PoolingHttpClientConnectionManager)cm;
+				if (maxConnTotal > 0)
+					pcm.setMaxTotal(maxConnTotal);
+				if (maxConnPerRoute > 0)
+					pcm.setDefaultMaxPerRoute(maxConnPerRoute);
+			}
+			connectionManager = cm;
+			httpClientBuilder.setConnectionManager(cm);
+		}
 		return httpClientBuilder.build();
 	}
 
@@ -326,6 +353,8 @@ public class RestClient extends CoreApi {
 	 */
 	public void close() throws IOException {
 		isClosed = true;
+		if (hedgingExecutor != null)
+			hedgingExecutor.shutdownNow();
 		if (httpClient != null)
 			httpClient.close();
 	}
@@ -335,6 +364,8 @@ public class RestClient extends CoreApi {
 	 */
 	public void closeQuietly() {
 		isClosed = true;
+		if (hedgingExecutor != null)
+			hedgingExecutor.shutdownNow();
 		try {
 			if (httpClient != null)
 				httpClient.close();
@@ -452,6 +483,169 @@ public class RestClient extends CoreApi {
 		return this;
 	}
 
+	/**
+	 * Adds a {@link RestCallMetrics} to the list of interceptors on this class.
+	 * <p>
+	 * 	Calling this method more than once has no effect.
+	 *
+	 * @return This object (for method chaining).
+	 * @see #getMetrics()
+	 */
+	public synchronized RestClient enableMetrics() {
+		if (metrics == null) {
+			metrics = new RestCallMetrics(this);
+			addInterceptor(metrics);
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the call metrics collected by this client.
+	 *
+	 * @return The call metrics, or <jk>null</jk> if {@link #enableMetrics()} hasn't been called.
+	 */
+	public synchronized RestCallMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Returns the statistics of the connection pool of this client.
+	 * <p>
+	 * 	Useful for sizing the pool using {@link #setMaxConnTotal(int)} and {@link #setMaxConnPerRoute(int)}.
+	 * 	A non-zero number of pending requests means callers are waiting for connections.
+	 *
+	 * @return The pool statistics, or <jk>null</jk> if this client doesn't use a {@link PoolingHttpClientConnectionManager}
+	 * 	or the HTTP client hasn't been created yet.
+	 */
+	public PoolStats getPoolStats() {
+		PoolingHttpClientConnectionManager cm = getPoolingConnectionManager();
+		return (cm == null ? null : cm.getTotalStats());
+	}
+
+	/**
+	 * Returns the statistics of the connection pool of this client for the route of the specified URI.
+	 *
+	 * @param uri The URI.
+	 * @return The pool statistics, or <jk>null</jk> if this client doesn't use a {@link PoolingHttpClientConnectionManager}
+	 * 	or the route hasn't been connected to.
+	 */
+	public PoolStats getPoolStats(URI uri) {
+		PoolingHttpClientConnectionManager cm = getPoolingConnectionManager();
+		if (cm == null)
+			return null;
+		String route = getRoute(uri);
+		for (HttpRoute r : cm.getRoutes()) {
+			HttpHost h = r.getTargetHost();
+			if (route.equals(getRoute(h.getSchemeName(), h.getHostName(), h.getPort())))
+				return cm.getStats(r);
+		}
+		return null;
+	}
+
+	private PoolingHttpClientConnectionManager getPoolingConnectionManager() {
+		HttpClientConnectionManager cm = (httpClientConnectionManager == null ? connectionManager : httpClientConnectionManager);
+		return (cm instanceof PoolingHttpClientConnectionManager ? (PoolingHttpClientConnectionManager)cm : null);
+	}
+
+	/**
+	 * Compresses the bodies of requests created through {@link RestCall#setInput(Object)} using the specified encoder.
+	 * <p>
+	 * 	The <code>Content-Encoding</code> header is set on the request, so the server must support decoding it.
+	 * 	Bodies passed in as {@link HttpEntity} objects are not affected.
+	 *
+	 * @param encoder The encoder (e.g. {@link GzipEncoder}), or <jk>null</jk> to send request bodies uncompressed.
+	 * @return This object (for method chaining).
+	 */
+	public RestClient setRequestEncoder(Encoder encoder) {
+		this.requestEncoder = encoder;
+		return this;
+	}
+
+	/**
+	 * Sets the retry policy used by all calls created by this client.
+	 * <p>
+	 * 	Can be overridden on individual calls using {@link RestCall#setRetryPolicy(RetryPolicy)}.
+	 * 	Calls whose request entity isn't repeatable are never retried.
+	 *
+	 * @param retryPolicy The retry policy, or <jk>null</jk> to disable retries.
+	 * @return This object (for method chaining).
+	 */
+	public RestClient setRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+		return this;
+	}
+
+	/**
+	 * Limits the number of retries made by all calls created by this client.
+	 *
+	 * @param retryBudget The retry budget, or <jk>null</jk> to allow any number of retries.
+	 * @return This object (for method chaining).
+	 */
+	public RestClient setRetryBudget(RetryBudget retryBudget) {
+		this.retryBudget = retryBudget;
+		return this;
+	}
+
+	/**
+	 * Enables a {@link CircuitBreaker} for each route (scheme, host and port) called by this client.
+	 * <p>
+	 * 	Connection errors and <code>5xx</code> responses count as failures.
+	 * 	While a route's breaker is open, calls to it fail immediately with a {@link RestCallException}
+	 * 	and are not retried.
+	 *
+	 * @param failureThreshold The number of consecutive failures that cause the breaker to open.
+	 * 	A value of <code>0</code> disables circuit breakers.
+	 * @param openMillis The number of milliseconds a breaker stays open before allowing a trial request.
+	 * @return This object (for method chaining).
+	 */
+	public RestClient setCircuitBreaker(int failureThreshold, long openMillis) {
+		this.circuitBreakerThreshold = failureThreshold;
+		this.circuitBreakerOpenMillis = openMillis;
+		this.circuitBreakers.clear();
+		return this;
+	}
+
+	/**
+	 * Returns the circuit breaker for the route of the specified URI.
+	 *
+	 * @param uri The request URI.
+	 * @return The circuit breaker, or <jk>null</jk> if circuit breakers are not enabled on this client.
+	 */
+	public CircuitBreaker getCircuitBreaker(URI uri) {
+		if (circuitBreakerThreshold <= 0)
+			return null;
+		String route = getRoute(uri);
+		CircuitBreaker cb = circuitBreakers.get(route);
+		if (cb == null) {
+			cb = new CircuitBreaker(circuitBreakerThreshold, circuitBreakerOpenMillis);
+			CircuitBreaker cb2 = circuitBreakers.putIfAbsent(route, cb);
+			if (cb2 != null)
+				cb = cb2;
+		}
+		return cb;
+	}
+
+	/**
+	 * Enables hedged <code>GET</code> and <code>HEAD</code> requests.
+	 * <p>
+	 * 	If a response hasn't been received after the specified percentile of recent response times for the route,
+	 * 	a second identical request is sent and whichever response arrives first is used.
+	 * 	The other request is aborted.
+	 * <p>
+	 * 	This trades a small amount of extra load for lower tail latency against servers with occasional slow responses.
+	 * 	Requests are not hedged until enough response times have been recorded for the route.
+	 *
+	 * @param percentile The percentile of recent response times after which the second request is sent (e.g. <code>95</code>).
+	 * 	A value of <code>0</code> disables hedging.
+	 * @param minDelay The minimum number of milliseconds to wait before sending the second request.
+	 * @return This object (for method chaining).
+	 */
+	public RestClient setHedging(double percentile, long minDelay) {
+		this.hedgingPercentile = (percentile <= 0 ? -1 : Math.min(percentile, 100));
+		this.hedgingMinDelay = minDelay;
+		return this;
+	}
+
 	/**
 	 * Returns the serializer currently associated with this client.
 	 *
@@ -494,6 +688,144 @@ public class RestClient extends CoreApi {
 		return getHttpClient().execute(req);
 	}
 
+	/*
+	 * Executes a request from a RestCall, hedging it if enabled.
+	 * The request whose response was returned is set on 'sent', since it's not necessarily the original request if hedged.
+	 */
+	HttpResponse executeCall(HttpRequestBase req, AtomicReference<HttpRequestBase> sent) throws Exception {
+		sent.set(req);
+		if (hedgingPercentile <= 0)
+			return execute(req);
+
+		String route = getRoute(req.getURI());
+		LatencyTracker lt = latencies.get(route);
+		if (lt == null) {
+			lt = new LatencyTracker();
+			LatencyTracker lt2 = latencies.putIfAbsent(route, lt);
+			if (lt2 != null)
+				lt = lt2;
+		}
+
+		String method = req.getMethod();
+		long delay = lt.getPercentile(hedgingPercentile);
+		boolean hasEntity = (req instanceof HttpEntityEnclosingRequestBase && ((HttpEntityEnclosingRequestBase)req).getEntity() != null);
+		if (delay < 0 || hasEntity || ! (method.equalsIgnoreCase("GET") || method.equalsIgnoreCase("HEAD"))) {
+			long t = System.currentTimeMillis();
+			HttpResponse r = execute(req);
+			if (r != null && r.getStatusLine() != null && r.getStatusLine().getStatusCode() < 500)
+				lt.record(System.currentTimeMillis() - t);
+			return r;
+		}
+
+		// Note that HttpRequestBase.clone() can't be used since the clone shares the abort state of the original.
+		HttpRequestBase req2 = (method.equalsIgnoreCase("GET") ? new HttpGet(req.getURI()) : new HttpHead(req.getURI()));
+		req2.setHeaders(req.getAllHeaders());
+		req2.setConfig(req.getConfig());
+		req2.setProtocolVersion(req.getProtocolVersion());
+
+		return executeHedged(req, req2, Math.max(delay, hedgingMinDelay), lt, sent);
+	}
+
+	/*
+	 * Sends the first request, then the second one if no response has been received after the delay.
+	 * The first successful response wins.  Losing requests are aborted, and losing responses are consumed.
+	 * If the first request fails before the second one is sent, the failure is rethrown so that the retry policy of the call decides what to do.
+	 */
+	private HttpResponse executeHedged(HttpRequestBase req1, HttpRequestBase req2, long delay, LatencyTracker lt, AtomicReference<HttpRequestBase> sent) throws Exception {
+		final AtomicReference<HttpRequestBase> winner = new AtomicReference<HttpRequestBase>();
+		CompletionService<HttpResponse> cs = new ExecutorCompletionService<HttpResponse>(getHedgingExecutor());
+		HttpRequestBase[] reqs = {req1, req2};
+		int submitted = 1, completed = 0;
+		Exception ex = null;
+		cs.submit(new HedgedRequest(req1, winner, lt));
+		try {
+			while (completed < submitted) {
+				Future<HttpResponse> f = (submitted == 1 ? cs.poll(delay, TimeUnit.MILLISECONDS) : cs.take());
+				if (f == null) {
+					cs.submit(new HedgedRequest(req2, winner, lt));
+					submitted++;
+					continue;
+				}
+				completed++;
+				try {
+					HttpResponse r = f.get();
+					if (r != null) {
+						sent.set(winner.get());
+						return r;
+					}
+				} catch (ExecutionException e) {
+					Throwable t = e.getCause();
+					if (t instanceof Error)
+						throw (Error)t;
+					ex = (Exception)t;
+				}
+			}
+			if (ex != null)
+				throw ex;
+			return null;
+		} finally {
+			HttpRequestBase w = winner.get();
+			for (int i = 0; i < submitted; i++)
+				if (reqs[i] != w)
+					reqs[i].abort();
+		}
+	}
+
+	private class HedgedRequest implements Callable<HttpResponse> {
+		private final HttpRequestBase req;
+		private final AtomicReference<HttpRequestBase> winner;
+		private final LatencyTracker lt;
+
+		HedgedRequest(HttpRequestBase req, AtomicReference<HttpRequestBase> winner, LatencyTracker lt) {
+			this.req = req;
+			this.winner = winner;
+			this.lt = lt;
+		}
+
+		@Override /* Callable */
+		public HttpResponse call() throws Exception {
+			long t = System.currentTimeMillis();
+			HttpResponse r = execute(req);
+			if (r == null || ! winner.compareAndSet(null, req)) {
+				if (r != null)
+					EntityUtils.consumeQuietly(r.getEntity());
+				return null;
+			}
+			if (r.getStatusLine() != null && r.getStatusLine().getStatusCode() < 500)
+				lt.record(System.currentTimeMillis() - t);
+			return r;
+		}
+	}
+
+	private ExecutorService getHedgingExecutor() {
+		if (hedgingExecutor == null) {
+			synchronized(this) {
+				if (hedgingExecutor == null) {
+					hedgingExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+						private final AtomicInteger count = new AtomicInteger();
+						@Override /* ThreadFactory */
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r, "juneau-client-hedge-" + count.incrementAndGet());
+							t.setDaemon(true);
+							return t;
+						}
+					});
+				}
+			}
+		}
+		return hedgingExecutor;
+	}
+
+	static String getRoute(URI uri) {
+		return getRoute(uri.getScheme(), uri.getHost(), uri.getPort());
+	}
+
+	private static String getRoute(String scheme, String host, int port) {
+		if (port == -1)
+			port = ("https".equalsIgnoreCase(scheme) ? 443 : 80);
+		return (scheme + "://" + host + ':' + port).toLowerCase(Locale.ENGLISH);
+	}
+
 	/**
 	 * Sets the value for the <code>Accept</code> request header.
 	 * <p>
@@ -1037,21 +1369,33 @@ public class RestClient extends CoreApi {
 	}
 
 	/**
+	 * Sets the maximum number of pooled connections.
+	 * <p>
+	 * 	Also applied to the {@link PoolingHttpClientConnectionManager} created by {@link #createConnectionManager()}.
+	 *
 	 * @param maxConnTotal
 	 * @return This object (for method chaining).
 	 * @see HttpClientBuilder#setMaxConnTotal(int)
+	 * @see #getPoolStats()
 	 */
 	public RestClient setMaxConnTotal(int maxConnTotal) {
+		this.maxConnTotal = maxConnTotal;
 		httpClientBuilder.setMaxConnTotal(maxConnTotal);
 		return this;
 	}
 
 	/**
+	 * Sets the maximum number of pooled connections per route.
+	 * <p>
+	 * 	Also applied to the {@link PoolingHttpClientConnectionManager} created by {@link #createConnectionManager()}.
+	 *
 	 * @param maxConnPerRoute
 	 * @return This object (for method chaining).
 	 * @see HttpClientBuilder#setMaxConnPerRoute(int)
+	 * @see #getPoolStats(URI)
 	 */
 	public RestClient setMaxConnPerRoute(int maxConnPerRoute) {
+		this.maxConnPerRoute = maxConnPerRoute;
 		httpClientBuilder.setMaxConnPerRoute(maxConnPerRoute);
 		return this;
 	}
@@ -16,19 +16,33 @@ import java.io.*;
 
 import org.apache.http.entity.*;
 import org.apache.http.message.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.utils.*;
 
 /**
  * HttpEntity for serializing POJOs as the body of HTTP requests.
+ * <p>
+ * 	By default, POJOs are serialized once into an in-memory buffer the first time the body is needed.
+ * 	The same buffer is reused when the request is retried or redirected, and its size is sent as the
+ * 	<code>Content-Length</code> header.
+ * <p>
+ * 	For very large payloads, {@link #setStreaming(boolean)} can be used to serialize directly to the connection
+ * 	using chunked transfer encoding.
+ * 	Streaming entities are not repeatable, so requests using them can't be retried.
+ * <p>
+ * 	{@link Reader} and {@link InputStream} inputs are always piped directly to the connection.
+ * 	Since they can only be read once, they're not repeatable either.
  *
  * @author James Bognar (james.bognar@salesforce.com)
  */
 public final class RestRequestEntity extends BasicHttpEntity {
 	final Object output;
 	final Serializer serializer;
-	byte[] outputBytes;
+	private Encoder encoder;
+	private boolean streaming;
+	private ByteArrayInOutStream body;  // The cached serialized (and encoded) body.
 
 	/**
 	 * Constructor.
@@ -42,8 +56,101 @@ public final class RestRequestEntity extends BasicHttpEntity {
 			setContentType(new BasicHeader("Content-Type", serializer.getResponseContentType()));
 	}
 
+	/**
+	 * Compresses the body using the specified encoder and sets the <code>Content-Encoding</code> header.
+	 *
+	 * @param encoder The encoder (e.g. {@link GzipEncoder}), or <jk>null</jk> to send the body uncompressed.
+	 * @return This object (for method chaining).
+	 */
+	public RestRequestEntity setEncoder(Encoder encoder) {
+		this.encoder = encoder;
+		this.body = null;
+		setContentEncoding(encoder == null ? null : encoder.getCodings()[0]);
+		return this;
+	}
+
+	/**
+	 * Serialize the body directly to the connection using chunked transfer encoding instead of buffering it.
+	 * <p>
+	 * 	Streaming entities are not repeatable.
+	 *
+	 * @param streaming <jk>true</jk> to stream the body.
+	 * @return This object (for method chaining).
+	 */
+	public RestRequestEntity setStreaming(boolean streaming) {
+		this.streaming = streaming;
+		this.body = null;
+		setChunked(streaming);
+		return this;
+	}
+
 	@Override /* BasicHttpEntity */
 	public void writeTo(OutputStream os) throws IOException {
+		if (isDirect()) {
+			serialize(os);
+		} else {
+			getBody().writeTo(os);
+			os.close();
+		}
+	}
+
+	@Override /* BasicHttpEntity */
+	public boolean isRepeatable() {
+		return ! isDirect();
+	}
+
+	@Override /* BasicHttpEntity */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	@Override /* BasicHttpEntity */
+	public long getContentLength() {
+		if (isDirect())
+			return -1;
+		try {
+			return getBody().size();
+		} catch (IOException e) {
+			return -1;  // Let writeTo() report the error.
+		}
+	}
+
+	@Override /* BasicHttpEntity */
+	public InputStream getContent() {
+		try {
+			if (isDirect()) {
+				ByteArrayInOutStream baios = new ByteArrayInOutStream();
+				serialize(baios);
+				return baios.getInputStream();
+			}
+			return getBody().getInputStream();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/*
+	 * Returns true if the body should be written directly to the connection instead of being cached.
+	 */
+	private boolean isDirect() {
+		return streaming || output instanceof InputStream || output instanceof Reader;
+	}
+
+	private synchronized ByteArrayInOutStream getBody() throws IOException {
+		if (body == null) {
+			ByteArrayInOutStream baios = new ByteArrayInOutStream();
+			serialize(baios);
+			body = baios;
+		}
+		return body;
+	}
+
+	/*
+	 * Serializes the input to the specified stream and closes it.
+	 */
+	private void serialize(OutputStream os) throws IOException {
+		if (encoder != null)
+			os = encoder.getOutputStream(os);
 		if (output instanceof InputStream) {
 			IOPipe.create(output, os).closeOut().run();
 		} else if (output instanceof Reader) {
@@ -68,23 +175,4 @@ public final class RestRequestEntity extends BasicHttpEntity {
 			}
 		}
 	}
-
-	@Override /* BasicHttpEntity */
-	public boolean isRepeatable() {
-		return true;
-	}
-
-	@Override /* BasicHttpEntity */
-	public InputStream getContent() {
-		if (outputBytes == null) {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream();
-			try {
-				writeTo(baos);
-				outputBytes = baos.toByteArray();
-			} catch (IOException e) {
-				throw new RuntimeException(e);
-			}
-		}
-		return new ByteArrayInputStream(outputBytes);
-	}
 }
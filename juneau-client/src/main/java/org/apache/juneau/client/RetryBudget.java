@@ -0,0 +1,72 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+/**
+ * Limits the number of retries made by a client to a fraction of the number of requests.
+ * <p>
+ * 	Without a budget, every caller retrying against a backend that's down multiplies the load on it by the number of
+ * 	attempts per call.
+ * 	A budget is a token bucket: each request deposits <code>ratio</code> tokens, and each retry withdraws one.
+ * 	When the bucket is empty, failed requests are not retried until enough new requests have been made.
+ * <p>
+ * 	The bucket starts full so that clients making only a few requests can still retry them.
+ *
+ * @see RestClient#setRetryBudget(RetryBudget)
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class RetryBudget {
+
+	private final double ratio, maxTokens;
+	private double tokens;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ratio The number of retries allowed per request (e.g. <code>0.1</code> to allow retries for 10% of requests).
+	 * @param maxTokens The maximum number of retries that can be saved up.
+	 */
+	public RetryBudget(double ratio, int maxTokens) {
+		this.ratio = ratio;
+		this.maxTokens = maxTokens;
+		this.tokens = maxTokens;
+	}
+
+	/**
+	 * Called when a new request is made.
+	 */
+	public synchronized void onRequest() {
+		tokens = Math.min(tokens + ratio, maxTokens);
+	}
+
+	/**
+	 * Called when a request is about to be retried.
+	 *
+	 * @return <jk>true</jk> if the retry is within the budget.
+	 */
+	public synchronized boolean tryRetry() {
+		if (tokens < 1)
+			return false;
+		tokens--;
+		return true;
+	}
+
+	/**
+	 * Returns the number of retries currently available.
+	 *
+	 * @return The number of retries currently available.
+	 */
+	public synchronized int getAvailable() {
+		return (int)tokens;
+	}
+}
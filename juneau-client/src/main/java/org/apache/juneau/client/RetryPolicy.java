@@ -0,0 +1,39 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+/**
+ * Used to determine whether and when a failed request should be retried.
+ * <p>
+ * 	Unlike {@link RetryOn}, policies see the attempt number and any exception thrown by the HTTP client,
+ * 	and decide how long to wait before the next attempt.
+ * <p>
+ * 	Policies are shared between calls and must be thread safe.
+ *
+ * @see ExponentialBackoff
+ * @see RestCall#setRetryPolicy(RetryPolicy)
+ * @see RestClient#setRetryPolicy(RetryPolicy)
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public interface RetryPolicy {
+
+	/**
+	 * Returns the number of milliseconds to wait before retrying a request.
+	 *
+	 * @param attempt The number of attempts made so far (starting at <code>1</code>).
+	 * @param httpResponseCode The HTTP response code, or <code>-1</code> if an exception was thrown.
+	 * @param e The exception thrown by the HTTP client, or <jk>null</jk> if a response was received.
+	 * @return The delay in milliseconds before the next attempt, or <code>-1</code> if the request should not be retried.
+	 */
+	long getDelay(int attempt, int httpResponseCode, Exception e);
+}
@@ -0,0 +1,69 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+import org.apache.juneau.json.*;
+
+/**
+ * REST client that answers requests locally instead of sending them to a server.
+ * <p>
+ * 	Subclasses implement {@link #respond(int, HttpUriRequest)} to return the response for each request.
+ */
+abstract class MockRestClient extends RestClient {
+
+	final List<HttpUriRequest> requests = Collections.synchronizedList(new ArrayList<HttpUriRequest>());
+	private final AtomicInteger count = new AtomicInteger();
+
+	MockRestClient() {
+		super(JsonSerializer.DEFAULT, JsonParser.DEFAULT);
+	}
+
+	/**
+	 * Returns the response for the specified request.
+	 *
+	 * @param n The request number, starting at 1.
+	 * @param req The request.
+	 * @return The response.
+	 * @throws Exception To simulate a connection failure.
+	 */
+	abstract HttpResponse respond(int n, HttpUriRequest req) throws Exception;
+
+	@Override /* RestClient */
+	protected HttpResponse execute(HttpUriRequest req) throws Exception {
+		requests.add(req);
+		return respond(count.incrementAndGet(), req);
+	}
+
+	static HttpResponse response(int sc, String body) throws IOException {
+		BasicHttpResponse r = new BasicHttpResponse(HttpVersion.HTTP_1_1, sc, "Status " + sc);
+		r.setEntity(new StringEntity(body));
+		return r;
+	}
+
+	/*
+	 * Simulates a slow response by waiting until the request is aborted.
+	 */
+	static HttpResponse waitForAbort(HttpUriRequest req) throws Exception {
+		for (int i = 0; i < 500 && ! req.isAborted(); i++)
+			Thread.sleep(10);
+		throw new IOException("Request aborted");
+	}
+}
@@ -0,0 +1,90 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class ResponseIteratorTest {
+
+	private static final String URL = "http://localhost:10000/test";
+
+	//====================================================================================================
+	// The connection is only aborted if the iterator is closed before the end of the response.
+	//====================================================================================================
+	@Test
+	public void testMsgPackExhausted() throws Exception {
+		RestClient c = msgPackClient();
+		RestCall rc = c.doGet(URL);
+		ParserIterator<Integer> i = rc.getResponseIterator(Integer.class);
+		List<Integer> l = new ArrayList<Integer>();
+		while (i.hasNext())
+			l.add(i.next());
+		assertEquals(Arrays.asList(1,2,3), l);
+		assertFalse(rc.getRequest().isAborted());
+		c.closeQuietly();
+	}
+
+	@Test
+	public void testMsgPackClosedEarly() throws Exception {
+		RestClient c = msgPackClient();
+		RestCall rc = c.doGet(URL);
+		ParserIterator<Integer> i = rc.getResponseIterator(Integer.class);
+		assertEquals(1, i.next().intValue());
+		i.close();
+		assertTrue(rc.getRequest().isAborted());
+		c.closeQuietly();
+	}
+
+	@Test
+	public void testJsonExhausted() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				return response(200, "[1,2,3]  \n");
+			}
+		};
+		RestCall rc = c.doGet(URL);
+		ParserIterator<Integer> i = rc.getResponseIterator(Integer.class);
+		int count = 0;
+		while (i.hasNext()) {
+			i.next();
+			count++;
+		}
+		assertEquals(3, count);
+		assertFalse(rc.getRequest().isAborted());
+		c.closeQuietly();
+	}
+
+	private static RestClient msgPackClient() throws Exception {
+		final byte[] b = MsgPackSerializer.DEFAULT.serialize(new int[]{1,2,3});
+		return new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				BasicHttpResponse r = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+				r.setEntity(new ByteArrayEntity(b));
+				return r;
+			}
+		}.setParser(MsgPackParser.DEFAULT);
+	}
+}
@@ -0,0 +1,111 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.net.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class RestCallMetricsTest {
+
+	private static final String URL = "http://localhost:10000/test";
+
+	//====================================================================================================
+	// Successful calls
+	//====================================================================================================
+	@Test
+	public void testSuccess() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				return response(n == 1 ? 503 : 200, "foobar");
+			}
+		};
+		c.enableMetrics().setRetryPolicy(new ExponentialBackoff(1, 0, 0, null));
+
+		// Latency is measured from when the request is sent, not from when the call is created.
+		RestCall rc = c.doGet(URL);
+		Thread.sleep(500);
+		assertEquals("foobar", rc.getResponseAsString());
+
+		RestCallMetrics.Route r = c.getMetrics().getRoute(new URI(URL));
+		assertEquals(1, r.getCalls());
+		assertEquals(0, r.getErrors());
+		assertEquals(1, r.getRetries());
+		assertEquals(6, r.getBytesIn());
+		assertEquals(1, r.getLatency().getCount());
+		assertTrue(r.getLatency().getMax() < 500);
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Failed calls
+	//====================================================================================================
+	@Test
+	public void testFailure() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				if (n <= 2)
+					throw new IOException("Connection refused");
+				return response(404, "foo");
+			}
+		};
+		c.enableMetrics().setRetryPolicy(new ExponentialBackoff(1, 0, 0, null));
+		RestCallMetrics.Route r;
+
+		// Fails without a response after one retry.
+		try {
+			c.doGet(URL).run();
+			fail();
+		} catch (RestCallException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		r = c.getMetrics().getRoute(new URI(URL));
+		assertEquals(1, r.getCalls());
+		assertEquals(1, r.getErrors());
+		assertEquals(1, r.getRetries());
+		assertEquals(1, r.getLatency().getCount());
+
+		// Error response.
+		try {
+			c.doGet(URL).setRetryPolicy(null).run();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(404, e.getResponseCode());
+		}
+		assertEquals(2, r.getCalls());
+		assertEquals(2, r.getErrors());
+		assertEquals(2, r.getLatency().getCount());
+
+		// Rejected by the circuit breaker.
+		c.setCircuitBreaker(1, 60000);
+		c.getCircuitBreaker(new URI(URL)).onFailure();
+		try {
+			c.doGet(URL).run();
+			fail();
+		} catch (RestCallException e) {
+			assertTrue(e.getLocalizedMessage().contains("Circuit breaker is open"));
+		}
+		assertEquals(3, r.getCalls());
+		assertEquals(3, r.getErrors());
+		assertEquals(3, c.requests.size());
+		c.closeQuietly();
+	}
+}
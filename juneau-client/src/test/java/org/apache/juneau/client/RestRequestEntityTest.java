@@ -0,0 +1,143 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class RestRequestEntityTest {
+
+	private static final String URL = "http://localhost:10000/test";
+
+	//====================================================================================================
+	// POJOs are serialized once and the same body is resent on retries.
+	//====================================================================================================
+	@Test
+	public void testSerializeOnce() throws Exception {
+		final List<String> bodies = new ArrayList<String>();
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				HttpEntity e = ((HttpEntityEnclosingRequest)req).getEntity();
+				assertTrue(e.isRepeatable());
+				assertFalse(e.isChunked());
+				byte[] b = read(e);
+				assertEquals(b.length, e.getContentLength());
+				bodies.add(new String(b, "UTF-8"));
+				return response(n == 1 ? 503 : 200, "foo");
+			}
+		};
+		c.setRetryPolicy(new ExponentialBackoff(3, 0, 0, null));
+
+		A a = new A();
+		assertEquals(200, c.doPost(URL, a).run());
+		assertEquals(2, c.requests.size());
+		assertEquals(Arrays.asList("{\"foo\":\"bar\"}", "{\"foo\":\"bar\"}"), bodies);
+		assertEquals(1, a.count);
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Compressed request bodies.
+	//====================================================================================================
+	@Test
+	public void testGzip() throws Exception {
+		final List<String> bodies = new ArrayList<String>();
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				HttpEntity e = ((HttpEntityEnclosingRequest)req).getEntity();
+				assertEquals("gzip", e.getContentEncoding().getValue());
+				byte[] b = read(e);
+				assertEquals(b.length, e.getContentLength());
+				bodies.add(IOUtils.read(new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(b)), "UTF-8")));
+				return response(n == 1 ? 503 : 200, "foo");
+			}
+		};
+		c.setRetryPolicy(new ExponentialBackoff(3, 0, 0, null));
+		c.setRequestEncoder(new GzipEncoder());
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1000; i++)
+			sb.append("foobar");
+		assertEquals(200, c.doPost(URL, sb).run());
+		String expected = JsonSerializer.DEFAULT.serialize(sb.toString());
+		assertEquals(Arrays.asList(expected, expected), bodies);
+		assertTrue(((HttpEntityEnclosingRequest)c.requests.get(0)).getEntity().getContentLength() < expected.length() / 10);
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Streaming entities are chunked and not retried.
+	//====================================================================================================
+	@Test
+	public void testStreaming() throws Exception {
+		final List<String> bodies = new ArrayList<String>();
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				HttpEntity e = ((HttpEntityEnclosingRequest)req).getEntity();
+				assertFalse(e.isRepeatable());
+				assertTrue(e.isChunked());
+				assertEquals(-1, e.getContentLength());
+				bodies.add(new String(read(e), "UTF-8"));
+				return response(n == 1 ? 503 : 200, "foo");
+			}
+		};
+		c.setRetryPolicy(new ExponentialBackoff(3, 0, 0, null));
+
+		A a = new A();
+		try {
+			c.doPost(URL, new RestRequestEntity(a, JsonSerializer.DEFAULT).setStreaming(true)).run();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(503, e.getResponseCode());
+		}
+		assertEquals(1, c.requests.size());
+		assertEquals(Arrays.asList("{\"foo\":\"bar\"}"), bodies);
+
+		try {
+			c.doPost(URL, new RestRequestEntity(a, JsonSerializer.DEFAULT).setStreaming(true)).setRetryable(3, 0, null);
+			fail();
+		} catch (RestCallException e) {
+			assertEquals("Attempt to make call retryable, but entity is not repeatable.", e.getLocalizedMessage());
+		}
+		c.closeQuietly();
+	}
+
+	public static class A {
+		int count;
+
+		public String getFoo() {
+			count++;
+			return "bar";
+		}
+	}
+
+	static byte[] read(HttpEntity e) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		e.writeTo(baos);
+		return baos.toByteArray();
+	}
+}
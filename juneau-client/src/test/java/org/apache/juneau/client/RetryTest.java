@@ -0,0 +1,259 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.net.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class RetryTest {
+
+	private static final String URL = "http://localhost:10000/test";
+
+	//====================================================================================================
+	// Retry policy
+	//====================================================================================================
+	@Test
+	public void testRetryPolicy() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				if (n == 1)
+					throw new IOException("Connection refused");
+				return response(n == 2 ? 503 : 200, "foo");
+			}
+		};
+		c.setRetryPolicy(new ExponentialBackoff(3, 0, 0, null));
+		assertEquals("foo", c.doGet(URL).getResponseAsString());
+		assertEquals(3, c.requests.size());
+		c.closeQuietly();
+	}
+
+	@Test
+	public void testRetryPolicyExhausted() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				return response(503, "foo");
+			}
+		};
+		c.setRetryPolicy(new ExponentialBackoff(2, 0, 0, null));
+		try {
+			c.doGet(URL).run();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(503, e.getResponseCode());
+		}
+		assertEquals(3, c.requests.size());
+		c.closeQuietly();
+	}
+
+	@Test
+	public void testRetryPolicyStreamBody() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				((HttpEntityEnclosingRequest)req).getEntity().writeTo(new ByteArrayOutputStream());
+				return response(n <= 2 ? 503 : 200, "foo");
+			}
+		};
+		c.setRetryPolicy(new ExponentialBackoff(3, 0, 0, null));
+
+		// Stream bodies can only be sent once, so the call isn't retried.
+		try {
+			c.doPost(URL, new ByteArrayInputStream("bar".getBytes())).run();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(503, e.getResponseCode());
+		}
+		assertEquals(1, c.requests.size());
+
+		try {
+			c.doPost(URL, new StringReader("bar")).setRetryable(3, 0, null);
+			fail();
+		} catch (RestCallException e) {
+			assertEquals("Attempt to make call retryable, but entity is not repeatable.", e.getLocalizedMessage());
+		}
+
+		// POJO bodies are buffered and can be resent.
+		c.requests.clear();
+		assertEquals(200, c.doPost(URL, "bar").run());
+		assertEquals(2, c.requests.size());
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Retry budget
+	//====================================================================================================
+	@Test
+	public void testRetryBudget() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				return response(n == 2 ? 200 : 503, "foo");
+			}
+		};
+		RetryBudget b = new RetryBudget(0, 1);
+		c.setRetryPolicy(new ExponentialBackoff(3, 0, 0, null)).setRetryBudget(b);
+
+		// First call uses up the only retry in the budget.
+		assertEquals(200, c.doGet(URL).run());
+		assertEquals(2, c.requests.size());
+		assertEquals(0, b.getAvailable());
+
+		// Second call isn't retried.
+		try {
+			c.doGet(URL).run();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(503, e.getResponseCode());
+		}
+		assertEquals(3, c.requests.size());
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Circuit breaker
+	//====================================================================================================
+	@Test
+	public void testCircuitBreaker() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				return response(503, "foo");
+			}
+		};
+		c.setCircuitBreaker(2, 60000).setRetryPolicy(new ExponentialBackoff(5, 0, 0, null));
+
+		// Retries stop as soon as the breaker opens.
+		try {
+			c.doGet(URL).run();
+			fail();
+		} catch (RestCallException e) {
+			assertTrue(e.getLocalizedMessage().contains("Circuit breaker is open"));
+		}
+		assertEquals(2, c.requests.size());
+		assertEquals(CircuitBreaker.State.OPEN, c.getCircuitBreaker(new URI(URL)).getState());
+
+		// Calls to the same route fail without sending a request.
+		try {
+			c.doGet(URL + "/foo").run();
+			fail();
+		} catch (RestCallException e) {
+			assertTrue(e.getLocalizedMessage().contains("Circuit breaker is open"));
+		}
+		assertEquals(2, c.requests.size());
+		c.closeQuietly();
+	}
+
+	@Test
+	public void testCircuitBreakerHalfOpen() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				return response(n == 1 ? 503 : 200, "foo");
+			}
+		};
+		c.setCircuitBreaker(1, 0);
+		CircuitBreaker cb = c.getCircuitBreaker(new URI(URL));
+
+		try {
+			c.doGet(URL).run();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(503, e.getResponseCode());
+		}
+		assertEquals(CircuitBreaker.State.HALF_OPEN, cb.getState());
+
+		// The trial request succeeds and closes the breaker.
+		assertEquals(200, c.doGet(URL).run());
+		assertEquals(CircuitBreaker.State.CLOSED, cb.getState());
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Hedged requests
+	//====================================================================================================
+	@Test
+	public void testHedgingSecondRequestWins() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				if (n == 21)
+					return waitForAbort(req);
+				return response(200, "r" + n);
+			}
+		};
+		c.setHedging(50, 50);
+		prime(c);
+
+		RestCall rc = c.doGet(URL);
+		HttpUriRequest original = rc.getRequest();
+		assertEquals("r22", rc.getResponseAsString());
+		assertEquals(22, c.requests.size());
+
+		// The call uses the request whose response it got.
+		assertSame(c.requests.get(21), rc.getRequest());
+		assertNotSame(original, rc.getRequest());
+		assertTrue(original.isAborted());
+		assertFalse(rc.getRequest().isAborted());
+		c.closeQuietly();
+	}
+
+	@Test
+	public void testHedgingFirstRequestFails() throws Exception {
+		MockRestClient c = new MockRestClient() {
+			@Override /* MockRestClient */
+			HttpResponse respond(int n, HttpUriRequest req) throws Exception {
+				if (n == 21)
+					throw new IOException("Connection refused");
+				return response(200, "r" + n);
+			}
+		};
+		c.setHedging(50, 1000);
+		prime(c);
+
+		// Without a retry policy, the failure isn't retried by sending the hedged request.
+		try {
+			c.doGet(URL).run();
+			fail();
+		} catch (RestCallException e) {
+			assertTrue(e.getCause() instanceof IOException);
+		}
+		assertEquals(21, c.requests.size());
+
+		// With a retry policy, the call is retried once.
+		c.setRetryPolicy(new ExponentialBackoff(1, 0, 0, null));
+		c.requests.clear();
+		RestCall rc = c.doGet(URL);
+		HttpUriRequest original = rc.getRequest();
+		assertEquals("r22", rc.getResponseAsString());
+		assertEquals(1, c.requests.size());
+		assertSame(original, rc.getRequest());
+		c.closeQuietly();
+	}
+
+	/*
+	 * Makes enough fast calls to enable hedging on the route.
+	 */
+	private static void prime(MockRestClient c) throws Exception {
+		for (int i = 0; i < 20; i++)
+			c.doGet(URL).run();
+	}
+}
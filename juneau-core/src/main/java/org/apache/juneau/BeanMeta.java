@@ -91,6 +91,7 @@ public class BeanMeta<T> {
 	protected final String[] constructorArgs;
 
 	private final MetadataMap extMeta;  // Extended metadata
+	private final CharArrayStringSet propertyNames;  // Property names (and the "_type" property name) for lookups from parser buffers.
 
 	// Other fields
 	final BeanPropertyMeta subTypeProperty;                             // The property indentified as the sub type differentiator property (identified by @Bean.subTypeProperty annotation).
@@ -125,6 +126,14 @@ public class BeanMeta<T> {
 		this.extMeta = b.extMeta;
 		this.subTypeProperty = b.subTypeIdProperty;
 		this.typeProperty = new BeanPropertyMeta(this, ctx.getBeanTypePropertyName(), ctx.string());
+
+		if (properties == null) {
+			this.propertyNames = null;
+		} else {
+			List<String> l = new ArrayList<String>(properties.keySet());
+			l.add(ctx.getBeanTypePropertyName());
+			this.propertyNames = new CharArrayStringSet(l);
+		}
 	}
 
 
@@ -638,6 +647,18 @@ public class BeanMeta<T> {
 		return this.properties.get(name);
 	}
 
+	/**
+	 * Returns the names of the properties on this bean, along with the bean type property name.
+	 * <p>
+	 * Used by parsers to match attribute names against property names directly from their read buffers.
+	 * The strings in this set are the same instances as the keys used by {@link #getPropertyMeta(String)}.
+	 *
+	 * @return The property names on this bean, or <jk>null</jk> if this class isn't a bean.
+	 */
+	public CharArrayStringSet getPropertyNames() {
+		return propertyNames;
+	}
+
 	/**
 	 * Creates a new instance of this bean.
 	 *
@@ -0,0 +1,107 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+/**
+ * Number types whose values are stored as primitives by {@link CompactObjectMap} and {@link CompactObjectList}.
+ * <p>
+ * 	The constant is stored in the value array in place of the number, and the number itself is stored in a
+ * 	parallel <code><jk>long</jk>[]</code> array.
+ * <p>
+ * 	Values covered by the <code>Integer</code> and <code>Long</code> box caches (<code>-128</code> to <code>127</code>)
+ * 	are stored as references, since they don't take up any additional space.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+enum CompactNumber {
+
+	INT {
+		@Override /* CompactNumber */
+		long toBits(Object o) {
+			return (Integer)o;
+		}
+
+		@Override /* CompactNumber */
+		Object box(long bits) {
+			return Integer.valueOf((int)bits);
+		}
+	},
+
+	LONG {
+		@Override /* CompactNumber */
+		long toBits(Object o) {
+			return (Long)o;
+		}
+
+		@Override /* CompactNumber */
+		Object box(long bits) {
+			return Long.valueOf(bits);
+		}
+	},
+
+	FLOAT {
+		@Override /* CompactNumber */
+		long toBits(Object o) {
+			return Float.floatToRawIntBits((Float)o);
+		}
+
+		@Override /* CompactNumber */
+		Object box(long bits) {
+			return Float.intBitsToFloat((int)bits);
+		}
+	},
+
+	DOUBLE {
+		@Override /* CompactNumber */
+		long toBits(Object o) {
+			return Double.doubleToRawLongBits((Double)o);
+		}
+
+		@Override /* CompactNumber */
+		Object box(long bits) {
+			return Double.longBitsToDouble(bits);
+		}
+	};
+
+	/**
+	 * Converts a number of this type to its primitive representation.
+	 */
+	abstract long toBits(Object o);
+
+	/**
+	 * Converts a primitive representation back to a number of this type.
+	 */
+	abstract Object box(long bits);
+
+	/**
+	 * Returns the type to store the specified value as, or <jk>null</jk> if it should be stored as a reference.
+	 */
+	static CompactNumber of(Object o) {
+		if (o == null)
+			return null;
+		Class<?> c = o.getClass();
+		if (c == Integer.class) {
+			int i = (Integer)o;
+			return (i < -128 || i > 127 ? INT : null);
+		}
+		if (c == Long.class) {
+			long l = (Long)o;
+			return (l < -128 || l > 127 ? LONG : null);
+		}
+		if (c == Double.class)
+			return DOUBLE;
+		if (c == Float.class)
+			return FLOAT;
+		return null;
+	}
+}
@@ -0,0 +1,546 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * An {@link ObjectList} that uses a fraction of the heap of a regular <code>ObjectList</code>.
+ * <p>
+ * 	Elements are kept in an array instead of in linked nodes, and <code>Integer</code>, <code>Long</code>,
+ * 	<code>Float</code> and <code>Double</code> values are stored as primitives.
+ * <p>
+ * 	Created by parsers for untyped lists when the {@link ParserContext#PARSER_compactCollections} property is enabled.
+ * 	Useful for keeping large parsed documents in memory.
+ * <p>
+ * 	Differences from {@link ObjectList}:
+ * <ul class='spaced-list'>
+ * 	<li>Number values are boxed on every call to {@link #get(int)}, so the same instance isn't necessarily returned twice.
+ * 	<li>Adding and removing elements anywhere but at the end takes linear time.
+ * 	<li>Instances are serialized as regular <code>ObjectLists</code>.
+ * 	<li>The Java 8 <code>spliterator()</code> method inherited from <code>LinkedList</code> works on the superclass
+ * 		storage, which is always empty, so it and the <code>stream()</code> methods that use it must not be used.
+ * 		The other Java 8 methods (e.g. <code>forEach()</code>, <code>removeIf()</code>, <code>sort()</code>) go
+ * 		through the iterators and work normally.
+ * </ul>
+ * <p>
+ * 	This class is not thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class CompactObjectList extends ObjectList {
+	private static final long serialVersionUID = 1L;
+
+	private static final Object[] EMPTY = new Object[0];
+
+	private Object[] elements = EMPTY;  // Elements, or CompactNumbers for elements stored in nums.
+	private long[] nums;                // Allocated when the first number is stored.
+	private int size;
+
+	/**
+	 * Construct an empty list.
+	 */
+	public CompactObjectList() {
+		this(BeanContext.DEFAULT);
+	}
+
+	/**
+	 * Construct an empty list with the specified bean context.
+	 *
+	 * @param beanContext The bean context to associate with this list for creating beans.
+	 */
+	public CompactObjectList(BeanContext beanContext) {
+		super(beanContext);
+	}
+
+	/**
+	 * Construct a list and fill it with the specified collection of objects.
+	 *
+	 * @param c The objects to add to this list.
+	 */
+	public CompactObjectList(Collection<?> c) {
+		this();
+		addAll(c);
+	}
+
+	/**
+	 * Reduces the capacity of this list to its size.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public CompactObjectList trimToSize() {
+		if (size < elements.length) {
+			elements = Arrays.copyOf(elements, size);
+			if (nums != null)
+				nums = Arrays.copyOf(nums, size);
+		}
+		return this;
+	}
+
+	//--------------------------------------------------------------------------------
+	// Storage
+	//--------------------------------------------------------------------------------
+
+	private void ensureCapacity(int min) {
+		int n = elements.length;
+		if (min > n) {
+			n = Math.max(min, n < 4 ? 4 : n + (n >> 1));
+			elements = Arrays.copyOf(elements, n);
+			if (nums != null)
+				nums = Arrays.copyOf(nums, n);
+		}
+	}
+
+	private Object getAt(int i) {
+		Object o = elements[i];
+		return (o instanceof CompactNumber ? ((CompactNumber)o).box(nums[i]) : o);
+	}
+
+	private Object setAt(int i, Object o) {
+		Object old = getAt(i);
+		CompactNumber n = CompactNumber.of(o);
+		if (n == null) {
+			elements[i] = o;
+		} else {
+			if (nums == null)
+				nums = new long[elements.length];
+			nums[i] = n.toBits(o);
+			elements[i] = n;
+		}
+		return old;
+	}
+
+	// Shifts the elements at the specified position up (if n > 0) or down (if n < 0).
+	private void shift(int i, int n) {
+		System.arraycopy(elements, i, elements, i+n, size-i);
+		if (nums != null)
+			System.arraycopy(nums, i, nums, i+n, size-i);
+	}
+
+	private void checkIndex(int i) {
+		if (i < 0 || i >= size)
+			throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+	}
+
+	private void checkPosition(int i) {
+		if (i < 0 || i > size)
+			throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+	}
+
+	private static boolean eq(Object o1, Object o2) {
+		return o1 == null ? o2 == null : o1.equals(o2);
+	}
+
+	//--------------------------------------------------------------------------------
+	// List methods
+	//--------------------------------------------------------------------------------
+
+	@Override /* List */
+	public int size() {
+		return size;
+	}
+
+	@Override /* List */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override /* List */
+	public Object get(int index) {
+		checkIndex(index);
+		return getAt(index);
+	}
+
+	@Override /* List */
+	public Object set(int index, Object element) {
+		checkIndex(index);
+		return setAt(index, element);
+	}
+
+	@Override /* List */
+	public boolean add(Object o) {
+		ensureCapacity(size+1);
+		elements[size] = null;
+		setAt(size, o);
+		size++;
+		modCount++;
+		return true;
+	}
+
+	@Override /* List */
+	public void add(int index, Object element) {
+		checkPosition(index);
+		ensureCapacity(size+1);
+		shift(index, 1);
+		elements[index] = null;
+		setAt(index, element);
+		size++;
+		modCount++;
+	}
+
+	@Override /* List */
+	public boolean addAll(Collection<? extends Object> c) {
+		return addAll(size, c);
+	}
+
+	@Override /* List */
+	public boolean addAll(int index, Collection<? extends Object> c) {
+		checkPosition(index);
+		Object[] a = c.toArray();
+		int n = a.length;
+		if (n == 0)
+			return false;
+		ensureCapacity(size+n);
+		shift(index, n);
+		for (int i = 0; i < n; i++) {
+			elements[index+i] = null;
+			setAt(index+i, a[i]);
+		}
+		size += n;
+		modCount++;
+		return true;
+	}
+
+	@Override /* List */
+	public Object remove(int index) {
+		checkIndex(index);
+		Object o = getAt(index);
+		System.arraycopy(elements, index+1, elements, index, size-index-1);
+		if (nums != null)
+			System.arraycopy(nums, index+1, nums, index, size-index-1);
+		elements[--size] = null;
+		modCount++;
+		return o;
+	}
+
+	@Override /* List */
+	public boolean remove(Object o) {
+		int i = indexOf(o);
+		if (i == -1)
+			return false;
+		remove(i);
+		return true;
+	}
+
+	@Override /* List */
+	public void clear() {
+		Arrays.fill(elements, 0, size, null);
+		size = 0;
+		modCount++;
+	}
+
+	@Override /* List */
+	public boolean contains(Object o) {
+		return indexOf(o) != -1;
+	}
+
+	@Override /* List */
+	public int indexOf(Object o) {
+		for (int i = 0; i < size; i++)
+			if (eq(o, getAt(i)))
+				return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public int lastIndexOf(Object o) {
+		for (int i = size-1; i >= 0; i--)
+			if (eq(o, getAt(i)))
+				return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public Object[] toArray() {
+		Object[] a = new Object[size];
+		for (int i = 0; i < size; i++)
+			a[i] = getAt(i);
+		return a;
+	}
+
+	@Override /* List */
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		if (a.length < size)
+			a = (T[])Array.newInstance(a.getClass().getComponentType(), size);
+		for (int i = 0; i < size; i++)
+			a[i] = (T)getAt(i);
+		if (a.length > size)
+			a[size] = null;
+		return a;
+	}
+
+	@Override /* List */
+	public Iterator<Object> iterator() {
+		return new Itr(0);
+	}
+
+	@Override /* List */
+	public ListIterator<Object> listIterator(int index) {
+		checkPosition(index);
+		return new Itr(index);
+	}
+
+	//--------------------------------------------------------------------------------
+	// Deque methods
+	//--------------------------------------------------------------------------------
+
+	@Override /* Deque */
+	public Object getFirst() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return getAt(0);
+	}
+
+	@Override /* Deque */
+	public Object getLast() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return getAt(size-1);
+	}
+
+	@Override /* Deque */
+	public Object removeFirst() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return remove(0);
+	}
+
+	@Override /* Deque */
+	public Object removeLast() {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return remove(size-1);
+	}
+
+	@Override /* Deque */
+	public void addFirst(Object o) {
+		add(0, o);
+	}
+
+	@Override /* Deque */
+	public void addLast(Object o) {
+		add(o);
+	}
+
+	@Override /* Deque */
+	public Object element() {
+		return getFirst();
+	}
+
+	@Override /* Deque */
+	public Object peek() {
+		return peekFirst();
+	}
+
+	@Override /* Deque */
+	public Object peekFirst() {
+		return (size == 0 ? null : getAt(0));
+	}
+
+	@Override /* Deque */
+	public Object peekLast() {
+		return (size == 0 ? null : getAt(size-1));
+	}
+
+	@Override /* Deque */
+	public Object poll() {
+		return pollFirst();
+	}
+
+	@Override /* Deque */
+	public Object pollFirst() {
+		return (size == 0 ? null : remove(0));
+	}
+
+	@Override /* Deque */
+	public Object pollLast() {
+		return (size == 0 ? null : remove(size-1));
+	}
+
+	@Override /* Deque */
+	public Object remove() {
+		return removeFirst();
+	}
+
+	@Override /* Deque */
+	public boolean offer(Object o) {
+		return add(o);
+	}
+
+	@Override /* Deque */
+	public boolean offerFirst(Object o) {
+		add(0, o);
+		return true;
+	}
+
+	@Override /* Deque */
+	public boolean offerLast(Object o) {
+		return add(o);
+	}
+
+	@Override /* Deque */
+	public void push(Object o) {
+		add(0, o);
+	}
+
+	@Override /* Deque */
+	public Object pop() {
+		return removeFirst();
+	}
+
+	@Override /* Deque */
+	public boolean removeFirstOccurrence(Object o) {
+		return remove(o);
+	}
+
+	@Override /* Deque */
+	public boolean removeLastOccurrence(Object o) {
+		int i = lastIndexOf(o);
+		if (i == -1)
+			return false;
+		remove(i);
+		return true;
+	}
+
+	@Override /* Deque */
+	public Iterator<Object> descendingIterator() {
+		final Itr i = new Itr(size);
+		return new Iterator<Object>() {
+
+			@Override /* Iterator */
+			public boolean hasNext() {
+				return i.hasPrevious();
+			}
+
+			@Override /* Iterator */
+			public Object next() {
+				return i.previous();
+			}
+
+			@Override /* Iterator */
+			public void remove() {
+				i.remove();
+			}
+		};
+	}
+
+	/**
+	 * Returns a copy of this list.
+	 */
+	@Override /* Object */
+	public Object clone() {
+		CompactObjectList l = new CompactObjectList(getBeanContext());
+		l.elements = Arrays.copyOf(elements, size);
+		if (nums != null)
+			l.nums = Arrays.copyOf(nums, size);
+		l.size = size;
+		return l;
+	}
+
+	/**
+	 * Serializes this list as a regular {@link ObjectList}, since the elements aren't stored in the superclass.
+	 *
+	 * @return A copy of this list.
+	 * @throws ObjectStreamException Never thrown.
+	 */
+	protected Object writeReplace() throws ObjectStreamException {
+		return new ObjectList((Collection<?>)this).setBeanContext(getBeanContext());
+	}
+
+	//--------------------------------------------------------------------------------
+	// Iterator
+	//--------------------------------------------------------------------------------
+
+	private final class Itr implements ListIterator<Object> {
+		private int next, last = -1, expectedModCount = modCount;
+
+		Itr(int next) {
+			this.next = next;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
+		@Override /* ListIterator */
+		public boolean hasNext() {
+			return next < size;
+		}
+
+		@Override /* ListIterator */
+		public Object next() {
+			checkModCount();
+			if (next >= size)
+				throw new NoSuchElementException();
+			last = next++;
+			return getAt(last);
+		}
+
+		@Override /* ListIterator */
+		public boolean hasPrevious() {
+			return next > 0;
+		}
+
+		@Override /* ListIterator */
+		public Object previous() {
+			checkModCount();
+			if (next <= 0)
+				throw new NoSuchElementException();
+			last = --next;
+			return getAt(last);
+		}
+
+		@Override /* ListIterator */
+		public int nextIndex() {
+			return next;
+		}
+
+		@Override /* ListIterator */
+		public int previousIndex() {
+			return next-1;
+		}
+
+		@Override /* ListIterator */
+		public void remove() {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkModCount();
+			CompactObjectList.this.remove(last);
+			next = last;
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		@Override /* ListIterator */
+		public void set(Object o) {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkModCount();
+			setAt(last, o);
+		}
+
+		@Override /* ListIterator */
+		public void add(Object o) {
+			checkModCount();
+			CompactObjectList.this.add(next++, o);
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,614 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
+
+/**
+ * An {@link ObjectMap} that uses a fraction of the heap of a regular <code>ObjectMap</code>.
+ * <p>
+ * 	Entries are kept in insertion order in parallel key and value arrays instead of in linked hash entries.
+ * 	Maps with more than a few entries are indexed by an open-addressing hash table of array positions.
+ * 	<code>Integer</code>, <code>Long</code>, <code>Float</code> and <code>Double</code> values are stored as primitives.
+ * <p>
+ * 	Created by parsers for untyped maps when the {@link ParserContext#PARSER_compactCollections} property is enabled.
+ * 	Useful for keeping large parsed documents in memory.
+ * <p>
+ * 	Differences from {@link ObjectMap}:
+ * <ul class='spaced-list'>
+ * 	<li>Number values are boxed on every call to {@link #get(Object)}, so the same instance isn't necessarily returned twice.
+ * 	<li>Removing entries takes linear time.
+ * 	<li>Instances are serialized as regular <code>ObjectMaps</code>.
+ * 	<li>The Java 8 <code>forEach()</code>, <code>replaceAll()</code>, <code>computeIfAbsent()</code>,
+ * 		<code>computeIfPresent()</code>, <code>compute()</code> and <code>merge()</code> methods inherited from
+ * 		<code>HashMap</code> and <code>LinkedHashMap</code> work on the superclass storage, which is always empty, so they must not be used.
+ * 		They can't be overridden without requiring Java 8.
+ * 		Use the entry set and the other <code>Map</code> methods instead.
+ * </ul>
+ * <p>
+ * 	This class is not thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class CompactObjectMap extends ObjectMap {
+	private static final long serialVersionUID = 1L;
+
+	// Maps of up to this size are searched sequentially instead of through the index.
+	private static final int MAX_UNINDEXED = 8;
+
+	private static final String[] EMPTY_KEYS = new String[0];
+	private static final Object[] EMPTY_VALUES = new Object[0];
+
+	private String[] keys = EMPTY_KEYS;
+	private Object[] values = EMPTY_VALUES;  // Values, or CompactNumbers for values stored in nums.
+	private long[] nums;                     // Allocated when the first number is stored.
+	private int[] index;                     // Positions + 1, or 0 for empty slots.
+	private int size, modCount;
+
+	private transient Set<String> keySet;
+	private transient Set<Map.Entry<String,Object>> entrySet;
+	private transient Collection<Object> valuesView;
+
+	/**
+	 * Construct an empty map.
+	 */
+	public CompactObjectMap() {
+		this(BeanContext.DEFAULT);
+	}
+
+	/**
+	 * Construct an empty map with the specified bean context.
+	 *
+	 * @param beanContext The bean context to use for creating beans.
+	 */
+	public CompactObjectMap(BeanContext beanContext) {
+		super(beanContext);
+	}
+
+	/**
+	 * Construct a map and fill it with the contents from the specified {@link Map}.
+	 *
+	 * @param m The map whose entries will be copied into this map.
+	 */
+	public CompactObjectMap(Map<?,?> m) {
+		this();
+		for (Map.Entry<?,?> e : m.entrySet())
+			put(e.getKey().toString(), e.getValue());
+	}
+
+	/**
+	 * Reduces the capacity of this map to its size.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public CompactObjectMap trimToSize() {
+		if (size < keys.length) {
+			keys = Arrays.copyOf(keys, size);
+			values = Arrays.copyOf(values, size);
+			if (nums != null)
+				nums = Arrays.copyOf(nums, size);
+		}
+		return this;
+	}
+
+	//--------------------------------------------------------------------------------
+	// Storage
+	//--------------------------------------------------------------------------------
+
+	private static int hash(Object key) {
+		if (key == null)
+			return 0;
+		int h = key.hashCode() * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private int find(Object key) {
+		if (index == null) {
+			for (int i = 0; i < size; i++) {
+				String k = keys[i];
+				if (k == key || (k != null && k.equals(key)))
+					return i;
+			}
+			return -1;
+		}
+		int mask = index.length - 1;
+		for (int j = hash(key) & mask; ; j = (j + 1) & mask) {
+			int p = index[j];
+			if (p == 0)
+				return -1;
+			String k = keys[p-1];
+			if (k == key || (k != null && k.equals(key)))
+				return p-1;
+		}
+	}
+
+	private void addToIndex(int i) {
+		int mask = index.length - 1;
+		int j = hash(keys[i]) & mask;
+		while (index[j] != 0)
+			j = (j + 1) & mask;
+		index[j] = i+1;
+	}
+
+	private void rebuildIndex() {
+		if (size <= MAX_UNINDEXED) {
+			index = null;
+			return;
+		}
+		int n = (index == null ? 32 : index.length);
+		while (n < size*2)
+			n <<= 1;
+		index = new int[n];
+		for (int i = 0; i < size; i++)
+			addToIndex(i);
+	}
+
+	private Object getAt(int i) {
+		Object o = values[i];
+		return (o instanceof CompactNumber ? ((CompactNumber)o).box(nums[i]) : o);
+	}
+
+	private Object setAt(int i, Object o) {
+		Object old = getAt(i);
+		CompactNumber n = CompactNumber.of(o);
+		if (n == null) {
+			values[i] = o;
+		} else {
+			if (nums == null)
+				nums = new long[keys.length];
+			nums[i] = n.toBits(o);
+			values[i] = n;
+		}
+		return old;
+	}
+
+	private void removeAt(int i) {
+		int n = size - i - 1;
+		System.arraycopy(keys, i+1, keys, i, n);
+		System.arraycopy(values, i+1, values, i, n);
+		if (nums != null)
+			System.arraycopy(nums, i+1, nums, i, n);
+		size--;
+		keys[size] = null;
+		values[size] = null;
+		modCount++;
+		if (index != null)
+			rebuildIndex();
+	}
+
+	private static boolean eq(Object o1, Object o2) {
+		return o1 == null ? o2 == null : o1.equals(o2);
+	}
+
+	//--------------------------------------------------------------------------------
+	// Map methods
+	//--------------------------------------------------------------------------------
+
+	@Override /* Map */
+	public int size() {
+		return size;
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override /* Map */
+	public Object get(Object key) {
+		int i = find(key);
+		Object o = (i == -1 ? null : getAt(i));
+		if (o == null && getInner() != null)
+			o = getInner().get(key);
+		return o;
+	}
+
+	@Override /* ObjectMap */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public <T> T get(PojoSwap<T,?> pojoSwap, String key) throws ParseException {
+		int i = find(key);
+		Object o = (i == -1 ? null : getAt(i));
+		if (o == null)
+			return null;
+		PojoSwap swap = pojoSwap;
+		return (T)swap.unswap(o, null, getBeanContext());
+	}
+
+	@Override /* Map */
+	public boolean containsKey(Object key) {
+		if (find(key) != -1)
+			return true;
+		if (getInner() != null)
+			return getInner().containsKey(key);
+		return false;
+	}
+
+	@Override /* ObjectMap */
+	public boolean containsOuterKey(Object key) {
+		return find(key) != -1;
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < size; i++)
+			if (eq(value, getAt(i)))
+				return true;
+		return false;
+	}
+
+	@Override /* Map */
+	public Object put(String key, Object value) {
+		int i = find(key);
+		if (i != -1)
+			return setAt(i, value);
+		if (size == keys.length) {
+			int n = (size < 4 ? 4 : size + (size >> 1));
+			keys = Arrays.copyOf(keys, n);
+			values = Arrays.copyOf(values, n);
+			if (nums != null)
+				nums = Arrays.copyOf(nums, n);
+		}
+		keys[size] = key;
+		setAt(size, value);
+		size++;
+		modCount++;
+		if (index != null && size*2 <= index.length)
+			addToIndex(size-1);
+		else if (size > MAX_UNINDEXED)
+			rebuildIndex();
+		return null;
+	}
+
+	@Override /* Map */
+	public void putAll(Map<? extends String,? extends Object> m) {
+		for (Map.Entry<? extends String,? extends Object> e : m.entrySet())
+			put(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		int i = find(key);
+		if (i == -1)
+			return null;
+		Object o = getAt(i);
+		removeAt(i);
+		return o;
+	}
+
+	@Override /* Map */
+	public void clear() {
+		Arrays.fill(keys, 0, size, null);
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		index = null;
+		modCount++;
+	}
+
+	// The following methods override the Java 8 HashMap methods of the same signature.
+
+	/**
+	 * Returns the value of the specified key, or the default value if this map doesn't contain the key.
+	 *
+	 * @param key The key.
+	 * @param defaultValue The default value.
+	 * @return The value.
+	 */
+	public Object getOrDefault(Object key, Object defaultValue) {
+		Object o = get(key);
+		return (o != null || containsKey(key) ? o : defaultValue);
+	}
+
+	/**
+	 * Associates the specified value with the specified key if the key has no value.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 * @return The existing value, or <jk>null</jk> if there was none.
+	 */
+	public Object putIfAbsent(String key, Object value) {
+		Object o = get(key);
+		if (o == null)
+			o = put(key, value);
+		return o;
+	}
+
+	/**
+	 * Removes the specified key only if it's mapped to the specified value.
+	 *
+	 * @param key The key.
+	 * @param value The expected value.
+	 * @return <jk>true</jk> if the entry was removed.
+	 */
+	public boolean remove(Object key, Object value) {
+		int i = find(key);
+		if (i == -1 || ! eq(getAt(i), value))
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	/**
+	 * Replaces the value of the specified key only if this map contains the key.
+	 *
+	 * @param key The key.
+	 * @param value The new value.
+	 * @return The previous value, or <jk>null</jk> if this map didn't contain the key.
+	 */
+	public Object replace(String key, Object value) {
+		int i = find(key);
+		return (i == -1 ? null : setAt(i, value));
+	}
+
+	/**
+	 * Replaces the value of the specified key only if it's mapped to the specified value.
+	 *
+	 * @param key The key.
+	 * @param oldValue The expected value.
+	 * @param newValue The new value.
+	 * @return <jk>true</jk> if the value was replaced.
+	 */
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		int i = find(key);
+		if (i == -1 || ! eq(getAt(i), oldValue))
+			return false;
+		setAt(i, newValue);
+		return true;
+	}
+
+	@Override /* Map */
+	public Set<String> keySet() {
+		if (getInner() != null) {
+			LinkedHashSet<String> s = new LinkedHashSet<String>();
+			s.addAll(getInner().keySet());
+			s.addAll(outerKeySet());
+			return s;
+		}
+		return outerKeySet();
+	}
+
+	private Set<String> outerKeySet() {
+		if (keySet == null) {
+			keySet = new AbstractSet<String>() {
+
+				@Override /* Set */
+				public Iterator<String> iterator() {
+					return new Itr<String>() {
+						@Override /* Iterator */
+						public String next() {
+							return keys[nextIndex()];
+						}
+					};
+				}
+
+				@Override /* Set */
+				public int size() {
+					return size;
+				}
+
+				@Override /* Set */
+				public boolean contains(Object o) {
+					return find(o) != -1;
+				}
+
+				@Override /* Set */
+				public boolean remove(Object o) {
+					int i = find(o);
+					if (i == -1)
+						return false;
+					removeAt(i);
+					return true;
+				}
+
+				@Override /* Set */
+				public void clear() {
+					CompactObjectMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		if (valuesView == null) {
+			valuesView = new AbstractCollection<Object>() {
+
+				@Override /* Collection */
+				public Iterator<Object> iterator() {
+					return new Itr<Object>() {
+						@Override /* Iterator */
+						public Object next() {
+							return getAt(nextIndex());
+						}
+					};
+				}
+
+				@Override /* Collection */
+				public int size() {
+					return size;
+				}
+
+				@Override /* Collection */
+				public boolean contains(Object o) {
+					return containsValue(o);
+				}
+
+				@Override /* Collection */
+				public void clear() {
+					CompactObjectMap.this.clear();
+				}
+			};
+		}
+		return valuesView;
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,Object>> entrySet() {
+		if (getInner() != null)
+			return super.entrySet();
+		if (entrySet == null) {
+			entrySet = new AbstractSet<Map.Entry<String,Object>>() {
+
+				@Override /* Set */
+				public Iterator<Map.Entry<String,Object>> iterator() {
+					return new Itr<Map.Entry<String,Object>>() {
+						@Override /* Iterator */
+						public Map.Entry<String,Object> next() {
+							return new Entry(nextIndex());
+						}
+					};
+				}
+
+				@Override /* Set */
+				public int size() {
+					return size;
+				}
+
+				@Override /* Set */
+				public boolean contains(Object o) {
+					if (! (o instanceof Map.Entry))
+						return false;
+					Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+					int i = find(e.getKey());
+					return i != -1 && eq(getAt(i), e.getValue());
+				}
+
+				@Override /* Set */
+				public boolean remove(Object o) {
+					if (! (o instanceof Map.Entry))
+						return false;
+					Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+					return CompactObjectMap.this.remove(e.getKey(), e.getValue());
+				}
+
+				@Override /* Set */
+				public void clear() {
+					CompactObjectMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Returns a copy of this map.
+	 */
+	@Override /* Object */
+	public Object clone() {
+		CompactObjectMap m = new CompactObjectMap(getBeanContext());
+		m.keys = Arrays.copyOf(keys, size);
+		m.values = Arrays.copyOf(values, size);
+		if (nums != null)
+			m.nums = Arrays.copyOf(nums, size);
+		m.size = size;
+		m.rebuildIndex();
+		m.setInner(getInner());
+		return m;
+	}
+
+	/**
+	 * Serializes this map as a regular {@link ObjectMap}, since the entries aren't stored in the superclass.
+	 *
+	 * @return A copy of this map.
+	 * @throws ObjectStreamException Never thrown.
+	 */
+	protected Object writeReplace() throws ObjectStreamException {
+		ObjectMap m = new ObjectMap(getBeanContext());
+		for (int i = 0; i < size; i++)
+			m.put(keys[i], getAt(i));
+		return m.setInner(getInner());
+	}
+
+	//--------------------------------------------------------------------------------
+	// Iterators and entries
+	//--------------------------------------------------------------------------------
+
+	private abstract class Itr<T> implements Iterator<T> {
+		private int next, last = -1, expectedModCount = modCount;
+
+		@Override /* Iterator */
+		public boolean hasNext() {
+			return next < size;
+		}
+
+		int nextIndex() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+			if (next >= size)
+				throw new NoSuchElementException();
+			return last = next++;
+		}
+
+		@Override /* Iterator */
+		public void remove() {
+			if (last == -1)
+				throw new IllegalStateException();
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+			removeAt(last);
+			next = last;
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	/*
+	 * An entry backed by a position in this map.
+	 * Like HashMap entries, it's only valid until the map is structurally modified.
+	 */
+	private final class Entry implements Map.Entry<String,Object> {
+		private final int i;
+
+		Entry(int i) {
+			this.i = i;
+		}
+
+		@Override /* Map.Entry */
+		public String getKey() {
+			return keys[i];
+		}
+
+		@Override /* Map.Entry */
+		public Object getValue() {
+			return getAt(i);
+		}
+
+		@Override /* Map.Entry */
+		public Object setValue(Object value) {
+			return setAt(i, value);
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof Map.Entry))
+				return false;
+			Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+			return eq(getKey(), e.getKey()) && eq(getValue(), e.getValue());
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			Object k = getKey(), v = getValue();
+			return (k == null ? 0 : k.hashCode()) ^ (v == null ? 0 : v.hashCode());
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+}
@@ -224,6 +224,15 @@ public class ObjectList extends LinkedList<Object> {
 		return this;
 	}
 
+	/**
+	 * Returns the {@link BeanContext} currently associated with this list.
+	 *
+	 * @return The {@link BeanContext} currently associated with this list.
+	 */
+	public BeanContext getBeanContext() {
+		return beanContext;
+	}
+
 	/**
 	 * Convenience method for adding multiple objects to this list.
 	 * @param o The objects to add to the list.
@@ -403,6 +403,7 @@ public class HtmlSerializer extends XmlSerializer {
 				out.sTag(i+2, "th").append(key).eTag("th").nl();
 			out.eTag(i+1, "tr").nl();
 
+			TableColumns cols = new TableColumns();
 			for (Object o : c) {
 				ClassMeta<?> cm = bc.getClassMetaForObject(o);
 
@@ -435,11 +436,13 @@ public class HtmlSerializer extends XmlSerializer {
 					else
 						m2 = bc.forBean(o);
 
-					for (String k : th) {
-						BeanMapEntry p = m2.getProperty(k);
-						BeanPropertyMeta pMeta = p.getMeta();
+					// Resolve the columns only when the bean class changes from the previous row.
+					if (m2.getMeta() != cols.getBeanMeta())
+						cols.resolve(m2.getMeta(), th);
+
+					for (BeanPropertyMeta pMeta : cols.getProperties()) {
 						out.sTag(i+2, "td").nl();
-						serializeAnything(session, out, p.getValue(), pMeta.getClassMeta(), p.getKey().toString(), 2, pMeta);
+						serializeAnything(session, out, pMeta.get(m2), pMeta.getClassMeta(), pMeta.getName(), 2, pMeta);
 						out.eTag(i+2, "td").nl();
 					}
 				}
@@ -458,6 +461,45 @@ public class HtmlSerializer extends XmlSerializer {
 		}
 	}
 
+	/*
+	 * Returns the table column headers from the bean metadata if all the objects in the collection are of the same class.
+	 * Returns null if the collection needs to be scanned.
+	 */
+	private static String[] getBeanMetaTableHeaders(BeanMeta<?> bm, Collection<?> c, Class<?> c1) {
+		for (Object o : c)
+			if (o != null && o.getClass() != c1)
+				return null;
+		Collection<BeanPropertyMeta> pMetas = bm.getPropertyMetas();
+		String[] th = new String[pMetas.size()];
+		int i = 0;
+		for (BeanPropertyMeta pMeta : pMetas)
+			th[i++] = pMeta.getName();
+		return th;
+	}
+
+	/*
+	 * The bean properties of the columns of a table, resolved once per bean class.
+	 */
+	private static class TableColumns {
+		private BeanMeta<?> bm;
+		private BeanPropertyMeta[] properties;
+
+		BeanMeta<?> getBeanMeta() {
+			return bm;
+		}
+
+		BeanPropertyMeta[] getProperties() {
+			return properties;
+		}
+
+		void resolve(BeanMeta<?> bm, String[] th) {
+			this.bm = bm;
+			properties = new BeanPropertyMeta[th.length];
+			for (int i = 0; i < th.length; i++)
+				properties[i] = bm.getPropertyMeta(th[i]);
+		}
+	}
+
 	/*
 	 * Returns the table column headers for the specified collection of objects.
 	 * Returns null if collection should not be serialized as a 2-dimensional table.
@@ -480,11 +522,14 @@ public class HtmlSerializer extends XmlSerializer {
 			}
 		if (o1 == null)
 			return null;
+		Class<?> c1 = o1.getClass();
 		ClassMeta<?> cm = bc.getClassMetaForObject(o1);
+		boolean swapped = false;
 		if (cm.getPojoSwap() != null) {
 			PojoSwap f = cm.getPojoSwap();
 			o1 = f.swap(o1, bc);
 			cm = cm.getSerializedClassMeta();
+			swapped = true;
 		}
 		if (cm == null || ! (cm.isMap() || cm.isBean()))
 			return null;
@@ -497,6 +542,11 @@ public class HtmlSerializer extends XmlSerializer {
 			return new String[0];
 		if (session.canIgnoreValue(cm, null, o1))
 			return null;
+		if (session instanceof HtmlSerializerSession && ((HtmlSerializerSession)session).isBeanTableHeadersFromMeta() && ! swapped && cm.isBean() && ! cm.isMap()) {
+			th = getBeanMetaTableHeaders(cm.getBeanMeta(), c, c1);
+			if (th != null)
+				return th;
+		}
 		if (cm.isMap() && ! cm.isBeanMap()) {
 			Set<String> set = new LinkedHashSet<String>();
 			for (Object o : c) {
@@ -62,6 +62,18 @@ import org.apache.juneau.xml.*;
  * 		<td><code>String</code></td>
  * 		<td><js>"label"</js></td>
  * 	</tr>
+ * 	<tr>
+ * 		<td>{@link #HTML_addKeyValueTableHeaders}</td>
+ * 		<td>Add key/value headers on bean/map tables.</td>
+ * 		<td><code>Boolean</code></td>
+ * 		<td><jk>false</jk></td>
+ * 	</tr>
+ * 	<tr>
+ * 		<td>{@link #HTML_beanTableHeadersFromMeta}</td>
+ * 		<td>Derive bean table headers from the bean metadata.</td>
+ * 		<td><code>Boolean</code></td>
+ * 		<td><jk>false</jk></td>
+ * 	</tr>
  * </table>
  *
  * <h6 class='topic'>Configurable properties inherited from parent classes</h6>
@@ -165,8 +177,27 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 	 */
 	public static final String HTML_addKeyValueTableHeaders = "HtmlSerializer.addKeyValueTableHeaders";
 
+	/**
+	 * <b>Configuration property:</b>  Derive bean table headers from the bean metadata.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"HtmlSerializer.beanTableHeadersFromMeta"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * </ul>
+	 * <p>
+	 * When serializing a collection of beans of the same class as a table, the column headers are normally
+	 * 	determined by scanning every row for properties with non-null values, which means every getter is
+	 * 	called twice.
+	 * When enabled, the column headers are simply all the bean properties in the order defined by the bean metadata,
+	 * 	and each getter is only called once when rendering the row.
+	 * <p>
+	 * Collections of maps and collections containing beans of different classes are still scanned.
+	 */
+	public static final String HTML_beanTableHeadersFromMeta = "HtmlSerializer.beanTableHeadersFromMeta";
+
 	final String uriAnchorText;
-	final boolean lookForLabelParameters, detectLinksInStrings, addKeyValueTableHeaders;
+	final boolean lookForLabelParameters, detectLinksInStrings, addKeyValueTableHeaders, beanTableHeadersFromMeta;
 	final String labelParameter;
 
 	/**
@@ -183,5 +214,6 @@ public class HtmlSerializerContext extends XmlSerializerContext {
 		detectLinksInStrings = cf.getProperty(HTML_detectLinksInStrings, Boolean.class, true);
 		labelParameter = cf.getProperty(HTML_labelParameter, String.class, "label");
 		addKeyValueTableHeaders = cf.getProperty(HTML_addKeyValueTableHeaders, Boolean.class, false);
+		beanTableHeadersFromMeta = cf.getProperty(HTML_beanTableHeadersFromMeta, Boolean.class, false);
 	}
 }
@@ -32,7 +32,7 @@ import org.apache.juneau.xml.*;
 public class HtmlSerializerSession extends XmlSerializerSession {
 
 	private final AnchorText anchorText;
-	private final boolean detectLinksInStrings, lookForLabelParameters, addKeyValueTableHeaders;
+	private final boolean detectLinksInStrings, lookForLabelParameters, addKeyValueTableHeaders, beanTableHeadersFromMeta;
 	private final Pattern urlPattern = Pattern.compile("http[s]?\\:\\/\\/.*");
 	private final Pattern labelPattern;
 	private final String absolutePathUriBase, relativeUriBase;
@@ -63,12 +63,14 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 			lookForLabelParameters = ctx.lookForLabelParameters;
 			labelParameter = ctx.labelParameter;
 			addKeyValueTableHeaders = ctx.addKeyValueTableHeaders;
+			beanTableHeadersFromMeta = ctx.beanTableHeadersFromMeta;
 		} else {
 			anchorText = Enum.valueOf(AnchorText.class, op.getString(HTML_uriAnchorText, ctx.uriAnchorText));
 			detectLinksInStrings = op.getBoolean(HTML_detectLinksInStrings, ctx.detectLinksInStrings);
 			lookForLabelParameters = op.getBoolean(HTML_lookForLabelParameters, ctx.lookForLabelParameters);
 			labelParameter = op.getString(HTML_labelParameter, ctx.labelParameter);
 			addKeyValueTableHeaders = op.getBoolean(HTML_addKeyValueTableHeaders, ctx.addKeyValueTableHeaders);
+			beanTableHeadersFromMeta = op.getBoolean(HTML_beanTableHeadersFromMeta, ctx.beanTableHeadersFromMeta);
 		}
 		labelPattern = Pattern.compile("[\\?\\&]" + Pattern.quote(labelParameter) + "=([^\\&]*)");
 		this.absolutePathUriBase = getAbsolutePathUriBase();
@@ -162,4 +164,13 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 		return addKeyValueTableHeaders;
 	}
 
+	/**
+	 * Returns the {@link HtmlSerializerContext#HTML_beanTableHeadersFromMeta} setting value for this session.
+	 *
+	 * @return The {@link HtmlSerializerContext#HTML_beanTableHeadersFromMeta} setting value for this session.
+	 */
+	public final boolean isBeanTableHeadersFromMeta() {
+		return beanTableHeadersFromMeta;
+	}
+
 }
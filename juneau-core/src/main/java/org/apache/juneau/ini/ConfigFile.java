@@ -21,6 +21,7 @@ import java.beans.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -38,6 +39,9 @@ import org.apache.juneau.svl.*;
  */
 public abstract class ConfigFile implements Map<String,Section> {
 
+	// Parsed values of immutable types, keyed by "class|section|key".
+	private final ConcurrentHashMap<String,CachedValue> valueCache = new ConcurrentHashMap<String,CachedValue>();
+
 	//--------------------------------------------------------------------------------
 	// Abstract methods
 	//--------------------------------------------------------------------------------
@@ -263,6 +267,11 @@ public abstract class ConfigFile implements Map<String,Section> {
 
 	/**
 	 * Same as {@link #getObject(Class, String, Object)}, but value is referenced through section name and key instead of full key.
+	 * <p>
+	 * Values of immutable types (e.g. numbers, enums, URIs and arrays of them) are cached so that the same entry value
+	 * 	is only parsed once.
+	 * The cached value is discarded when the entry value changes.
+	 * Arrays are copied before being returned.
 	 *
 	 * @param c The class to convert the value to.
 	 * @param sectionName The section name.  Must not be <jk>null</jk>.
@@ -286,19 +295,63 @@ public abstract class ConfigFile implements Map<String,Section> {
 			String[] r = StringUtils.isEmpty(s) ? new String[0] : StringUtils.split(s, ',');
 			return (T)(r.length == 0 ? def : r);
 		}
+		if (StringUtils.isEmpty(s))
+			return def;
+
+		String cacheKey = null;
+		if (isCacheable(c)) {
+			cacheKey = c.getName() + '|' + sectionName + '|' + sectionKey;
+			CachedValue cv = valueCache.get(cacheKey);
+			if (cv != null && cv.raw.equals(s))
+				return (T)copyIfArray(cv.value);
+		}
+
+		Object o;
 		if (c.isArray()) {
 			Class<?> ce = c.getComponentType();
-			if (StringUtils.isEmpty(s))
-				return def;
 			String[] r = StringUtils.split(s, ',');
-			Object o = Array.newInstance(ce, r.length);
+			o = Array.newInstance(ce, r.length);
 			for (int i = 0; i < r.length; i++)
 				Array.set(o, i, getParser().parse(r[i], ce));
-			return (T)o;
+		} else {
+			o = getParser().parse(s, c);
+		}
+
+		if (cacheKey != null) {
+			valueCache.put(cacheKey, new CachedValue(s, o));
+			return (T)copyIfArray(o);
+		}
+		return (T)o;
+	}
+
+	/*
+	 * Returns true if parsed values of the specified class can be shared between callers.
+	 */
+	private static boolean isCacheable(Class<?> c) {
+		if (c.isArray())
+			return isCacheable(c.getComponentType());
+		return c.isPrimitive() || c.isEnum() || c == String.class || c == Long.class || c == Short.class || c == Byte.class
+			|| c == Float.class || c == Double.class || c == Character.class || c == Integer.class || c == Boolean.class
+			|| c == java.math.BigInteger.class || c == java.math.BigDecimal.class || c == java.net.URI.class;
+	}
+
+	private static Object copyIfArray(Object o) {
+		if (o == null || ! o.getClass().isArray())
+			return o;
+		int len = Array.getLength(o);
+		Object o2 = Array.newInstance(o.getClass().getComponentType(), len);
+		System.arraycopy(o, 0, o2, 0, len);
+		return o2;
+	}
+
+	private static final class CachedValue {
+		final String raw;
+		final Object value;
+
+		CachedValue(String raw, Object value) {
+			this.raw = raw;
+			this.value = value;
 		}
-		if (StringUtils.isEmpty(s))
-			return def;
-		return getParser().parse(s, c);
 	}
 
 	/**
@@ -142,8 +142,10 @@ public final class ConfigFileImpl extends ConfigFile {
 	@Override /* ConfigFile */
 	public ConfigFileImpl load(Reader r) throws IOException {
 		assertFieldNotNull(r, "r");
+		Set<String> changes = null;
 		writeLock();
 		try {
+			Map<String,Section> prev = this.sections;
 			this.sections = Collections.synchronizedMap(new LinkedHashMap<String,Section>());
 			BufferedReader in = new BufferedReader(r);
 			try {
@@ -187,11 +189,24 @@ public final class ConfigFileImpl extends ConfigFile {
 			} finally {
 				in.close();
 			}
+
+			// Find the entries that changed from the previously-loaded contents.
+			if (prev != null) {
+				changes = createChanges();
+				if (changes != null) {
+					for (Section s : prev.values())
+						findChanges(changes, s, sections.get(s.name));
+					for (Section s : sections.values())
+						if (! prev.containsKey(s.name))
+							findChanges(changes, null, s);
+				}
+			}
 		} finally {
 			writeUnlock();
 		}
 		for (ConfigFileListener l : listeners)
 			l.onLoad(this);
+		signalChanges(changes);
 		return this;
 	}
 
@@ -18,6 +18,7 @@ import java.io.*;
 import java.nio.charset.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
@@ -33,9 +34,14 @@ import org.apache.juneau.utils.*;
  * 	ConfigFile cf = ConfigMgr.<jsf>DEFAULT</jsf>.get(<js>"MyConfig.cfg"</js>);
  * 	String setting = cf.get(<js>"MySection/mysetting"</js>);
  * </p>
+ * <p>
+ * Config files can be automatically reloaded when they're modified on the file system by calling {@link #startWatcher(long)}.
  */
 public class ConfigMgr {
 
+	private static final JuneauLogger logger = JuneauLogger.getLogger(ConfigMgr.class);
+	private static final AtomicInteger watcherCount = new AtomicInteger();
+
 	/**
 	 * Default reusable configuration manager.
 	 * <ul class='spaced-list'>
@@ -57,6 +63,7 @@ public class ConfigMgr {
 	private final boolean readOnly;
 	private final Charset charset;
 	private final List<File> searchPaths = new LinkedList<File>();
+	private ScheduledExecutorService watcher;
 
 	/**
 	 * Create a custom configuration manager.
@@ -164,6 +171,58 @@ public class ConfigMgr {
 			cf.loadIfModified();
 	}
 
+	/**
+	 * Starts a background daemon thread that periodically reloads any config files that were modified.
+	 * <p>
+	 * Reloading a config file fires the {@link ConfigFileListener#onLoad(ConfigFile)} event followed by
+	 * 	the {@link ConfigFileListener#onChange(ConfigFile, Set)} event containing the keys whose values changed.
+	 * <p>
+	 * Calling this method when a watcher is already running replaces it.
+	 *
+	 * @param interval The polling interval in milliseconds.
+	 * @return This object (for method chaining).
+	 * @throws UnsupportedOperationException If this config manager creates read-only config files.
+	 */
+	public synchronized ConfigMgr startWatcher(long interval) {
+		if (readOnly)
+			throw new UnsupportedOperationException("Cannot reload read-only config files.");
+		stopWatcher();
+		watcher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override /* ThreadFactory */
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "juneau-config-watcher-" + watcherCount.incrementAndGet());
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		watcher.scheduleWithFixedDelay(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				for (ConfigFile cf : configs.values()) {
+					try {
+						cf.loadIfModified();
+					} catch (Exception e) {
+						logger.warning(e, "Could not reload config file.");
+					}
+				}
+			}
+		}, interval, interval, TimeUnit.MILLISECONDS);
+		return this;
+	}
+
+	/**
+	 * Stops the background thread started by {@link #startWatcher(long)}.
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public synchronized ConfigMgr stopWatcher() {
+		if (watcher != null) {
+			watcher.shutdownNow();
+			watcher = null;
+		}
+		return this;
+	}
+
 	/**
 	 * Delete all configuration files registered with this config manager.
 	 */
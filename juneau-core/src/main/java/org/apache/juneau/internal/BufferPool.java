@@ -0,0 +1,246 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A thread-local pool of reusable <code><jk>char</jk>[]</code>, <code><jk>byte</jk>[]</code> and {@link StringBuilder} buffers.
+ * <p>
+ * 	Used by classes such as {@link org.apache.juneau.parser.ParserReader} and {@link IOUtils} so that steady-state
+ * 	parsing and request handling doesn't allocate new multi-kilobyte buffers every time.
+ * <p>
+ * 	Each thread keeps up to a fixed number of buffers of each type.
+ * 	Buffers larger than the maximum buffer size are never pooled so that one large request doesn't pin memory.
+ * 	When a thread's pool is full, a released buffer replaces the smallest pooled buffer if it's larger, so that
+ * 	small buffers don't crowd out the larger ones used by most callers.
+ * <p>
+ * 	Buffers must not be used after they've been released, and must only be released once.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class BufferPool {
+
+	/** Default pool keeping up to 4 buffers of each type per thread, each up to 64k in size. */
+	public static final BufferPool DEFAULT = new BufferPool(4, 65536);
+
+	private final int maxPerThread, maxBufferSize;
+	private final AtomicLong allocated = new AtomicLong(), reused = new AtomicLong(), released = new AtomicLong(), discarded = new AtomicLong();
+
+	private final ThreadLocal<Buffers> buffers = new ThreadLocal<Buffers>() {
+		@Override /* ThreadLocal */
+		protected Buffers initialValue() {
+			return new Buffers(maxPerThread);
+		}
+	};
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxPerThread The maximum number of buffers of each type to keep per thread.
+	 * @param maxBufferSize The maximum size of a buffer (in chars or bytes) that will be kept in the pool.
+	 */
+	public BufferPool(int maxPerThread, int maxBufferSize) {
+		this.maxPerThread = maxPerThread;
+		this.maxBufferSize = maxBufferSize;
+	}
+
+	/**
+	 * Returns a character buffer of at least the specified size.
+	 *
+	 * @param minSize The minimum buffer size.
+	 * @return A pooled or newly-allocated buffer.  The contents are undefined.
+	 */
+	public char[] getChars(int minSize) {
+		Buffers b = buffers.get();
+		for (int i = b.nChars-1; i >= 0; i--) {
+			char[] c = b.chars[i];
+			if (c.length >= minSize) {
+				b.chars[i] = b.chars[--b.nChars];
+				b.chars[b.nChars] = null;
+				reused.incrementAndGet();
+				return c;
+			}
+		}
+		allocated.incrementAndGet();
+		return new char[minSize];
+	}
+
+	/**
+	 * Returns a character buffer to this pool.
+	 *
+	 * @param c The buffer to release.  Can be <jk>null</jk>.
+	 */
+	public void release(char[] c) {
+		if (c == null || c.length == 0)
+			return;
+		Buffers b = buffers.get();
+		if (c.length > maxBufferSize) {
+			discarded.incrementAndGet();
+			return;
+		}
+		if (b.nChars == maxPerThread) {
+			int i = 0;
+			for (int j = 1; j < b.nChars; j++)
+				if (b.chars[j].length < b.chars[i].length)
+					i = j;
+			discarded.incrementAndGet();
+			if (b.chars[i].length >= c.length)
+				return;
+			b.chars[i] = c;
+		} else {
+			b.chars[b.nChars++] = c;
+		}
+		released.incrementAndGet();
+	}
+
+	/**
+	 * Returns a byte buffer of at least the specified size.
+	 *
+	 * @param minSize The minimum buffer size.
+	 * @return A pooled or newly-allocated buffer.  The contents are undefined.
+	 */
+	public byte[] getBytes(int minSize) {
+		Buffers b = buffers.get();
+		for (int i = b.nBytes-1; i >= 0; i--) {
+			byte[] c = b.bytes[i];
+			if (c.length >= minSize) {
+				b.bytes[i] = b.bytes[--b.nBytes];
+				b.bytes[b.nBytes] = null;
+				reused.incrementAndGet();
+				return c;
+			}
+		}
+		allocated.incrementAndGet();
+		return new byte[minSize];
+	}
+
+	/**
+	 * Returns a byte buffer to this pool.
+	 *
+	 * @param c The buffer to release.  Can be <jk>null</jk>.
+	 */
+	public void release(byte[] c) {
+		if (c == null || c.length == 0)
+			return;
+		Buffers b = buffers.get();
+		if (c.length > maxBufferSize) {
+			discarded.incrementAndGet();
+			return;
+		}
+		if (b.nBytes == maxPerThread) {
+			int i = 0;
+			for (int j = 1; j < b.nBytes; j++)
+				if (b.bytes[j].length < b.bytes[i].length)
+					i = j;
+			discarded.incrementAndGet();
+			if (b.bytes[i].length >= c.length)
+				return;
+			b.bytes[i] = c;
+		} else {
+			b.bytes[b.nBytes++] = c;
+		}
+		released.incrementAndGet();
+	}
+
+	/**
+	 * Returns an empty string builder.
+	 *
+	 * @param minCapacity The minimum initial capacity.
+	 * @return A pooled or newly-allocated string builder.
+	 */
+	public StringBuilder getStringBuilder(int minCapacity) {
+		Buffers b = buffers.get();
+		if (b.nBuilders > 0) {
+			StringBuilder sb = b.builders[--b.nBuilders];
+			b.builders[b.nBuilders] = null;
+			sb.ensureCapacity(minCapacity);
+			reused.incrementAndGet();
+			return sb;
+		}
+		allocated.incrementAndGet();
+		return new StringBuilder(minCapacity);
+	}
+
+	/**
+	 * Returns a string builder to this pool.
+	 *
+	 * @param sb The string builder to release.  Can be <jk>null</jk>.
+	 */
+	public void release(StringBuilder sb) {
+		if (sb == null)
+			return;
+		Buffers b = buffers.get();
+		if (sb.capacity() > maxBufferSize || b.nBuilders == maxPerThread) {
+			discarded.incrementAndGet();
+			return;
+		}
+		sb.setLength(0);
+		b.builders[b.nBuilders++] = sb;
+		released.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of buffers allocated because no suitable pooled buffer was available.
+	 *
+	 * @return The number of buffers allocated.
+	 */
+	public long getAllocatedCount() {
+		return allocated.get();
+	}
+
+	/**
+	 * Returns the number of buffers handed out from the pool.
+	 *
+	 * @return The number of buffers reused.
+	 */
+	public long getReusedCount() {
+		return reused.get();
+	}
+
+	/**
+	 * Returns the number of buffers returned to the pool.
+	 *
+	 * @return The number of buffers released.
+	 */
+	public long getReleasedCount() {
+		return released.get();
+	}
+
+	/**
+	 * Returns the number of buffers not returned to the pool because they were too large or the pool was full.
+	 *
+	 * @return The number of buffers discarded.
+	 */
+	public long getDiscardedCount() {
+		return discarded.get();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "BufferPool{allocated=" + allocated + ",reused=" + reused + ",released=" + released + ",discarded=" + discarded + "}";
+	}
+
+	private static final class Buffers {
+		final char[][] chars;
+		final byte[][] bytes;
+		final StringBuilder[] builders;
+		int nChars, nBytes, nBuilders;
+
+		Buffers(int max) {
+			chars = new char[max][];
+			bytes = new byte[max][];
+			builders = new StringBuilder[max];
+		}
+	}
+}
@@ -0,0 +1,118 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * An immutable set of strings that can be searched for directly from a range of a <code><jk>char</jk>[]</code> buffer.
+ * <p>
+ * 	Used by parsers to match bean property names in their read buffers without creating a new string for every
+ * 	attribute name encountered.
+ * <p>
+ * 	Strings are stored in a linear-probing hash table that's at most half full, so lookups usually take a single
+ * 	hash computation and one comparison.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class CharArrayStringSet {
+
+	private final String[] strings;
+	private final char[][] chars;
+	private final int mask;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param c The strings to store in this set.  <jk>null</jk> entries are ignored.
+	 */
+	public CharArrayStringSet(Collection<String> c) {
+		Set<String> s = new LinkedHashSet<String>(c);
+		s.remove(null);
+
+		int size = 2;
+		while (size < s.size() * 2)
+			size <<= 1;
+
+		this.strings = new String[size];
+		this.chars = new char[size][];
+		this.mask = size-1;
+		for (String x : s) {
+			int i = hash(x) & mask;
+			while (strings[i] != null)
+				i = (i+1) & mask;
+			strings[i] = x;
+			chars[i] = x.toCharArray();
+		}
+	}
+
+	/**
+	 * Returns the string in this set that matches the specified characters.
+	 *
+	 * @param c The buffer containing the characters.
+	 * @param off The start position in the buffer.
+	 * @param len The number of characters.
+	 * @return The matching string instance in this set, or <jk>null</jk> if there is no match.
+	 */
+	public String find(char[] c, int off, int len) {
+		for (int i = hash(c, off, len) & mask; chars[i] != null; i = (i+1) & mask)
+			if (equals(chars[i], c, off, len))
+				return strings[i];
+		return null;
+	}
+
+	/**
+	 * Returns the string in this set that is equal to the specified string.
+	 *
+	 * @param s The string to search for.
+	 * @return The matching string instance in this set, or <jk>null</jk> if there is no match.
+	 */
+	public String find(String s) {
+		if (s == null)
+			return null;
+		for (int i = hash(s) & mask; strings[i] != null; i = (i+1) & mask)
+			if (s.equals(strings[i]))
+				return strings[i];
+		return null;
+	}
+
+	private static boolean equals(char[] x, char[] c, int off, int len) {
+		if (x.length != len)
+			return false;
+		for (int j = 0; j < len; j++)
+			if (x[j] != c[off+j])
+				return false;
+		return true;
+	}
+
+	private static int hash(char[] c, int off, int len) {
+		int h = 0x811C9DC5;
+		for (int i = off; i < off+len; i++)
+			h = (h ^ c[i]) * 0x01000193;
+		return mix(h);
+	}
+
+	private static int hash(String s) {
+		int h = 0x811C9DC5;
+		for (int i = 0; i < s.length(); i++)
+			h = (h ^ s.charAt(i)) * 0x01000193;
+		return mix(h);
+	}
+
+	private static int mix(int h) {
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		return h;
+	}
+}
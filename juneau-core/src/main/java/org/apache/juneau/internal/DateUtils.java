@@ -0,0 +1,285 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.xml.bind.*;
+
+/**
+ * Allocation-light formatting and parsing of ISO8601 and RFC2822 date strings.
+ * <p>
+ * 	Used by {@link org.apache.juneau.transforms.DateSwap} and {@link org.apache.juneau.transforms.CalendarSwap}
+ * 	in place of {@link SimpleDateFormat} and <code>javax.xml.bind.DatatypeConverter</code> for the fixed
+ * 	ISO8601 and RFC2822 formats.
+ * 	Digits are written directly from {@link Calendar} fields, so output is identical to the formats they replace.
+ * <p>
+ * 	All methods are thread safe.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class DateUtils {
+
+	private static final String[]
+		WEEKDAYS = {"", "Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"},
+		MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec", ""};
+
+	private static final Date PURE_GREGORIAN_CHANGE = new Date(Long.MIN_VALUE);
+
+	private static final ConcurrentHashMap<Integer,TimeZone> timeZones = new ConcurrentHashMap<Integer,TimeZone>();
+
+	/**
+	 * Returns <jk>true</jk> if the specified format produces the same output as the methods on this class.
+	 * <p>
+	 * 	This is the case for {@link SimpleDateFormat SimpleDateFormats} using a {@link GregorianCalendar} and ASCII digits,
+	 * 	and when <code>names</code> is <jk>true</jk>, English day and month names.
+	 *
+	 * @param f The format to check.
+	 * @param names Whether day and month names need to be checked.
+	 * @return <jk>true</jk> if the format can be replaced with the methods on this class.
+	 */
+	public static boolean isCompatible(DateFormat f, boolean names) {
+		if (! (f instanceof SimpleDateFormat && f.getCalendar().getClass() == GregorianCalendar.class))
+			return false;
+		NumberFormat nf = f.getNumberFormat();
+		if (! (nf instanceof DecimalFormat && ((DecimalFormat)nf).getDecimalFormatSymbols().getZeroDigit() == '0'))
+			return false;
+		if (names) {
+			DateFormatSymbols dfs = ((SimpleDateFormat)f).getDateFormatSymbols();
+			return Arrays.equals(WEEKDAYS, dfs.getShortWeekdays()) && Arrays.equals(MONTHS, dfs.getShortMonths());
+		}
+		return true;
+	}
+
+	/**
+	 * Appends the date and time of the specified calendar in <js>"yyyy-MM-dd'T'HH:mm:ss"</js> or
+	 * 	<js>"yyyy-MM-dd'T'HH:mm:ss.SSS"</js> format.
+	 *
+	 * @param sb The string builder to append to.
+	 * @param c The calendar to read the fields from.
+	 * @param millis Whether to append milliseconds.
+	 * @return The same string builder.
+	 */
+	public static StringBuilder appendIso8601(StringBuilder sb, Calendar c, boolean millis) {
+		appendYear(sb, c.get(Calendar.YEAR));
+		append(sb.append('-'), c.get(Calendar.MONTH)+1, 2);
+		append(sb.append('-'), c.get(Calendar.DAY_OF_MONTH), 2);
+		append(sb.append('T'), c.get(Calendar.HOUR_OF_DAY), 2);
+		append(sb.append(':'), c.get(Calendar.MINUTE), 2);
+		append(sb.append(':'), c.get(Calendar.SECOND), 2);
+		if (millis)
+			append(sb.append('.'), c.get(Calendar.MILLISECOND), 3);
+		return sb;
+	}
+
+	/**
+	 * Appends the specified time zone offset in ISO8601 format (e.g. <js>"Z"</js> or <js>"-05:00"</js>).
+	 *
+	 * @param sb The string builder to append to.
+	 * @param offset The time zone offset in milliseconds.
+	 * @return The same string builder.
+	 */
+	public static StringBuilder appendIso8601Offset(StringBuilder sb, int offset) {
+		if (offset == 0)
+			return sb.append('Z');
+		int m = offset / 60000;
+		sb.append(m < 0 ? '-' : '+');
+		m = Math.abs(m);
+		append(sb, m / 60, 2);
+		return append(sb.append(':'), m % 60, 2);
+	}
+
+	/**
+	 * Appends the date and time of the specified calendar in <js>"EEE, dd MMM yyyy HH:mm:ss"</js> format.
+	 *
+	 * @param sb The string builder to append to.
+	 * @param c The calendar to read the fields from.
+	 * @return The same string builder.
+	 */
+	public static StringBuilder appendRfc2822(StringBuilder sb, Calendar c) {
+		sb.append(WEEKDAYS[c.get(Calendar.DAY_OF_WEEK)]).append(", ");
+		append(sb, c.get(Calendar.DAY_OF_MONTH), 2).append(' ');
+		sb.append(MONTHS[c.get(Calendar.MONTH)]).append(' ');
+		appendYear(sb, c.get(Calendar.YEAR));
+		append(sb.append(' '), c.get(Calendar.HOUR_OF_DAY), 2);
+		append(sb.append(':'), c.get(Calendar.MINUTE), 2);
+		return append(sb.append(':'), c.get(Calendar.SECOND), 2);
+	}
+
+	/**
+	 * Appends the specified time zone offset in RFC2822 format (e.g. <js>"+0000"</js> or <js>"-0500"</js>).
+	 *
+	 * @param sb The string builder to append to.
+	 * @param offset The time zone offset in milliseconds.
+	 * @return The same string builder.
+	 */
+	public static StringBuilder appendRfc2822Offset(StringBuilder sb, int offset) {
+		int m = offset / 60000;
+		sb.append(m < 0 ? '-' : '+');
+		m = Math.abs(m);
+		append(sb, m / 60, 2);
+		return append(sb, m % 60, 2);
+	}
+
+	/**
+	 * Parses an ISO8601 date-time, date, year-month, or year string.
+	 * <p>
+	 * 	Produces the same calendar as {@link DatatypeConverter#parseDateTime(String)}.
+	 * 	The common forms (e.g. <js>"2001-07-04T15:30:45.1-05:00"</js>, <js>"2001-07-04Z"</js>, <js>"2001"</js>) are
+	 * 	parsed directly, and anything else (e.g. negative years or times without dates) is passed to
+	 * 	<code>DatatypeConverter</code>.
+	 *
+	 * @param s The string to parse.
+	 * @return The parsed calendar.
+	 * @throws IllegalArgumentException If the string is not a valid ISO8601 string.
+	 */
+	public static Calendar parseIso8601(String s) throws IllegalArgumentException {
+		Calendar c = parse(s);
+		return (c == null ? DatatypeConverter.parseDateTime(s) : c);
+	}
+
+	// Returns null if the string is not in one of the forms handled here.
+	private static Calendar parse(String s) {
+		int len = s.length(), i = 0;
+
+		int year = 0;
+		while (i < len && i < 9 && isDigit(s.charAt(i)))
+			year = year * 10 + (s.charAt(i++) - '0');
+		if (i < 4 || (i > 4 && s.charAt(0) == '0') || year == 0)
+			return null;
+
+		int month = -1, day = -1, hour = -1, minute = -1, second = -1, millis = -1, offset = Integer.MIN_VALUE;
+		if (i < len && s.charAt(i) == '-') {
+			if ((month = read2(s, i+1)) < 1 || month > 12)
+				return null;
+			i += 3;
+			if (i < len && s.charAt(i) == '-') {
+				if ((day = read2(s, i+1)) < 1 || day > daysInMonth(year, month))
+					return null;
+				i += 3;
+				if (i < len && s.charAt(i) == 'T') {
+					if (i+9 > len || s.charAt(i+3) != ':' || s.charAt(i+6) != ':')
+						return null;
+					hour = read2(s, i+1);
+					minute = read2(s, i+4);
+					second = read2(s, i+7);
+					if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59)
+						return null;
+					i += 9;
+					if (i < len && s.charAt(i) == '.') {
+						int start = ++i;
+						millis = 0;
+						for (; i < len && isDigit(s.charAt(i)); i++)
+							if (i - start < 3)
+								millis = millis * 10 + (s.charAt(i) - '0');
+						if (i == start)
+							return null;
+						for (int j = i - start; j < 3; j++)
+							millis *= 10;
+					}
+				}
+			}
+		}
+
+		if (i < len) {
+			char c = s.charAt(i);
+			if (c == 'Z') {
+				offset = 0;
+				i++;
+			} else if (c == '+' || c == '-') {
+				if (i+6 > len || s.charAt(i+3) != ':')
+					return null;
+				int hh = read2(s, i+1), mm = read2(s, i+4);
+				if (hh < 0 || hh > 13 || mm < 0 || mm > 59)
+					return null;
+				offset = (hh * 60 + mm) * (c == '-' ? -1 : 1);
+				i += 6;
+			}
+		}
+		if (i != len)
+			return null;
+
+		GregorianCalendar cal = new GregorianCalendar(offset == Integer.MIN_VALUE ? TimeZone.getDefault() : getTimeZone(offset), Locale.getDefault());
+		cal.clear();
+		cal.setGregorianChange(PURE_GREGORIAN_CHANGE);
+		cal.set(Calendar.ERA, GregorianCalendar.AD);
+		cal.set(Calendar.YEAR, year);
+		if (month != -1)
+			cal.set(Calendar.MONTH, month-1);
+		if (day != -1)
+			cal.set(Calendar.DAY_OF_MONTH, day);
+		if (hour != -1) {
+			cal.set(Calendar.HOUR_OF_DAY, hour);
+			cal.set(Calendar.MINUTE, minute);
+			cal.set(Calendar.SECOND, second);
+		}
+		if (millis != -1)
+			cal.set(Calendar.MILLISECOND, millis);
+		return cal;
+	}
+
+	/*
+	 * Returns a time zone with the same ID that DatatypeConverter would assign (e.g. "GMT-05:00") for the offset in minutes.
+	 * Time zones are mutable, so a copy of the cached instance is returned.
+	 */
+	private static TimeZone getTimeZone(int offset) {
+		Integer key = offset;
+		TimeZone tz = timeZones.get(key);
+		if (tz == null) {
+			int m = Math.abs(offset);
+			StringBuilder sb = new StringBuilder(9).append("GMT").append(offset < 0 ? '-' : '+');
+			append(sb, m / 60, 2);
+			append(sb.append(':'), m % 60, 2);
+			tz = TimeZone.getTimeZone(sb.toString());
+			timeZones.putIfAbsent(key, tz);
+		}
+		return (TimeZone)tz.clone();
+	}
+
+	private static int daysInMonth(int year, int month) {
+		if (month == 2)
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	// Returns the two-digit number at the specified position, or -1 if there isn't one.
+	private static int read2(String s, int i) {
+		if (i+2 > s.length())
+			return -1;
+		char c1 = s.charAt(i), c2 = s.charAt(i+1);
+		if (! (isDigit(c1) && isDigit(c2)))
+			return -1;
+		return (c1 - '0') * 10 + (c2 - '0');
+	}
+
+	private static StringBuilder appendYear(StringBuilder sb, int year) {
+		if (year > 9999)
+			return sb.append(year);
+		return append(sb, year, 4);
+	}
+
+	// Appends a non-negative number zero-padded to the specified width.
+	private static StringBuilder append(StringBuilder sb, int v, int width) {
+		if (width >= 4)
+			sb.append((char)('0' + v / 1000 % 10));
+		if (width >= 3)
+			sb.append((char)('0' + v / 100 % 10));
+		return sb.append((char)('0' + v / 10 % 10)).append((char)('0' + v % 10));
+	}
+}
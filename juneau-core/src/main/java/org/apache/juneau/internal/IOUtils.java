@@ -143,7 +143,7 @@ public final class IOUtils {
 			return null;
 		ByteArrayOutputStream buff = new ByteArrayOutputStream(bufferSize);
 		int nRead;
-		byte[] b = new byte[Math.min(bufferSize, 8192)];
+		byte[] b = BufferPool.DEFAULT.getBytes(Math.min(bufferSize, 8192));
 
 		try {
 			while ((nRead = in.read(b, 0, b.length)) != -1)
@@ -153,6 +153,7 @@ public final class IOUtils {
 
 				return buff.toByteArray();
 		} finally {
+			BufferPool.DEFAULT.release(b);
 			in.close();
 		}
 	}
@@ -193,14 +194,16 @@ public final class IOUtils {
 		if (in == null)
 			return null;
 		length = (length <= 0 ? bufferSize : length);
-		StringBuilder sb = new StringBuilder(length); // Assume they're ASCII characters.
+		StringBuilder sb = BufferPool.DEFAULT.getStringBuilder(length); // Assume they're ASCII characters.
+		char[] buf = BufferPool.DEFAULT.getChars(Math.min(bufferSize, length));
 		try {
-			char[] buf = new char[Math.min(bufferSize, length)];
 			int i = 0;
 			while ((i = in.read(buf)) != -1)
 				sb.append(buf, 0, i);
 			return sb.toString();
 		} finally {
+			BufferPool.DEFAULT.release(buf);
+			BufferPool.DEFAULT.release(sb);
 			in.close();
 		}
 	}
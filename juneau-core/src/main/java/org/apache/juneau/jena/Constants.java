@@ -92,4 +92,24 @@ public final class Constants {
 	 * RDF resource that identifies a <code>Bag</code> value.
 	 */
 	public static final String RDF_BAG = "http://www.w3.org/1999/02/22-rdf-syntax-ns#Bag";
+
+	/**
+	 * RDF property that identifies the type of a resource.
+	 */
+	public static final String RDF_TYPE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#type";
+
+	/**
+	 * RDF property that identifies the first element of a <code>List</code>.
+	 */
+	public static final String RDF_FIRST = "http://www.w3.org/1999/02/22-rdf-syntax-ns#first";
+
+	/**
+	 * RDF property that identifies the remainder of a <code>List</code>.
+	 */
+	public static final String RDF_REST = "http://www.w3.org/1999/02/22-rdf-syntax-ns#rest";
+
+	/**
+	 * Prefix of the container membership properties (e.g. <js>"rdf:_1"</js>) identifying elements in a <code>Seq</code> or <code>Bag</code>.
+	 */
+	public static final String RDF_MEMBER_PREFIX = "http://www.w3.org/1999/02/22-rdf-syntax-ns#_";
 }
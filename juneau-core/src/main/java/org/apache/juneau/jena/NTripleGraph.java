@@ -0,0 +1,464 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import static org.apache.juneau.jena.Constants.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+
+/**
+ * Lightweight subject-indexed set of triples read directly from N-Triples input.
+ * <p>
+ * 	Used by {@link RdfParser} when {@link RdfCommonContext#RDF_streaming} is enabled in place of a Jena <code>Model</code>.
+ * 	Only one index is maintained (by subject) and repeated URIs are shared, so the footprint is a
+ * 	fraction of the equivalent model.
+ * <p>
+ * 	Nodes are represented as follows:
+ * <ul>
+ * 	<li>URI resources - <js>"&lt;"</js> followed by the unescaped URI.
+ * 	<li>Blank nodes - <js>"_:"</js> followed by the node label.
+ * 	<li>Literals - {@link Literal} objects.
+ * </ul>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class NTripleGraph {
+
+	private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+	private static final String RDF_LIST = "http://www.w3.org/1999/02/22-rdf-syntax-ns#List";
+
+	// Subject node -> flattened list of predicate-URI/object-node pairs.
+	private final Map<String,List<Object>> subjects = new LinkedHashMap<String,List<Object>>();
+
+	// Canonical instances of URIs and blank node IDs so that repeated values share storage.
+	private final Map<String,String> symbols = new HashMap<String,String>();
+
+	/**
+	 * A literal node.
+	 */
+	static final class Literal {
+		final String lexicalForm, datatype, lang;
+
+		Literal(String lexicalForm, String datatype, String lang) {
+			this.lexicalForm = lexicalForm;
+			this.datatype = datatype;
+			this.lang = lang;
+		}
+
+		/*
+		 * Returns the Java value of this literal.
+		 * XML-Schema numeric and boolean types are converted to their Java equivalents.
+		 * Everything else is returned as the lexical form.
+		 */
+		Object getValue() {
+			if (datatype == null || ! datatype.startsWith(XSD))
+				return lexicalForm;
+			try {
+				String t = datatype.substring(XSD.length());
+				if (t.equals("int"))
+					return Integer.valueOf(lexicalForm);
+				if (t.equals("long"))
+					return Long.valueOf(lexicalForm);
+				if (t.equals("short"))
+					return Short.valueOf(lexicalForm);
+				if (t.equals("byte"))
+					return Byte.valueOf(lexicalForm);
+				if (t.equals("boolean"))
+					return Boolean.valueOf(lexicalForm);
+				if (t.equals("double"))
+					return Double.valueOf(lexicalForm);
+				if (t.equals("float"))
+					return Float.valueOf(lexicalForm);
+				if (t.equals("decimal"))
+					return new BigDecimal(lexicalForm);
+				if (t.equals("integer")) {
+					BigInteger i = new BigInteger(lexicalForm);
+					if (i.bitLength() < 32)
+						return i.intValue();
+					if (i.bitLength() < 64)
+						return i.longValue();
+					return i;
+				}
+			} catch (NumberFormatException e) {
+				// Fall through and return the lexical form.
+			}
+			return lexicalForm;
+		}
+
+		@Override /* Object */
+		public String toString() {
+			return '"' + lexicalForm + '"' + (datatype == null ? "" : "^^<" + datatype + ">") + (lang == null ? "" : "@" + lang);
+		}
+	}
+
+	/**
+	 * Reads N-Triples from the specified reader into a new graph.
+	 *
+	 * @param r The N-Triples input.
+	 * @return A new graph.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 * @throws ParseException Malformed input was encountered.
+	 */
+	static NTripleGraph read(Reader r) throws IOException, ParseException {
+		NTripleGraph g = new NTripleGraph();
+		boolean isWrapped = ! (r instanceof ParserReader);
+		ParserReader pr = (isWrapped ? new ParserReader(r) : (ParserReader)r);
+		try {
+			g.read(pr);
+		} finally {
+			// Return the pooled buffer.
+			if (isWrapped)
+				pr.close();
+		}
+		return g;
+	}
+
+	private void read(ParserReader pr) throws IOException, ParseException {
+		StringBuilder sb = new StringBuilder();
+		while (true) {
+			int c = skipWs(pr);
+			if (c == -1)
+				break;
+			if (c == '#') {
+				skipToEol(pr);
+				continue;
+			}
+			if (c == '\n' || c == '\r')
+				continue;
+			pr.unread();
+			String subject = readResource(pr, sb);
+			skipToNextTerm(pr);
+			String predicate = readResource(pr, sb);
+			if (predicate.charAt(0) != '<')
+				throw new ParseException("Predicate must be a URI at line {0}, column {1}", pr.getLine(), pr.getColumn());
+			skipToNextTerm(pr);
+			Object object = readObject(pr, sb);
+			c = skipWs(pr);
+			if (c != '.')
+				throw new ParseException("Expected ''.'' at line {0}, column {1}", pr.getLine(), pr.getColumn());
+			add(subject, predicate.substring(1), object);
+		}
+	}
+
+	private void add(String subject, String predicateUri, Object object) {
+		List<Object> l = subjects.get(subject);
+		if (l == null) {
+			l = new ArrayList<Object>(4);
+			subjects.put(subject, l);
+		}
+		l.add(predicateUri);
+		l.add(object);
+	}
+
+	/**
+	 * Returns the subjects in this graph in the order they were first encountered.
+	 *
+	 * @return The subject nodes.
+	 */
+	Set<String> getSubjects() {
+		return subjects.keySet();
+	}
+
+	/**
+	 * Returns the flattened list of predicate-URI/object-node pairs for the specified node.
+	 *
+	 * @param node The node.  Can be any node type.
+	 * @return The pairs, never <jk>null</jk>.
+	 */
+	List<Object> getProperties(Object node) {
+		List<Object> l = (node instanceof String ? subjects.get(node) : null);
+		return l == null ? Collections.<Object>emptyList() : l;
+	}
+
+	/**
+	 * Returns the first object of the specified predicate on the specified node.
+	 *
+	 * @param node The node.  Can be any node type.
+	 * @param predicateUri The predicate URI.
+	 * @return The object node, or <jk>null</jk> if the node does not have the predicate.
+	 */
+	Object getProperty(Object node, String predicateUri) {
+		List<Object> l = getProperties(node);
+		for (int i = 0; i < l.size(); i += 2)
+			if (l.get(i).equals(predicateUri))
+				return l.get(i+1);
+		return null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified node has the specified predicate.
+	 *
+	 * @param node The node.  Can be any node type.
+	 * @param predicateUri The predicate URI.
+	 * @return <jk>true</jk> if the specified node has the specified predicate.
+	 */
+	boolean hasProperty(Object node, String predicateUri) {
+		return getProperty(node, predicateUri) != null;
+	}
+
+	/**
+	 * Returns the members of an <code>rdf:Seq</code> or <code>rdf:Bag</code> container in ordinal order.
+	 *
+	 * @param node The container node.
+	 * @return The member nodes.
+	 */
+	List<Object> getContainerMembers(Object node) {
+		TreeMap<Integer,Object> m = new TreeMap<Integer,Object>();
+		List<Object> l = getProperties(node);
+		for (int i = 0; i < l.size(); i += 2) {
+			String p = (String)l.get(i);
+			if (p.startsWith(RDF_MEMBER_PREFIX)) {
+				try {
+					m.put(Integer.valueOf(p.substring(RDF_MEMBER_PREFIX.length())), l.get(i+1));
+				} catch (NumberFormatException e) {
+					// Not a membership property.
+				}
+			}
+		}
+		return new ArrayList<Object>(m.values());
+	}
+
+	/**
+	 * Returns the members of an <code>rdf:List</code> by following its <code>rdf:first</code>/<code>rdf:rest</code> chain.
+	 *
+	 * @param node The first list node.
+	 * @return The member nodes.
+	 */
+	List<Object> getListMembers(Object node) {
+		List<Object> l = new ArrayList<Object>();
+		Set<Object> visited = new HashSet<Object>();
+		while (node != null && ! RDF_NIL.equals(getUri(node)) && visited.add(node)) {
+			Object first = getProperty(node, RDF_FIRST);
+			if (first != null)
+				l.add(first);
+			node = getProperty(node, RDF_REST);
+		}
+		return l;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified node can be treated as an <code>rdf:List</code>.
+	 *
+	 * @param node The node to check.
+	 * @return <jk>true</jk> if the specified node is <code>rdf:nil</code> or has list properties.
+	 */
+	boolean isList(Object node) {
+		return RDF_NIL.equals(getUri(node)) || hasProperty(node, RDF_FIRST) || hasProperty(node, RDF_REST) || RDF_LIST.equals(getUri(getProperty(node, RDF_TYPE)));
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified node is a literal.
+	 *
+	 * @param node The node to check.
+	 * @return <jk>true</jk> if the specified node is a literal.
+	 */
+	static boolean isLiteral(Object node) {
+		return node instanceof Literal;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified node is a URI resource or blank node.
+	 *
+	 * @param node The node to check.
+	 * @return <jk>true</jk> if the specified node is a URI resource or blank node.
+	 */
+	static boolean isResource(Object node) {
+		return node instanceof String;
+	}
+
+	/**
+	 * Returns the URI of the specified node.
+	 *
+	 * @param node The node.
+	 * @return The URI, or <jk>null</jk> if the node is a blank node or literal.
+	 */
+	static String getUri(Object node) {
+		if (node instanceof String) {
+			String s = (String)node;
+			if (s.charAt(0) == '<')
+				return s.substring(1);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the local name of the specified URI, using the same rules as Jena (the longest trailing NCName).
+	 *
+	 * @param uri The URI.
+	 * @return The local name.
+	 */
+	static String getLocalName(String uri) {
+		int i = uri.length();
+		while (i > 0 && isNameChar(uri.charAt(i-1)))
+			i--;
+		while (i < uri.length() && ! isNameStartChar(uri.charAt(i)))
+			i++;
+		return uri.substring(i);
+	}
+
+	private static boolean isNameStartChar(char c) {
+		return Character.isLetter(c) || c == '_';
+	}
+
+	private static boolean isNameChar(char c) {
+		return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+	}
+
+	private String symbol(String s) {
+		String s2 = symbols.get(s);
+		if (s2 != null)
+			return s2;
+		symbols.put(s, s);
+		return s;
+	}
+
+	private String readResource(ParserReader r, StringBuilder sb) throws IOException, ParseException {
+		int c = r.read();
+		sb.setLength(0);
+		if (c == '<') {
+			sb.append('<');
+			while (true) {
+				c = r.read();
+				if (c == '>')
+					break;
+				if (c == -1 || c == '\n')
+					throw new ParseException("Unterminated URI at line {0}, column {1}", r.getLine(), r.getColumn());
+				if (c == '\\')
+					readEscape(r, sb);
+				else
+					sb.append((char)c);
+			}
+			return symbol(sb.toString());
+		}
+		if (c == '_' && r.read() == ':') {
+			sb.append("_:");
+			while (true) {
+				c = r.read();
+				if (c == -1 || c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+					if (c != -1)
+						r.unread();
+					break;
+				}
+				if (c == '.') {
+					// Periods are allowed in labels, but not as the last character.
+					int c2 = r.read();
+					if (c2 == -1 || c2 == ' ' || c2 == '\t' || c2 == '\n' || c2 == '\r') {
+						if (c2 != -1)
+							r.unread();
+						r.unread();
+						break;
+					}
+					r.unread();
+				}
+				sb.append((char)c);
+			}
+			return symbol(sb.toString());
+		}
+		throw new ParseException("Expected URI or blank node at line {0}, column {1}", r.getLine(), r.getColumn());
+	}
+
+	private Object readObject(ParserReader r, StringBuilder sb) throws IOException, ParseException {
+		if (r.peek() != '"')
+			return readResource(r, sb);
+		r.read();
+		sb.setLength(0);
+		while (true) {
+			int c = r.read();
+			if (c == '"')
+				break;
+			if (c == -1 || c == '\n')
+				throw new ParseException("Unterminated literal at line {0}, column {1}", r.getLine(), r.getColumn());
+			if (c == '\\')
+				readEscape(r, sb);
+			else
+				sb.append((char)c);
+		}
+		String lexicalForm = sb.toString(), datatype = null, lang = null;
+		int c = r.peek();
+		if (c == '^') {
+			r.read();
+			if (r.read() != '^')
+				throw new ParseException("Malformed datatype at line {0}, column {1}", r.getLine(), r.getColumn());
+			datatype = readResource(r, sb).substring(1);
+		} else if (c == '@') {
+			r.read();
+			sb.setLength(0);
+			while (true) {
+				c = r.read();
+				if (! (Character.isLetterOrDigit(c) || c == '-')) {
+					if (c != -1)
+						r.unread();
+					break;
+				}
+				sb.append((char)c);
+			}
+			lang = sb.toString();
+		}
+		return new Literal(lexicalForm, datatype, lang);
+	}
+
+	private static void readEscape(ParserReader r, StringBuilder sb) throws IOException, ParseException {
+		int c = r.read();
+		switch (c) {
+			case 't': sb.append('\t'); break;
+			case 'n': sb.append('\n'); break;
+			case 'r': sb.append('\r'); break;
+			case 'b': sb.append('\b'); break;
+			case 'f': sb.append('\f'); break;
+			case '"': sb.append('"'); break;
+			case '\'': sb.append('\''); break;
+			case '\\': sb.append('\\'); break;
+			case 'u': sb.appendCodePoint(readHex(r, 4)); break;
+			case 'U': sb.appendCodePoint(readHex(r, 8)); break;
+			default: throw new ParseException("Invalid escape sequence at line {0}, column {1}", r.getLine(), r.getColumn());
+		}
+	}
+
+	private static int readHex(ParserReader r, int len) throws IOException, ParseException {
+		int v = 0;
+		for (int i = 0; i < len; i++) {
+			int d = Character.digit(r.read(), 16);
+			if (d == -1)
+				throw new ParseException("Invalid unicode escape at line {0}, column {1}", r.getLine(), r.getColumn());
+			v = (v << 4) | d;
+		}
+		return v;
+	}
+
+	private static int skipWs(ParserReader r) throws IOException {
+		while (true) {
+			int c = r.read();
+			if (c != ' ' && c != '\t')
+				return c;
+		}
+	}
+
+	private static void skipToNextTerm(ParserReader r) throws IOException, ParseException {
+		int c = skipWs(r);
+		if (c == -1 || c == '\n')
+			throw new ParseException("Incomplete triple at line {0}, column {1}", r.getLine(), r.getColumn());
+		r.unread();
+	}
+
+	private static void skipToEol(ParserReader r) throws IOException {
+		while (true) {
+			int c = r.read();
+			if (c == -1 || c == '\n')
+				return;
+		}
+	}
+}
@@ -0,0 +1,192 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import java.io.*;
+import java.math.*;
+
+import org.apache.juneau.serializer.*;
+
+/**
+ * Specialized writer for streaming RDF triples in N-Triples syntax.
+ * <p>
+ * 	Used by {@link RdfSerializer} when {@link RdfCommonContext#RDF_streaming} is enabled.
+ * 	Triples are written as soon as they're known, so nothing is retained between calls other than
+ * 	the blank node counter.
+ * <p>
+ * 	Nodes are represented as their N-Triples terms (e.g. <js>"&lt;http://foo&gt;"</js>, <js>"_:b1"</js>, <js>"\"foo\""</js>).
+ * 	Since N-Triples is a subset of Turtle, the output is also valid Turtle.
+ * <p>
+ * 	<b>Note:  This class is not intended for external use.</b>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class NTripleWriter extends SerializerWriter {
+
+	private static final String XSD = "http://www.w3.org/2001/XMLSchema#";
+
+	private int bnodeCounter;
+
+	/**
+	 * Constructor.
+	 * @param out The writer being wrapped.
+	 * @param trimStrings If <jk>true</jk>, strings will be trimmed before being serialized.
+	 * @param relativeUriBase The base (e.g. <js>https://localhost:9443/contextPath"</js>) for relative URIs (e.g. <js>"my/path"</js>).
+	 * @param absolutePathUriBase The base (e.g. <js>https://localhost:9443"</js>) for relative URIs with absolute paths (e.g. <js>"/contextPath/my/path"</js>).
+	 */
+	protected NTripleWriter(Writer out, boolean trimStrings, String relativeUriBase, String absolutePathUriBase) {
+		super(out, false, false, trimStrings, '"', relativeUriBase, absolutePathUriBase);
+	}
+
+	/**
+	 * Writes a single triple.
+	 *
+	 * @param subject The subject term.  Must be a URI reference or blank node.
+	 * @param predicateUri The predicate URI (unescaped and without angle brackets).
+	 * @param object The object term.
+	 * @return This object (for method chaining).
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 */
+	public NTripleWriter triple(String subject, String predicateUri, String object) throws IOException {
+		out.write(subject);
+		out.write(' ');
+		writeUriRef(predicateUri);
+		out.write(' ');
+		out.write(object);
+		out.write(" .\n");
+		return this;
+	}
+
+	/**
+	 * Creates a new blank node term unique within this writer.
+	 *
+	 * @return A new blank node term (e.g. <js>"_:b1"</js>).
+	 */
+	public String blankNode() {
+		return "_:b" + (++bnodeCounter);
+	}
+
+	/**
+	 * Creates a resource term for the specified URI.
+	 *
+	 * @param uri The resource URI.  If <jk>null</jk>, a new blank node is created.
+	 * @return A URI reference or blank node term.
+	 */
+	public String resource(String uri) {
+		if (uri == null)
+			return blankNode();
+		StringBuilder sb = new StringBuilder(uri.length() + 2).append('<');
+		escape(sb, uri, false);
+		return sb.append('>').toString();
+	}
+
+	/**
+	 * Creates a plain literal term.
+	 *
+	 * @param s The literal value.
+	 * @return A plain literal term.
+	 */
+	public String literal(String s) {
+		StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+		escape(sb, s, true);
+		return sb.append('"').toString();
+	}
+
+	/**
+	 * Creates a typed literal term using the XML-Schema data type mapped to the class of the specified value.
+	 * <p>
+	 * 	Values whose class has no XML-Schema equivalent are written as plain literals.
+	 *
+	 * @param o The literal value.  Typically a {@link Number} or {@link Boolean}.
+	 * @return A typed literal term.
+	 */
+	public String typedLiteral(Object o) {
+		String type = getXsdType(o);
+		if (type == null)
+			return literal(o.toString());
+		return new StringBuilder().append(literal(o.toString())).append("^^<").append(XSD).append(type).append('>').toString();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified term is a literal.
+	 *
+	 * @param term The term to check.
+	 * @return <jk>true</jk> if the specified term is a literal.
+	 */
+	public static boolean isLiteral(String term) {
+		return term != null && term.length() > 0 && term.charAt(0) == '"';
+	}
+
+	private void writeUriRef(String uri) throws IOException {
+		StringBuilder sb = new StringBuilder(uri.length() + 2).append('<');
+		escape(sb, uri, false);
+		out.write(sb.append('>').toString());
+	}
+
+	private static String getXsdType(Object o) {
+		if (o instanceof Integer)
+			return "int";
+		if (o instanceof Long)
+			return "long";
+		if (o instanceof Boolean)
+			return "boolean";
+		if (o instanceof Double)
+			return "double";
+		if (o instanceof Float)
+			return "float";
+		if (o instanceof Short)
+			return "short";
+		if (o instanceof Byte)
+			return "byte";
+		if (o instanceof BigInteger)
+			return "integer";
+		if (o instanceof BigDecimal)
+			return "decimal";
+		return null;
+	}
+
+	/*
+	 * Escapes a string per the N-Triples grammar.
+	 * Non-ASCII characters are always written as \\u or \\U escapes.
+	 */
+	private static void escape(StringBuilder sb, String s, boolean isLiteral) {
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (isLiteral && c == '"')
+				sb.append("\\\"");
+			else if (c == '\\')
+				sb.append("\\\\");
+			else if (isLiteral && c == '\n')
+				sb.append("\\n");
+			else if (isLiteral && c == '\r')
+				sb.append("\\r");
+			else if (isLiteral && c == '\t')
+				sb.append("\\t");
+			else if (c >= 0x20 && c <= 0x7E && (isLiteral || (c != '>' && c != '<' && c != '"' && c != ' ')))
+				sb.append(c);
+			else if (Character.isHighSurrogate(c) && i+1 < s.length() && Character.isLowSurrogate(s.charAt(i+1))) {
+				String h = Integer.toHexString(Character.toCodePoint(c, s.charAt(++i))).toUpperCase();
+				sb.append("\\U");
+				for (int j = h.length(); j < 8; j++)
+					sb.append('0');
+				sb.append(h);
+			} else {
+				String h = Integer.toHexString(c).toUpperCase();
+				sb.append("\\u");
+				for (int j = h.length(); j < 4; j++)
+					sb.append('0');
+				sb.append(h);
+			}
+		}
+	}
+}
@@ -211,6 +211,12 @@ import org.apache.juneau.xml.annotation.*;
  * 		<td><code>Boolean</code></td>
  * 		<td><jk>false</jk></td>
  * 	</tr>
+ * 	<tr>
+ * 		<td>{@link #RDF_streaming}</td>
+ * 		<td>Stream N-Triples without building an in-memory model.</td>
+ * 		<td><code>Boolean</code></td>
+ * 		<td><jk>false</jk></td>
+ * 	</tr>
  * </table>
  *
  *
@@ -754,4 +760,34 @@ public interface RdfCommonContext {
 	 * </p>
 	 */
 	public static final String RDF_looseCollections = "Rdf.looseCollections";
+
+	/**
+	 * <b>Configuration property:</b>  Stream N-Triples without building an in-memory model.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Rdf.streaming"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * </ul>
+	 * <p>
+	 * When enabled, the serializers for <js>"N-TRIPLE"</js> and <js>"TURTLE"</js> write each triple to the output
+	 * as the POJO graph is traversed instead of first constructing a complete Jena <code>Model</code>, so memory usage
+	 * no longer grows with the size of the output.
+	 * Turtle output is written using the N-Triples subset of the Turtle syntax.
+	 * <p>
+	 * When enabled on the <js>"N-TRIPLE"</js> parser, triples are read into a lightweight subject index instead of a
+	 * Jena <code>Model</code>.
+	 * <p>
+	 * This setting is ignored for all other languages.
+	 *
+	 * <h6 class='topic'>Example:</h6>
+	 * <p class='bcode'>
+	 * 	WriterSerializer s = <jk>new</jk> RdfSerializer.NTriple().setProperty(<jsf>RDF_streaming</jsf>, <jk>true</jk>);
+	 * 	ReaderParser p = <jk>new</jk> RdfParser.NTriple().setProperty(<jsf>RDF_streaming</jsf>, <jk>true</jk>);
+	 *
+	 * 	<jc>// Serialize directly to the response without building a model</jc>
+	 * 	s.serialize(myLargeList, response.getWriter());
+	 * </p>
+	 */
+	public static final String RDF_streaming = "Rdf.streaming";
 }
@@ -116,6 +116,9 @@ public class RdfParser extends ReaderParser {
 
 		type = session.getBeanContext().normalizeClassMeta(type);
 
+		if (s.isStreaming())
+			return doParseStreaming(s, type);
+
 		Model model = s.getModel();
 		RDFReader r = s.getRdfReader();
 		r.read(model, session.getReader(), null);
@@ -436,6 +439,276 @@ public class RdfParser extends ReaderParser {
 		return l;
 	}
 
+	//--------------------------------------------------------------------------------
+	// Streaming support
+	//--------------------------------------------------------------------------------
+
+	/*
+	 * Same as the model-based parsing above, except the N-Triples input is read into an NTripleGraph
+	 * instead of a Jena model.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private <T> T doParseStreaming(RdfParserSession session, ClassMeta<T> type) throws Exception {
+		BeanContext bc = session.getBeanContext();
+		NTripleGraph g = NTripleGraph.read(session.getReader());
+
+		List<String> roots = getRoots(session, g);
+
+		// Special case where we're parsing a loose collection of resources.
+		if (session.isLooseCollections() && (type.isCollection() || type.isArray())) {
+			Collection c = null;
+			if (type.isArray())
+				c = new ArrayList();
+			else
+				c = (type.canCreateNewInstance(session.getOuter()) ? (Collection<?>)type.newInstance(session.getOuter()) : new ObjectList(bc));
+			for (String resource : roots)
+				c.add(parseAnything(session, g, type.getElementType(), resource, session.getOuter()));
+
+			if (type.isArray())
+				return (T)bc.toArray(type, c);
+			return (T)c;
+		}
+
+		if (roots.isEmpty())
+			return null;
+		if (roots.size() > 1)
+			throw new ParseException(session, "Too many root nodes found in model:  {0}", roots.size());
+
+		return parseAnything(session, g, type, roots.get(0), session.getOuter());
+	}
+
+	private List<String> getRoots(RdfParserSession session, NTripleGraph g) {
+		List<String> l = new LinkedList<String>();
+
+		String root = session.getJuneauNsUri() + RDF_juneauNs_ROOT;
+		for (String r : g.getSubjects())
+			if (g.hasProperty(r, root))
+				l.add(r);
+
+		if (! l.isEmpty())
+			return l;
+
+		Set<Object> objects = new HashSet<Object>();
+		for (String r : g.getSubjects()) {
+			List<Object> p = g.getProperties(r);
+			for (int i = 1; i < p.size(); i += 2) {
+				Object o = p.get(i);
+				if (NTripleGraph.isResource(o) && ! o.equals(r))
+					objects.add(o);
+			}
+		}
+		for (String r : g.getSubjects())
+			if (! objects.contains(r))
+				l.add(r);
+		return l;
+	}
+
+	private <T> BeanMap<T> parseIntoBeanMap(RdfParserSession session, NTripleGraph g, String r2, BeanMap<T> m) throws Exception {
+		BeanMeta<T> bm = m.getMeta();
+		RdfBeanMeta rbm = bm.getExtendedMeta(RdfBeanMeta.class);
+		String uri = NTripleGraph.getUri(r2);
+		if (rbm.hasBeanUri() && uri != null)
+			rbm.getBeanUriProperty().set(m, uri);
+		String subTypeIdProperty = null;
+		BeanPropertyMeta stp = bm.getSubTypeProperty();
+		if (stp != null) {
+			subTypeIdProperty = session.getJuneauBpNsUri() + stp.getName();
+			Object st = g.getProperty(r2, subTypeIdProperty);
+			if (! NTripleGraph.isLiteral(st))
+				throw new ParseException(session, "Could not find subtype ID property for bean of type ''{0}''", m.getClassMeta());
+			stp.set(m, ((NTripleGraph.Literal)st).lexicalForm);
+		}
+		String jNs = session.getJuneauNsUri();
+		List<Object> l = g.getProperties(r2);
+		for (int i = 0; i < l.size(); i += 2) {
+			String p = (String)l.get(i);
+			if (p.equals(subTypeIdProperty))
+				continue;
+			String key = session.decodeString(NTripleGraph.getLocalName(p));
+			BeanPropertyMeta pMeta = m.getPropertyMeta(key);
+			session.setCurrentProperty(pMeta);
+			if (pMeta != null) {
+				Object o = l.get(i+1);
+				ClassMeta<?> cm = pMeta.getClassMeta();
+				if ((cm.isArray() || cm.isCollection()) && isMultiValuedCollections(session, pMeta)) {
+					ClassMeta<?> et = cm.getElementType();
+					Object value = parseAnything(session, g, et, o, m.getBean(false));
+					setName(et, value, key);
+					pMeta.add(m, value);
+				} else {
+					Object value = parseAnything(session, g, cm, o, m.getBean(false));
+					setName(cm, value, key);
+					pMeta.set(m, value);
+				}
+			} else if (! (p.equals(jNs + RDF_juneauNs_ROOT) || p.equals(jNs + RDF_juneauNs_CLASS))) {
+				if (bm.isSubTyped()) {
+					Object value = parseAnything(session, g, object(), l.get(i+1), m.getBean(false));
+					m.put(key, value);
+				} else {
+					onUnknownProperty(session, key, m, -1, -1);
+				}
+			}
+			session.setCurrentProperty(null);
+		}
+		return m;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T> T parseAnything(RdfParserSession session, NTripleGraph g, ClassMeta<T> eType, Object n, Object outer) throws Exception {
+
+		BeanContext bc = session.getBeanContext();
+		String jNs = session.getJuneauNsUri();
+
+		if (eType == null)
+			eType = (ClassMeta<T>)object();
+		PojoSwap<T,Object> transform = (PojoSwap<T,Object>)eType.getPojoSwap();
+		ClassMeta<?> sType = eType.getSerializedClassMeta();
+		session.setCurrentClass(sType);
+
+		if (! sType.canCreateNewInstance(outer)) {
+			Object st = g.getProperty(n, jNs + RDF_juneauNs_CLASS);
+			if (NTripleGraph.isLiteral(st))
+				sType = eType = (ClassMeta<T>)bc.getClassMetaFromString(((NTripleGraph.Literal)st).lexicalForm);
+		}
+
+		boolean isResource = NTripleGraph.isResource(n);
+		String uri = NTripleGraph.getUri(n);
+
+		Object o = null;
+		if (RDF_NIL.equals(uri)) {
+			// Do nothing.  Leave o == null.
+		} else if (sType.isObject()) {
+			if (NTripleGraph.isLiteral(n)) {
+				o = ((NTripleGraph.Literal)n).getValue();
+				if (o instanceof String)
+					o = session.decodeString(o);
+			} else {
+				Object v = g.getProperty(n, jNs + RDF_juneauNs_VALUE);
+				if (session.wasAlreadyProcessed(n))
+					o = uri;
+				else if (v != null) {
+					o = parseAnything(session, g, object(), v, outer);
+				} else if (isContainer(g, n, RDF_SEQ) || isContainer(g, n, RDF_BAG)) {
+					o = new ObjectList(bc);
+					parseIntoCollection(session, g, g.getContainerMembers(n), (Collection)o, sType.getElementType());
+				} else if (g.isList(n)) {
+					o = new ObjectList(bc);
+					parseIntoCollection(session, g, g.getListMembers(n), (Collection)o, sType.getElementType());
+				} else {
+					// If it has a URI and no child properties, we interpret this as an
+					// external resource, and convert it to just a URL.
+					if (uri != null && g.getProperties(n).isEmpty()) {
+						o = uri;
+					} else {
+						o = new ObjectMap(bc);
+						parseIntoMap(session, g, n, (Map)o, null, null);
+					}
+				}
+			}
+		} else if (sType.isBoolean()) {
+			o = bc.convertToType(getValue(session, g, n, outer), boolean.class);
+		} else if (sType.isCharSequence()) {
+			o = session.decodeString(getValue(session, g, n, outer));
+		} else if (sType.isChar()) {
+			o = session.decodeString(getValue(session, g, n, outer)).charAt(0);
+		} else if (sType.isNumber()) {
+			o = parseNumber(getValue(session, g, n, outer).toString(), (Class<? extends Number>)sType.getInnerClass());
+		} else if (sType.isMap()) {
+			if (session.wasAlreadyProcessed(n))
+				return null;
+			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(bc));
+			o = parseIntoMap(session, g, n, m, eType.getKeyType(), eType.getValueType());
+		} else if (sType.isCollection() || sType.isArray()) {
+			if (sType.isArray())
+				o = new ArrayList();
+			else
+				o = (sType.canCreateNewInstance(outer) ? (Collection<?>)sType.newInstance(outer) : new ObjectList(bc));
+			if (session.wasAlreadyProcessed(n))
+				return null;
+			if (isContainer(g, n, RDF_SEQ) || isContainer(g, n, RDF_BAG)) {
+				parseIntoCollection(session, g, g.getContainerMembers(n), (Collection)o, sType.getElementType());
+			} else if (g.isList(n)) {
+				parseIntoCollection(session, g, g.getListMembers(n), (Collection)o, sType.getElementType());
+			} else {
+				throw new ParseException("Unrecognized node type ''{0}'' for collection", n);
+			}
+			if (sType.isArray())
+				o = bc.toArray(sType, (Collection)o);
+		} else if (sType.canCreateNewInstanceFromObjectMap(outer)) {
+			if (session.wasAlreadyProcessed(n))
+				return null;
+			Map m = new ObjectMap(bc);
+			parseIntoMap(session, g, n, m, eType.getKeyType(), eType.getValueType());
+			o = sType.newInstanceFromObjectMap(outer, (ObjectMap)m);
+		} else if (sType.canCreateNewBean(outer)) {
+			if (session.wasAlreadyProcessed(n))
+				return null;
+			BeanMap<?> bm = bc.newBeanMap(outer, sType.getInnerClass());
+			o = parseIntoBeanMap(session, g, (String)n, bm).getBean();
+		} else if (sType.isUri() && isResource) {
+			o = sType.newInstanceFromString(outer, session.decodeString(uri));
+		} else if (sType.canCreateNewInstanceFromString(outer)) {
+			o = sType.newInstanceFromString(outer, session.decodeString(getValue(session, g, n, outer)));
+		} else if (sType.canCreateNewInstanceFromNumber(outer)) {
+			o = sType.newInstanceFromNumber(outer, parseNumber(getValue(session, g, n, outer).toString(), sType.getNewInstanceFromNumberClass()));
+		} else {
+			throw new ParseException("Class ''{0}'' could not be instantiated.  Reason: ''{1}''", sType.getInnerClass().getName(), sType.getNotABeanReason());
+		}
+
+		if (transform != null && o != null)
+			o = transform.unswap(o, eType, bc);
+
+		if (outer != null)
+			setParent(eType, o, outer);
+
+		return (T)o;
+	}
+
+	private static boolean isContainer(NTripleGraph g, Object n, String containerType) {
+		return containerType.equals(NTripleGraph.getUri(g.getProperty(n, RDF_TYPE)));
+	}
+
+	private Object getValue(RdfParserSession session, NTripleGraph g, Object n, Object outer) throws Exception {
+		if (NTripleGraph.isLiteral(n))
+			return ((NTripleGraph.Literal)n).getValue();
+		Object v = g.getProperty(n, session.getJuneauNsUri() + RDF_juneauNs_VALUE);
+		if (v != null) {
+			if (NTripleGraph.isLiteral(v))
+				return ((NTripleGraph.Literal)v).getValue();
+			return parseAnything(session, g, object(), v, outer);
+		}
+		throw new ParseException(session, "Unknown value type for node ''{0}''", n);
+	}
+
+	private <K,V> Map<K,V> parseIntoMap(RdfParserSession session, NTripleGraph g, Object r, Map<K,V> m, ClassMeta<K> keyType, ClassMeta<V> valueType) throws Exception {
+		// Add URI as "uri" to generic maps.
+		String uri = NTripleGraph.getUri(r);
+		if (uri != null) {
+			K uri2 = convertAttrToType(session, m, "uri", keyType);
+			V value = convertAttrToType(session, m, uri, valueType);
+			m.put(uri2, value);
+		}
+		String root = session.getJuneauNsUri() + RDF_juneauNs_ROOT;
+		List<Object> l = g.getProperties(r);
+		for (int i = 0; i < l.size(); i += 2) {
+			String p = (String)l.get(i);
+			if (! p.equals(root)) {
+				String key = session.decodeString(NTripleGraph.getLocalName(p));
+				K key2 = convertAttrToType(session, m, key, keyType);
+				V value = parseAnything(session, g, valueType, l.get(i+1), m);
+				setName(valueType, value, key);
+				m.put(key2, value);
+			}
+		}
+		return m;
+	}
+
+	private <E> Collection<E> parseIntoCollection(RdfParserSession session, NTripleGraph g, List<Object> nodes, Collection<E> l, ClassMeta<E> et) throws Exception {
+		for (Object n : nodes)
+			l.add(parseAnything(session, g, et, n, l));
+		return l;
+	}
+
 	//--------------------------------------------------------------------------------
 	// Overridden methods
 	//--------------------------------------------------------------------------------
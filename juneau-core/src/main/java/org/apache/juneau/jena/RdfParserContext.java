@@ -78,7 +78,7 @@ public final class RdfParserContext extends ParserContext implements RdfCommonCo
 	 */
 	public static final String RDF_trimWhitespace = "RdfParser.trimWhitespace";
 
-	final boolean trimWhitespace, looseCollections;
+	final boolean trimWhitespace, looseCollections, streaming;
 	final String rdfLanguage;
 	final Namespace juneauNs, juneauBpNs;
 	final RdfCollectionFormat collectionFormat;
@@ -95,6 +95,7 @@ public final class RdfParserContext extends ParserContext implements RdfCommonCo
 		super(cf);
 		trimWhitespace = cf.getProperty(RDF_trimWhitespace, boolean.class, false);
 		looseCollections = cf.getProperty(RDF_looseCollections, boolean.class, false);
+		streaming = cf.getProperty(RDF_streaming, boolean.class, false);
 		rdfLanguage = cf.getProperty(RDF_language, String.class, "RDF/XML-ABBREV");
 		juneauNs = cf.getProperty(RDF_juneauNs, Namespace.class, new Namespace("j", "http://www.apache.org/juneau/"));
 		juneauBpNs = cf.getProperty(RDF_juneauBpNs, Namespace.class, new Namespace("j", "http://www.apache.org/juneaubp/"));
@@ -38,9 +38,9 @@ public class RdfParserSession extends ParserSession {
 	private final Namespace juneauNs, juneauBpNs;
 	private final Property pRoot, pValue, pClass, pType;
 	private final Model model;
-	private final boolean trimWhitespace, looseCollections;
+	private final boolean trimWhitespace, looseCollections, streaming;
 	private final RDFReader rdfReader;
-	private final Set<Resource> urisVisited = new HashSet<Resource>();
+	private final Set<Object> urisVisited = new HashSet<Object>();
 	private final RdfCollectionFormat collectionFormat;
 
 	/**
@@ -73,6 +73,7 @@ public class RdfParserSession extends ParserSession {
 			this.trimWhitespace = ctx.trimWhitespace;
 			this.collectionFormat = ctx.collectionFormat;
 			this.looseCollections = ctx.looseCollections;
+			this.streaming = ctx.streaming && rdfLanguage.equals(LANG_NTRIPLE);
 		} else {
 			this.rdfLanguage = op.getString(RDF_language, ctx.rdfLanguage);
 			this.juneauNs = (op.containsKey(RDF_juneauNs) ? NamespaceFactory.parseNamespace(op.get(RDF_juneauNs)) : ctx.juneauNs);
@@ -80,7 +81,17 @@ public class RdfParserSession extends ParserSession {
 			this.trimWhitespace = op.getBoolean(RdfParserContext.RDF_trimWhitespace, ctx.trimWhitespace);
 			this.collectionFormat = RdfCollectionFormat.valueOf(op.getString(RDF_collectionFormat, "DEFAULT"));
 			this.looseCollections = op.getBoolean(RDF_looseCollections, ctx.looseCollections);
+			this.streaming = op.getBoolean(RDF_streaming, ctx.streaming) && rdfLanguage.equals(LANG_NTRIPLE);
 		}
+
+		// Streamed input is read into an NTripleGraph instead of a Jena model.
+		if (streaming) {
+			this.model = null;
+			this.pRoot = this.pValue = this.pClass = this.pType = null;
+			this.rdfReader = null;
+			return;
+		}
+
 		this.model = ModelFactory.createDefaultModel();
 		addModelPrefix(juneauNs);
 		addModelPrefix(juneauBpNs);
@@ -107,6 +118,27 @@ public class RdfParserSession extends ParserSession {
 		return ! urisVisited.add(r);
 	}
 
+	/**
+	 * Same as {@link #wasAlreadyProcessed(Resource)} but for nodes read when {@link #isStreaming()} is <jk>true</jk>.
+	 *
+	 * @param node The node to check.
+	 * @return <jk>true</jk> if this node was already visited.
+	 */
+	final boolean wasAlreadyProcessed(Object node) {
+		return ! urisVisited.add(node);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if N-Triples input is being read without a Jena model.
+	 * <p>
+	 * This is the case when {@link RdfCommonContext#RDF_streaming} is enabled and the language is <js>"N-TRIPLE"</js>.
+	 *
+	 * @return <jk>true</jk> if N-Triples input is being read without a Jena model.
+	 */
+	public final boolean isStreaming() {
+		return streaming;
+	}
+
 	/**
 	 * Returns the root property.
 	 *
@@ -188,13 +220,23 @@ public class RdfParserSession extends ParserSession {
 		return juneauNs.getUri();
 	}
 
+	/**
+	 * Returns the Juneau bean property namespace URI.
+	 *
+	 * @return The Juneau bean property namespace URI.
+	 */
+	public final String getJuneauBpNsUri() {
+		return juneauBpNs.getUri();
+	}
+
 	/**
 	 * Adds the specified namespace as a model prefix.
 	 *
 	 * @param ns The XML namespace.
 	 */
 	public final void addModelPrefix(Namespace ns) {
-		model.setNsPrefix(ns.getName(), ns.getUri());
+		if (model != null)
+			model.setNsPrefix(ns.getName(), ns.getUri());
 	}
 
 	/**
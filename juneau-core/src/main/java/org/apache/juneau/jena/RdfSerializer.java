@@ -127,6 +127,11 @@ public class RdfSerializer extends WriterSerializer {
 
 		RdfSerializerSession s = (RdfSerializerSession)session;
 
+		if (s.isStreaming()) {
+			doSerializeStreaming(s, o);
+			return;
+		}
+
 		Model model = s.getModel();
 		Resource r = null;
 
@@ -399,6 +404,248 @@ public class RdfSerializer extends WriterSerializer {
 
 	}
 
+	//--------------------------------------------------------------------------------
+	// Streaming support
+	//--------------------------------------------------------------------------------
+
+	/*
+	 * Same as the model-based serialization above, except triples are written directly to an NTripleWriter
+	 * as they're discovered instead of being collected in a Jena model.
+	 * Nodes are passed around as N-Triples terms.
+	 */
+	private void doSerializeStreaming(RdfSerializerSession s, Object o) throws Exception {
+		NTripleWriter w = s.getNTripleWriter();
+		String jNs = s.getJuneauNs().getUri();
+
+		ClassMeta<?> cm = s.getBeanContext().getClassMetaForObject(o);
+		if (s.isLooseCollections() && cm != null && (cm.isCollection() || cm.isArray())) {
+			Collection c = s.sort(cm.isCollection() ? (Collection)o : toList(cm.getInnerClass(), o));
+			for (Object o2 : c)
+				streamAnything(s, w, o2, false, object(), "root", null, null);
+		} else {
+			String n = streamAnything(s, w, o, false, object(), "root", null, null);
+			String r;
+			if (NTripleWriter.isLiteral(n)) {
+				r = w.blankNode();
+				w.triple(r, jNs + RDF_juneauNs_VALUE, n);
+			} else {
+				r = n;
+			}
+
+			if (s.isAddRootProperty())
+				w.triple(r, jNs + RDF_juneauNs_ROOT, w.literal("true"));
+		}
+		w.flush();
+	}
+
+	private String streamAnything(RdfSerializerSession session, NTripleWriter w, Object o, boolean isURI, ClassMeta<?> eType, String attrName, BeanPropertyMeta bpm, String parentResource) throws Exception {
+		BeanContext bc = session.getBeanContext();
+
+		ClassMeta<?> aType = null;       // The actual type
+		ClassMeta<?> wType = null;       // The wrapped type
+		ClassMeta<?> sType = object();   // The serialized type
+
+		aType = session.push(attrName, o, eType);
+
+		if (eType == null)
+			eType = object();
+
+		// Handle recursion
+		if (aType == null) {
+			o = null;
+			aType = object();
+		}
+
+		if (o != null) {
+
+			if (aType.isDelegate()) {
+				wType = aType;
+				aType = ((Delegate)o).getClassMeta();
+			}
+
+			sType = aType.getSerializedClassMeta();
+
+			// Swap if necessary
+			PojoSwap swap = aType.getPojoSwap();
+			if (swap != null) {
+				o = swap.swap(o, bc);
+
+				// If the getSwapClass() method returns Object, we need to figure out
+				// the actual type now.
+				if (sType.isObject())
+					sType = bc.getClassMetaForObject(o);
+			}
+		} else {
+			sType = eType.getSerializedClassMeta();
+		}
+
+		String n = null;
+
+		if (o == null || sType.isChar() && ((Character)o).charValue() == 0) {
+			if (bpm == null || ! session.isTrimNulls())
+				n = w.resource(RDF_NIL);
+
+		} else if (sType.isUri() || isURI) {
+			n = w.resource(getUri(session, o, null));
+
+		} else if (sType.isCharSequence() || sType.isChar()) {
+			n = w.literal(session.encodeTextInvalidChars(o));
+
+		} else if (sType.isNumber() || sType.isBoolean()) {
+			if (! session.isAddLiteralTypes())
+				n = w.literal(o.toString());
+			else
+				n = w.typedLiteral(o);
+
+		} else if (sType.isMap() || (wType != null && wType.isMap())) {
+			if (o instanceof BeanMap) {
+				BeanMap bm = (BeanMap)o;
+				n = w.resource(getUri(session, getBeanUri(bm), null));
+				streamBeanMap(session, w, bm, n);
+			} else {
+				n = w.blankNode();
+				streamMap(session, w, (Map)o, n, sType);
+			}
+
+		} else if (sType.hasToObjectMapMethod()) {
+			n = w.blankNode();
+			streamMap(session, w, sType.toObjectMap(o), n, sType);
+
+		} else if (sType.isBean()) {
+			BeanMap bm = bc.forBean(o);
+			n = w.resource(getUri(session, getBeanUri(bm), null));
+			streamBeanMap(session, w, bm, n);
+
+		} else if (sType.isCollection() || sType.isArray() || (wType != null && wType.isCollection())) {
+			Collection c = session.sort(sType.isCollection() ? (Collection)o : toList(sType.getInnerClass(), o));
+			RdfCollectionFormat f = session.getCollectionFormat();
+			RdfClassMeta rcm = sType.getExtendedMeta(RdfClassMeta.class);
+			if (rcm.getCollectionFormat() != RdfCollectionFormat.DEFAULT)
+				f = rcm.getCollectionFormat();
+			if (bpm != null && bpm.getExtendedMeta(RdfBeanPropertyMeta.class).getCollectionFormat() != RdfCollectionFormat.DEFAULT)
+				f = bpm.getExtendedMeta(RdfBeanPropertyMeta.class).getCollectionFormat();
+			switch (f) {
+				case BAG: n = streamToContainer(session, w, c, sType, RDF_BAG); break;
+				case LIST: n = streamToList(session, w, c, sType); break;
+				case MULTI_VALUED: streamToMultiProperties(session, w, c, sType, bpm, attrName, parentResource); break;
+				default: n = streamToContainer(session, w, c, sType, RDF_SEQ);
+			}
+		} else {
+			n = w.literal(session.encodeTextInvalidChars(session.toString(o)));
+		}
+
+		if (session.isAddBeanTypeProperties() && n != null && ! NTripleWriter.isLiteral(n)) {
+			String pClass = session.getJuneauNs().getUri() + RDF_juneauNs_CLASS;
+			if (o != null && ! eType.equals(aType))
+				w.triple(n, pClass, w.literal(aType.toString()));
+			else if (o == null)
+				w.triple(n, pClass, w.literal(eType.toString()));
+		}
+
+		session.pop();
+
+		return n;
+	}
+
+	private static Object getBeanUri(BeanMap<?> bm) {
+		RdfBeanMeta rbm = (RdfBeanMeta)bm.getMeta().getExtendedMeta(RdfBeanMeta.class);
+		if (rbm.hasBeanUri())
+			return rbm.getBeanUriProperty().get(bm);
+		return null;
+	}
+
+	private void streamMap(RdfSerializerSession session, NTripleWriter w, Map m, String r, ClassMeta<?> type) throws Exception {
+
+		m = session.sort(m);
+
+		ClassMeta<?> keyType = type.getKeyType(), valueType = type.getValueType();
+		String nsUri = session.getJuneauBpNs().getUri();
+
+		for (Map.Entry<Object,Object> me : (Set<Map.Entry<Object,Object>>)m.entrySet()) {
+			Object value = me.getValue();
+
+			Object key = session.generalize(me.getKey(), keyType);
+
+			String p = nsUri + session.encodeElementName(session.toString(key));
+			String n = streamAnything(session, w, value, false, valueType, key == null ? null : session.toString(key), null, r);
+			if (n != null)
+				w.triple(r, p, n);
+		}
+	}
+
+	private void streamBeanMap(RdfSerializerSession session, NTripleWriter w, BeanMap<?> m, String r) throws Exception {
+		for (BeanPropertyValue bpv : m.getValues(session.isTrimNulls())) {
+			BeanPropertyMeta pMeta = bpv.getMeta();
+			ClassMeta<?> cMeta = pMeta.getClassMeta();
+
+			if (pMeta.getExtendedMeta(RdfBeanPropertyMeta.class).isBeanUri())
+				continue;
+
+			String key = bpv.getName();
+			Object value = bpv.getValue();
+			Throwable t = bpv.getThrown();
+			if (t != null)
+				session.addBeanGetterWarning(pMeta, t);
+
+			if (session.canIgnoreValue(cMeta, key, value))
+				continue;
+
+			String p = getNamespace(session, pMeta).getUri() + session.encodeElementName(key);
+			String n = streamAnything(session, w, value, pMeta.isUri(), cMeta, key, pMeta, r);
+			if (n != null)
+				w.triple(r, p, n);
+		}
+	}
+
+	private String streamToContainer(RdfSerializerSession session, NTripleWriter w, Collection c, ClassMeta<?> type, String containerType) throws Exception {
+		ClassMeta<?> elementType = type.getElementType();
+		String list = w.blankNode();
+		w.triple(list, RDF_TYPE, w.resource(containerType));
+		int i = 1;
+		for (Object e : c) {
+			String n = streamAnything(session, w, e, false, elementType, null, null, null);
+			w.triple(list, RDF_MEMBER_PREFIX + (i++), n);
+		}
+		return list;
+	}
+
+	private String streamToList(RdfSerializerSession session, NTripleWriter w, Collection c, ClassMeta<?> type) throws Exception {
+		if (c.isEmpty())
+			return w.resource(RDF_NIL);
+		ClassMeta<?> elementType = type.getElementType();
+		String head = w.blankNode(), cur = head;
+		for (Iterator i = c.iterator(); i.hasNext();) {
+			String n = streamAnything(session, w, i.next(), false, elementType, null, null, null);
+			w.triple(cur, RDF_FIRST, n);
+			String next = (i.hasNext() ? w.blankNode() : w.resource(RDF_NIL));
+			w.triple(cur, RDF_REST, next);
+			cur = next;
+		}
+		return head;
+	}
+
+	private void streamToMultiProperties(RdfSerializerSession session, NTripleWriter w, Collection c, ClassMeta<?> sType, BeanPropertyMeta bpm, String attrName, String parentResource) throws Exception {
+		ClassMeta<?> elementType = sType.getElementType();
+		String p = (bpm == null ? session.getJuneauBpNs() : getNamespace(session, bpm)).getUri() + session.encodeElementName(attrName);
+		for (Object e : c) {
+			String n2 = streamAnything(session, w, e, false, elementType, null, null, null);
+			w.triple(parentResource, p, n2);
+		}
+	}
+
+	/*
+	 * Same namespace resolution as the model-based serializer, except that prefixes are not recorded since
+	 * streamed output always uses full URIs.
+	 */
+	private static Namespace getNamespace(RdfSerializerSession session, BeanPropertyMeta bpm) {
+		Namespace ns = bpm.getExtendedMeta(RdfBeanPropertyMeta.class).getNamespace();
+		if (ns == null && session.isUseXmlNamespaces())
+			ns = bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace();
+		if (ns == null)
+			ns = session.getJuneauBpNs();
+		return ns;
+	}
+
 	//--------------------------------------------------------------------------------
 	// Overridden methods
 	//--------------------------------------------------------------------------------
@@ -144,7 +144,7 @@ public final class RdfSerializerContext extends SerializerContext implements Rdf
 	public static final String RDF_namespaces = "RdfSerializer.namespaces.list";
 
 
-	final boolean addLiteralTypes, addRootProperty, useXmlNamespaces, looseCollections, autoDetectNamespaces;
+	final boolean addLiteralTypes, addRootProperty, useXmlNamespaces, looseCollections, autoDetectNamespaces, streaming;
 	final String rdfLanguage;
 	final Namespace juneauNs;
 	final Namespace juneauBpNs;
@@ -166,6 +166,7 @@ public final class RdfSerializerContext extends SerializerContext implements Rdf
 		useXmlNamespaces = cf.getProperty(RDF_useXmlNamespaces, boolean.class, true);
 		looseCollections = cf.getProperty(RDF_looseCollections, boolean.class, false);
 		autoDetectNamespaces = cf.getProperty(RDF_autoDetectNamespaces, boolean.class, true);
+		streaming = cf.getProperty(RDF_streaming, boolean.class, false);
 		rdfLanguage = cf.getProperty(RDF_language, String.class, "RDF/XML-ABBREV");
 		juneauNs = cf.getProperty(RDF_juneauNs, Namespace.class, new Namespace("j", "http://www.apache.org/juneau/"));
 		juneauBpNs = cf.getProperty(RDF_juneauBpNs, Namespace.class, new Namespace("jp", "http://www.apache.org/juneaubp/"));
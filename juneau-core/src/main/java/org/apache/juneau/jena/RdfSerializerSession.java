@@ -37,7 +37,7 @@ public final class RdfSerializerSession extends SerializerSession {
 
 	private final String rdfLanguage;
 	private final Namespace juneauNs, juneauBpNs;
-	private final boolean addLiteralTypes, addRootProperty, useXmlNamespaces, looseCollections, autoDetectNamespaces;
+	private final boolean addLiteralTypes, addRootProperty, useXmlNamespaces, looseCollections, autoDetectNamespaces, streaming;
 	private final Property pRoot, pValue, pClass;
 	private final Model model;
 	private final RDFWriter writer;
@@ -72,6 +72,7 @@ public final class RdfSerializerSession extends SerializerSession {
 			this.useXmlNamespaces = ctx.useXmlNamespaces;
 			this.autoDetectNamespaces = ctx.autoDetectNamespaces;
 			this.namespaces = ctx.namespaces;
+			this.streaming = ctx.streaming && isStreamable(ctx.rdfLanguage);
 		} else {
 			this.rdfLanguage = op.getString(RDF_language, ctx.rdfLanguage);
 			this.juneauNs = (op.containsKey(RDF_juneauNs) ? NamespaceFactory.parseNamespace(op.get(RDF_juneauNs)) : ctx.juneauNs);
@@ -88,7 +89,17 @@ public final class RdfSerializerSession extends SerializerSession {
 			this.useXmlNamespaces = op.getBoolean(RDF_useXmlNamespaces, ctx.useXmlNamespaces);
 			this.autoDetectNamespaces = op.getBoolean(RDF_autoDetectNamespaces, ctx.autoDetectNamespaces);
 			this.namespaces = op.get(Namespace[].class, RDF_namespaces, ctx.namespaces);
+			this.streaming = op.getBoolean(RDF_streaming, ctx.streaming) && isStreamable(rdfLanguage);
 		}
+
+		// Streamed output never touches the Jena model.
+		if (streaming) {
+			this.model = null;
+			this.pRoot = this.pValue = this.pClass = null;
+			this.writer = null;
+			return;
+		}
+
 		this.model = ModelFactory.createDefaultModel();
 		addModelPrefix(juneauNs);
 		addModelPrefix(juneauBpNs);
@@ -115,7 +126,24 @@ public final class RdfSerializerSession extends SerializerSession {
 	 * @param ns The XML namespace.
 	 */
 	public void addModelPrefix(Namespace ns) {
-		model.setNsPrefix(ns.getName(), ns.getUri());
+		if (model != null)
+			model.setNsPrefix(ns.getName(), ns.getUri());
+	}
+
+	private static boolean isStreamable(String rdfLanguage) {
+		return LANG_NTRIPLE.equals(rdfLanguage) || LANG_TURTLE.equals(rdfLanguage);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if triples are being streamed directly to the output.
+	 * <p>
+	 * This is the case when {@link RdfCommonContext#RDF_streaming} is enabled and the language is
+	 * 	<js>"N-TRIPLE"</js> or <js>"TURTLE"</js>.
+	 *
+	 * @return <jk>true</jk> if triples are being streamed directly to the output.
+	 */
+	public final boolean isStreaming() {
+		return streaming;
 	}
 
 	/**
@@ -244,6 +272,19 @@ public final class RdfSerializerSession extends SerializerSession {
 		return writer;
 	}
 
+	/**
+	 * Returns the writer that triples are streamed to when {@link #isStreaming()} is <jk>true</jk>.
+	 *
+	 * @return The N-Triples writer wrapping the output.
+	 * @throws Exception If the output could not be converted to a writer.
+	 */
+	public NTripleWriter getNTripleWriter() throws Exception {
+		Object output = getOutput();
+		if (output instanceof NTripleWriter)
+			return (NTripleWriter)output;
+		return new NTripleWriter(super.getWriter(), isTrimStrings(), getRelativeUriBase(), getAbsolutePathUriBase());
+	}
+
 	/**
 	 * XML-encodes the specified string using the {@link XmlUtils#encodeTextInvalidChars(Object)} method.
 	 *
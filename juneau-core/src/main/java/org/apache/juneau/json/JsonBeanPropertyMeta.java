@@ -0,0 +1,58 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on bean properties specific to the JSON serializers and parsers.
+ * <p>
+ * 	Holds the property name pre-rendered as a JSON attribute name followed by the <js>':'</js> separator
+ * 	for each combination of {@link JsonWriter} settings, so that writing a property name is a single write.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class JsonBeanPropertyMeta extends BeanPropertyMetaExtended {
+
+	private final char[][] attrTokens = new char[16][];
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bpm The metadata of the bean property of this additional metadata.
+	 */
+	public JsonBeanPropertyMeta(BeanPropertyMeta bpm) {
+		super(bpm);
+	}
+
+	/**
+	 * Returns the property name rendered as an attribute name followed by <js>':'</js> for the settings of the specified writer.
+	 *
+	 * @param w The writer being serialized to.
+	 * @return The rendered attribute token, or <jk>null</jk> if the writer settings can't be cached.
+	 * @throws IOException Should never happen.
+	 */
+	char[] getAttrToken(JsonWriter w) throws IOException {
+		int key = w.getSettingsKey();
+		if (key == -1)
+			return null;
+		char[] t = attrTokens[key];
+		if (t == null) {
+			t = (w.renderAttr(getBeanPropertyMeta().getName()) + ':').toCharArray();
+			attrTokens[key] = t;
+		}
+		return t;
+	}
+}
@@ -25,6 +25,7 @@ public class JsonClassMeta extends ClassMetaExtended {
 
 	private final Json json;
 	private final String wrapperAttr;
+	private final JsonSerializerPlan[] plans = new JsonSerializerPlan[16];
 
 	/**
 	 * Constructor.
@@ -58,4 +59,28 @@ public class JsonClassMeta extends ClassMetaExtended {
 	protected String getWrapperAttr() {
 		return wrapperAttr;
 	}
+
+	/**
+	 * Returns the compiled serializer plan for this bean class and the settings of the specified writer.
+	 * <p>
+	 * 	Plans are immutable, so concurrent creation of the same plan is harmless.
+	 *
+	 * @param w The writer being serialized to.
+	 * @return The serializer plan, or <jk>null</jk> if this class isn't a bean or the writer settings can't be cached.
+	 * @throws Exception If attribute names could not be rendered.
+	 */
+	JsonSerializerPlan getSerializerPlan(JsonWriter w) throws Exception {
+		int key = w.getSettingsKey();
+		if (key == -1)
+			return null;
+		JsonSerializerPlan p = plans[key];
+		if (p == null) {
+			BeanMeta<?> bm = getClassMeta().getBeanMeta();
+			if (bm == null)
+				return null;
+			p = new JsonSerializerPlan(bm, w);
+			plans[key] = p;
+		}
+		return p;
+	}
 }
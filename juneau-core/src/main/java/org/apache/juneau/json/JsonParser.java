@@ -131,11 +131,11 @@ public final class JsonParser extends ReaderParser {
 			parseKeyword(session, "null", r);
 		} else if (sType.isObject()) {
 			if (c == '{') {
-				ObjectMap m2 = new ObjectMap(bc);
+				ObjectMap m2 = session.newObjectMap();
 				parseIntoMap2(session, r, m2, string(), object(), pMeta);
 				o = bd.cast(m2);
 			} else if (c == '[') {
-				o = parseIntoCollection2(session, r, new ObjectList(bc), object(), pMeta);
+				o = parseIntoCollection2(session, r, session.newObjectList(), object(), pMeta);
 			} else if (c == '\'' || c == '"') {
 				o = parseString(session, r);
 				if (sType.isChar())
@@ -158,15 +158,15 @@ public final class JsonParser extends ReaderParser {
 		} else if (sType.isNumber()) {
 			o = parseNumber(session, r, (Class<? extends Number>)sType.getInnerClass());
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(bc));
+			Map m = session.newMap(sType, outer);
 			o = parseIntoMap2(session, r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 		} else if (sType.isCollection()) {
 			if (c == '{') {
-				ObjectMap m = new ObjectMap(bc);
+				ObjectMap m = session.newObjectMap();
 				parseIntoMap2(session, r, m, string(), object(), pMeta);
 				o = bd.cast(m);
 			} else {
-				Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : new ObjectList(bc));
+				Collection l = session.newCollection(sType, outer);
 				o = parseIntoCollection2(session, r, l, sType.getElementType(), pMeta);
 			}
 		} else if (sType.canCreateNewInstanceFromObjectMap(outer)) {
@@ -300,7 +300,7 @@ public final class JsonParser extends ReaderParser {
 				} else if (session.isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(session, r.unread());
 				} else {
-					currAttr = parseFieldName(session, r.unread());
+					currAttr = parseFieldName(session, r.unread(), null);
 					state = S3;
 				}
 			} else if (state == S3) {
@@ -332,7 +332,7 @@ public final class JsonParser extends ReaderParser {
 				} else if (session.isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(session, r.unread());
 				} else {
-					currAttr = parseFieldName(session, r.unread());
+					currAttr = parseFieldName(session, r.unread(), null);
 					state = S3;
 				}
 			}
@@ -356,11 +356,12 @@ public final class JsonParser extends ReaderParser {
 	/*
 	 * Parse a JSON attribute from the character array at the specified position, then
 	 * set the position marker to the last character in the field name.
+	 * If the name is in the specified set of names, the instance from that set is returned.
 	 */
-	private String parseFieldName(JsonParserSession session, ParserReader r) throws Exception {
+	private String parseFieldName(JsonParserSession session, ParserReader r, CharArrayStringSet names) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(session, r);
+			return parseString(session, r, names);
 		if (session.isStrict())
 			throw new ParseException(session, "Unquoted attribute detected.");
 		r.mark();
@@ -369,7 +370,7 @@ public final class JsonParser extends ReaderParser {
 			c = r.read();
 			if (c == ':' || session.isWhitespace(c) || c == '/') {
 				r.unread();
-				String s = r.getMarked().intern();
+				String s = (names == null ? r.getMarked().intern() : r.getMarked(0, 0, names));
 				return s.equals("null") ? null : s;
 			}
 		}
@@ -432,6 +433,91 @@ public final class JsonParser extends ReaderParser {
 		return null;  // Unreachable.
 	}
 
+	/*
+	 * Same state machine as parseIntoCollection2(), but parses one element per call to next().
+	 */
+	private class JsonArrayIterator<E> extends ParserIterator<E> {
+
+		private static final int S0=0; // Looking for outermost [
+		private static final int S1=1; // Looking for starting [ or { or " or ' or LITERAL or ]
+		private static final int S2=2; // Looking for , or ]
+		private static final int S3=3; // Looking for starting [ or { or " or ' or LITERAL
+
+		private final JsonParserSession session;
+		private final ParserReader r;
+		private final ClassMeta<E> elementType;
+		private int state = S0;
+
+		JsonArrayIterator(JsonParserSession session, ParserReader r, ClassMeta<E> elementType) {
+			super(session);
+			this.session = session;
+			this.r = r;
+			this.elementType = elementType;
+		}
+
+		@Override /* ParserIterator */
+		protected boolean hasMore() throws Exception {
+			if (r == null)
+				return false;
+			int c = 0;
+			while (c != -1) {
+				c = r.read();
+				if (state == S0) {
+					if (c == '[')
+						state = S1;
+					else if (session.isCommentOrWhitespace(c))
+						skipCommentsAndSpace(session, r.unread());
+					else
+						break;
+				} else if (state == S1) {
+					if (c == ']') {
+						validateEnd(session, r);
+						return false;
+					} else if (session.isCommentOrWhitespace(c)) {
+						skipCommentsAndSpace(session, r.unread());
+					} else if (c != -1) {
+						r.unread();
+						return true;
+					}
+				} else if (state == S2) {
+					if (c == ',') {
+						state = S3;
+					} else if (session.isCommentOrWhitespace(c)) {
+						skipCommentsAndSpace(session, r.unread());
+					} else if (c == ']') {
+						validateEnd(session, r);
+						return false;
+					} else {
+						break;  // Invalid character found.
+					}
+				} else if (state == S3) {
+					if (session.isCommentOrWhitespace(c)) {
+						skipCommentsAndSpace(session, r.unread());
+					} else if (c == ']') {
+						break;
+					} else if (c != -1) {
+						r.unread();
+						return true;
+					}
+				}
+			}
+			if (state == S0)
+				throw new ParseException(session, "Expected '[' at beginning of JSON array.");
+			if (state == S1)
+				throw new ParseException(session, "Expected one of the following characters: {,[,',\",LITERAL.");
+			if (state == S2)
+				throw new ParseException(session, "Expected ',' or ']'.");
+			throw new ParseException(session, "Unexpected trailing comma in array.");
+		}
+
+		@Override /* ParserIterator */
+		protected E parseNext() throws Exception {
+			E o = parseAnything(session, elementType, r, session.getOuter(), null);
+			state = S2;
+			return o;
+		}
+	}
+
 	private Object[] parseArgs(JsonParserSession session, ParserReader r, ClassMeta<?>[] argTypes) throws Exception {
 
 		int S0=0; // Looking for outermost [
@@ -506,7 +592,7 @@ public final class JsonParser extends ReaderParser {
 					r.unread();
 					currAttrLine= r.getLine();
 					currAttrCol = r.getColumn();
-					currAttr = parseFieldName(session, r);
+					currAttr = parseFieldName(session, r, m.getMeta().getPropertyNames());
 					state = S3;
 				}
 			} else if (state == S3) {
@@ -568,6 +654,13 @@ public final class JsonParser extends ReaderParser {
 	 * will automatically concatenate the strings and return the result.
 	 */
 	private String parseString(JsonParserSession session, ParserReader r) throws Exception  {
+		return parseString(session, r, null);
+	}
+
+	/*
+	 * Same as above, but returns the instance from the specified set of names if the string is in that set.
+	 */
+	private String parseString(JsonParserSession session, ParserReader r, CharArrayStringSet names) throws Exception  {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && session.isStrict()) {
@@ -613,7 +706,7 @@ public final class JsonParser extends ReaderParser {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = r.getMarked(1, -1, names);
 						break;
 					}
 				} else {
@@ -703,7 +796,7 @@ public final class JsonParser extends ReaderParser {
 				if (session.isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(session, r.unread());
 				} else {
-					currAttr = parseFieldName(session, r.unread());
+					currAttr = parseFieldName(session, r.unread(), null);
 					if (! currAttr.equals(wrapperAttr))
 						throw new ParseException(session, "Expected to find wrapper attribute ''{0}'' but found attribute ''{1}''", wrapperAttr, currAttr);
 					state = S3;
@@ -825,6 +918,12 @@ public final class JsonParser extends ReaderParser {
 		return c;
 	}
 
+	@Override /* Parser */
+	protected <E> ParserIterator<E> doParseIterator(ParserSession session, ClassMeta<E> elementType) throws Exception {
+		JsonParserSession s = (JsonParserSession)session;
+		return new JsonArrayIterator<E>(s, s.getReader(), s.getBeanContext().normalizeClassMeta(elementType));
+	}
+
 	@Override /* ReaderParser */
 	protected Object[] doParseArgs(ParserSession session, ClassMeta<?>[] argTypes) throws Exception {
 		JsonParserSession s = (JsonParserSession)session;
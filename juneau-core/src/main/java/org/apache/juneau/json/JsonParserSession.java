@@ -60,9 +60,9 @@ public final class JsonParserSession extends ParserSession {
 			if (input == null)
 				return null;
 			if (input instanceof CharSequence)
-				reader = new ParserReader((CharSequence)input);
+				reader = new ParserReader((CharSequence)input).setSession(this);
 			else
-				reader = new ParserReader(super.getReader());
+				reader = new ParserReader(super.getReader()).setSession(this);
 		}
 		return reader;
 	}
@@ -106,4 +106,15 @@ public final class JsonParserSession extends ParserSession {
 		}
 		return m;
 	}
+
+	@Override /* ParserSession */
+	public void close() throws ParseException {
+		try {
+			if (reader != null)
+				reader.close();
+		} catch (IOException e) {
+			throw new ParseException(e);
+		}
+		super.close();
+	}
 }
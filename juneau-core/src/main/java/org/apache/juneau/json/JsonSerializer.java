@@ -271,6 +271,16 @@ public class JsonSerializer extends WriterSerializer {
 	}
 
 	private SerializerWriter serializeBeanMap(JsonSerializerSession session, JsonWriter out, BeanMap<?> m, boolean addTypeProperty) throws Exception {
+
+		// Delegate and filtered bean maps change the property list, so only plain bean maps use compiled plans.
+		BeanMeta<?> bm = m.getMeta();
+		ClassMeta<?> cm = bm.getClassMeta();
+		if (m.getClass() == BeanMap.class && cm.getBeanMeta() == bm) {
+			JsonSerializerPlan plan = cm.getExtendedMeta(JsonClassMeta.class).getSerializerPlan(out);
+			if (plan != null)
+				return serializeBeanMap(session, out, m, plan, addTypeProperty);
+		}
+
 		int depth = session.getIndent();
 		out.append('{');
 
@@ -290,7 +300,11 @@ public class JsonSerializer extends WriterSerializer {
 			if (addComma)
 				out.append(',').s();
 
-			out.cr(depth).attr(key).append(':').s();
+			char[] token = pMeta.getExtendedMeta(JsonBeanPropertyMeta.class).getAttrToken(out);
+			if (token == null)
+				out.cr(depth).attr(key).append(':').s();
+			else
+				out.cr(depth).append(token).s();
 
 			serializeAnything(session, out, value, cMeta, key, pMeta);
 
@@ -300,16 +314,112 @@ public class JsonSerializer extends WriterSerializer {
 		return out;
 	}
 
+	/*
+	 * Same as serializeBeanMap(JsonSerializerSession,JsonWriter,BeanMap,boolean), but uses a precompiled plan
+	 * so that property names are already rendered and simple values skip the dynamic type discovery.
+	 */
+	private SerializerWriter serializeBeanMap(JsonSerializerSession session, JsonWriter out, BeanMap<?> m, JsonSerializerPlan plan, boolean addTypeProperty) throws Exception {
+		int depth = session.getIndent();
+		boolean trimNulls = session.isTrimNulls();
+		out.append('{');
+
+		boolean addComma = false;
+		if (addTypeProperty) {
+			BeanPropertyValue p = session.createBeanTypeNameProperty(m);
+			if (p != null) {
+				out.cr(depth).attr(p.getName()).append(':').s();
+				serializeAnything(session, out, p.getValue(), p.getClassMeta(), p.getName(), p.getMeta());
+				addComma = true;
+			}
+		}
+
+		for (JsonSerializerPlan.Property p : plan.properties) {
+			BeanPropertyMeta pMeta = p.meta;
+			Object value;
+			try {
+				value = pMeta.get(m);
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
+				session.addBeanGetterWarning(pMeta, t);
+				value = null;
+			}
+
+			if (value == null) {
+				if (trimNulls)
+					continue;
+			} else if (p.kind == JsonSerializerPlan.DYNAMIC || p.kind == JsonSerializerPlan.BEAN || value.getClass() != p.valueClass) {
+				if (session.canIgnoreValue(p.type, p.name, value))
+					continue;
+			}
+
+			if (addComma)
+				out.append(',').s();
+
+			out.cr(depth).append(p.attr).s();
+
+			if (value == null)
+				out.append("null");
+			else if (value.getClass() != p.valueClass)
+				serializeAnything(session, out, value, p.type, p.name, pMeta);
+			else if (p.kind == JsonSerializerPlan.STRING)
+				out.stringValue(session.toString(value));
+			else if (p.kind == JsonSerializerPlan.SIMPLE)
+				out.append(value);
+			else if (p.kind == JsonSerializerPlan.BEAN)
+				serializeBean(session, out, value, p);
+			else
+				serializeAnything(session, out, value, p.type, p.name, pMeta);
+
+			addComma = true;
+		}
+		out.cr(depth-1).append('}');
+		return out;
+	}
+
+	/*
+	 * Serializes a bean whose class is exactly the declared property type.
+	 * Mirrors the bean branch of serializeAnything().
+	 */
+	private void serializeBean(JsonSerializerSession session, JsonWriter out, Object value, JsonSerializerPlan.Property p) throws Exception {
+		ClassMeta<?> aType = session.push(p.name, value, p.type);
+		if (aType == null) {
+			out.append("null");
+			return;
+		}
+		BeanMap<?> m = session.getBeanContext().forBean(value);
+		JsonSerializerPlan plan = p.type.getExtendedMeta(JsonClassMeta.class).getSerializerPlan(out);
+		serializeBeanMap(session, out, m, plan, false);
+		session.pop();
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonSerializerSession session, JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
-		ClassMeta<?> elementType = type.getElementType();
+		final ClassMeta<?> elementType = type.getElementType();
 
 		c = session.sort(c);
 
 		out.append('[');
 		int depth = session.getIndent();
 
+		if (session.isParallel(c)) {
+			List<String> chunks = serializeChunks(session, new ArrayList(c), new ChunkSerializer() {
+				@Override /* ChunkSerializer */
+				public void serialize(SerializerSession s, List<?> chunk) throws Exception {
+					serializeEntries((JsonSerializerSession)s, chunk, elementType);
+				}
+			});
+			for (Iterator<String> i = chunks.iterator(); i.hasNext();) {
+				out.append(i.next());
+				if (i.hasNext())
+					out.append(',').s();
+			}
+			out.cr(depth-1).append(']');
+			return out;
+		}
+
 		for (Iterator i = c.iterator(); i.hasNext();) {
 
 			Object value = i.next();
@@ -325,6 +435,22 @@ public class JsonSerializer extends WriterSerializer {
 		return out;
 	}
 
+	/*
+	 * Serializes a chunk of collection entries separated by commas.
+	 * Used by serializeCollection() when serializing in parallel.
+	 */
+	private void serializeEntries(JsonSerializerSession session, List<?> l, ClassMeta<?> elementType) throws Exception {
+		JsonWriter out = session.getWriter();
+		int depth = session.getIndent();
+		for (Iterator<?> i = l.iterator(); i.hasNext();) {
+			out.cr(depth);
+			serializeAnything(session, out, i.next(), elementType, "<iterator>", null);
+			if (i.hasNext())
+				out.append(',').s();
+		}
+		out.flush();
+	}
+
 	/**
 	 * Returns the schema serializer based on the settings of this serializer.
 	 * @return The schema serializer.
@@ -0,0 +1,104 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+
+/**
+ * Precompiled serialization plan for a bean class.
+ * <p>
+ * 	Built once per bean {@link ClassMeta} and {@link JsonWriter} configuration, and cached on the {@link JsonClassMeta}
+ * 	of the bean class.
+ * 	Contains the bean properties in serialization order along with their attribute name tokens from
+ * 	{@link JsonBeanPropertyMeta}, and the kind of writer to use for the property value.
+ * <p>
+ * 	Property values whose type can't be determined until serialization time (e.g. <code>Object</code>, interfaces,
+ * 	maps, collections, or anything with a swap) are marked {@link #DYNAMIC} and go through
+ * 	{@link JsonSerializer#serializeAnything(JsonSerializerSession, JsonWriter, Object, ClassMeta, String, BeanPropertyMeta)}.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class JsonSerializerPlan {
+
+	/** Value is serialized through the dynamic path. */
+	static final int DYNAMIC = 0;
+
+	/** Value is a <code>String</code> written directly as a JSON string. */
+	static final int STRING = 1;
+
+	/** Value is a number or boolean written directly using <code>toString()</code>. */
+	static final int SIMPLE = 2;
+
+	/** Value is a bean of the exact property type serialized using the plan of that class. */
+	static final int BEAN = 3;
+
+	final Property[] properties;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bm The bean metadata.
+	 * @param w The writer whose settings determine how attribute names are rendered.
+	 * @throws Exception If attribute names could not be rendered.
+	 */
+	JsonSerializerPlan(BeanMeta<?> bm, JsonWriter w) throws Exception {
+		BeanContext bc = bm.getClassMeta().getBeanContext();
+		List<Property> l = new ArrayList<Property>();
+		for (BeanPropertyMeta pMeta : bm.getPropertyMetas())
+			l.add(new Property(bc, pMeta, pMeta.getExtendedMeta(JsonBeanPropertyMeta.class).getAttrToken(w)));
+		properties = l.toArray(new Property[l.size()]);
+	}
+
+	/**
+	 * A single compiled bean property.
+	 */
+	static final class Property {
+		final BeanPropertyMeta meta;
+		final ClassMeta<?> type;
+		final String name;
+		final char[] attr;
+		final Class<?> valueClass;
+		final int kind;
+
+		Property(BeanContext bc, BeanPropertyMeta meta, char[] attr) {
+			this.meta = meta;
+			this.type = meta.getClassMeta();
+			this.name = meta.getName();
+			this.attr = attr;
+			Class<?> c = ClassUtils.getWrapperIfPrimitive(type.getInnerClass());
+			this.valueClass = c;
+			this.kind = getKind(bc, meta, type, c);
+		}
+
+		private static int getKind(BeanContext bc, BeanPropertyMeta meta, ClassMeta<?> type, Class<?> c) {
+			if (type.getPojoSwap() != null || meta.isUri())
+				return DYNAMIC;
+
+			// The actual class is looked up when the value is a primitive wrapper, so check that one too.
+			ClassMeta<?> aType = (c == type.getInnerClass() ? type : bc.getClassMeta(c));
+			if (aType.getPojoSwap() != null || aType.getExtendedMeta(JsonClassMeta.class).getWrapperAttr() != null)
+				return DYNAMIC;
+
+			if (c == String.class)
+				return STRING;
+			if (aType.isNumber() || aType.isBoolean())
+				return SIMPLE;
+			if (aType.isBean() && ! aType.hasToObjectMapMethod())
+				return BEAN;
+			return DYNAMIC;
+		}
+	}
+}
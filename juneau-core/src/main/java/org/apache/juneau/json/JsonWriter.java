@@ -175,6 +175,30 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Renders the specified attribute name exactly as {@link #attr(String)} would write it with the settings of this writer.
+	 *
+	 * @param s The attribute name.
+	 * @return The rendered attribute name.
+	 * @throws IOException Should never happen.
+	 */
+	String renderAttr(String s) throws IOException {
+		StringWriter sw = new StringWriter();
+		new JsonWriter(sw, false, false, escapeSolidus, quoteChar, laxMode, trimStrings, null, null).attr(s);
+		return sw.toString();
+	}
+
+	/**
+	 * Returns a key identifying the settings of this writer that affect how attribute names are rendered.
+	 *
+	 * @return A number between <code>0</code> and <code>15</code>, or <code>-1</code> if an unusual quote character is used.
+	 */
+	int getSettingsKey() {
+		if (quoteChar != '"' && quoteChar != '\'')
+			return -1;
+		return (laxMode ? 1 : 0) | (escapeSolidus ? 2 : 0) | (trimStrings ? 4 : 0) | (quoteChar == '\'' ? 8 : 0);
+	}
+
 	//--------------------------------------------------------------------------------
 	// Overridden methods
 	//--------------------------------------------------------------------------------
@@ -245,6 +269,12 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public JsonWriter append(char[] text) throws IOException {
+		super.append(text);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public JsonWriter appendIf(boolean b, String text) throws IOException {
 		super.appendIf(b, text);
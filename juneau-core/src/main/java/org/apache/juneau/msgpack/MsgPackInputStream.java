@@ -17,6 +17,7 @@ import static org.apache.juneau.msgpack.DataType.*;
 import java.io.*;
 
 import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
 
 /**
  * Specialized input stream for parsing MessagePack streams.
@@ -28,6 +29,9 @@ import org.apache.juneau.internal.*;
 public final class MsgPackInputStream extends InputStream {
 
 	private final InputStream is;
+	private final ParserSession session;
+	private byte[] sbuff;  // Reusable buffers for short strings.
+	private char[] cbuff;
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
@@ -59,7 +63,17 @@ public final class MsgPackInputStream extends InputStream {
 	 * @param is The input stream being wrapped.
 	 */
 	protected MsgPackInputStream(InputStream is) {
+		this(is, null);
+	}
+
+	/**
+	 * Constructor.
+	 * @param is The input stream being wrapped.
+	 * @param session The parser session used to create strings.  Can be <jk>null</jk>.
+	 */
+	protected MsgPackInputStream(InputStream is, ParserSession session) {
 		this.is = is;
+		this.session = session;
 	}
 
 	@Override /* InputStream */
@@ -394,7 +408,30 @@ public final class MsgPackInputStream extends InputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), IOUtils.UTF8);
+		if (session == null)
+			return new String(readBinary(), IOUtils.UTF8);
+		if (session.getSymbolTable() == null || length > SymbolTable.MAX_LENGTH)
+			return session.intern(new String(readBinary(), IOUtils.UTF8));
+
+		// Short strings are read into reusable buffers so that repeated ASCII strings don't create any objects.
+		int len = (int)length;
+		if (sbuff == null) {
+			sbuff = new byte[SymbolTable.MAX_LENGTH];
+			cbuff = new char[SymbolTable.MAX_LENGTH];
+		}
+		for (int i = 0; i < len;) {
+			int n = is.read(sbuff, i, len - i);
+			if (n == -1)
+				throw new EOFException();
+			i += n;
+		}
+		for (int i = 0; i < len; i++) {
+			byte b = sbuff[i];
+			if (b < 0)
+				return session.intern(new String(sbuff, 0, len, IOUtils.UTF8));
+			cbuff[i] = (char)b;
+		}
+		return session.intern(cbuff, 0, len);
 	}
 
 	/**
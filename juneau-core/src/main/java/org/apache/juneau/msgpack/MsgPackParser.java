@@ -81,12 +81,12 @@ public final class MsgPackParser extends InputStreamParser {
 			else if (dt == BIN)
 				o = is.readBinary();
 			else if (dt == ARRAY && sType.isObject()) {
-				ObjectList ol = new ObjectList(bc);
+				ObjectList ol = session.newObjectList();
 				for (int i = 0; i < length; i++)
 					ol.add(parseAnything(session, object(), is, outer, pMeta));
 				o = ol;
 			} else if (dt == MAP && sType.isObject()) {
-				ObjectMap om = new ObjectMap(bc);
+				ObjectMap om = session.newObjectMap();
 				for (int i = 0; i < length; i++)
 					om.put(parseAnything(session, string(), is, outer, pMeta), parseAnything(session, object(), is, om, pMeta));
 				o = bd.cast(om);
@@ -98,7 +98,7 @@ public final class MsgPackParser extends InputStreamParser {
 				o = bc.convertToType(o, sType);
 			} else if (sType.isMap()) {
 				if (dt == MAP) {
-					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(bc));
+					Map m = session.newMap(sType, outer);
 					for (int i = 0; i < length; i++) {
 						Object key = parseAnything(session, sType.getKeyType(), is, outer, pMeta);
 						ClassMeta<?> vt = sType.getValueType();
@@ -148,7 +148,7 @@ public final class MsgPackParser extends InputStreamParser {
 						m.put(parseAnything(session, string(), is, outer, pMeta), parseAnything(session, object(), is, m, pMeta));
 					o = bd.cast(m);
 				} else if (dt == ARRAY) {
-					Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : new ObjectList(bc));
+					Collection l = session.newCollection(sType, outer);
 					for (int i = 0; i < length; i++)
 						l.add(parseAnything(session, sType.getElementType(), is, l, pMeta));
 					o = l;
@@ -191,6 +191,46 @@ public final class MsgPackParser extends InputStreamParser {
 		return (T)o;
 	}
 
+	/*
+	 * Reads the array header, then parses one element per call to next().
+	 */
+	private class MsgPackArrayIterator<E> extends ParserIterator<E> {
+
+		private final MsgPackParserSession session;
+		private final MsgPackInputStream is;
+		private final ClassMeta<E> elementType;
+		private int remaining = -1;
+
+		MsgPackArrayIterator(MsgPackParserSession session, MsgPackInputStream is, ClassMeta<E> elementType) {
+			super(session);
+			this.session = session;
+			this.is = is;
+			this.elementType = elementType;
+		}
+
+		@Override /* ParserIterator */
+		protected boolean hasMore() throws Exception {
+			if (is == null)
+				return false;
+			if (remaining == -1) {
+				DataType dt = is.readDataType();
+				if (dt == DataType.NULL)
+					remaining = 0;
+				else if (dt == ARRAY)
+					remaining = (int)is.readLength();
+				else
+					throw new ParseException(session, "Invalid data type {0} encountered at beginning of array.", dt);
+			}
+			return remaining > 0;
+		}
+
+		@Override /* ParserIterator */
+		protected E parseNext() throws Exception {
+			remaining--;
+			return parseAnything(session, elementType, is, session.getOuter(), null);
+		}
+	}
+
 	//--------------------------------------------------------------------------------
 	// Overridden methods
 	//--------------------------------------------------------------------------------
@@ -209,6 +249,12 @@ public final class MsgPackParser extends InputStreamParser {
 		return o;
 	}
 
+	@Override /* Parser */
+	protected <E> ParserIterator<E> doParseIterator(ParserSession session, ClassMeta<E> elementType) throws Exception {
+		MsgPackParserSession s = (MsgPackParserSession)session;
+		return new MsgPackArrayIterator<E>(s, s.getInputStream(), s.getBeanContext().normalizeClassMeta(elementType));
+	}
+
 	@Override /* Parser */
 	public MsgPackParser setProperty(String property, Object value) throws LockedException {
 		super.setProperty(property, value);
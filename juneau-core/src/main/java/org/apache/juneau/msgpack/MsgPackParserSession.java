@@ -55,8 +55,12 @@ public final class MsgPackParserSession extends ParserSession {
 
 	@Override /* ParserSession */
 	public MsgPackInputStream getInputStream() throws ParseException {
-		if (inputStream == null)
-			inputStream = new MsgPackInputStream(super.getInputStream());
+		if (inputStream == null) {
+			InputStream is = super.getInputStream();
+			if (is == null)
+				return null;
+			inputStream = new MsgPackInputStream(is, this);
+		}
 		return inputStream;
 	}
 
@@ -481,6 +481,61 @@ public abstract class Parser extends CoreApi {
 		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
 	}
 
+	/**
+	 * Returns an iterator that parses the elements of an array input one at a time as they're requested.
+	 * <p>
+	 * 	Useful for processing arrays that are too large to be parsed into a collection.
+	 * 	The input is closed when the iterator is exhausted or closed.
+	 *
+	 * <h6 class='topic'>Example:</h6>
+	 * <p class='bcode'>
+	 * 	ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(reader, MyBean.<jk>class</jk>);
+	 * 	<jk>try</jk> {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			process(i.next());
+	 * 	} <jk>finally</jk> {
+	 * 		i.close();
+	 * 	}
+	 * </p>
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements, or <jk>null</jk> to default to whatever is being parsed.
+	 * @return A new iterator.
+	 * @throws ParseException If the start of the array could not be parsed.
+	 */
+	@SuppressWarnings("unchecked")
+	public final <E> ParserIterator<E> parseIterator(Object input, Class<E> elementType) throws ParseException {
+		ParserSession session = createSession(input);
+		try {
+			return doParseIterator(session, getBeanContext().getClassMeta(elementType == null ? (Class<E>)Object.class : elementType));
+		} catch (ParseException e) {
+			session.close();
+			throw e;
+		} catch (Exception e) {
+			session.close();
+			throw new ParseException(session, e);
+		}
+	}
+
+	/**
+	 * Implementation method.
+	 * <p>
+	 * 	Default implementation parses the entire input into a list and returns an iterator over it.
+	 * 	Subclasses should override this method to parse elements lazily.
+	 *
+	 * @param <E> The element class type.
+	 * @param session The runtime session object returned by {@link #createSession(Object, ObjectMap, Method, Object)}.
+	 * @param elementType The class type of the elements.
+	 * @return A new iterator.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	protected <E> ParserIterator<E> doParseIterator(ParserSession session, ClassMeta<E> elementType) throws Exception {
+		ClassMeta<List> cm = session.getBeanContext().getCollectionClassMeta(List.class, elementType);
+		return ParserIterator.create(session, (List<E>)doParse(session, cm));
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -144,9 +144,49 @@ public class ParserContext extends Context {
 	 */
 	public static final String PARSER_fileCharset = "Parser.fileCharset";
 
+	/**
+	 * <b>Configuration property:</b>  Symbol table size.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Parser.symbolTableSize"</js>
+	 * 	<li><b>Data type:</b> <code>Integer</code>
+	 * 	<li><b>Default:</b> <code>0</code>
+	 * </ul>
+	 * <p>
+	 * The number of slots in a {@link SymbolTable} used to deduplicate map keys and short string values
+	 * 	(up to {@link SymbolTable#MAX_LENGTH} characters) in parsed output.
+	 * <p>
+	 * The table is shared by all sessions of parsers with the same configuration.
+	 * Useful when parsing large documents or many documents that repeat the same small set of strings, since those
+	 * 	strings are then created and retained once instead of once per occurrence.
+	 * <p>
+	 * <code>0</code> disables the symbol table.
+	 * Cannot be overridden per session.
+	 */
+	public static final String PARSER_symbolTableSize = "Parser.symbolTableSize";
+
+	/**
+	 * <b>Configuration property:</b>  Compact collections.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Parser.compactCollections"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * </ul>
+	 * <p>
+	 * If <jk>true</jk>, untyped maps and lists (i.e. when parsing into <code>Object</code>, {@link ObjectMap},
+	 * 	{@link ObjectList}, <code>Map&lt;String,?&gt;</code> or collection interfaces) are created as
+	 * 	{@link CompactObjectMap} and {@link CompactObjectList} instances instead.
+	 * <p>
+	 * These are array-backed and store numbers as primitives, so that large parsed documents take up a fraction of
+	 * 	the heap of the equivalent <code>LinkedHashMap</code> and <code>LinkedList</code> based objects.
+	 */
+	public static final String PARSER_compactCollections = "Parser.compactCollections";
 
-	final boolean debug, trimStrings, strict;
+
+	final boolean debug, trimStrings, strict, compactCollections;
 	final String inputStreamCharset, fileCharset;
+	final SymbolTable symbolTable;
 
 	/**
 	 * Constructor.
@@ -158,7 +198,19 @@ public class ParserContext extends Context {
 		this.debug = cf.getProperty(PARSER_debug, boolean.class, false);
 		this.trimStrings = cf.getProperty(PARSER_trimStrings, boolean.class, false);
 		this.strict = cf.getProperty(PARSER_strict, boolean.class, false);
+		this.compactCollections = cf.getProperty(PARSER_compactCollections, boolean.class, false);
 		this.inputStreamCharset = cf.getProperty(PARSER_inputStreamCharset, String.class, "UTF-8");
 		this.fileCharset = cf.getProperty(PARSER_fileCharset, String.class, "default");
+		int symbolTableSize = cf.getProperty(PARSER_symbolTableSize, int.class, 0);
+		this.symbolTable = (symbolTableSize > 0 ? new SymbolTable(symbolTableSize) : null);
+	}
+
+	/**
+	 * Returns the symbol table shared by sessions of this context.
+	 *
+	 * @return The symbol table, or <jk>null</jk> if {@link #PARSER_symbolTableSize} is not set.
+	 */
+	public SymbolTable getSymbolTable() {
+		return symbolTable;
 	}
 }
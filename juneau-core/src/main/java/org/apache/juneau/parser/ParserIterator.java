@@ -0,0 +1,202 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Iterator over the elements of an array that parses each element only when it's requested.
+ * <p>
+ * 	Returned by {@link Parser#parseIterator(Object, Class)}.
+ * 	Only the current element is kept in memory, so arrays that are too large to parse into a collection can be processed.
+ * <p>
+ * 	The iterator owns its input.
+ * 	It's closed automatically once the last element has been returned or an error occurs,
+ * 	and must be closed by the caller if iteration is stopped early.
+ * 	If the end of the array was reached, the remainder of the input is read before it's closed so that inputs such as
+ * 	HTTP responses see their end and can be reused.
+ * <p>
+ * 	Since {@link Iterator} methods can't throw checked exceptions, parse errors are thrown from {@link #hasNext()} and
+ * 	{@link #next()} as {@link FormattedRuntimeException FormattedRuntimeExceptions} whose cause is the {@link ParseException}.
+ *
+ * @param <E> The element type.
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public abstract class ParserIterator<E> implements Iterator<E>, Closeable {
+
+	private final ParserSession session;
+	private final Object input;
+	private boolean peeked, hasNext, exhausted, closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The parser session.
+	 * 	The session and its input (if it's a {@link Closeable}) are closed when this iterator is closed.
+	 */
+	protected ParserIterator(ParserSession session) {
+		this.session = session;
+		this.input = session.getInput();
+	}
+
+	/**
+	 * Returns an iterator over the elements of an already-parsed collection.
+	 * <p>
+	 * 	Used by parsers that can't parse arrays lazily.
+	 *
+	 * @param <E> The element type.
+	 * @param session The parser session.
+	 * @param c The parsed elements.
+	 * @return A new iterator.
+	 */
+	protected static <E> ParserIterator<E> create(ParserSession session, Collection<E> c) {
+		final Iterator<E> i = (c == null ? Collections.<E>emptyList().iterator() : c.iterator());
+		return new ParserIterator<E>(session) {
+			@Override /* ParserIterator */
+			protected boolean hasMore() {
+				return i.hasNext();
+			}
+			@Override /* ParserIterator */
+			protected E parseNext() {
+				return i.next();
+			}
+		};
+	}
+
+	/**
+	 * Positions the input at the start of the next element.
+	 *
+	 * @return <jk>true</jk> if there is another element, or <jk>false</jk> if the end of the array was reached.
+	 * @throws Exception If the input contains a syntax error or is malformed.
+	 */
+	protected abstract boolean hasMore() throws Exception;
+
+	/**
+	 * Parses the element at the current position.
+	 *
+	 * @return The parsed element.
+	 * @throws Exception If the input contains a syntax error or is malformed.
+	 */
+	protected abstract E parseNext() throws Exception;
+
+	/**
+	 * Returns the parser session of this iterator.
+	 *
+	 * @return The parser session of this iterator.
+	 */
+	protected ParserSession getSession() {
+		return session;
+	}
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (! peeked) {
+			if (closed)
+				return false;
+			try {
+				hasNext = hasMore();
+			} catch (Exception e) {
+				throw fail(e);
+			}
+			peeked = true;
+			if (! hasNext) {
+				exhausted = true;
+				closeQuietly();
+			}
+		}
+		return hasNext;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		peeked = false;
+		try {
+			return parseNext();
+		} catch (Exception e) {
+			throw fail(e);
+		}
+	}
+
+	@Override /* Iterator */
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Closes the parser session and the input.
+	 * <p>
+	 * 	Can be called multiple times.
+	 *
+	 * @throws IOException If the input could not be closed.
+	 */
+	@Override /* Closeable */
+	public void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		hasNext = false;
+		peeked = true;
+		try {
+			if (exhausted)
+				drain();
+			session.close();
+		} catch (ParseException e) {
+			throw new IOException(e);
+		} finally {
+			if (input instanceof Closeable)
+				((Closeable)input).close();
+		}
+	}
+
+	/*
+	 * Reads the input to the end.
+	 * Typically only trailing whitespace or nothing at all is left after the end of the array.
+	 * Errors are ignored since the input is about to be closed anyway.
+	 */
+	private void drain() {
+		try {
+			if (input instanceof InputStream) {
+				InputStream is = (InputStream)input;
+				byte[] b = new byte[256];
+				while (is.read(b) != -1) {}
+			} else if (input instanceof Reader) {
+				Reader r = (Reader)input;
+				char[] c = new char[256];
+				while (r.read(c) != -1) {}
+			}
+		} catch (IOException e) {
+			// Ignore.
+		}
+	}
+
+	private void closeQuietly() {
+		try {
+			close();
+		} catch (IOException e) {
+			// Ignore.
+		}
+	}
+
+	private RuntimeException fail(Exception e) {
+		closeQuietly();
+		if (e instanceof RuntimeException)
+			return (RuntimeException)e;
+		ParseException pe = (e instanceof ParseException ? (ParseException)e : new ParseException(session, e));
+		return new FormattedRuntimeException(pe, pe.getLocalizedMessage());
+	}
+}
@@ -33,13 +33,14 @@ public class ParserReader extends Reader {
 	/** Wrapped reader */
 	protected Reader r;
 
-	private char[] buff;       // Internal character buffer
+	private char[] buff;       // Internal character buffer (from BufferPool.DEFAULT)
 	private int line = 1;      // Current line number
 	private int column;        // Current column number
 	private int iCurrent = 0;  // Current pointer into character buffer
 	private int iMark = -1;    // Mark position in buffer
 	private int iEnd = 0;      // The last good character position in the buffer
 	private boolean endReached, holesExist;
+	private ParserSession session;  // Used to create strings.
 
 	ParserReader() {}
 
@@ -50,10 +51,10 @@ public class ParserReader extends Reader {
 	 */
 	public ParserReader(CharSequence in) {
 		this.r = new CharSequenceReader(in);
-		if (in == null)
+		if (in == null || in.length() == 0)
 			this.buff = new char[0];
 		else
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = BufferPool.DEFAULT.getChars(in.length() < 1024 ? in.length() : 1024);
 	}
 
 	/**
@@ -66,7 +67,7 @@ public class ParserReader extends Reader {
 			this.r = ((ParserReader)r).r;
 		else
 			this.r = r;
-		this.buff = new char[1024];
+		this.buff = BufferPool.DEFAULT.getChars(1024);
 	}
 
 	/**
@@ -253,12 +254,19 @@ public class ParserReader extends Reader {
 
 	/**
 	 * Close this reader and the underlying reader.
+	 * <p>
+	 * 	The internal buffer is returned to {@link BufferPool#DEFAULT}.
 	 *
 	 * @throws IOException If a problem occurred trying to read from the reader.
 	 */
 	@Override /* Reader */
 	public void close() throws IOException {
 		r.close();
+		BufferPool.DEFAULT.release(buff);
+		buff = new char[0];
+		iCurrent = iEnd = 0;
+		iMark = -1;
+		endReached = true;
 	}
 
 	/**
@@ -300,11 +308,46 @@ public class ParserReader extends Reader {
 			holesExist = false;
 		}
 		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart - offset;
-		String s = new String(buff, start, len);
+		String s = (session == null ? new String(buff, start, len) : session.intern(buff, start, len));
 		iMark = -1;
 		return s;
 	}
 
+	/**
+	 * Sets the session used to create strings returned by the <code>getMarked()</code> methods.
+	 * <p>
+	 * Allows strings to be deduplicated through the session's symbol table.
+	 *
+	 * @param session The parser session.  Can be <jk>null</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public final ParserReader setSession(ParserSession session) {
+		this.session = session;
+		return this;
+	}
+
+	/**
+	 * Same as {@link #getMarked(int, int)} except returns the matching string in the specified set if there is one
+	 * 	instead of creating a new string.
+	 * <p>
+	 * Used for matching attribute names against known bean property names.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @param set The set of strings to match against.  Can be <jk>null</jk>.
+	 * @return The contents of the reusable character buffer as a string.
+	 */
+	public final String getMarked(int offsetStart, int offsetEnd, CharArrayStringSet set) {
+		if (set != null && ! holesExist) {
+			String s = set.find(buff, iMark + offsetStart, iCurrent - iMark + offsetEnd - offsetStart);
+			if (s != null) {
+				iMark = -1;
+				return s;
+			}
+		}
+		return getMarked(offsetStart, offsetEnd);
+	}
+
 	/**
 	 * Trims off the last character in the marking buffer.
 	 * Useful for removing escape characters from sequences.
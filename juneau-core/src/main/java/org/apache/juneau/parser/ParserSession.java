@@ -33,7 +33,7 @@ public class ParserSession extends Session {
 
 	private static JuneauLogger logger = JuneauLogger.getLogger(ParserSession.class);
 
-	private final boolean debug, trimStrings, strict;
+	private final boolean debug, trimStrings, strict, compactCollections;
 	private final String inputStreamCharset, fileCharset;
 	private boolean closed;
 	private final BeanContext beanContext;
@@ -46,6 +46,8 @@ public class ParserSession extends Session {
 	private InputStream inputStream;
 	private Reader reader, noCloseReader;
 	private BeanPropertyMeta currentProperty;
+	private final SymbolTable symbolTable;
+	private long symbolHits, symbolMisses;
 	private ClassMeta<?> currentClass;
 
 	/**
@@ -82,12 +84,14 @@ public class ParserSession extends Session {
 			debug = ctx.debug;
 			trimStrings = ctx.trimStrings;
 			strict = ctx.strict;
+			compactCollections = ctx.compactCollections;
 			inputStreamCharset = ctx.inputStreamCharset;
 			fileCharset = ctx.fileCharset;
 		} else {
 			debug = op.getBoolean(PARSER_debug, ctx.debug);
 			trimStrings = op.getBoolean(PARSER_trimStrings, ctx.trimStrings);
 			strict = op.getBoolean(PARSER_strict, ctx.strict);
+			compactCollections = op.getBoolean(PARSER_compactCollections, ctx.compactCollections);
 			inputStreamCharset = op.getString(PARSER_inputStreamCharset, ctx.inputStreamCharset);
 			fileCharset = op.getString(PARSER_fileCharset, ctx.fileCharset);
 		}
@@ -96,6 +100,7 @@ public class ParserSession extends Session {
 		this.properties = op;
 		this.javaMethod = javaMethod;
 		this.outer = outer;
+		this.symbolTable = ctx.symbolTable;
 	}
 
 	/**
@@ -137,7 +142,7 @@ public class ParserSession extends Session {
 			return (Reader)input;
 		if (input instanceof CharSequence) {
 			if (reader == null)
-				reader = new ParserReader((CharSequence)input);
+				reader = new ParserReader((CharSequence)input).setSession(this);
 			return reader;
 		}
 		if (input instanceof InputStream || input instanceof byte[]) {
@@ -316,6 +321,129 @@ public class ParserSession extends Session {
 		return s;
 	}
 
+	/**
+	 * Returns the {@link ParserContext#PARSER_compactCollections} setting value for this session.
+	 *
+	 * @return The {@link ParserContext#PARSER_compactCollections} setting value for this session.
+	 */
+	public final boolean isCompactCollections() {
+		return compactCollections;
+	}
+
+	/**
+	 * Creates a new map for holding untyped <code>{...}</code> content.
+	 *
+	 * @return A new {@link CompactObjectMap} if {@link ParserContext#PARSER_compactCollections} is enabled,
+	 * 	or a new {@link ObjectMap} otherwise.
+	 */
+	public final ObjectMap newObjectMap() {
+		return (compactCollections ? new CompactObjectMap(beanContext) : new ObjectMap(beanContext));
+	}
+
+	/**
+	 * Creates a new list for holding untyped <code>[...]</code> content.
+	 *
+	 * @return A new {@link CompactObjectList} if {@link ParserContext#PARSER_compactCollections} is enabled,
+	 * 	or a new {@link ObjectList} otherwise.
+	 */
+	public final ObjectList newObjectList() {
+		return (compactCollections ? new CompactObjectList(beanContext) : new ObjectList(beanContext));
+	}
+
+	/**
+	 * Creates a new map of the specified type.
+	 * <p>
+	 * If {@link ParserContext#PARSER_compactCollections} is enabled, a {@link CompactObjectMap} is created when the type
+	 * 	is {@link ObjectMap} or a map interface with <code>String</code> keys.
+	 *
+	 * @param type The map type.
+	 * @param outer The outer object for instantiating top-level non-static inner classes.
+	 * @return A new map.
+	 * @throws Exception If the map could not be instantiated.
+	 */
+	@SuppressWarnings("rawtypes")
+	public final Map newMap(ClassMeta<?> type, Object outer) throws Exception {
+		boolean canCreate = type.canCreateNewInstance(outer);
+		if (compactCollections && (type.getInnerClass() == ObjectMap.class || (! canCreate && type.getKeyType().isString())))
+			return newObjectMap();
+		return (canCreate ? (Map)type.newInstance(outer) : new ObjectMap(beanContext));
+	}
+
+	/**
+	 * Creates a new collection of the specified type.
+	 * <p>
+	 * If {@link ParserContext#PARSER_compactCollections} is enabled, a {@link CompactObjectList} is created when the
+	 * 	type is {@link ObjectList} or a collection interface.
+	 *
+	 * @param type The collection type.
+	 * @param outer The outer object for instantiating top-level non-static inner classes.
+	 * @return A new collection.
+	 * @throws Exception If the collection could not be instantiated.
+	 */
+	@SuppressWarnings("rawtypes")
+	public final Collection newCollection(ClassMeta<?> type, Object outer) throws Exception {
+		boolean canCreate = type.canCreateNewInstance(outer);
+		if (compactCollections && (type.getInnerClass() == ObjectList.class || ! canCreate))
+			return newObjectList();
+		return (canCreate ? (Collection)type.newInstance(outer) : new ObjectList(beanContext));
+	}
+
+	/**
+	 * Creates a string containing the specified characters.
+	 * <p>
+	 * If {@link ParserContext#PARSER_symbolTableSize} is set, short strings are looked up in the symbol table
+	 * 	first, and a cached instance is returned instead of a new string if found.
+	 *
+	 * @param c The buffer containing the characters.
+	 * @param off The start position in the buffer.
+	 * @param len The number of characters.
+	 * @return The string.
+	 */
+	public final String intern(char[] c, int off, int len) {
+		if (symbolTable == null || len > SymbolTable.MAX_LENGTH)
+			return new String(c, off, len);
+		String s = symbolTable.find(c, off, len);
+		if (s != null) {
+			symbolHits++;
+			return s;
+		}
+		symbolMisses++;
+		s = new String(c, off, len);
+		symbolTable.add(s);
+		return s;
+	}
+
+	/**
+	 * Same as {@link #intern(char[], int, int)} but for strings that have already been created.
+	 * <p>
+	 * This doesn't avoid creating the string, but allows duplicates to be garbage collected.
+	 *
+	 * @param s The string.  Can be <jk>null</jk>.
+	 * @return The cached instance of the string if {@link ParserContext#PARSER_symbolTableSize} is set and the string is
+	 * 	in the symbol table, or the same string otherwise.
+	 */
+	public final String intern(String s) {
+		if (symbolTable == null || s == null || s.length() > SymbolTable.MAX_LENGTH)
+			return s;
+		String s2 = symbolTable.find(s);
+		if (s2 != null) {
+			symbolHits++;
+			return s2;
+		}
+		symbolMisses++;
+		symbolTable.add(s);
+		return s;
+	}
+
+	/**
+	 * Returns the symbol table used by this session.
+	 *
+	 * @return The symbol table, or <jk>null</jk> if {@link ParserContext#PARSER_symbolTableSize} is not set.
+	 */
+	public final SymbolTable getSymbolTable() {
+		return symbolTable;
+	}
+
 	/**
 	 * Perform cleanup on this context object if necessary.
 	 *
@@ -334,6 +462,9 @@ public class ParserSession extends Session {
 			throw new ParseException(e);
 		}
 
+		if (symbolTable != null)
+			symbolTable.addCounts(symbolHits, symbolMisses);
+
 		if (debug && warnings.size() > 0)
 			throw new ParseException("Warnings occurred during parsing: \n" + StringUtils.join(warnings, "\n"));
 		closed = true;
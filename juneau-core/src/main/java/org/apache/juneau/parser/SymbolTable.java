@@ -0,0 +1,145 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A bounded cache of canonical strings used by parsers to deduplicate map keys and short string values.
+ * <p>
+ * 	Enabled through the {@link ParserContext#PARSER_symbolTableSize} property, in which case a single table is shared
+ * 	by all sessions created from the same parser context.
+ * 	Parsers create strings through {@link ParserSession#intern(char[], int, int)}, which returns the cached instance
+ * 	when the characters match one, so that input repeating the same small vocabulary (e.g. keys, status codes) doesn't
+ * 	allocate and retain a new string for every occurrence.
+ * <p>
+ * 	The table is direct-mapped:  each string hashes to a single slot, and adding a string replaces whatever was
+ * 	in that slot.  Only strings up to {@link #MAX_LENGTH} characters are stored.
+ * <p>
+ * 	The table is lock-free.  Slots are read and written without synchronization, which is safe because strings are
+ * 	immutable.  At worst, a concurrent update causes a lookup to miss.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class SymbolTable {
+
+	/** The maximum length of strings stored in symbol tables. */
+	public static final int MAX_LENGTH = 32;
+
+	private final String[] strings;
+	private final int mask;
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param size The number of slots in the table.  Rounded up to a power of two.
+	 */
+	public SymbolTable(int size) {
+		int n = 1;
+		while (n < size)
+			n <<= 1;
+		this.strings = new String[n];
+		this.mask = n-1;
+	}
+
+	/**
+	 * Returns the cached string matching the specified characters.
+	 *
+	 * @param c The buffer containing the characters.
+	 * @param off The start position in the buffer.
+	 * @param len The number of characters.
+	 * @return The cached string, or <jk>null</jk> if the characters aren't in this table.
+	 */
+	public String find(char[] c, int off, int len) {
+		int h = 0;
+		for (int i = off; i < off+len; i++)
+			h = 31*h + c[i];
+		String s = strings[index(h)];
+		if (s == null || s.length() != len)
+			return null;
+		for (int i = 0; i < len; i++)
+			if (s.charAt(i) != c[off+i])
+				return null;
+		return s;
+	}
+
+	/**
+	 * Returns the cached string equal to the specified string.
+	 *
+	 * @param s The string to search for.
+	 * @return The cached string, or <jk>null</jk> if the string isn't in this table.
+	 */
+	public String find(String s) {
+		String s2 = strings[index(s.hashCode())];
+		return (s.equals(s2) ? s2 : null);
+	}
+
+	/**
+	 * Adds the specified string to this table, replacing any string that hashes to the same slot.
+	 *
+	 * @param s The string to add.  Strings longer than {@link #MAX_LENGTH} are ignored.
+	 */
+	public void add(String s) {
+		if (s.length() <= MAX_LENGTH)
+			strings[index(s.hashCode())] = s;
+	}
+
+	/**
+	 * Returns the number of lookups that returned a cached string.
+	 * <p>
+	 * Counts are added when parser sessions are closed.
+	 *
+	 * @return The number of hits.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of lookups that created a new string.
+	 * <p>
+	 * Counts are added when parser sessions are closed.
+	 *
+	 * @return The number of misses.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the fraction of lookups that returned a cached string.
+	 *
+	 * @return The hit rate between <code>0</code> and <code>1</code>, or <code>0</code> if there were no lookups.
+	 */
+	public double getHitRate() {
+		long h = hits.get(), t = h + misses.get();
+		return (t == 0 ? 0 : (double)h / t);
+	}
+
+	void addCounts(long hitCount, long missCount) {
+		if (hitCount > 0)
+			hits.addAndGet(hitCount);
+		if (missCount > 0)
+			misses.addAndGet(missCount);
+	}
+
+	private int index(int h) {
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "SymbolTable{size=" + strings.length + ",hits=" + hits + ",misses=" + misses + "}";
+	}
+}
@@ -266,9 +266,10 @@ public abstract class Serializer extends CoreApi {
 	 * 	Can be <jk>null</jk>.
 	 * @return The HTTP headers to set on HTTP requests.
 	 * 	Can be <jk>null</jk>.
+	 * 	The default implementation returns <jk>null</jk> so that nothing is allocated per request for serializers without headers.
 	 */
 	public ObjectMap getResponseHeaders(ObjectMap properties) {
-		return new ObjectMap(getBeanContext());
+		return null;
 	}
 
 	/**
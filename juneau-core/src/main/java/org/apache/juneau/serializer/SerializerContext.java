@@ -118,6 +118,12 @@ import org.apache.juneau.internal.*;
  * 		<td><code>Boolean</code></td>
  * 		<td><jk>false</jk></td>
  * 	</tr>
+ * 	<tr>
+ * 		<td>{@link #SERIALIZER_parallelThreshold}</td>
+ * 		<td>Minimum collection size for parallel serialization.</td>
+ * 		<td><code>Integer</code></td>
+ * 		<td><code>0</code></td>
+ * 	</tr>
  * </table>
  *
  *
@@ -420,8 +426,28 @@ public class SerializerContext extends Context {
 	 */
 	public static final String SERIALIZER_sortMaps = "Serializer.sortMaps";
 
+	/**
+	 * <b>Configuration property:</b>  Minimum collection size for parallel serialization.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"Serializer.parallelThreshold"</js>
+	 * 	<li><b>Data type:</b> <code>Integer</code>
+	 * 	<li><b>Default:</b> <code>0</code>
+	 * </ul>
+	 * <p>
+	 * If greater than zero, collections and arrays with at least this many entries are split into consecutive chunks
+	 * 	that are serialized concurrently into separate buffers and then written out in their original order.
+	 * The chunks are run on a shared pool of daemon threads sized to the number of available processors.
+	 * <p>
+	 * Only supported by the JSON, XML, UON and URL-encoding serializers.
+	 * Ignored when {@link #SERIALIZER_detectRecursions} or {@link #SERIALIZER_debug} is enabled, since those
+	 * 	rely on the state of a single serialization stack.
+	 * Entries of large collections should be independent of each other (e.g. no shared mutable state in getters).
+	 */
+	public static final String SERIALIZER_parallelThreshold = "Serializer.parallelThreshold";
+
 
-	final int maxDepth, initialDepth;
+	final int maxDepth, initialDepth, parallelThreshold;
 	final boolean
 		debug,
 		detectRecursions,
@@ -457,6 +483,7 @@ public class SerializerContext extends Context {
 		trimStrings = cf.getProperty(SERIALIZER_trimStrings, boolean.class, false);
 		sortCollections = cf.getProperty(SERIALIZER_sortCollections, boolean.class, false);
 		sortMaps = cf.getProperty(SERIALIZER_sortMaps, boolean.class, false);
+		parallelThreshold = cf.getProperty(SERIALIZER_parallelThreshold, int.class, 0);
 		quoteChar = cf.getProperty(SERIALIZER_quoteChar, String.class, "\"").charAt(0);
 		relativeUriBase = resolveRelativeUriBase(cf.getProperty(SERIALIZER_relativeUriBase, String.class, ""));
 		absolutePathUriBase = resolveAbsolutePathUriBase(cf.getProperty(SERIALIZER_absolutePathUriBase, String.class, ""));
@@ -43,7 +43,7 @@ public class SerializerSession extends Session {
 
 	private static JuneauLogger logger = JuneauLogger.getLogger(SerializerSession.class);
 
-	private final int maxDepth, initialDepth;
+	private final int maxDepth, initialDepth, parallelThreshold;
 	private final boolean
 		debug,
 		detectRecursions,
@@ -123,6 +123,7 @@ public class SerializerSession extends Session {
 			absolutePathUriBase = ctx.absolutePathUriBase;
 			sortCollections = ctx.sortCollections;
 			sortMaps = ctx.sortMaps;
+			parallelThreshold = ctx.parallelThreshold;
 		} else {
 			overrideProperties = op;
 			maxDepth = op.getInt(SERIALIZER_maxDepth, ctx.maxDepth);
@@ -141,6 +142,7 @@ public class SerializerSession extends Session {
 			absolutePathUriBase = op.getString(SERIALIZER_absolutePathUriBase, ctx.absolutePathUriBase);
 			sortCollections = op.getBoolean(SERIALIZER_sortCollections, ctx.sortMaps);
 			sortMaps = op.getBoolean(SERIALIZER_sortMaps, ctx.sortMaps);
+			parallelThreshold = op.getInt(SERIALIZER_parallelThreshold, ctx.parallelThreshold);
 		}
 
 		this.indent = initialDepth;
@@ -409,6 +411,26 @@ public class SerializerSession extends Session {
 		return absolutePathUriBase;
 	}
 
+	/**
+	 * Returns the {@link SerializerContext#SERIALIZER_parallelThreshold} setting value for this session.
+	 *
+	 * @return The {@link SerializerContext#SERIALIZER_parallelThreshold} setting value for this session.
+	 */
+	public final int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified collection should be serialized in parallel chunks.
+	 *
+	 * @param c The collection being serialized.
+	 * @return <jk>true</jk> if {@link SerializerContext#SERIALIZER_parallelThreshold} is enabled and reached,
+	 * 	and recursion detection and debug mode are disabled.
+	 */
+	public final boolean isParallel(Collection<?> c) {
+		return parallelThreshold > 0 && c.size() >= parallelThreshold && ! (detectRecursions || debug);
+	}
+
 	/**
 	 * Push the specified object onto the stack.
 	 *
@@ -499,6 +521,31 @@ public class SerializerSession extends Session {
 		warnings.add((warnings.size() + 1) + ": " + msg);
 	}
 
+	/**
+	 * Removes and returns the warnings logged on this session.
+	 * <p>
+	 * Used to move the warnings of the sessions serializing parts of the output into the parent session.
+	 *
+	 * @return The warning messages without their sequence numbers.
+	 */
+	final List<String> removeWarnings() {
+		List<String> l = new ArrayList<String>(warnings.size());
+		for (String w : warnings)
+			l.add(w.substring(w.indexOf(": ") + 2));
+		warnings.clear();
+		return l;
+	}
+
+	/**
+	 * Adds warnings that have already been logged by another session.
+	 *
+	 * @param l The warning messages returned by {@link #removeWarnings()}.
+	 */
+	final void addWarnings(List<String> l) {
+		for (String w : l)
+			warnings.add((warnings.size() + 1) + ": " + w);
+	}
+
 	/**
 	 * Specialized warning when an exception is thrown while executing a bean getter.
 	 *
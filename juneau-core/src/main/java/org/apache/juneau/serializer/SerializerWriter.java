@@ -261,6 +261,19 @@ public class SerializerWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * Writes the specified characters to the writer.
+	 *
+	 * @param text The characters to write.
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerWriter append(char[] text) throws IOException {
+		if (text != null)
+			out.write(text, 0, text.length);
+		return this;
+	}
+
 	/**
 	 * Writes the specified text to the writer if b is true.
 	 *
@@ -12,8 +12,13 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.serializer;
 
+import static org.apache.juneau.serializer.SerializerContext.*;
+
 import java.io.*;
 import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -93,4 +98,115 @@ public abstract class WriterSerializer extends Serializer {
 	public final StringObject toStringObject(Object o) {
 		return new StringObject(this, o);
 	}
+
+
+	//--------------------------------------------------------------------------------
+	// Parallel serialization
+	//--------------------------------------------------------------------------------
+
+	private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+	private static volatile ExecutorService executor;
+
+	/**
+	 * Serializes a part of a collection as directed by {@link WriterSerializer#serializeChunks(SerializerSession, List, ChunkSerializer)}.
+	 */
+	protected static interface ChunkSerializer {
+
+		/**
+		 * Serializes the specified entries.
+		 *
+		 * @param session A new session writing to a buffer, with the same settings and indentation as the parent session.
+		 * @param chunk The consecutive collection entries to serialize.
+		 * @throws Exception If a problem occurred trying to convert the output.
+		 */
+		void serialize(SerializerSession session, List<?> chunk) throws Exception;
+	}
+
+	/**
+	 * Splits the specified list into consecutive chunks and serializes them concurrently.
+	 * <p>
+	 * 	Used when {@link SerializerSession#isParallel(Collection)} returns <jk>true</jk>.
+	 * 	Each chunk gets its own session created through {@link #createSession(Object, ObjectMap, Method)} with the
+	 * 	same override properties, Java method and indentation as the parent session.
+	 * 	Warnings added to the chunk sessions are added to the parent session in chunk order.
+	 * 	Parallel serialization is disabled on the chunk sessions so that chunks never wait on the shared thread pool.
+	 * 	The first chunk is serialized on the calling thread.
+	 *
+	 * @param session The parent session.
+	 * @param l The entries to serialize.
+	 * @param cs The callback that serializes a single chunk.
+	 * @return The serialized chunks, in the same order as the entries.
+	 * @throws Exception If a problem occurred trying to convert the output.
+	 */
+	protected final List<String> serializeChunks(final SerializerSession session, List<?> l, final ChunkSerializer cs) throws Exception {
+		int size = l.size();
+		int chunks = Math.max(1, Math.min(PARALLELISM, size));
+		int chunkSize = (size + chunks - 1) / chunks;
+
+		final ObjectMap properties = new ObjectMap(session.getProperties()).append(SERIALIZER_parallelThreshold, 0);
+		List<Callable<String>> tasks = new ArrayList<Callable<String>>(chunks);
+		final List<List<String>> warnings = new ArrayList<List<String>>(Collections.<List<String>>nCopies(chunks, null));
+		for (int i = 0; i < size; i += chunkSize) {
+			final List<?> chunk = l.subList(i, Math.min(size, i + chunkSize));
+			final int index = tasks.size();
+			tasks.add(new Callable<String>() {
+				@Override /* Callable */
+				public String call() throws Exception {
+					StringWriter w = new StringWriter();
+					SerializerSession s = createSession(w, properties, session.getJavaMethod());
+					s.indent = session.indent;
+					try {
+						cs.serialize(s, chunk);
+					} finally {
+						// Moved to the parent session so that they're reported when the parent session is closed.
+						warnings.set(index, s.removeWarnings());
+						s.close();
+					}
+					return w.toString();
+				}
+			});
+		}
+
+		List<Future<String>> futures = new ArrayList<Future<String>>(tasks.size());
+		for (int i = 1; i < tasks.size(); i++)
+			futures.add(getExecutor().submit(tasks.get(i)));
+
+		List<String> l2 = new ArrayList<String>(tasks.size());
+		try {
+			l2.add(tasks.get(0).call());
+			for (Future<String> f : futures)
+				l2.add(f.get());
+			for (List<String> w : warnings)
+				if (w != null)
+					session.addWarnings(w);
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof Exception)
+				throw (Exception)t;
+			throw (Error)t;
+		} finally {
+			for (Future<String> f : futures)
+				f.cancel(true);
+		}
+		return l2;
+	}
+
+	private static ExecutorService getExecutor() {
+		if (executor == null) {
+			synchronized(WriterSerializer.class) {
+				if (executor == null) {
+					executor = Executors.newFixedThreadPool(PARALLELISM, new ThreadFactory() {
+						private final AtomicInteger count = new AtomicInteger();
+						@Override /* ThreadFactory */
+						public Thread newThread(Runnable r) {
+							Thread t = new Thread(r, "juneau-serializer-" + count.incrementAndGet());
+							t.setDaemon(true);
+							return t;
+						}
+					});
+				}
+			}
+		}
+		return executor;
+	}
 }
@@ -72,7 +72,7 @@ public final class SoapXmlSerializer extends XmlSerializer {
 
 	@Override /* Serializer */
 	public ObjectMap getResponseHeaders(ObjectMap properties) {
-		return super.getResponseHeaders(properties)
+		return new ObjectMap(getBeanContext())
 			.append("SOAPAction", properties.getString(SOAPXML_SOAPAction, "http://www.w3.org/2003/05/soap-envelope"));
 	}
 }
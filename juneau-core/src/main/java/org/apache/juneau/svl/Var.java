@@ -77,6 +77,21 @@ public abstract class Var {
 		return name;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this variable always resolves to the same value for the same argument.
+	 * <p>
+	 * The values of constant vars are computed once when a string is compiled by the {@link VarResolver}
+	 * 	instead of every time the string is resolved.
+	 * Constant vars must not depend on session objects.
+	 * <p>
+	 * The default implementation returns <jk>false</jk>.
+	 *
+	 * @return <jk>true</jk> if this variable always resolves to the same value for the same argument.
+	 */
+	protected boolean isConstant() {
+		return false;
+	}
+
 	/**
 	 * The method called from {@link VarResolver}.
 	 * Can be overridden to intercept the request and do special handling.
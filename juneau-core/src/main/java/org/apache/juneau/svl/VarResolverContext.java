@@ -64,6 +64,10 @@ public class VarResolverContext extends Context {
 
 	private final Map<String,Object> contextObjects;
 
+	// Compiled strings.  Limited in size since strings may come from user input.
+	private final ConcurrentHashMap<String,VarTemplate> templates = new ConcurrentHashMap<String,VarTemplate>();
+	private static final int MAX_TEMPLATES = 1000;
+
 
 	/**
 	 * Constructor.
@@ -109,4 +113,21 @@ public class VarResolverContext extends Context {
 	protected Object getContextObject(String name) {
 		return contextObjects.get(name);
 	}
+
+	/**
+	 * Returns the compiled form of the specified string, compiling and caching it if necessary.
+	 *
+	 * @param s The string to compile.
+	 * @param session The session used to compile the string.
+	 * @return The compiled string.
+	 */
+	VarTemplate getTemplate(String s, VarResolverSession session) {
+		VarTemplate t = templates.get(s);
+		if (t == null) {
+			t = new VarTemplate(s, session);
+			if (templates.size() < MAX_TEMPLATES)
+				templates.putIfAbsent(s, t);
+		}
+		return t;
+	}
 }
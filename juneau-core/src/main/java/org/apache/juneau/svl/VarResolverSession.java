@@ -13,7 +13,6 @@
 package org.apache.juneau.svl;
 
 import static java.text.MessageFormat.*;
-import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
 import java.util.*;
@@ -79,69 +78,7 @@ public class VarResolverSession extends Session {
 		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
 			return s;
 
-		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
-		// This is a common case, so we want an optimized solution that doesn't involve string builders.
-		if (isSimpleVar(s)) {
-			String var = s.substring(1, s.indexOf('{'));
-			String val = s.substring(s.indexOf('{')+1, s.length()-1);
-			Var v = getVar(var);
-			if (v != null) {
-				if (v.streamed) {
-					StringWriter sw = new StringWriter();
-					v.resolveTo(this, sw, val);
-					return sw.toString();
-				}
-				s = v.doResolve(this, val);
-				if (s == null)
-					s = "";
-				return resolve(s);
-			}
-			return s;
-		}
-
-		try {
-			return resolveTo(s, new StringWriter()).toString();
-		} catch (IOException e) {
-			throw new RuntimeException(e); // Never happens.
-		}
-	}
-
-	/**
-	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
-	 * This is a common case, and we can avoid using StringWriters.
-	 */
-	private boolean isSimpleVar(String s) {
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-		int S4 = 4;    // Found }
-
-		int length = s.length();
-		int state = S1;
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (c == '$') {
-					state = S2;
-				} else {
-					return false;
-				}
-			} else if (state == S2) {
-				if (c == '{') {
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
-					return false;
-				}
-			} else if (state == S3) {
-				if (c == '}')
-					state = S4;
-				else if (c == '{' || c == '$')
-					return false;
-			} else if (state == S4) {
-				return false;
-			}
-		}
-		return state == S4;
+		return getTemplate(s).resolve(this);
 	}
 
 	/**
@@ -155,109 +92,18 @@ public class VarResolverSession extends Session {
 	 * @throws IOException
 	 */
 	public Writer resolveTo(String s, Writer out) throws IOException {
-
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-
-		int state = S1;
-		boolean isInEscape = false;
-		boolean hasInternalVar = false;
-		boolean hasInnerEscapes = false;
-		String varType = null;
-		String varVal = null;
-		int x = 0, x2 = 0;
-		int depth = 0;
-		int length = s.length();
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (isInEscape) {
-					if (c == '\\' || c == '$') {
-						out.append(c);
-					} else {
-						out.append('\\').append(c);
-					}
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-				} else if (c == '$') {
-					x = i;
-					x2 = i;
-					state = S2;
-				} else {
-					out.append(c);
-				}
-			} else if (state == S2) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					hasInnerEscapes = true;
-					isInEscape = true;
-				} else if (c == '{') {
-					varType = s.substring(x+1, i);
-					x = i;
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
-					if (hasInnerEscapes)
-						out.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
-					else
-						out.append(s, x, i+1);
-					x = i + 1;
-					state = S1;
-					hasInnerEscapes = false;
-				}
-			} else if (state == S3) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-					hasInnerEscapes = true;
-				} else if (c == '{') {
-					depth++;
-					hasInternalVar = true;
-				} else if (c == '}') {
-					if (depth > 0) {
-						depth--;
-					} else {
-						varVal = s.substring(x+1, i);
-						varVal = (hasInternalVar ? resolve(varVal) : varVal);
-						Var r = getVar(varType);
-						if (r == null) {
-							if (hasInnerEscapes)
-								out.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
-							else
-								out.append(s, x2, i+1);
-							x = i+1;
-						} else {
-							if (r.streamed)
-								r.resolveTo(this, out, varVal);
-							else {
-								String replacement = r.doResolve(this, varVal);
-								if (replacement == null)
-									replacement = "";
-								// If the replacement also contains variables, replace them now.
-								if (replacement.indexOf('$') != -1)
-									replacement = resolve(replacement);
-								out.append(replacement);
-							}
-							x = i+1;
-						}
-						state = 1;
-						hasInnerEscapes = false;
-					}
-				}
-			}
-		}
-		if (isInEscape)
-			out.append('\\');
-		else if (state == S2)
-			out.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
-		else if (state == S3)
-			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
-		return out;
+		return getTemplate(s).resolveTo(this, out);
 	}
 
+	/*
+	 * Returns the compiled form of the specified string.
+	 * Strings are only cached on the context if this class doesn't override getVar(String).
+	 */
+	private VarTemplate getTemplate(String s) {
+		if (getClass() == VarResolverSession.class)
+			return context.getTemplate(s, this);
+		return new VarTemplate(s, this);
+	}
 
 	/**
 	 * Returns the session object with the specified name.
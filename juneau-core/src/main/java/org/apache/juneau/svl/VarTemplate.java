@@ -0,0 +1,302 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A string containing variables parsed into a list of literal chunks and var calls.
+ * <p>
+ * 	Templates are compiled once per {@link VarResolverContext} and cached there, so that strings that are resolved
+ * 	repeatedly (e.g. page titles and descriptions) aren't rescanned character-by-character every time.
+ * <p>
+ * 	Calls to vars whose {@link Var#isConstant()} method returns <jk>true</jk> are resolved at compile time
+ * 	and folded into the literal chunks.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class VarTemplate {
+
+	private final String source;
+	private final Object[] parts;  // String literals and VarCall objects.
+	private final VarCall simpleVar;  // Non-null if the template is of the form "$X{...}" with no embedded vars.
+	private final boolean isSimple;
+
+	/**
+	 * Compiles the specified string.
+	 *
+	 * @param s The string to compile.
+	 * @param session The session used to look up vars and resolve constant vars.
+	 */
+	VarTemplate(String s, VarResolverSession session) {
+		this.source = s;
+		List<Object> l = new ArrayList<Object>();
+		StringBuilder sb = new StringBuilder();
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		String varVal = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						sb.append(c);
+					} else {
+						sb.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					sb.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						sb.append(unEscapeChars(s.substring(x, i+1), new char[]{'\\','{'}));
+					else
+						sb.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						varVal = s.substring(x+1, i);
+						Var r = session.getVar(varType);
+						if (r == null) {
+							if (hasInnerEscapes)
+								sb.append(unEscapeChars(s.substring(x2, i+1), new char[]{'\\','$','{','}'}));
+							else
+								sb.append(s, x2, i+1);
+						} else {
+							VarCall vc = new VarCall(r, varVal, hasInternalVar);
+							String folded = vc.fold(session);
+							if (folded != null) {
+								sb.append(folded);
+							} else {
+								if (sb.length() > 0) {
+									l.add(sb.toString());
+									sb.setLength(0);
+								}
+								l.add(vc);
+							}
+						}
+						x = i+1;
+						state = 1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			sb.append('\\');
+		else if (state == S2)
+			sb.append('$').append(unEscapeChars(s.substring(x+1), new char[]{'{', '\\'}));
+		else if (state == S3)
+			sb.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), new char[]{'\\','$','{','}'}));
+		if (sb.length() > 0)
+			l.add(sb.toString());
+		this.parts = l.toArray();
+
+		this.isSimple = isSimpleVar(s);
+		if (isSimple) {
+			Var v = session.getVar(s.substring(1, s.indexOf('{')));
+			this.simpleVar = (v == null ? null : new VarCall(v, s.substring(s.indexOf('{')+1, s.length()-1), false));
+		} else {
+			this.simpleVar = null;
+		}
+	}
+
+	/**
+	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
+	 * This is a common case, and we can avoid using StringWriters.
+	 */
+	private static boolean isSimpleVar(String s) {
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+		int S4 = 4;    // Found }
+
+		int length = s.length();
+		int state = S1;
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (c == '$') {
+					state = S2;
+				} else {
+					return false;
+				}
+			} else if (state == S2) {
+				if (c == '{') {
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
+					return false;
+				}
+			} else if (state == S3) {
+				if (c == '}')
+					state = S4;
+				else if (c == '{' || c == '$')
+					return false;
+			} else if (state == S4) {
+				return false;
+			}
+		}
+		return state == S4;
+	}
+
+	/**
+	 * Resolves this template to a string.
+	 *
+	 * @param session The session to resolve vars with.
+	 * @return The resolved string.
+	 */
+	String resolve(VarResolverSession session) {
+
+		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
+		// This is a common case, so we want an optimized solution that doesn't involve string builders.
+		if (isSimple) {
+			if (simpleVar == null)
+				return source;
+			Var v = simpleVar.var;
+			if (v.streamed) {
+				StringWriter sw = new StringWriter();
+				v.resolveTo(session, sw, simpleVar.arg);
+				return sw.toString();
+			}
+			if (parts.length == 1 && parts[0] instanceof String)
+				return (String)parts[0];  // Folded constant.
+			String s = v.doResolve(session, simpleVar.arg);
+			if (s == null)
+				s = "";
+			return session.resolve(s);
+		}
+
+		if (parts.length == 0)
+			return "";
+		if (parts.length == 1 && parts[0] instanceof String)
+			return (String)parts[0];
+
+		try {
+			return resolveTo(session, new StringWriter()).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens.
+		}
+	}
+
+	/**
+	 * Resolves this template to the specified writer.
+	 *
+	 * @param session The session to resolve vars with.
+	 * @param out The writer to write to.
+	 * @return The same writer.
+	 * @throws IOException
+	 */
+	Writer resolveTo(VarResolverSession session, Writer out) throws IOException {
+		for (Object p : parts) {
+			if (p instanceof String)
+				out.write((String)p);
+			else
+				((VarCall)p).resolveTo(session, out);
+		}
+		return out;
+	}
+
+	/*
+	 * A single call to a var.
+	 */
+	private static final class VarCall {
+		final Var var;
+		final String arg;
+		final boolean hasInternalVar;
+
+		VarCall(Var var, String arg, boolean hasInternalVar) {
+			this.var = var;
+			this.arg = arg;
+			this.hasInternalVar = hasInternalVar;
+		}
+
+		/*
+		 * Returns the value of this call if it can be computed at compile time, or null if not.
+		 * Values containing '$' or '\' are not folded since they'd need to be resolved again.
+		 */
+		String fold(VarResolverSession session) {
+			if (hasInternalVar || var.streamed || ! var.isConstant())
+				return null;
+			try {
+				String s = var.doResolve(session, arg);
+				if (s == null)
+					s = "";
+				if (s.indexOf('$') != -1 || s.indexOf('\\') != -1)
+					return null;
+				return s;
+			} catch (RuntimeException e) {
+				return null;  // Let the exception be thrown during resolution.
+			}
+		}
+
+		void resolveTo(VarResolverSession session, Writer out) throws IOException {
+			String val = (hasInternalVar ? session.resolve(arg) : arg);
+			if (var.streamed)
+				var.resolveTo(session, out, val);
+			else {
+				String replacement = var.doResolve(session, val);
+				if (replacement == null)
+					replacement = "";
+				// If the replacement also contains variables, replace them now.
+				if (replacement.indexOf('$') != -1)
+					replacement = session.resolve(replacement);
+				out.write(replacement);
+			}
+		}
+	}
+}
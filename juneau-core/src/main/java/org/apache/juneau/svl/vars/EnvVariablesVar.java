@@ -43,6 +43,11 @@ public class EnvVariablesVar extends DefaultingVar {
 		super("E");
 	}
 
+	@Override /* Var */
+	protected boolean isConstant() {
+		return true;
+	}
+
 	@Override /* Var */
 	public String resolve(VarResolverSession session, String varVal) {
 		// Note that lookup is case-insensitive on windows.
@@ -15,8 +15,6 @@ package org.apache.juneau.transforms;
 import java.text.*;
 import java.util.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.ParseException;
@@ -39,6 +37,10 @@ import org.apache.juneau.transform.*;
  * 	<li>{@link Simple} - Transforms to simple <js>"yyyy/MM/dd HH:mm:ss"</js> strings.
  * 	<li>{@link Medium} - Transforms to {@link DateFormat#MEDIUM} strings.
  * </ul>
+ * <p>
+ * 	Instances are thread safe.
+ * 	Each thread uses its own copy of the date format, and the ISO8601 and RFC2822 variants write their output directly
+ * 	using {@link DateUtils} when the date format uses the default symbols.
  *
  *
  * @author James Bognar (james.bognar@salesforce.com)
@@ -92,7 +94,7 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o), hint);
+				return convert(DateUtils.parseIso8601(o), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -100,7 +102,7 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 
 		@Override /* PojoSwap */
 		public String swap(Calendar o) {
-			return DatatypeConverter.printDateTime(o);
+			return toIso8601(o);
 		}
 	}
 
@@ -120,7 +122,7 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o), hint);
+				return convert(DateUtils.parseIso8601(o), hint);
 			} catch (Exception e) {
 				throw new ParseException(e);
 			}
@@ -133,7 +135,7 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 				c.setTime(o.getTime());
 				o = c;
 			}
-			return DatatypeConverter.printDateTime(o);
+			return toIso8601(o);
 		}
 	}
 
@@ -145,6 +147,15 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 		public RFC2822DT() {
 			super("EEE, dd MMM yyyy HH:mm:ss Z");
 		}
+
+		@Override /* PojoSwap */
+		public String swap(Calendar o) {
+			if (! rfcCompatible)
+				return super.swap(o);
+			Calendar c = getCalendar(o);
+			StringBuilder sb = DateUtils.appendRfc2822(new StringBuilder(31), c).append(' ');
+			return DateUtils.appendRfc2822Offset(sb, c.get(Calendar.ZONE_OFFSET) + c.get(Calendar.DST_OFFSET)).toString();
+		}
 	}
 
 	/**
@@ -158,6 +169,13 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 		public RFC2822DTZ() {
 			super("EEE, dd MMM yyyy HH:mm:ss 'GMT'", GMT);
 		}
+
+		@Override /* PojoSwap */
+		public String swap(Calendar o) {
+			if (! rfcCompatible)
+				return super.swap(o);
+			return DateUtils.appendRfc2822(new StringBuilder(29), getCalendar(o)).append(" GMT").toString();
+		}
 	}
 
 	/**
@@ -195,12 +213,31 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 
 	private TimeZone timeZone;
 
+	/** Whether the format can be replaced by the RFC2822 methods on DateUtils. */
+	final boolean rfcCompatible;
+
+	/** Per-thread copies of the formatter and its calendar, since DateFormat and Calendar instances aren't thread safe. */
+	private final ThreadLocal<DateFormat> formats = new ThreadLocal<DateFormat>() {
+		@Override /* ThreadLocal */
+		protected DateFormat initialValue() {
+			return (DateFormat)format.clone();
+		}
+	};
+	private final ThreadLocal<Calendar> calendars = new ThreadLocal<Calendar>() {
+		@Override /* ThreadLocal */
+		protected Calendar initialValue() {
+			return (Calendar)format.getCalendar().clone();
+		}
+	};
+
 	/**
 	 * Default constructor.
 	 * <p>
 	 * 	This constructor is used when <code>swap()</code> and <code>unswap()</code> are overridden by subclasses.
 	 */
-	public CalendarSwap() {}
+	public CalendarSwap() {
+		this.rfcCompatible = false;
+	}
 
 	/**
 	 * Construct a transform using the specified date format string that will be
@@ -236,6 +273,7 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 	public CalendarSwap(DateFormat format) {
 		super();
 		this.format = format;
+		this.rfcCompatible = DateUtils.isCompatible(format, true);
 	}
 
 	/**
@@ -243,14 +281,17 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 	 */
 	@Override /* PojoSwap */
 	public String swap(Calendar o) {
-		DateFormat df = format;
+		DateFormat df = formats.get();
 		TimeZone tz1 = o.getTimeZone();
-		TimeZone tz2 = format.getTimeZone();
-		if (timeZone == null && ! tz1.equals(tz2)) {
-			df = (DateFormat)format.clone();
-			df.setTimeZone(tz1);
+		TimeZone tz2 = df.getTimeZone();
+		if (timeZone != null || tz1.equals(tz2))
+			return df.format(o.getTime());
+		df.setTimeZone(tz1);
+		try {
+			return df.format(o.getTime());
+		} finally {
+			df.setTimeZone(tz2);
 		}
-		return df.format(o.getTime());
 	}
 
 	/**
@@ -261,12 +302,33 @@ public class CalendarSwap extends PojoSwap<Calendar,String> {
 		try {
 			if (StringUtils.isEmpty(o))
 				return null;
-			return convert(format.parse(o), hint);
+			return convert(formats.get().parse(o), hint);
 		} catch (Exception e) {
 			throw new ParseException(e);
 		}
 	}
 
+	/*
+	 * Returns this thread's copy of the calendar of the formatter set to the time (and unless this swap has a
+	 * fixed time zone, the time zone) of the specified calendar.
+	 * This is the calendar the formatter itself would use to format the calendar.
+	 */
+	final Calendar getCalendar(Calendar o) {
+		Calendar c = calendars.get();
+		if (timeZone == null)
+			c.setTimeZone(o.getTimeZone());
+		c.setTimeInMillis(o.getTimeInMillis());
+		return c;
+	}
+
+	/*
+	 * Same as DatatypeConverter.printDateTime(Calendar).
+	 */
+	static String toIso8601(Calendar o) {
+		StringBuilder sb = DateUtils.appendIso8601(new StringBuilder(29), o, o.get(Calendar.MILLISECOND) != 0);
+		return DateUtils.appendIso8601Offset(sb, o.getTimeZone().getOffset(o.getTimeInMillis())).toString();
+	}
+
 	private static Calendar convert(Calendar in, ClassMeta<?> hint) throws Exception {
 		if (hint.isInstance(in) || ! hint.canCreateNewInstance())
 			return in;
@@ -15,8 +15,6 @@ package org.apache.juneau.transforms;
 import java.text.*;
 import java.util.*;
 
-import javax.xml.bind.*;
-
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.ParseException;
@@ -42,6 +40,10 @@ import org.apache.juneau.transform.*;
  * 	<li>{@link SimpleT} - Transforms to simple <js>"yyyy/MM/dd HH:mm:ss"</js> strings.
  * 	<li>{@link Medium} - Transforms to {@link DateFormat#MEDIUM} strings.
  * </ul>
+ * <p>
+ * 	Instances are thread safe.
+ * 	Each thread uses its own copy of the date format, and the ISO8601 and RFC2822 variants write their output directly
+ * 	using {@link DateUtils} when the date format uses the default symbols.
  *
  *
  * @author James Bognar (james.bognar@salesforce.com)
@@ -84,7 +86,7 @@ public class DateSwap extends PojoSwap<Date,String> {
 	 * </ul>
 	 */
 	public static class ISO8601DT extends DateSwap {
-		private SimpleDateFormat tzFormat = new SimpleDateFormat("Z");
+		private final boolean fast, millis;
 
 		/** Constructor */
 		public ISO8601DT() {
@@ -98,6 +100,8 @@ public class DateSwap extends PojoSwap<Date,String> {
 		 */
 		protected ISO8601DT(String pattern) {
 			super(pattern);
+			millis = pattern.equals("yyyy-MM-dd'T'HH:mm:ss.SSS");
+			fast = isoCompatible && (millis || pattern.equals("yyyy-MM-dd'T'HH:mm:ss"));
 		}
 
 		@Override /* PojoSwap */
@@ -105,7 +109,7 @@ public class DateSwap extends PojoSwap<Date,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o).getTime(), hint);
+				return convert(DateUtils.parseIso8601(o).getTime(), hint);
 			} catch (ParseException e) {
 				throw e;
 			} catch (Exception e) {
@@ -115,11 +119,14 @@ public class DateSwap extends PojoSwap<Date,String> {
 
 		@Override /* PojoSwap */
 		public String swap(Date o) {
-			String s = super.swap(o);
-			String tz = tzFormat.format(o);
-			if (tz.equals("+0000"))
-				return s + "Z";
-			return s + tz.substring(0,3) + ':' + tz.substring(3);
+			Calendar c = getCalendar(o);
+			StringBuilder sb = new StringBuilder(32);
+			if (fast)
+				DateUtils.appendIso8601(sb, c, millis);
+			else
+				sb.append(super.swap(o));
+			int offset = (c.get(Calendar.ZONE_OFFSET) + c.get(Calendar.DST_OFFSET)) / 60000 * 60000;
+			return DateUtils.appendIso8601Offset(sb, offset).toString();
 		}
 	}
 
@@ -149,6 +156,13 @@ public class DateSwap extends PojoSwap<Date,String> {
 		public ISO8601DTPNZ() {
 			super("yyyy-MM-dd'T'HH:mm:ss.SSS");
 		}
+
+		@Override /* PojoSwap */
+		public String swap(Date o) {
+			if (! isoCompatible)
+				return super.swap(o);
+			return DateUtils.appendIso8601(new StringBuilder(23), getCalendar(o), true).toString();
+		}
 	}
 
 	/**
@@ -158,6 +172,7 @@ public class DateSwap extends PojoSwap<Date,String> {
 	 * <js>"2001-07-04T15:30:45Z"</js>
 	 */
 	public static class ISO8601DTZ extends DateSwap {
+		private final boolean fast;
 
 		/** Constructor */
 		public ISO8601DTZ() {
@@ -171,6 +186,14 @@ public class DateSwap extends PojoSwap<Date,String> {
 		 */
 		protected ISO8601DTZ(String pattern) {
 			super(pattern, "GMT");
+			fast = isoCompatible && pattern.equals("yyyy-MM-dd'T'HH:mm:ss'Z'");
+		}
+
+		@Override /* PojoSwap */
+		public String swap(Date o) {
+			if (! fast)
+				return super.swap(o);
+			return DateUtils.appendIso8601(new StringBuilder(20), getCalendar(o), false).append('Z').toString();
 		}
 
 		@Override /* PojoSwap */
@@ -178,7 +201,7 @@ public class DateSwap extends PojoSwap<Date,String> {
 			try {
 				if (StringUtils.isEmpty(o))
 					return null;
-				return convert(DatatypeConverter.parseDateTime(o).getTime(), hint);
+				return convert(DateUtils.parseIso8601(o).getTime(), hint);
 			} catch (ParseException e) {
 				throw e;
 			} catch (Exception e) {
@@ -222,6 +245,13 @@ public class DateSwap extends PojoSwap<Date,String> {
 		public RFC2822DTZ() {
 			super("EEE, dd MMM yyyy HH:mm:ss z", "GMT");
 		}
+
+		@Override /* PojoSwap */
+		public String swap(Date o) {
+			if (! rfcCompatible)
+				return super.swap(o);
+			return DateUtils.appendRfc2822(new StringBuilder(29), getCalendar(o)).append(" GMT").toString();
+		}
 	}
 
 	/**
@@ -287,6 +317,17 @@ public class DateSwap extends PojoSwap<Date,String> {
 	/** The formatter to convert dates to Strings. */
 	private DateFormat format;
 
+	/** Whether the format can be replaced by the ISO8601 and RFC2822 methods on DateUtils. */
+	final boolean isoCompatible, rfcCompatible;
+
+	/** Per-thread copies of the formatter, since DateFormat instances aren't thread safe. */
+	private final ThreadLocal<DateFormat> formats = new ThreadLocal<DateFormat>() {
+		@Override /* ThreadLocal */
+		protected DateFormat initialValue() {
+			return (DateFormat)format.clone();
+		}
+	};
+
 	/**
 	 * Construct a transform using the specified date format string that will be
 	 * 	used to construct a {@link SimpleDateFormat} that will be used to convert
@@ -320,6 +361,8 @@ public class DateSwap extends PojoSwap<Date,String> {
 	public DateSwap(DateFormat format) {
 		super();
 		this.format = format;
+		this.isoCompatible = DateUtils.isCompatible(format, false);
+		this.rfcCompatible = DateUtils.isCompatible(format, true);
 	}
 
 	/**
@@ -327,7 +370,7 @@ public class DateSwap extends PojoSwap<Date,String> {
 	 */
 	@Override /* PojoSwap */
 	public String swap(Date o) {
-		return format.format(o);
+		return formats.get().format(o);
 	}
 
 	/**
@@ -338,7 +381,7 @@ public class DateSwap extends PojoSwap<Date,String> {
 		try {
 			if (StringUtils.isEmpty(o))
 				return null;
-			Date d = format.parse(o);
+			Date d = formats.get().parse(o);
 			return convert(d, hint);
 		} catch (ParseException e) {
 			throw e;
@@ -347,6 +390,16 @@ public class DateSwap extends PojoSwap<Date,String> {
 		}
 	}
 
+	/*
+	 * Returns the calendar of this thread's copy of the formatter set to the specified date.
+	 * This is the calendar the formatter itself would use to format the date.
+	 */
+	final Calendar getCalendar(Date d) {
+		Calendar c = formats.get().getCalendar();
+		c.setTime(d);
+		return c;
+	}
+
 	private static Date convert(Date in, ClassMeta<?> hint) throws Exception {
 		if (in == null)
 			return null;
@@ -122,11 +122,11 @@ public class UonParser extends ReaderParser {
 			} else if (flag == 'n') {
 				o = parseNumber(session, r, null);
 			} else if (flag == 'o') {
-				ObjectMap m = new ObjectMap(bc);
+				ObjectMap m = session.newObjectMap();
 				parseIntoMap(session, r, m, string(), object(), pMeta);
 				o = bd.cast(m);
 			} else if (flag == 'a') {
-				Collection l = new ObjectList(bc);
+				Collection l = session.newObjectList();
 				o = parseIntoCollection(session, r, l, sType.getElementType(), isUrlParamValue, pMeta);
 			} else {
 				throw new ParseException(session, "Unexpected flag character ''{0}''.", flag);
@@ -141,7 +141,7 @@ public class UonParser extends ReaderParser {
 		} else if (sType.isNumber()) {
 			o = parseNumber(session, r, (Class<? extends Number>)sType.getInnerClass());
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(bc));
+			Map m = session.newMap(sType, outer);
 			o = parseIntoMap(session, r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 		} else if (sType.isCollection()) {
 			if (flag == 'o') {
@@ -157,7 +157,7 @@ public class UonParser extends ReaderParser {
 					o = l;
 				}
 			} else {
-				Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance(outer) : new ObjectList(bc));
+				Collection l = session.newCollection(sType, outer);
 				o = parseIntoCollection(session, r, l, sType.getElementType(), isUrlParamValue, pMeta);
 			}
 		} else if (sType.canCreateNewInstanceFromObjectMap(outer)) {
@@ -407,7 +407,7 @@ public class UonParser extends ReaderParser {
 						r.unread();
 						currAttrLine= r.getLine();
 						currAttrCol = r.getColumn();
-						currAttr = parseAttrName(session, r, session.isDecodeChars());
+						currAttr = parseAttrName(session, r, session.isDecodeChars(), m.getMeta().getPropertyNames());
 						if (currAttr == null)  // Value was '%00'
 							return null;
 						state = S2;
@@ -501,6 +501,13 @@ public class UonParser extends ReaderParser {
 	}
 
 	String parseAttrName(UonParserSession session, ParserReader r, boolean encoded) throws Exception {
+		return parseAttrName(session, r, encoded, null);
+	}
+
+	/*
+	 * Same as above, but returns the instance from the specified set of names if the attribute name is in that set.
+	 */
+	String parseAttrName(UonParserSession session, ParserReader r, boolean encoded, CharArrayStringSet names) throws Exception {
 
 		// If string is of form '(xxx)', we're looking for ')' at the end.
 		// Otherwise, we're looking for '&' or '=' or -1 denoting the end of this string.
@@ -520,7 +527,7 @@ public class UonParser extends ReaderParser {
 					if (c == AMP || c == EQ || c == -1) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, names);
 						return (s.equals("\u0000") ? null : s);
 					}
 				}
@@ -537,7 +544,7 @@ public class UonParser extends ReaderParser {
 					if (c == '=' || c == -1) {
 						if (c != -1)
 							r.unread();
-						String s = r.getMarked();
+						String s = r.getMarked(0, 0, names);
 						return (s.equals("\u0000") ? null : session.trim(s));
 					}
 				}
@@ -19,6 +19,7 @@ import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -32,6 +33,7 @@ public class UonParserSession extends ParserSession {
 
 	private final boolean decodeChars, whitespaceAware;
 	private UonReader reader;
+	private String inputString;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -110,13 +112,34 @@ public class UonParserSession extends ParserSession {
 			if (input instanceof UonReader)
 				reader = (UonReader)input;
 			else if (input instanceof CharSequence)
-				reader = new UonReader((CharSequence)input, decodeChars);
+				reader = (UonReader)new UonReader((CharSequence)input, decodeChars).setSession(this);
+			else if (inputString != null)
+				reader = (UonReader)new UonReader(inputString, decodeChars).setSession(this);
 			else
-				reader = new UonReader(super.getReader(), decodeChars);
+				reader = (UonReader)new UonReader(super.getReader(), decodeChars).setSession(this);
 		}
 		return reader;
 	}
 
+	/**
+	 * Returns the entire input as a string.
+	 * <p>
+	 * Input from readers and streams is read fully, and subsequent calls to {@link #getReader()} read from the returned string.
+	 *
+	 * @return The input as a string, or <jk>null</jk> if the input is <jk>null</jk> or reading has already started.
+	 * @throws Exception If the input could not be read.
+	 */
+	String getInputString() throws Exception {
+		if (inputString == null && reader == null) {
+			Object input = getInput();
+			if (input instanceof CharSequence)
+				inputString = input.toString();
+			else if (input != null && ! (input instanceof UonReader))
+				inputString = IOUtils.read(super.getReader());
+		}
+		return inputString;
+	}
+
 	@Override /* ParserSession */
 	public Map<String,Object> getLastLocation() {
 		Map<String,Object> m = super.getLastLocation();
@@ -126,4 +149,16 @@ public class UonParserSession extends ParserSession {
 		}
 		return m;
 	}
+
+	@Override /* ParserSession */
+	public void close() throws ParseException {
+		// Readers passed in as the input belong to the caller.
+		try {
+			if (reader != null && reader != getInput())
+				reader.close();
+		} catch (IOException e) {
+			throw new ParseException(e);
+		}
+		super.close();
+	}
 }
@@ -14,6 +14,7 @@ package org.apache.juneau.urlencoding;
 
 import java.io.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -32,7 +33,7 @@ import org.apache.juneau.parser.*;
 public final class UonReader extends ParserReader {
 
 	private final boolean decodeChars;
-	private final char[] buff;
+	private char[] buff;
 	private int iCurrent, iEnd;
 
 	/**
@@ -44,10 +45,10 @@ public final class UonReader extends ParserReader {
 	public UonReader(CharSequence in, boolean decodeChars) {
 		super(in);
 		this.decodeChars = decodeChars;
-		if (in == null || ! decodeChars)
+		if (in == null || in.length() == 0 || ! decodeChars)
 			this.buff = new char[0];
 		else
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = BufferPool.DEFAULT.getChars(in.length() < 1024 ? in.length() : 1024);
 	}
 
 	/**
@@ -59,7 +60,15 @@ public final class UonReader extends ParserReader {
 	public UonReader(Reader r, boolean decodeChars) {
 		super(r);
 		this.decodeChars = decodeChars;
-		this.buff = new char[1024];
+		this.buff = (decodeChars ? BufferPool.DEFAULT.getChars(1024) : new char[0]);
+	}
+
+	@Override /* Reader */
+	public void close() throws IOException {
+		super.close();
+		BufferPool.DEFAULT.release(buff);
+		buff = new char[0];
+		iCurrent = iEnd = 0;
 	}
 
 	@Override /* Reader */
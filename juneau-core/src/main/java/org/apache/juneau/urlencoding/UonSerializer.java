@@ -383,20 +383,43 @@ public class UonSerializer extends WriterSerializer {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private SerializerWriter serializeCollection(UonSerializerSession session, UonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
-		ClassMeta<?> elementType = type.getElementType();
+		final ClassMeta<?> elementType = type.getElementType();
 
 		c = session.sort(c);
 
 		out.startFlag('a');
 
 		int depth = session.getIndent();
-		boolean quoteEmptyString = (c.size() == 1 || session.isUseWhitespace());
-
-		for (Iterator i = c.iterator(); i.hasNext();) {
-			out.cr(depth);
-			serializeAnything(session, out, i.next(), elementType, "<iterator>", null, quoteEmptyString, false);
-			if (i.hasNext())
-				out.append(',');
+		final boolean quoteEmptyString = (c.size() == 1 || session.isUseWhitespace());
+
+		if (session.isParallel(c)) {
+			List<String> chunks = serializeChunks(session, new ArrayList(c), new ChunkSerializer() {
+				@Override /* ChunkSerializer */
+				public void serialize(SerializerSession s, List<?> chunk) throws Exception {
+					UonSerializerSession s2 = (UonSerializerSession)s;
+					UonWriter w = s2.getWriter();
+					int depth2 = s2.getIndent();
+					for (Iterator<?> i = chunk.iterator(); i.hasNext();) {
+						w.cr(depth2);
+						serializeAnything(s2, w, i.next(), elementType, "<iterator>", null, quoteEmptyString, false);
+						if (i.hasNext())
+							w.append(',');
+					}
+					w.flush();
+				}
+			});
+			for (Iterator<String> i = chunks.iterator(); i.hasNext();) {
+				out.append(i.next());
+				if (i.hasNext())
+					out.append(',');
+			}
+		} else {
+			for (Iterator i = c.iterator(); i.hasNext();) {
+				out.cr(depth);
+				serializeAnything(session, out, i.next(), elementType, "<iterator>", null, quoteEmptyString, false);
+				if (i.hasNext())
+					out.append(',');
+			}
 		}
 
 		if (c.size() > 0)
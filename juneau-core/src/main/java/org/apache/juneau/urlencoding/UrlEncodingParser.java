@@ -85,14 +85,14 @@ public class UrlEncodingParser extends UonParser {
 		Object o;
 
 		if (sType.isObject()) {
-			ObjectMap m = new ObjectMap(bc);
+			ObjectMap m = session.newObjectMap();
 			parseIntoMap(session, r, m, bc.string(), bc.object());
 			if (m.containsKey("_value"))
 				o = m.get("_value");
 			else
 				o = bd.cast(m);
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance() ? (Map)sType.newInstance() : new ObjectMap(bc));
+			Map m = session.newMap(sType, outer);
 			o = parseIntoMap(session, r, m, sType.getKeyType(), sType.getValueType());
 		} else if (sType.canCreateNewInstanceFromObjectMap(outer)) {
 			ObjectMap m = new ObjectMap(bc);
@@ -249,7 +249,7 @@ public class UrlEncodingParser extends UonParser {
 					r.unread();
 					currAttrLine= r.getLine();
 					currAttrCol = r.getColumn();
-					currAttr = parseAttrName(session, r, true);
+					currAttr = parseAttrName(session, r, true, m.getMeta().getPropertyNames());
 					if (currAttr == null)  // Value was '%00'
 						return null;
 					state = S2;
@@ -350,63 +350,100 @@ public class UrlEncodingParser extends UonParser {
 		if (StringUtils.isEmpty(qs))
 			return m;
 
-		UonReader r = new UonReader(qs, true);
+		UrlEncodingScanner s = new UrlEncodingScanner(qs);
+		try {
+			while (s.next()) {
+				String v = s.getValue();
+				if (v == null && s.isTerminated())
+					m.put(s.getKey(), null);
+				else
+					add(m, s.getKey(), v);
+			}
+		} finally {
+			s.close();
+		}
 
-		final int S1=1; // Looking for attrName start.
-		final int S2=2; // Found attrName start, looking for = or & or end.
-		final int S3=3; // Found =, looking for valStart.
-		final int S4=4; // Found valStart, looking for & or end.
+		return m;
+	}
 
+	/*
+	 * Fast path for parsing URL-encoded input into a bean when all values are plain strings, numbers, or booleans
+	 * (e.g. HTML form posts).
+	 * Splits and decodes the input in a single pass and sets the bean properties directly, bypassing the UON parser.
+	 * Returns null without modifying the bean if the input contains anything else, in which case it should be
+	 * parsed normally.
+	 */
+	private <T> BeanMap<T> parseIntoBeanMapDirect(UrlEncodingParserSession session, ClassMeta<T> type) throws Exception {
+		Object outer = session.getOuter();
+		if (! session.isDecodeChars() || type.getPojoSwap() != null || type.isObject() || type.isMap()
+				|| type.canCreateNewInstanceFromObjectMap(outer) || ! type.canCreateNewBean(outer))
+			return null;
+
+		String in = session.getInputString();
+		if (in == null)
+			return null;
+
+		BeanContext bc = session.getBeanContext();
+		BeanMap<T> m = bc.newBeanMap(outer, type.getInnerClass());
+		String typePropertyName = bc.getBeanTypePropertyName();
+
+		// Decode and validate everything before setting any properties.
+		List<Object> l = new ArrayList<Object>();  // Triplets of key, pMeta, value.
+		UrlEncodingScanner s = new UrlEncodingScanner(in);
 		try {
-			int c = r.peek();
-			if (c == '?')
-				r.read();
-
-			int state = S1;
-			String currAttr = null;
-			while (c != -1) {
-				c = r.read();
-				if (state == S1) {
-					if (c != -1) {
-						r.unread();
-						r.mark();
-						state = S2;
-					}
-				} else if (state == S2) {
-					if (c == -1) {
-						add(m, r.getMarked(), null);
-					} else if (c == '\u0001') {
-						m.put(r.getMarked(0,-1), null);
-						state = S1;
-					} else if (c == '\u0002') {
-						currAttr = r.getMarked(0,-1);
-						state = S3;
-					}
-				} else if (state == S3) {
-					if (c == -1 || c == '\u0001') {
-						add(m, currAttr, "");
-					} else {
-						if (c == '\u0002')
-							r.replace('=');
-						r.unread();
-						r.mark();
-						state = S4;
-					}
-				} else if (state == S4) {
-					if (c == -1) {
-						add(m, currAttr, r.getMarked());
-					} else if (c == '\u0001') {
-						add(m, currAttr, r.getMarked(0,-1));
-						state = S1;
-					} else if (c == '\u0002') {
-						r.replace('=');
-					}
+			while (s.next()) {
+				if (! s.isPlain())
+					return null;
+				String k = s.getKey(), v = s.getValue();
+				BeanPropertyMeta pMeta = null;
+				if (v != null) {
+					if (k.equals(typePropertyName))
+						continue;
+					pMeta = m.getPropertyMeta(k);
+					if (pMeta == null)
+						return null;
+					ClassMeta<?> cm = pMeta.getClassMeta();
+					if (! v.isEmpty() && (cm.getPojoSwap() != null || ! (cm.isString() || cm.isNumber() || cm.isBoolean() || cm.isObject())))
+						return null;
 				}
+				l.add(k);
+				l.add(pMeta);
+				l.add(v);
 			}
 		} finally {
-			r.close();
+			s.close();
 		}
 
+		for (int i = 0; i < l.size(); i += 3) {
+			String k = (String)l.get(i), v = (String)l.get(i+2);
+			BeanPropertyMeta pMeta = (BeanPropertyMeta)l.get(i+1);
+			if (v == null) {
+				m.put(k, null);
+				continue;
+			}
+			session.setCurrentProperty(pMeta);
+			ClassMeta<?> cm = pMeta.getClassMeta();
+			if (v.isEmpty()) {
+				// In cases of "&foo=", create an empty instance of the value if createable.
+				if (cm.canCreateNewInstance())
+					pMeta.set(m, cm.newInstance());
+			} else {
+				v = session.trim(v);
+				if (cm.isNumber()) {
+					pMeta.set(m, StringUtils.parseNumber(v, (Class<? extends Number>)cm.getInnerClass()));
+				} else if (cm.isBoolean()) {
+					if (v.equals("true"))
+						pMeta.set(m, true);
+					else if (v.equals("false"))
+						pMeta.set(m, false);
+					else
+						throw new ParseException(session, "Unrecognized syntax for boolean.  ''{0}''.", v);
+				} else {
+					pMeta.set(m, v);
+				}
+			}
+			session.setCurrentProperty(null);
+		}
 		return m;
 	}
 
@@ -487,6 +524,13 @@ public class UrlEncodingParser extends UonParser {
 	protected <T> T doParse(ParserSession session, ClassMeta<T> type) throws Exception {
 		UrlEncodingParserSession s = (UrlEncodingParserSession)session;
 		type = s.getBeanContext().normalizeClassMeta(type);
+		BeanMap<T> m = parseIntoBeanMapDirect(s, type);
+		if (m != null) {
+			T o = m.getBean();
+			if (s.getOuter() != null)
+				setParent(type, o, s.getOuter());
+			return o;
+		}
 		UonReader r = s.getReader();
 		T o = parseAnything(s, type, r, s.getOuter());
 		return o;
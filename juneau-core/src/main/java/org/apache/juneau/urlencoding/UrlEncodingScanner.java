@@ -0,0 +1,219 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.urlencoding;
+
+import java.io.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * Splits URL-encoded text (e.g. <js>"foo=bar&baz=bing"</js>) into decoded key/value pairs in a single pass.
+ * <p>
+ * 	Unlike {@link UonReader}, the <js>'&'</js> and <js>'='</js> delimiters are located on the raw text, and only the
+ * 	keys and values between them are decoded (<js>'+'</js> and <code>%xx</code> UTF-8 escape sequences) into a reusable buffer.
+ * 	Keys and values without escape sequences are returned as substrings of the input without being copied to the buffer.
+ * <p>
+ * 	Also keeps track of whether each key and value is plain text that doesn't contain any characters that have special
+ * 	meaning in UON notation, so that callers can bypass the UON parser for them.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class UrlEncodingScanner implements Closeable {
+
+	// Characters that cause a key or value to be passed through the UON parser.
+	private static final AsciiSet uonChars = new AsciiSet("~()$,\\");
+
+	private final String in;
+	private final int length;
+	private int pos;
+	private char[] buff;
+	private String key, value;
+	private boolean terminated, plain;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The URL-encoded text.  A leading <js>'?'</js> is ignored.
+	 */
+	UrlEncodingScanner(String in) {
+		this.in = in;
+		this.length = in.length();
+		this.pos = (length > 0 && in.charAt(0) == '?' ? 1 : 0);
+	}
+
+	/**
+	 * Advances to the next key/value pair.
+	 *
+	 * @return <jk>false</jk> if there are no more pairs.
+	 * @throws IOException If an invalid escape sequence was found.
+	 */
+	boolean next() throws IOException {
+		if (pos >= length)
+			return false;
+		int start = pos, eq = -1, end = start;
+		for (; end < length; end++) {
+			char c = in.charAt(end);
+			if (c == '&')
+				break;
+			if (c == '=' && eq == -1)
+				eq = end;
+		}
+		terminated = (end < length);
+		pos = end + 1;
+		plain = true;
+		if (eq == -1) {
+			key = decode(start, end);
+			value = null;
+		} else {
+			key = decode(start, eq);
+			value = decode(eq+1, end);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the decoded key of the current pair.
+	 *
+	 * @return The decoded key of the current pair.
+	 */
+	String getKey() {
+		return key;
+	}
+
+	/**
+	 * Returns the decoded value of the current pair.
+	 *
+	 * @return The decoded value of the current pair, or <jk>null</jk> if there was no <js>'='</js> following the key.
+	 */
+	String getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the current pair is followed by an <js>'&'</js> character.
+	 *
+	 * @return <jk>true</jk> if the current pair is followed by an <js>'&'</js> character.
+	 */
+	boolean isTerminated() {
+		return terminated;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the decoded key and value of the current pair don't contain control characters or
+	 * any of the characters <js>"~()$,\"</js>.
+	 *
+	 * @return <jk>true</jk> if the key and value can be used as-is without being parsed as UON.
+	 */
+	boolean isPlain() {
+		return plain;
+	}
+
+	private String decode(int start, int end) throws IOException {
+		int i = start;
+		for (; i < end; i++) {
+			char c = in.charAt(i);
+			if (c == '%' || c == '+')
+				break;
+			if (c < ' ' || uonChars.contains(c))
+				plain = false;
+		}
+		if (i == end)
+			return in.substring(start, end);
+
+		// Decoded text is never longer than the encoded text.
+		if (buff == null || buff.length < end - start) {
+			BufferPool.DEFAULT.release(buff);
+			buff = BufferPool.DEFAULT.getChars(Math.max(end - start, 256));
+		}
+		int n = i - start;
+		in.getChars(start, i, buff, 0);
+		while (i < end) {
+			char c = in.charAt(i++);
+			if (c == '+') {
+				c = ' ';
+			} else if (c == '%') {
+				int b0 = readEncodedByte(i, end);
+				i += 2;
+				int cx, numBytes;
+
+				// 0xxxxxxx
+				if (b0 < 128) {
+					cx = b0;
+					numBytes = 0;
+
+				// 10xxxxxx
+				} else if (b0 < 192) {
+					throw new IOException("Invalid hex value for first escape pattern in UTF-8 sequence:  " + b0);
+
+				// 110xxxxx	10xxxxxx
+				} else if (b0 < 224) {
+					cx = b0-192;
+					numBytes = 1;
+
+				// 1110xxxx	10xxxxxx	10xxxxxx
+				} else if (b0 < 240) {
+					cx = b0-224;
+					numBytes = 2;
+
+				// 11110xxx	10xxxxxx	10xxxxxx	10xxxxxx
+				} else if (b0 < 248) {
+					cx = b0-240;
+					numBytes = 3;
+
+				} else
+					throw new IOException("Invalid hex value for first escape pattern in UTF-8 sequence:  " + b0);
+
+				for (int j = 0; j < numBytes; j++) {
+					if (i >= end || in.charAt(i) != '%')
+						throw new IOException("Did not find expected '%' character in UTF-8 sequence.");
+					cx = (cx << 6) + readEncodedByte(i+1, end) - 128;
+					i += 3;
+				}
+
+				if (cx >= 0x10000) {
+					cx -= 0x10000;
+					buff[n++] = (char)(0xd800 + (cx >> 10));
+					c = (char)(0xdc00 + (cx & 0x3ff));
+				} else {
+					c = (char)cx;
+				}
+			}
+			if (c < ' ' || uonChars.contains(c))
+				plain = false;
+			buff[n++] = c;
+		}
+		return new String(buff, 0, n);
+	}
+
+	private int readEncodedByte(int i, int end) throws IOException {
+		if (i + 1 >= end)
+			throw new IOException("Incomplete trailing escape pattern");
+		return (fromHexChar(in.charAt(i)) << 4) + fromHexChar(in.charAt(i+1));
+	}
+
+	private static int fromHexChar(int c) throws IOException {
+		if (c >= '0' && c <= '9')
+			return c - '0';
+		if (c >= 'a' && c <= 'f')
+			return 10 + c - 'a';
+		if (c >= 'A' && c <= 'F')
+			return 10 + c - 'A';
+		throw new IOException("Invalid hex character '"+c+"' found in escape pattern.");
+	}
+
+	@Override /* Closeable */
+	public void close() {
+		BufferPool.DEFAULT.release(buff);
+		buff = null;
+	}
+}
@@ -261,7 +261,12 @@ public class UrlEncodingSerializer extends UonSerializer {
 		} else if (sType.isBean()) {
 			serializeBeanMap(session, out, bc.forBean(o), addTypeProperty);
 		} else if (sType.isCollection()) {
-			serializeMap(session, out, getCollectionMap((Collection)o), bc.getMapClassMeta(Map.class, Integer.class, sType.getElementType()));
+			Map<Integer,Object> m = getCollectionMap((Collection)o);
+			ClassMeta<?> mType = bc.getMapClassMeta(Map.class, Integer.class, sType.getElementType());
+			if (session.isParallel(m.values()))
+				serializeMapParallel(session, out, m, mType);
+			else
+				serializeMap(session, out, m, mType);
 		} else {
 			// All other types can't be serialized as key/value pairs, so we create a
 			// mock key/value pair with a "_value" key.
@@ -281,6 +286,34 @@ public class UrlEncodingSerializer extends UonSerializer {
 		return m;
 	}
 
+	/*
+	 * Same as serializeMap(), but serializes chunks of the entries concurrently.
+	 * Used for large top-level collections.
+	 */
+	private SerializerWriter serializeMapParallel(UrlEncodingSerializerSession session, UonWriter out, Map<Integer,Object> m, final ClassMeta<?> type) throws Exception {
+		int depth = session.getIndent();
+		List<String> chunks = serializeChunks(session, new ArrayList<Map.Entry<Integer,Object>>(m.entrySet()), new ChunkSerializer() {
+			@Override /* ChunkSerializer */
+			public void serialize(SerializerSession s, List<?> chunk) throws Exception {
+				UrlEncodingSerializerSession s2 = (UrlEncodingSerializerSession)s;
+				Map<Object,Object> m2 = new LinkedHashMap<Object,Object>();
+				for (Object o : chunk) {
+					Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+					m2.put(e.getKey(), e.getValue());
+				}
+				UonWriter w = s2.getWriter();
+				serializeMap(s2, w, m2, type);
+				w.flush();
+			}
+		});
+		for (Iterator<String> i = chunks.iterator(); i.hasNext();) {
+			out.append(i.next());
+			if (i.hasNext())
+				out.cr(depth).append('&');
+		}
+		return out;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private SerializerWriter serializeMap(UrlEncodingSerializerSession session, UonWriter out, Map m, ClassMeta<?> type) throws Exception {
 
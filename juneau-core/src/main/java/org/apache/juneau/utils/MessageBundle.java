@@ -44,6 +44,10 @@ public class MessageBundle extends ResourceBundle {
 
 	private static final ThreadLocal<Locale> clientLocale = new ThreadLocal<Locale>();
 
+	// The maximum number of locales to cache bundles for.
+	// Bundles for other locales are created on each call so that arbitrary client locales can't exhaust memory.
+	private static final int MAX_LOCALES = 64;
+
 	private final ResourceBundle rb;
 	private final String bundlePath, className;
 	private final Class<?> forClass;
@@ -63,6 +67,10 @@ public class MessageBundle extends ResourceBundle {
 	// Cache of message bundles per locale.
 	private final ConcurrentHashMap<Locale,MessageBundle> localizedBundles = new ConcurrentHashMap<Locale,MessageBundle>();
 
+	// Cache of compiled message formats per key.
+	// MessageFormat is not thread safe, so instances must be synchronized on when formatting.
+	private final ConcurrentHashMap<String,MessageFormat> formats = new ConcurrentHashMap<String,MessageFormat>();
+
 	/**
 	 * Sets the locale for this thread so that calls to {@link #getClientString(String, Object...)} return
 	 * messages in that locale.
@@ -163,8 +171,16 @@ public class MessageBundle extends ResourceBundle {
 		String s = getString(key);
 		if (s.length() > 0 && s.charAt(0) == '{')
 			return s;
-		if (args.length > 0)
-			return MessageFormat.format(s, args);
+		if (args.length > 0) {
+			MessageFormat mf = formats.get(key);
+			if (mf == null) {
+				mf = new MessageFormat(s);
+				formats.put(key, mf);
+			}
+			synchronized(mf) {
+				return mf.format(args);
+			}
+		}
 		return s;
 	}
 
@@ -288,6 +304,9 @@ public class MessageBundle extends ResourceBundle {
 	/**
 	 * Returns the resource bundle for the specified locale.
 	 *
+	 * <p>
+	 * Bundles are cached for up to 64 different locales.
+	 *
 	 * @param locale The client locale.
 	 * @return The resource bundle for the specified locale.  Never <jk>null</jk>.
 	 */
@@ -304,7 +323,9 @@ public class MessageBundle extends ResourceBundle {
 			mb.allKeys.addAll(srb.keySet());
 		}
 		mb.searchBundles.addAll(l);
-		localizedBundles.putIfAbsent(locale, mb);
-		return localizedBundles.get(locale);
+		if (localizedBundles.size() >= MAX_LOCALES)
+			return mb;
+		MessageBundle mb2 = localizedBundles.putIfAbsent(locale, mb);
+		return (mb2 == null ? mb : mb2);
 	}
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 	private XmlFormat xmlFormat = XmlFormat.NORMAL;
 	private XmlContentHandler<?> xmlContentHandler = null;
 	private String childName;
+	private final String encodedName;
 
 	/**
 	 * Constructor.
@@ -46,6 +47,8 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 
 		if (namespace == null)
 			namespace = bpm.getBeanMeta().getClassMeta().getExtendedMeta(XmlClassMeta.class).getNamespace();
+
+		encodedName = XmlUtils.encodeElementName(bpm.getName());
 	}
 
 	/**
@@ -98,6 +101,17 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		return childName;
 	}
 
+	/**
+	 * Returns the bean property name encoded as an XML element name.
+	 * <p>
+	 * 	Computed once so that the name doesn't need to be re-encoded on the start and end tags of every element.
+	 *
+	 * @return The encoded element name.
+	 */
+	protected String getEncodedName() {
+		return encodedName;
+	}
+
 	private void findXmlInfo(Xml xml) {
 		if (xml == null)
 			return;
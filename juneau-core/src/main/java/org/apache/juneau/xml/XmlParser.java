@@ -111,13 +111,13 @@ public class XmlParser extends ReaderParser {
 
 		if (sType.isObject()) {
 			if (jsonType == OBJECT) {
-				ObjectMap m = new ObjectMap(bc);
+				ObjectMap m = session.newObjectMap();
 				parseIntoMap(session, r, m, string(), object(), pMeta);
 				if (wrapperAttr != null)
 					m = new ObjectMap(bc).append(wrapperAttr, m);
 				o = bd.cast(m);
 			} else if (jsonType == ARRAY)
-				o = parseIntoCollection(session, r, new ObjectList(bc), object(), pMeta);
+				o = parseIntoCollection(session, r, session.newObjectList(), object(), pMeta);
 			else if (jsonType == STRING) {
 				o = session.decodeString(r.getElementText());
 				if (sType.isChar())
@@ -136,12 +136,12 @@ public class XmlParser extends ReaderParser {
 		} else if (sType.isChar()) {
 			o = session.decodeString(r.getElementText()).charAt(0);
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(bc));
+			Map m = session.newMap(sType, outer);
 			o = parseIntoMap(session, r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 			if (wrapperAttr != null)
 				o = new ObjectMap(bc).append(wrapperAttr, m);
 		} else if (sType.isCollection()) {
-			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance(outer) : new ObjectList(bc));
+			Collection l = session.newCollection(sType, outer);
 			o = parseIntoCollection(session, r, l, sType.getElementType(), pMeta);
 		} else if (sType.isNumber()) {
 			o = parseNumber(session.decodeLiteral(r.getElementText()), (Class<? extends Number>)sType.getInnerClass());
@@ -210,7 +210,7 @@ public class XmlParser extends ReaderParser {
 					if (o instanceof List)
 						((List)o).add(value);
 					else
-						m.put(key, (V)new ObjectList(o, value).setBeanContext(bc));
+						m.put(key, (V)session.newObjectList().append(o, value));
 				} else {
 					m.put(key, value);
 				}
@@ -373,7 +373,7 @@ public class XmlParser extends ReaderParser {
 
 		// If this element has attributes, then it's always an ObjectMap.
 		if (r.getAttributeCount() > 0) {
-			m = new ObjectMap(bc);
+			m = session.newObjectMap();
 			for (int i = 0; i < r.getAttributeCount(); i++) {
 				String key = session.decodeString(r.getAttributeLocalName(i));
 				String val = r.getAttributeValue(i);
@@ -394,7 +394,7 @@ public class XmlParser extends ReaderParser {
 				// Oops...this has an element in it.
 				// Parse it as a map.
 				if (m == null)
-					m = new ObjectMap(bc);
+					m = session.newObjectMap();
 				int depth = 0;
 				do {
 					int event = (eventType == -1 ? r.nextTag() : eventType);
@@ -409,7 +409,7 @@ public class XmlParser extends ReaderParser {
 							if (o instanceof ObjectList)
 								((ObjectList)o).add(value);
 							else
-								m.put(key, new ObjectList(o, value).setBeanContext(bc));
+								m.put(key, session.newObjectList().append(o, value));
 						} else {
 							m.put(key, value);
 						}
@@ -153,7 +153,7 @@ public final class XmlParserSession extends ParserSession {
 		s = XmlUtils.decode(s);
 		if (isTrimStrings())
 			s = s.trim();
-		return s;
+		return intern(s);
 	}
 
 	/**
@@ -419,6 +419,12 @@ public class XmlSerializer extends WriterSerializer {
 
 		String en = (elementName == null ? ts : elementName);
 		boolean encodeEn = elementName != null;
+
+		// Bean property names are encoded ahead of time.
+		if (encodeEn && pMeta != null && elementName.equals(pMeta.getName())) {
+			en = pMeta.getExtendedMeta(XmlBeanPropertyMeta.class).getEncodedName();
+			encodeEn = false;
+		}
 		String ns = (elementNamespace == null ? null : elementNamespace.name);
 		String xsi = null, dns = null, elementNs = null;
 		if (session.isEnableNamespaces()) {
@@ -616,11 +622,11 @@ public class XmlSerializer extends WriterSerializer {
 		return true;
 	}
 
-	private XmlWriter serializeCollection(XmlSerializerSession session, XmlWriter out, Collection c, ClassMeta<?> type, BeanPropertyMeta ppMeta) throws Exception {
+	private XmlWriter serializeCollection(final XmlSerializerSession session, XmlWriter out, Collection c, ClassMeta<?> type, BeanPropertyMeta ppMeta) throws Exception {
 
 		c = session.sort(c);
 
-		ClassMeta<?> elementType = type.getElementType();
+		final ClassMeta<?> elementType = type.getElementType();
 
 		String eName = null;
 		Namespace eNs = null;
@@ -640,6 +646,25 @@ public class XmlSerializer extends WriterSerializer {
 			eNs = elementType.getExtendedMeta(XmlClassMeta.class).getNamespace();
 		}
 
+		if (session.isParallel(c)) {
+			final String eName2 = eName;
+			final Namespace eNs2 = eNs;
+			List<String> chunks = serializeChunks(session, new ArrayList(c), new ChunkSerializer() {
+				@Override /* ChunkSerializer */
+				public void serialize(SerializerSession s, List<?> chunk) throws Exception {
+					XmlSerializerSession s2 = (XmlSerializerSession)s;
+					s2.copyNamespaces(session);
+					XmlWriter w = s2.getWriter();
+					for (Object value : chunk)
+						serializeAnything(s2, w, value, elementType, eName2, eNs2, false, NORMAL, null);
+					w.flush();
+				}
+			});
+			for (String chunk : chunks)
+				out.append(chunk);
+			return out;
+		}
+
 		for (Iterator i = c.iterator(); i.hasNext();) {
 			Object value = i.next();
 			serializeAnything(session, out, value, elementType, eName, eNs, false, NORMAL, null);
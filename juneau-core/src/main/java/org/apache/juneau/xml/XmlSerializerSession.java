@@ -117,6 +117,18 @@ public class XmlSerializerSession extends SerializerSession {
 			namespaces = ArrayUtils.append(namespaces, ns);
 	}
 
+	/**
+	 * Copies the namespaces detected by another session into this session.
+	 * <p>
+	 * 	Used when parts of a document are serialized by separate sessions.
+	 *
+	 * @param s The session to copy the namespaces from.
+	 */
+	void copyNamespaces(XmlSerializerSession s) {
+		namespaces = s.namespaces;
+		defaultNamespace = s.defaultNamespace;
+	}
+
 	/**
 	 * Returns the list of namespaces being used in the current XML serialization.
 	 *
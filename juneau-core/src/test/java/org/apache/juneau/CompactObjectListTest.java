@@ -0,0 +1,116 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class CompactObjectListTest {
+
+	//====================================================================================================
+	// Same contents as a LinkedList after random list and deque operations.
+	//====================================================================================================
+	@Test
+	public void testSameAsLinkedList() throws Exception {
+		Random r = new Random(1);
+		Object[] values = {null, "foo", true, 1, 1000, 123456789012L, 1.5f, 2.5d};
+		LinkedList<Object> l1 = new LinkedList<Object>();
+		CompactObjectList l2 = new CompactObjectList();
+		for (int i = 0; i < 5000; i++) {
+			Object v = values[r.nextInt(values.length)];
+			int s = l1.size();
+			switch (r.nextInt(12)) {
+				case 0: assertEquals(l1.add(v), l2.add(v)); break;
+				case 1: int j = r.nextInt(s+1); l1.add(j, v); l2.add(j, v); break;
+				case 2: if (s > 0) { j = r.nextInt(s); assertEquals(l1.remove(j), l2.remove(j)); } break;
+				case 3: assertEquals(l1.remove(v), l2.remove(v)); break;
+				case 4: if (s > 0) { j = r.nextInt(s); assertEquals(l1.set(j, v), l2.set(j, v)); } break;
+				case 5: l1.addFirst(v); l2.addFirst(v); break;
+				case 6: assertEquals(l1.pollLast(), l2.pollLast()); break;
+				case 7: assertEquals(l1.poll(), l2.poll()); break;
+				case 8: assertEquals(l1.removeLastOccurrence(v), l2.removeLastOccurrence(v)); break;
+				case 9: List<Object> a = Arrays.asList(v, v); j = r.nextInt(s+1); l1.addAll(j, a); l2.addAll(j, a); break;
+				case 10: assertEquals(l1.indexOf(v), l2.indexOf(v)); assertEquals(l1.lastIndexOf(v), l2.lastIndexOf(v)); break;
+				default: l1.push(v); l2.push(v); break;
+			}
+			assertEquals(l1.size(), l2.size());
+			assertEquals(l1.peekFirst(), l2.peekFirst());
+			assertEquals(l1.peekLast(), l2.peekLast());
+		}
+		assertEquals(l1, l2);
+		assertEquals(l2, l1);
+		assertEquals(l1.hashCode(), l2.hashCode());
+		assertTrue(Arrays.equals(l1.toArray(), l2.toArray()));
+		assertTrue(Arrays.equals(l1.toArray(new Object[0]), l2.toArray(new Object[0])));
+	}
+
+	//====================================================================================================
+	// Iterators.
+	//====================================================================================================
+	@Test
+	public void testIterators() throws Exception {
+		CompactObjectList l = new CompactObjectList();
+		l.append(1, 2, 3, 4, 5);
+
+		for (ListIterator<Object> i = l.listIterator(); i.hasNext();) {
+			int x = (Integer)i.next();
+			if (x == 2)
+				i.remove();
+			else if (x == 3)
+				i.set(30);
+			else if (x == 4)
+				i.add(40);
+		}
+		assertEquals("[1,30,4,40,5]", l.toString());
+
+		StringBuilder sb = new StringBuilder();
+		for (Iterator<Object> i = l.descendingIterator(); i.hasNext();)
+			sb.append(i.next()).append(',');
+		assertEquals("5,40,4,30,1,", sb.toString());
+
+		l.subList(1, 3).clear();
+		assertEquals("[1,40,5]", l.toString());
+
+		try {
+			for (Object o : l)
+				l.add(o);
+			fail("Exception expected");
+		} catch (ConcurrentModificationException e) {}
+	}
+
+	//====================================================================================================
+	// Cloning and Java serialization.
+	//====================================================================================================
+	@Test
+	public void testCloneAndSerialize() throws Exception {
+		CompactObjectList l = new CompactObjectList();
+		l.append("a", 1000, 1.5);
+		CompactObjectList l2 = (CompactObjectList)l.clone();
+		l2.set(0, "b");
+		assertEquals("['a',1000,1.5]", l.toString());
+		assertEquals("['b',1000,1.5]", l2.toString());
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(baos);
+		oos.writeObject(l);
+		oos.close();
+		Object o = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray())).readObject();
+		assertEquals(ObjectList.class, o.getClass());
+		assertEquals(l, o);
+	}
+}
@@ -0,0 +1,193 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.parser.ParserContext.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class CompactObjectMapTest {
+
+	//====================================================================================================
+	// Same contents and order as a LinkedHashMap after random puts and removes.
+	//====================================================================================================
+	@Test
+	public void testSameAsLinkedHashMap() throws Exception {
+		Random r = new Random(1);
+		Object[] values = {null, "foo", true, 1, 1000, 123456789012L, 1.5f, 2.5d, new ObjectList("[1,2]")};
+		for (int n = 0; n < 50; n++) {
+			Map<String,Object> m1 = new LinkedHashMap<String,Object>();
+			CompactObjectMap m2 = new CompactObjectMap();
+			for (int i = 0; i < 500; i++) {
+				String k = (r.nextInt(10) == 0 ? null : "k" + r.nextInt(n+1));
+				Object v = values[r.nextInt(values.length)];
+				if (r.nextInt(4) == 0) {
+					assertEquals(m1.remove(k), m2.remove(k));
+				} else {
+					assertEquals(m1.put(k, v), m2.put(k, v));
+				}
+				assertEquals(m1.size(), m2.size());
+				assertEquals(m1.get(k), m2.get(k));
+				assertEquals(m1.containsKey(k), m2.containsKey(k));
+			}
+			assertEquals(new ArrayList<String>(m1.keySet()), new ArrayList<String>(m2.keySet()));
+			assertEquals(new ArrayList<Object>(m1.values()), new ArrayList<Object>(m2.values()));
+			assertEquals(m1, m2);
+			assertEquals(m2, m1);
+			assertEquals(m1.hashCode(), m2.hashCode());
+		}
+	}
+
+	//====================================================================================================
+	// Numbers are stored as primitives and returned as the same type.
+	//====================================================================================================
+	@Test
+	public void testNumbers() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		m.put("a", 1);
+		m.put("b", 100000);
+		m.put("c", 100000L);
+		m.put("d", 1.5f);
+		m.put("e", Double.NaN);
+		m.put("f", -0.0d);
+		assertEquals(Integer.valueOf(1), m.get("a"));
+		assertEquals(Integer.valueOf(100000), m.get("b"));
+		assertEquals(Long.valueOf(100000), m.get("c"));
+		assertEquals(Float.valueOf(1.5f), m.get("d"));
+		assertEquals(Double.valueOf(Double.NaN), m.get("e"));
+		assertEquals(Double.valueOf(-0.0d), m.get("f"));
+		m.put("b", "foo");
+		assertEquals("foo", m.get("b"));
+		assertEquals("{a:1,b:'foo',c:100000,d:1.5,e:NaN,f:-0.0}", m.toString());
+	}
+
+	//====================================================================================================
+	// Entry set, key set and value iterators support removal and updates.
+	//====================================================================================================
+	@Test
+	public void testViews() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		for (int i = 0; i < 20; i++)
+			m.put("k" + i, i*1000);
+
+		for (Iterator<Map.Entry<String,Object>> i = m.entrySet().iterator(); i.hasNext();) {
+			Map.Entry<String,Object> e = i.next();
+			if (((Integer)e.getValue()) % 2000 == 0)
+				i.remove();
+			else
+				e.setValue(e.getKey());
+		}
+		assertEquals(10, m.size());
+		assertEquals("k1", m.get("k1"));
+		assertNull(m.get("k2"));
+
+		m.keySet().remove("k1");
+		assertFalse(m.containsKey("k1"));
+		m.values().remove("k3");
+		assertFalse(m.containsKey("k3"));
+		assertEquals("[k5,k7,k9,k11,k13,k15,k17,k19]", m.keySet().toString().replace(" ", ""));
+
+		try {
+			for (String k : m.keySet())
+				m.put(k + "x", k);
+			fail("Exception expected");
+		} catch (ConcurrentModificationException e) {}
+	}
+
+	//====================================================================================================
+	// Inner maps.
+	//====================================================================================================
+	@Test
+	public void testInner() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		m.put("b", 2);
+		m.setInner(new ObjectMap("{a:1,b:1}"));
+		assertEquals(1, (int)m.getInt("a"));
+		assertEquals(2, (int)m.getInt("b"));
+		assertTrue(m.containsKey("a"));
+		assertFalse(m.containsOuterKey("a"));
+		assertEquals("[a, b]", m.keySet().toString());
+	}
+
+	//====================================================================================================
+	// Cloning and Java serialization.
+	//====================================================================================================
+	@Test
+	public void testCloneAndSerialize() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		for (int i = 0; i < 20; i++)
+			m.put("k" + i, i);
+		CompactObjectMap m2 = (CompactObjectMap)m.clone();
+		m2.put("k0", "foo");
+		assertEquals(0, m.get("k0"));
+		assertEquals("foo", m2.get("k0"));
+		assertEquals(19, m2.get("k19"));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		ObjectOutputStream oos = new ObjectOutputStream(baos);
+		oos.writeObject(m);
+		oos.close();
+		Object o = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray())).readObject();
+		assertEquals(ObjectMap.class, o.getClass());
+		assertEquals(m, o);
+	}
+
+	//====================================================================================================
+	// Parsers create compact maps and lists when enabled.
+	//====================================================================================================
+	@Test
+	public void testParsers() throws Exception {
+		ObjectMap m = new ObjectMap("{a:'foo',b:[1,2,{c:123456,d:[1.5,true,null]}],e:{f:{}}}");
+		Object[][] parsers = {
+			{JsonParser.DEFAULT, JsonSerializer.DEFAULT.serialize(m)},
+			{UonParser.DEFAULT, UonSerializer.DEFAULT.serialize(m)},
+			{UrlEncodingParser.DEFAULT, UrlEncodingSerializer.DEFAULT.serialize(m)},
+			{XmlParser.DEFAULT, XmlSerializer.DEFAULT.serialize(m)},
+			{MsgPackParser.DEFAULT, MsgPackSerializer.DEFAULT.serialize(m)},
+		};
+
+		for (Object[] x : parsers) {
+			Parser p1 = (Parser)x[0], p2 = p1.clone().setProperty(PARSER_compactCollections, true);
+			for (Class<?> c : new Class<?>[]{ObjectMap.class, Object.class}) {
+				Object o1 = p1.parse(x[1], c), o2 = p2.parse(x[1], c);
+				assertEquals(p1.getClass().getSimpleName(), o1.toString(), o2.toString());
+				assertCompact(p1, o1, false);
+				assertCompact(p2, o2, true);
+			}
+		}
+		assertEquals(m.toString(), JsonParser.DEFAULT.clone().setProperty(PARSER_compactCollections, true).parse(parsers[0][1], ObjectMap.class).toString());
+	}
+
+	private static void assertCompact(Parser p, Object o, boolean compact) {
+		String msg = p.getClass().getSimpleName();
+		if (o instanceof Map) {
+			assertEquals(msg, compact ? CompactObjectMap.class : ObjectMap.class, o.getClass());
+			for (Object v : ((Map<?,?>)o).values())
+				assertCompact(p, v, compact);
+		} else if (o instanceof Collection) {
+			assertEquals(msg, compact ? CompactObjectList.class : ObjectList.class, o.getClass());
+			for (Object v : (Collection<?>)o)
+				assertCompact(p, v, compact);
+		}
+	}
+}
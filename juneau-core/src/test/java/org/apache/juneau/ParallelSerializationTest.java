@@ -0,0 +1,125 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.serializer.SerializerContext.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class ParallelSerializationTest {
+
+	private static WriterSerializer[] serializers = {
+		JsonSerializer.DEFAULT,
+		JsonSerializer.DEFAULT_LAX_READABLE,
+		XmlSerializer.DEFAULT,
+		XmlSerializer.DEFAULT_SQ_READABLE,
+		UonSerializer.DEFAULT,
+		UonSerializer.DEFAULT_READABLE,
+		UrlEncodingSerializer.DEFAULT,
+		UrlEncodingSerializer.DEFAULT_READABLE,
+	};
+
+	//====================================================================================================
+	// Output is identical to sequential serialization.
+	//====================================================================================================
+	@Test
+	public void testSameOutput() throws Exception {
+		List<A> l = new ArrayList<A>();
+		for (int i = 0; i < 100; i++)
+			l.add(new A(i));
+		Map<String,Object> m = new LinkedHashMap<String,Object>();
+		m.put("a", l);
+		m.put("b", new A[]{new A(1), new A(2), new A(3)});
+
+		for (WriterSerializer s : serializers) {
+			WriterSerializer s2 = (WriterSerializer)s.clone().setProperty(SERIALIZER_parallelThreshold, 2);
+			assertEquals(s.serialize(l), s2.serialize(l));
+			assertEquals(s.serialize(m), s2.serialize(m));
+			assertEquals(s.serialize(new ArrayList<A>()), s2.serialize(new ArrayList<A>()));
+		}
+	}
+
+	//====================================================================================================
+	// Exceptions thrown in other threads are rethrown.
+	//====================================================================================================
+	@Test
+	public void testException() throws Exception {
+		List<Object> l = new ArrayList<Object>();
+		for (int i = 0; i < 100; i++)
+			l.add(i == 99 ? new B() : new A(i));
+
+		for (WriterSerializer s : serializers) {
+			try {
+				s.clone().setProperty(SERIALIZER_parallelThreshold, 2).serialize(l);
+				fail("Exception expected");
+			} catch (SerializeException e) {
+				assertTrue(e.getCause() instanceof RuntimeException);
+				assertEquals("foo", e.getCause().getLocalizedMessage());
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Warnings added by chunk sessions are added to the parent session.
+	//====================================================================================================
+	@Test
+	public void testWarnings() throws Exception {
+		List<C> l = new ArrayList<C>();
+		for (int i = 0; i < 100; i++)
+			l.add(new C());
+
+		WriterSerializer s = (WriterSerializer)JsonSerializer.DEFAULT.clone().setProperty(SERIALIZER_parallelThreshold, 2).setProperty(SERIALIZER_debug, true);
+		try {
+			s.serialize(l);
+			fail("Exception expected");
+		} catch (SerializeException e) {
+			assertTrue(e.getLocalizedMessage().contains("\n100: "));
+			assertFalse(e.getLocalizedMessage().contains("\n101: "));
+		}
+	}
+
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<String> f3;
+
+		public A() {}
+
+		public A(int i) {
+			f1 = i;
+			f2 = "f2-" + i;
+			f3 = Arrays.asList("x" + i, "y" + i);
+		}
+	}
+
+	public static class C {
+		public String getF1() {
+			throw new RuntimeException("foo");
+		}
+	}
+
+	public static class B {
+		@Override /* Object */
+		public String toString() {
+			throw new RuntimeException("foo");
+		}
+	}
+}
@@ -306,4 +306,41 @@ public class HtmlTest {
 	@Html(noTables=true, noTableHeaders=true)
 	public static class MyMap extends LinkedHashMap<String,String> {}
 
+	//====================================================================================================
+	// Test HTML_beanTableHeadersFromMeta
+	//====================================================================================================
+	@Test
+	public void testBeanTableHeadersFromMeta() throws Exception {
+		HtmlSerializer s = new HtmlSerializer.Sq();
+		List<D1> l = Arrays.asList(new D1(), new D1());
+		String r;
+
+		D1.getterCalls = 0;
+		r = s.serialize(l);
+		assertEquals("<table _type='array'><tr><th>f1</th></tr><tr><td><string>f1</string></td></tr><tr><td><string>f1</string></td></tr></table>", r);
+		assertEquals(4, D1.getterCalls);
+
+		s.setProperty(HTML_beanTableHeadersFromMeta, true);
+		D1.getterCalls = 0;
+		r = s.serialize(l);
+		assertEquals("<table _type='array'><tr><th>f2</th><th>f1</th></tr><tr><td><null/></td><td><string>f1</string></td></tr><tr><td><null/></td><td><string>f1</string></td></tr></table>", r);
+		assertEquals(2, D1.getterCalls);
+
+		// Maps and mixed classes are still scanned.
+		Object[] t = new Object[]{new D1(), new A1()};
+		assertEquals(HtmlSerializer.DEFAULT_SQ.serialize(t), s.serialize(t));
+		Map m = new ObjectMap("{f1:'f1'}");
+		assertEquals(HtmlSerializer.DEFAULT_SQ.serialize(Arrays.asList(m, m)), s.serialize(Arrays.asList(m, m)));
+	}
+
+	public static class D1 {
+		static int getterCalls;
+		public String f2;
+
+		public String getF1() {
+			getterCalls++;
+			return "f1";
+		}
+	}
+
 }
\ No newline at end of file
@@ -2151,4 +2151,64 @@ public class ConfigFileTest {
 		assertEquals("a,#b,=c", cf.getString("a"));
 		assertEquals("a,#b,=c", cf.getString("A/a"));
 	}
+
+	//====================================================================================================
+	// Parsed values are cached until the entry value changes.
+	//====================================================================================================
+	@Test
+	public void testTypedValueCache() throws Exception {
+		ConfigFile[] cff = {
+			ConfigMgr.DEFAULT.create().addLines(null, "a=1,2", "b=ONE", "c=123456789012"),
+			ConfigMgr.DEFAULT.create().addLines(null, "a=1,2", "b=ONE", "c=123456789012").getResolving(VarResolver.DEFAULT)
+		};
+
+		for (ConfigFile cf : cff) {
+			int[] a = cf.getObject(int[].class, "a");
+			assertObjectEquals("[1,2]", a);
+			a[0] = 3;
+			assertObjectEquals("[1,2]", cf.getObject(int[].class, "a"));
+			cf.put("a", "3,4");
+			assertObjectEquals("[3,4]", cf.getObject(int[].class, "a"));
+
+			assertEquals(TestEnum.ONE, cf.getObject(TestEnum.class, "b"));
+			cf.put("b", "TWO");
+			assertEquals(TestEnum.TWO, cf.getObject(TestEnum.class, "b"));
+
+			assertEquals(Long.valueOf(123456789012L), cf.getObject(Long.class, "c"));
+			assertSame(cf.getObject(Long.class, "c"), cf.getObject(Long.class, "c"));
+			cf.remove("default");
+			assertNull(cf.getObject(Long.class, "c"));
+		}
+	}
+
+	public static enum TestEnum {
+		ONE, TWO
+	}
+
+	//====================================================================================================
+	// Reloading a config file signals the changed entries.
+	//====================================================================================================
+	@Test
+	public void testLoadChanges() throws Exception {
+		File f = getFreshFile();
+		ConfigFile cf = ConfigMgr.DEFAULT.create(f).addLines(null, "a=1", "b=1").addLines("A", "c=1").save();
+		final Set<String> changes = new TreeSet<String>();
+		cf.addListener(
+			new ConfigFileListener() {
+				@Override /* ConfigFileListener */
+				public void onChange(ConfigFile cf2, Set<String> ss) {
+					changes.addAll(ss);
+				}
+			}
+		);
+
+		IOUtils.write(f, new StringReader("a = 1\nb = 2\n[B]\nd = 1\n"));
+		cf.load();
+		assertObjectEquals("['A/c','B/d','b']", changes);
+		assertEquals("2", cf.getString("b"));
+
+		changes.clear();
+		cf.load();
+		assertTrue(changes.isEmpty());
+	}
 }
\ No newline at end of file
@@ -17,6 +17,8 @@ import static org.junit.Assert.*;
 
 import java.io.*;
 import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
@@ -201,4 +203,41 @@ public class ConfigMgrTest {
 
 		ConfigMgr.main(new String[]{});
 	}
+
+	//====================================================================================================
+	// startWatcher(long)
+	//====================================================================================================
+	@Test
+	public void testWatcher() throws Exception {
+		ConfigMgr cm = new ConfigMgr(false, new XorEncoder(), JsonSerializer.DEFAULT, JsonParser.DEFAULT, Charset.defaultCharset(), new String[]{tempDir.getAbsolutePath()});
+		ConfigFile cf = cm.get("TestWatcher.cfg", true);
+		cf.put("A/a", "1");
+		cf.save();
+
+		final BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<Set<String>>();
+		cf.addListener(
+			new ConfigFileListener() {
+				@Override /* ConfigFileListener */
+				public void onChange(ConfigFile cf2, Set<String> ss) {
+					changes.add(ss);
+				}
+			}
+		);
+
+		cm.startWatcher(10);
+		try {
+			File f = new File(tempDir, "TestWatcher.cfg");
+			long lm = f.lastModified();
+			IOUtils.write(f, new StringReader("[A]\na = 2\n"));
+			f.setLastModified(lm + 2000);  // Some file systems only have 1 second granularity.
+
+			assertObjectEquals("['A/a']", changes.poll(10, TimeUnit.SECONDS));
+			assertEquals("2", cf.getString("A/a"));
+		} finally {
+			cm.stopWatcher();
+		}
+
+		ConfigMgr cm2 = new ConfigMgr(true, null, null, null, null, new String[]{tempDir.getAbsolutePath()});
+		try { cm2.startWatcher(10); fail(); } catch (UnsupportedOperationException e) {}
+	}
 }
\ No newline at end of file
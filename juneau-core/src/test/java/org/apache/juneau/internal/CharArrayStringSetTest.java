@@ -0,0 +1,78 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class CharArrayStringSetTest {
+
+	//====================================================================================================
+	// Lookups from strings and char buffers.
+	//====================================================================================================
+	@Test
+	public void testFind() throws Exception {
+		List<String> l = new ArrayList<String>();
+		for (int i = 0; i < 500; i++)
+			l.add(new String("f" + i));
+		l.add("");
+		l.add(null);
+		CharArrayStringSet s = new CharArrayStringSet(l);
+
+		for (String x : l) {
+			if (x == null)
+				continue;
+			assertSame(x, s.find(new String(x)));
+			char[] c = ("{" + x + "}").toCharArray();
+			assertSame(x, s.find(c, 1, x.length()));
+		}
+
+		char[] c = "f1f2f500xf".toCharArray();
+		assertEquals("f1", s.find(c, 0, 2));
+		assertEquals("f2", s.find(c, 2, 2));
+		assertNull(s.find(c, 4, 4));
+		assertNull(s.find(c, 9, 1));
+		assertNull(s.find("f500"));
+		assertNull(s.find((String)null));
+	}
+
+	//====================================================================================================
+	// Large sets.
+	//====================================================================================================
+	@Test
+	public void testLarge() throws Exception {
+		List<String> l = new ArrayList<String>();
+		for (int i = 0; i < 100000; i++)
+			l.add("property" + i);
+		CharArrayStringSet s = new CharArrayStringSet(l);
+		for (String x : l)
+			assertSame(x, s.find(x.toCharArray(), 0, x.length()));
+		assertNull(s.find("property100000"));
+		assertNull(s.find("property".toCharArray(), 0, 8));
+	}
+
+	//====================================================================================================
+	// Empty sets.
+	//====================================================================================================
+	@Test
+	public void testEmpty() throws Exception {
+		CharArrayStringSet s = new CharArrayStringSet(Collections.<String>emptyList());
+		assertNull(s.find("a"));
+		assertNull(s.find(""));
+		assertNull(s.find("abc".toCharArray(), 0, 3));
+	}
+}
@@ -0,0 +1,188 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import static org.apache.juneau.TestUtils.*;
+import static org.apache.juneau.jena.RdfCommonContext.*;
+import static org.apache.juneau.jena.RdfSerializerContext.*;
+import static org.junit.Assert.*;
+
+import java.net.URI;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.jena.annotation.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class RdfStreamingTest {
+
+	private static RdfSerializer s = new RdfSerializer.NTriple().setProperty(RDF_streaming, true).setProperty(RDF_addRootProperty, true).lock();
+	private static RdfParser p = new RdfParser.NTriple().setProperty(RDF_streaming, true).lock();
+
+	//====================================================================================================
+	// Triples are written directly without a model.
+	//====================================================================================================
+	@Test
+	public void testSerialize() throws Exception {
+		String r = s.serialize(new A().init());
+		String expected = ""
+			+ "<http://test/a> <http://ns/f1> \"1\" .\n"
+			+ "<http://test/a> <http://ns/f2> \"quote\\\" newline_x000A_ unicode\\u00E9\" .\n"
+			+ "<http://test/a> <http://ns/f4> <http://test/external> .\n"
+			+ "_:b1 <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> <http://www.w3.org/1999/02/22-rdf-syntax-ns#Seq> .\n"
+			+ "<http://test/a/a1> <http://ns/f1> \"1\" .\n"
+			+ "<http://test/a/a1> <http://ns/f2> \"f2\" .\n"
+			+ "_:b1 <http://www.w3.org/1999/02/22-rdf-syntax-ns#_1> <http://test/a/a1> .\n"
+			+ "<http://test/a> <http://ns/f5> _:b1 .\n"
+			+ "<http://test/a> <http://www.apache.org/juneau/root> \"true\" .\n";
+		assertEquals(expected, r);
+	}
+
+	//====================================================================================================
+	// Typed literals.
+	//====================================================================================================
+	@Test
+	public void testAddLiteralTypes() throws Exception {
+		RdfSerializer s2 = s.clone().setProperty(RDF_addLiteralTypes, true).setProperty(RDF_addRootProperty, false);
+		String r = s2.serialize(new ObjectMap("{a:1,b:true,c:'foo'}"));
+		String expected = ""
+			+ "_:b1 <http://www.apache.org/juneaubp/a> \"1\"^^<http://www.w3.org/2001/XMLSchema#int> .\n"
+			+ "_:b1 <http://www.apache.org/juneaubp/b> \"true\"^^<http://www.w3.org/2001/XMLSchema#boolean> .\n"
+			+ "_:b1 <http://www.apache.org/juneaubp/c> \"foo\" .\n";
+		assertEquals(expected, r);
+
+		ObjectMap m = p.parse(r, ObjectMap.class);
+		assertObjectEquals("{a:1,b:true,c:'foo'}", m);
+		assertTrue(m.get("a") instanceof Integer);
+	}
+
+	//====================================================================================================
+	// Round trip through the streaming serializer and parser.
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		A a = new A().init();
+		A a2 = p.parse(s.serialize(a), A.class);
+		assertEqualObjects(a, a2);
+
+		for (RdfCollectionFormat f : RdfCollectionFormat.values()) {
+			RdfSerializer s2 = s.clone().setProperty(RDF_collectionFormat, f);
+			RdfParser p2 = p.clone().setProperty(RDF_collectionFormat, f);
+			B b = new B().init();
+			B b2 = p2.parse(s2.serialize(b), B.class);
+			assertEqualObjects(b, b2);
+		}
+	}
+
+	//====================================================================================================
+	// Loose collections.
+	//====================================================================================================
+	@Test
+	public void testLooseCollections() throws Exception {
+		RdfSerializer s2 = s.clone().setProperty(RDF_looseCollections, true).setProperty(RDF_addRootProperty, false);
+		RdfParser p2 = p.clone().setProperty(RDF_looseCollections, true);
+		List<A> l = new LinkedList<A>();
+		l.add(new A().init());
+		l.add(new A().init());
+		l.get(1).f3 = new URI("http://test/b");
+		l.get(1).f5 = new LinkedList<A1>();
+
+		List<A> l2 = p2.parseCollection(s2.serialize(l), LinkedList.class, A.class);
+		assertEquals(2, l2.size());
+		Collections.sort(l2, new Comparator<A>() {
+			@Override /* Comparator */
+			public int compare(A o1, A o2) {
+				return o1.f3.compareTo(o2.f3);
+			}
+		});
+		assertEqualObjects(l, l2);
+	}
+
+	//====================================================================================================
+	// Parsing generic N-Triples input produced by other tools.
+	//====================================================================================================
+	@Test
+	public void testParseGeneric() throws Exception {
+		String in = ""
+			+ "# Comment\n"
+			+ "<http://test/x> <http://ns/name> \"Tab\\there\"@en .\n"
+			+ "\n"
+			+ "<http://test/x>\t<http://ns/size>  \"123\"^^<http://www.w3.org/2001/XMLSchema#integer>.\n"
+			+ "<http://test/x> <http://ns/link> <http://test/y> .\n";
+		ObjectMap m = p.parse(in, ObjectMap.class);
+		assertObjectEquals("{uri:'http://test/x',name:'Tab\\there',size:123,link:'http://test/y'}", m);
+
+		// Periods are allowed in blank node labels, except as the last character.
+		in = ""
+			+ "<http://test/x> <http://ns/child> _:b.1.\n"
+			+ "_:b.1 <http://ns/name> \"foo\" .\n";
+		m = p.parse(in, ObjectMap.class);
+		assertObjectEquals("{uri:'http://test/x',child:{name:'foo'}}", m);
+
+		try {
+			p.parse("<http://test/x> <http://ns/name> \"foo\"", ObjectMap.class);
+			fail("Exception expected");
+		} catch (Exception e) {
+			assertTrue(e.getMessage().contains("Expected '.'"));
+		}
+	}
+
+	@Rdf(prefix="a", namespace="http://ns/")
+	public static class A {
+		public int f1;
+		public String f2;
+		@Rdf(beanUri=true) public URI f3;
+		public URI f4;
+		public LinkedList<A1> f5 = new LinkedList<A1>();
+
+		public A init() throws Exception {
+			f1 = 1;
+			f2 = "quote\" newline\n unicodeé";
+			f3 = new URI("http://test/a");
+			f4 = new URI("http://test/external");
+			f5.add(new A1().init());
+			return this;
+		}
+	}
+
+	@Rdf(prefix="a", namespace="http://ns/")
+	public static class A1 {
+		public int f1;
+		public String f2;
+		@Rdf(beanUri=true) public URI f3;
+
+		public A1 init() throws Exception {
+			f1 = 1;
+			f2 = "f2";
+			f3 = new URI("http://test/a/a1");
+			return this;
+		}
+	}
+
+	@Rdf(prefix="b", namespace="http://ns/")
+	public static class B {
+		@Rdf(beanUri=true) public URI f1;
+		public String[] f2;
+		public List<Integer> f3;
+		public Map<String,Object> f4;
+
+		public B init() throws Exception {
+			f1 = new URI("http://test/b");
+			f2 = new String[]{"f2a","f2b"};
+			f3 = Arrays.asList(new Integer[]{1,2});
+			f4 = new ObjectMap("{x:'x1',y:'y1'}");
+			return this;
+		}
+	}
+}
@@ -14,6 +14,9 @@ package org.apache.juneau.json;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
@@ -316,6 +319,70 @@ public class JsonParserTest {
 		}
 	}
 
+	//====================================================================================================
+	// parseIterator()
+	//====================================================================================================
+	@Test
+	public void testParseIterator() throws Exception {
+		ParserIterator<A> i = p.parseIterator(" /*x*/ [{fa:'a'}, {fa:'b'} ,{fa:'c'}] ", A.class);
+		assertTrue(i.hasNext());
+		assertTrue(i.hasNext());
+		assertEquals("a", i.next().fa);
+		assertEquals("b", i.next().fa);
+		assertEquals("c", i.next().fa);
+		assertFalse(i.hasNext());
+		try {
+			i.next();
+			fail("Exception expected");
+		} catch (NoSuchElementException e) {}
+
+		i = p.parseIterator("[]", A.class);
+		assertFalse(i.hasNext());
+
+		ParserIterator<Object> i2 = p.parseIterator("[1,'foo',{a:1},[2]]", null);
+		assertEquals(1, i2.next());
+		assertEquals("foo", i2.next());
+		assertEquals("{a:1}", i2.next().toString());
+		assertEquals("[2]", i2.next().toString());
+		assertFalse(i2.hasNext());
+
+		// Elements are parsed lazily, so errors aren't detected until they're reached.
+		i = p.parseIterator("[{fa:'a'},{fa:'b'},]", A.class);
+		assertEquals("a", i.next().fa);
+		assertEquals("b", i.next().fa);
+		try {
+			i.hasNext();
+			fail("Exception expected");
+		} catch (FormattedRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+			assertTrue(e.getLocalizedMessage().contains("Unexpected trailing comma in array."));
+		}
+		assertFalse(i.hasNext());
+
+		try {
+			p.parseIterator("{fa:'a'}", A.class).hasNext();
+			fail("Exception expected");
+		} catch (FormattedRuntimeException e) {
+			assertTrue(e.getLocalizedMessage().contains("Expected '[' at beginning of JSON array."));
+		}
+
+		// The input is closed when the iterator is exhausted or closed.
+		final boolean[] closed = new boolean[1];
+		Reader r = new StringReader("[{fa:'a'},{fa:'b'}]") {
+			@Override /* Reader */
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		i = p.parseIterator(r, A.class);
+		assertEquals("a", i.next().fa);
+		assertFalse(closed[0]);
+		i.close();
+		assertTrue(closed[0]);
+		assertFalse(i.hasNext());
+		i.close();
+	}
+
 	public static class C {
 		String f;
 		public static C valueOf(String s) {
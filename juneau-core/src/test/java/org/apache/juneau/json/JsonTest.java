@@ -19,6 +19,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -304,4 +305,43 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// testCompiledBeanPlans
+	//====================================================================================================
+	@Test
+	public void testCompiledBeanPlans() throws Exception {
+		D d = new D();
+		d.child = new D();
+		d.child.s = " bar ";
+		d.other = new D2();
+
+		assertEquals("{s:'foo',i:1,b:true,l:null,'class':'x\\/y',child:{s:' bar ',i:1,b:true,l:null,'class':'x\\/y',child:null,other:null,o:[1,2]},other:{s:'foo',i:1,b:true,l:null,'class':'x\\/y',child:null,other:null,o:[1,2],x:2},o:[1,2]}", new JsonSerializer.Simple().setProperty(SERIALIZER_trimNullProperties, false).setProperty(JSON_escapeSolidus, true).serialize(d));
+		assertEquals("{\"s\":\"foo\",\"i\":1,\"b\":true,\"class\":\"x/y\",\"child\":{\"s\":\"bar\",\"i\":1,\"b\":true,\"class\":\"x/y\",\"o\":[1,2]},\"other\":{\"s\":\"foo\",\"i\":1,\"b\":true,\"class\":\"x/y\",\"o\":[1,2],\"x\":2},\"o\":[1,2]}", new JsonSerializer().setProperty(SERIALIZER_trimStrings, true).serialize(d));
+
+		// Recursion detection still applies to bean properties.
+		d.child = d;
+		d.other = null;
+		try {
+			new JsonSerializer.Simple().setProperty(SERIALIZER_detectRecursions, true).serialize(d);
+			fail("Exception expected");
+		} catch (SerializeException e) {
+			assertTrue(e.getLocalizedMessage().contains("Recursion occurred"));
+		}
+		assertEquals("{s:'foo',i:1,b:true,'class':'x/y',o:[1,2]}", new JsonSerializer.Simple().setProperty(SERIALIZER_detectRecursions, true).setProperty(SERIALIZER_ignoreRecursions, true).serialize(d));
+	}
+
+	public static class D {
+		public String s = "foo";
+		public int i = 1;
+		public Boolean b = true;
+		public Long l;
+		@BeanProperty(name="class") public String c = "x/y";
+		public D child, other;
+		public Object o = new int[]{1,2};
+	}
+
+	public static class D2 extends D {
+		public int x = 2;
+	}
 }
\ No newline at end of file
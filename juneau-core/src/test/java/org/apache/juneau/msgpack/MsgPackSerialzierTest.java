@@ -14,7 +14,11 @@ package org.apache.juneau.msgpack;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+import java.util.*;
+
 import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
 import org.junit.*;
 
 @SuppressWarnings({"javadoc"})
@@ -203,6 +207,47 @@ public class MsgPackSerialzierTest {
 		test(new ObjectMap("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// MsgPackParser.parseIterator()
+	//====================================================================================================
+	@Test
+	public void testParseIterator() throws Exception {
+		List<Person> l = new ArrayList<Person>();
+		for (int i = 0; i < 20; i++) {
+			Person p = new Person();
+			p.age = i;
+			l.add(p);
+		}
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+
+		ParserIterator<Person> i = MsgPackParser.DEFAULT.parseIterator(b, Person.class);
+		for (int j = 0; j < 20; j++) {
+			assertTrue(i.hasNext());
+			Person p = i.next();
+			assertEquals(j, p.age);
+			assertEquals("John Smith", p.name);
+		}
+		assertFalse(i.hasNext());
+
+		// The rest of the input is read once the end of the array is reached.
+		byte[] b2 = Arrays.copyOf(b, b.length + 10000);
+		ByteArrayInputStream is = new ByteArrayInputStream(b2);
+		i = MsgPackParser.DEFAULT.parseIterator(is, Person.class);
+		while (i.hasNext())
+			i.next();
+		assertEquals(0, is.available());
+
+		i = MsgPackParser.DEFAULT.parseIterator(MsgPackSerializer.DEFAULT.serialize(new ArrayList<Person>()), Person.class);
+		assertFalse(i.hasNext());
+
+		try {
+			MsgPackParser.DEFAULT.parseIterator(MsgPackSerializer.DEFAULT.serialize("foo"), Person.class).hasNext();
+			fail("Exception expected");
+		} catch (FormattedRuntimeException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
@@ -0,0 +1,92 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.parser.ParserContext.*;
+import static org.junit.Assert.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class SymbolTableTest {
+
+	//====================================================================================================
+	// Lookups by characters and by string.
+	//====================================================================================================
+	@Test
+	public void testFind() throws Exception {
+		SymbolTable t = new SymbolTable(16);
+		char[] c = "xfooy".toCharArray();
+		assertNull(t.find(c, 1, 3));
+		String s = new String("foo");
+		t.add(s);
+		assertSame(s, t.find(c, 1, 3));
+		assertSame(s, t.find(new String("foo")));
+		assertNull(t.find(c, 1, 2));
+		assertNull(t.find("bar"));
+
+		// Strings that are too long are never added.
+		String l = "0123456789012345678901234567890123456789";
+		t.add(l);
+		assertNull(t.find(l));
+	}
+
+	//====================================================================================================
+	// Parsed keys and values are deduplicated.
+	//====================================================================================================
+	@Test
+	public void testParsersDeduplicate() throws Exception {
+		ObjectList l = new ObjectList("[{foo:'bar'},{foo:'bar'},{foo:'bar'}]");
+		Parser[] parsers = {
+			JsonParser.DEFAULT,
+			UonParser.DEFAULT,
+			XmlParser.DEFAULT,
+			MsgPackParser.DEFAULT,
+		};
+		Object[] inputs = {
+			JsonSerializer.DEFAULT.serialize(l),
+			UonSerializer.DEFAULT.serialize(l),
+			XmlSerializer.DEFAULT.serialize(l),
+			MsgPackSerializer.DEFAULT.serialize(l),
+		};
+
+		for (int i = 0; i < parsers.length; i++) {
+			Parser p = parsers[i].clone().setProperty(PARSER_symbolTableSize, 64);
+			ObjectList l2 = p.parse(inputs[i], ObjectList.class);
+			assertEquals(l.toString(), l2.toString());
+			assertSame(l2.getObjectMap(0).get("foo"), l2.getObjectMap(2).get("foo"));
+			assertSame(l2.getObjectMap(0).keySet().iterator().next(), l2.getObjectMap(2).keySet().iterator().next());
+			ParserSession session = p.createSession(inputs[i], null, null, null);
+			try {
+				assertTrue(session.getSymbolTable().getHitCount() > 0);
+			} finally {
+				session.close();
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Disabled by default.
+	//====================================================================================================
+	@Test
+	public void testDisabled() throws Exception {
+		ObjectList l = JsonParser.DEFAULT.parse("[{foo:'bar'},{foo:'bar'}]", ObjectList.class);
+		assertNotSame(l.getObjectMap(0).get("foo"), l.getObjectMap(1).get("foo"));
+		assertNull(JsonParser.DEFAULT.getContextFactory().getContext(ParserContext.class).getSymbolTable());
+	}
+}
@@ -997,4 +997,34 @@ public class UrlEncodingParserTest {
 		+"}";
 		assertSortedObjectEquals(e, t);
 	}
+
+	//====================================================================================================
+	// Simple form posts parsed directly into beans
+	//====================================================================================================
+	@Test
+	public void testSimpleBeanProperties() throws Exception {
+		UrlEncodingParser p = UrlEncodingParser.DEFAULT;
+		String in = "?f1=foo+bar%20%C3%A9&f2=123&f3=-1.5&f4=true&f5=x%26y%3Dz&f6=&f7";
+		F t = p.parse(in, F.class);
+		assertObjectEquals("{f1:'foo bar \u00E9',f2:123,f3:-1.5,f4:true,f5:'x&y=z'}", t);
+
+		// Values requiring the UON parser.
+		t = p.parse("f1=(foo)&f5=(a=b)&f7=$b(true)", F.class);
+		assertObjectEquals("{f1:'foo',f2:0,f3:0.0,f4:false,f5:'a=b',f7:true}", t);
+
+		try {
+			p.parse("f4=foo", F.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getLocalizedMessage().contains("Unrecognized syntax for boolean"));
+		}
+	}
+
+	public static class F {
+		public String f1;
+		public int f2;
+		public double f3;
+		public boolean f4;
+		public Object f5, f6, f7;
+	}
 }
\ No newline at end of file
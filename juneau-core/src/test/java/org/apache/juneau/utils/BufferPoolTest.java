@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.urlencoding.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class BufferPoolTest {
+
+	//====================================================================================================
+	// testBasic
+	//====================================================================================================
+	@Test
+	public void testBasic() throws Exception {
+		BufferPool p = new BufferPool(2, 100);
+
+		char[] c1 = p.getChars(10), c2 = p.getChars(50);
+		assertEquals(10, c1.length);
+		assertEquals(2, p.getAllocatedCount());
+
+		p.release(c1);
+		p.release(c2);
+		p.release(new char[10]);   // Pool full.
+		p.release(new char[200]);  // Too large.
+		assertEquals(2, p.getReleasedCount());
+		assertEquals(2, p.getDiscardedCount());
+
+		// Any buffer at least as large as requested is reused.
+		assertSame(c2, p.getChars(20));
+		assertSame(c1, p.getChars(5));
+		assertEquals(2, p.getReusedCount());
+		assertEquals(60, p.getChars(60).length);
+
+		byte[] b = p.getBytes(10);
+		p.release(b);
+		assertSame(b, p.getBytes(10));
+
+		StringBuilder sb = p.getStringBuilder(10);
+		sb.append("foo");
+		p.release(sb);
+		assertSame(sb, p.getStringBuilder(10));
+		assertEquals(0, sb.length());
+
+		// Larger buffers replace the smallest one when the pool is full.
+		p = new BufferPool(1, 100);
+		p.release(new char[10]);
+		char[] c3 = new char[50];
+		p.release(c3);
+		p.release(new char[20]);
+		assertSame(c3, p.getChars(20));
+		assertEquals(2, p.getReleasedCount());
+		assertEquals(2, p.getDiscardedCount());
+	}
+
+	//====================================================================================================
+	// Buffers are not shared between threads.
+	//====================================================================================================
+	@Test
+	public void testThreadLocal() throws Exception {
+		final BufferPool p = new BufferPool(2, 100);
+		final char[] c = p.getChars(10);
+		p.release(c);
+		final Object[] r = new Object[1];
+		Thread t = new Thread() {
+			@Override /* Thread */
+			public void run() {
+				r[0] = p.getChars(10);
+			}
+		};
+		t.start();
+		t.join();
+		assertNotSame(c, r[0]);
+		assertSame(c, p.getChars(10));
+	}
+
+	//====================================================================================================
+	// Closed parser readers return their buffers and can be closed more than once.
+	//====================================================================================================
+	@Test
+	public void testParserReader() throws Exception {
+		ParserReader r = new ParserReader("foobar");
+		assertEquals('f', r.read());
+		r.close();
+		assertEquals(-1, r.read());
+		r.close();
+
+		// Reused buffers must not leak previous contents.
+		for (int i = 0; i < 3; i++)
+			assertEquals("[1,2,3]", JsonSerializer.DEFAULT.serialize(JsonParser.DEFAULT.parse("[1,2,3]", int[].class)));
+		assertEquals("abc", IOUtils.read(new StringReader("abc")));
+		assertEquals("d", IOUtils.read(new StringReader("d")));
+	}
+
+	//====================================================================================================
+	// Parser sessions return their reader buffers to the default pool.
+	//====================================================================================================
+	@Test
+	public void testParserSessions() throws Exception {
+		Parser[] parsers = {JsonParser.DEFAULT, UonParser.DEFAULT};
+		String[] inputs = {"[1,2,3]", "$a(1,2,3)"};
+		for (int i = 0; i < parsers.length; i++) {
+			for (boolean useReader : new boolean[]{false, true}) {
+				parsers[i].parse(useReader ? new StringReader(inputs[i]) : inputs[i], int[].class);
+				BufferPool p = BufferPool.DEFAULT;
+				long reused = p.getReusedCount(), released = p.getReleasedCount();
+				for (int j = 0; j < 5; j++) {
+					Object in = (useReader ? new StringReader(inputs[i]) : inputs[i]);
+					assertEquals("[1, 2, 3]", Arrays.toString(parsers[i].parse(in, int[].class)));
+				}
+				String msg = parsers[i].getClass().getSimpleName() + "/" + useReader;
+				assertTrue(msg, p.getReusedCount() - reused >= 5);
+				assertTrue(msg, p.getReleasedCount() - released >= 5);
+			}
+		}
+	}
+}
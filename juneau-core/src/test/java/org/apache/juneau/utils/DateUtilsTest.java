@@ -0,0 +1,141 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import javax.xml.bind.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.transforms.*;
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class DateUtilsTest {
+
+	private static final TimeZone PST = TimeZone.getTimeZone("PST");
+
+	//====================================================================================================
+	// Formatting matches SimpleDateFormat and DatatypeConverter.
+	//====================================================================================================
+	@Test
+	public void testFormat() throws Exception {
+		Calendar c = new GregorianCalendar(PST, Locale.US);
+		c.setTimeInMillis(994285845123L);
+
+		assertEquals("2001-07-04T15:30:45", DateUtils.appendIso8601(new StringBuilder(), c, false).toString());
+		assertEquals("2001-07-04T15:30:45.123", DateUtils.appendIso8601(new StringBuilder(), c, true).toString());
+		assertEquals("Wed, 04 Jul 2001 15:30:45", DateUtils.appendRfc2822(new StringBuilder(), c).toString());
+
+		assertEquals("Z", DateUtils.appendIso8601Offset(new StringBuilder(), 0).toString());
+		assertEquals("-07:00", DateUtils.appendIso8601Offset(new StringBuilder(), -25200000).toString());
+		assertEquals("+05:30", DateUtils.appendIso8601Offset(new StringBuilder(), 19800000).toString());
+		assertEquals("+0000", DateUtils.appendRfc2822Offset(new StringBuilder(), 0).toString());
+		assertEquals("-0700", DateUtils.appendRfc2822Offset(new StringBuilder(), -25200000).toString());
+
+		c.set(Calendar.YEAR, 12001);
+		assertEquals("12001-07-04T15:30:45", DateUtils.appendIso8601(new StringBuilder(), c, false).toString());
+		c.set(Calendar.YEAR, 12);
+		assertEquals("0012-07-04T15:30:45", DateUtils.appendIso8601(new StringBuilder(), c, false).toString());
+
+		// Random dates in random time zones.
+		Random r = new Random(1);
+		String[] ids = TimeZone.getAvailableIDs();
+		SimpleDateFormat f1 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS", Locale.US), f2 = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Locale.US);
+		for (int i = 0; i < 10000; i++) {
+			TimeZone tz = TimeZone.getTimeZone(ids[r.nextInt(ids.length)]);
+			c = new GregorianCalendar(tz, Locale.US);
+			c.setTimeInMillis((long)(r.nextDouble() * 1e13) - 5000000000000L);
+			f1.setTimeZone(tz);
+			f2.setTimeZone(tz);
+			int offset = c.get(Calendar.ZONE_OFFSET) + c.get(Calendar.DST_OFFSET);
+			assertEquals(f1.format(c.getTime()), DateUtils.appendIso8601(new StringBuilder(), c, true).toString());
+			assertEquals(f2.format(c.getTime()), DateUtils.appendRfc2822Offset(DateUtils.appendRfc2822(new StringBuilder(), c).append(' '), offset).toString());
+			assertEquals(DatatypeConverter.printDateTime(c), DateUtils.appendIso8601Offset(DateUtils.appendIso8601(new StringBuilder(), c, c.get(Calendar.MILLISECOND) != 0), tz.getOffset(c.getTimeInMillis())).toString());
+		}
+	}
+
+	//====================================================================================================
+	// Parsing matches DatatypeConverter.
+	//====================================================================================================
+	@Test
+	public void testParse() throws Exception {
+		String[] in = {
+			"2001-07-04T15:30:45-05:00", "2001-07-04T15:30:45Z", "2001-07-04T15:30:45.1Z", "2001-07-04T15:30:45.123456+05:30",
+			"2001-07-04T15:30:45", "2001-07-04", "2001-07", "2001", "2001-07-04Z", "2001-07-04T15:30:45-00:00", "12001-01-01T00:00:00Z",
+			"1200-03-01T00:00:00+01:00", "2000-02-29",
+			// Handled by DatatypeConverter.
+			"-0044-03-15T00:00:00Z", "2001-07-04T24:00:00Z", "2001-07-04T15:30:45+14:00", "15:30:45"
+		};
+		for (String s : in) {
+			Calendar c1 = DatatypeConverter.parseDateTime(s), c2 = DateUtils.parseIso8601(s);
+			assertEquals(s, c1.getTimeInMillis(), c2.getTimeInMillis());
+			assertEquals(s, c1.getTimeZone().getID(), c2.getTimeZone().getID());
+			assertEquals(s, DatatypeConverter.printDateTime(c1), DatatypeConverter.printDateTime(c2));
+		}
+
+		String[] invalid = {"", "foo", "01", "2001-13", "2001-02-29", "2001-07-04T15:30Z", "2001-07-04T15:30:45.Z", "2001-07-04T15:30:45+0500"};
+		for (String s : invalid) {
+			try {
+				DateUtils.parseIso8601(s);
+				fail("Exception expected: " + s);
+			} catch (IllegalArgumentException e) {
+				// OK
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Swaps can be shared between threads.
+	//====================================================================================================
+	@Test
+	public void testConcurrentSwaps() throws Exception {
+		final DateSwap[] dateSwaps = {new DateSwap.ISO8601DT(), new DateSwap.ISO8601DTP(), new DateSwap.RFC2822DT(), new DateSwap.SimpleDT()};
+		final CalendarSwap[] calendarSwaps = {new CalendarSwap.ISO8601DT(), new CalendarSwap.RFC2822DT(), new CalendarSwap.RFC2822DTZ()};
+		final String[] ids = {"PST", "GMT", "Asia/Kolkata", "Europe/Paris"};
+		final ClassMeta<Calendar> cm = BeanContext.DEFAULT.getClassMeta(Calendar.class);
+
+		ExecutorService es = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Void>> l = new ArrayList<Future<Void>>();
+			for (int t = 0; t < 8; t++) {
+				final int seed = t;
+				l.add(es.submit(new Callable<Void>() {
+					@Override /* Callable */
+					public Void call() throws Exception {
+						Random r = new Random(seed);
+						for (int i = 0; i < 2000; i++) {
+							long time = (r.nextLong() % 2000000000000L + 2000000000000L) / 1000 * 1000;
+							for (DateSwap s : dateSwaps)
+								assertEquals(time, s.unswap(s.swap(new Date(time)), null, null).getTime());
+							Calendar c = new GregorianCalendar(TimeZone.getTimeZone(ids[i % ids.length]));
+							c.setTimeInMillis(time);
+							for (CalendarSwap s : calendarSwaps)
+								assertEquals(time, s.unswap(s.swap(c), cm, null).getTimeInMillis());
+						}
+						return null;
+					}
+				}));
+			}
+			for (Future<Void> f : l)
+				f.get();
+		} finally {
+			es.shutdown();
+		}
+	}
+}
@@ -14,6 +14,8 @@ package org.apache.juneau.utils;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+
 import org.apache.juneau.internal.*;
 import org.apache.juneau.svl.*;
 import org.junit.*;
@@ -295,6 +297,57 @@ public class StringVarResolverTest {
 		}
 	}
 
+	//====================================================================================================
+	// Compiled strings and constant vars
+	//====================================================================================================
+	@Test
+	public void testConstantVars() throws Exception {
+		VarResolver vr = new VarResolver().addVars(CVar.class, NVar.class);
+		VarResolverSession vs = vr.createSession();
+		CVar.count = NVar.count = 0;
+
+		for (int i = 0; i < 3; i++) {
+			assertEquals("cac", vs.resolve("$C{a}"));
+			assertEquals("xcbcx", vs.resolve("x$C{b}x"));
+			assertEquals("ncdcn", vs.resolve("$N{$C{d}}"));
+			assertEquals("nencf$cx", vs.resolve("$N{e}$C{f\\$}x"));  // Values containing '$' are not folded.
+		}
+		assertEquals(7, CVar.count);
+		assertEquals(6, NVar.count);
+
+		StringWriter sw = new StringWriter();
+		vs.resolveTo("$C{a}-$N{b}", sw);
+		assertEquals("cac-nbn", sw.toString());
+	}
+
+	public static class CVar extends SimpleVar {
+		static int count;
+		public CVar() {
+			super("C");
+		}
+		@Override /* Var */
+		protected boolean isConstant() {
+			return true;
+		}
+		@Override /* Var */
+		public String resolve(VarResolverSession session, String key) {
+			count++;
+			return "c" + key + "c";
+		}
+	}
+
+	public static class NVar extends SimpleVar {
+		static int count;
+		public NVar() {
+			super("N");
+		}
+		@Override /* Var */
+		public String resolve(VarResolverSession session, String key) {
+			count++;
+			return "n" + key + "n";
+		}
+	}
+
 	public static class InvalidVar extends SimpleVar {
 		public InvalidVar(String c) {
 			super(c);
@@ -181,6 +181,27 @@ public class XmlTest {
 		public int f1 = 1;
 	}
 
+	//====================================================================================================
+	// Property name with invalid XML characters.
+	//====================================================================================================
+	@Test
+	public void testPropertyNameWithInvalidChars() throws Exception {
+		XmlSerializer s = XmlSerializer.DEFAULT_SIMPLE_SQ;
+		XmlParser p = XmlParser.DEFAULT;
+		D2 t = new D2();
+		t.f2 = new D2();
+		String r = s.serialize(t);
+		assertEquals("<object><f_x0020_1>1</f_x0020_1><_x0032_f><f_x0020_1>1</f_x0020_1></_x0032_f></object>", r);
+		t = p.parse(r, D2.class);
+		assertEquals(1, t.f1);
+		assertEquals(1, t.f2.f1);
+	}
+
+	public static class D2 {
+		@BeanProperty(name="f 1") public int f1 = 1;
+		@BeanProperty(name="2f") public D2 f2;
+	}
+
 	//====================================================================================================
 	// Field of type collection with element name.
 	// Element name should be ignored.
@@ -14,6 +14,7 @@ package org.apache.juneau.microservice;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.logging.*;
 
 import javax.servlet.*;
@@ -32,6 +33,7 @@ import org.eclipse.jetty.server.ssl.*;
 import org.eclipse.jetty.servlet.*;
 import org.eclipse.jetty.util.security.*;
 import org.eclipse.jetty.util.ssl.*;
+import org.eclipse.jetty.util.thread.*;
 
 /**
  * Entry point for Juneau microservice that implements a REST interface using Jetty on a single port.
@@ -285,6 +287,14 @@ public class RestMicroservice extends Microservice {
 	 * 	<cc># Enable SSL support.</cc>
 	 * 	<ck>useSsl</ck> = false
 	 *
+	 * 	<cc># The threads used to execute requests:  DEFAULT, VIRTUAL.
+	 * 	# See createThreadPool() for details.</cc>
+	 * 	<ck>threadModel</ck> = DEFAULT
+	 *
+	 * 	<cc># The maximum number of threads in the DEFAULT thread pool.
+	 * 	# Default is the Jetty default.</cc>
+	 * 	<ck>maxThreads</ck> =
+	 *
 	 * 	<cc>#================================================================================
 	 * 	# Bean properties on the org.eclipse.jetty.util.ssl.SslSocketFactory class
 	 * 	#--------------------------------------------------------------------------------
@@ -340,6 +350,10 @@ public class RestMicroservice extends Microservice {
 			server = new Server(port);
 		}
 
+		ThreadPool threadPool = createThreadPool();
+		if (threadPool != null)
+			server.setThreadPool(threadPool);
+
 		ServletContextHandler context = new ServletContextHandler(ServletContextHandler.SESSIONS);
 
 		String authType = cf.getString("REST/authType", mf.getString("Rest-AuthType", "NONE"));
@@ -355,6 +369,54 @@ public class RestMicroservice extends Microservice {
 		return server;
 	}
 
+	/**
+	 * Creates the thread pool used by the Jetty server created by {@link #createServer()}.
+	 * <p>
+	 * The default implementation is configured by the following values in the config file:
+	 * <ul class='spaced-list'>
+	 * 	<li><code>REST/threadModel</code> - <js>"DEFAULT"</js> uses a Jetty {@link QueuedThreadPool}.
+	 * 		<js>"VIRTUAL"</js> runs each request on a new virtual thread so that blocking resource methods don't tie up
+	 * 		platform threads.  Virtual threads require Java 21 or later.  On older JVMs, a warning is logged and the
+	 * 		default thread pool is used.
+	 * 	<li><code>REST/maxThreads</code> - The maximum number of threads in the default thread pool.
+	 * </ul>
+	 * <p>
+	 * Subclasses can override this method to provide their own thread pool.
+	 *
+	 * @return The thread pool, or <jk>null</jk> to use the Jetty default.
+	 * @throws Exception
+	 */
+	protected ThreadPool createThreadPool() throws Exception {
+		ConfigFile cf = getConfig();
+
+		String threadModel = cf.getString("REST/threadModel", "DEFAULT");
+		if (threadModel.equalsIgnoreCase("VIRTUAL")) {
+			ExecutorService es = createVirtualThreadExecutor();
+			if (es != null)
+				return new ExecutorThreadPool(es);
+			logger.warning("Virtual threads are not supported on this JVM.  Using the default thread pool.");
+		} else if (! (threadModel.isEmpty() || threadModel.equalsIgnoreCase("DEFAULT"))) {
+			throw new FormattedRuntimeException("Invalid value for REST/threadModel: ''{0}''.  Must be DEFAULT or VIRTUAL.", threadModel);
+		}
+
+		int maxThreads = cf.getInt("REST/maxThreads", -1);
+		if (maxThreads > 0)
+			return new QueuedThreadPool(maxThreads);
+		return null;
+	}
+
+	/*
+	 * Returns Executors.newVirtualThreadPerTaskExecutor() on JVMs that support it, or null if not.
+	 * Looked up reflectively since this code is compiled for older JVMs.
+	 */
+	private static ExecutorService createVirtualThreadExecutor() {
+		try {
+			return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Method used to start the Jetty server created by {@link #createServer()}.
 	 * <p>
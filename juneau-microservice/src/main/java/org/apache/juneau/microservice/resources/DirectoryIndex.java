@@ -0,0 +1,87 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Cache of directory listings used by {@link DirectoryResource} and {@link LogsResource}.
+ * <p>
+ * 	Listings are reused until the last-modified timestamp of the directory changes, which happens whenever
+ * 	a file is added, removed, or renamed in it.
+ * 	Listings of directories modified within the last couple of seconds aren't cached, since file systems with
+ * 	coarse timestamps could otherwise miss a change made within the same timestamp tick.
+ * <p>
+ * 	Only the list of children is cached.
+ * 	Attributes such as size and timestamps of the children themselves are still read on each request since log
+ * 	files are continuously growing.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+final class DirectoryIndex {
+
+	private static final int MAX_ENTRIES = 1000;
+	private static final long SETTLE_TIME = 2000;
+
+	private final FileFilter filter;
+	private final ConcurrentHashMap<File,Listing> cache = new ConcurrentHashMap<File,Listing>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param filter Optional filter for directory entries.  Can be <jk>null</jk>.
+	 */
+	DirectoryIndex(FileFilter filter) {
+		this.filter = filter;
+	}
+
+	/**
+	 * Returns the children of the specified directory sorted by name.
+	 *
+	 * @param dir The directory.
+	 * @return The children of the directory, or an empty array if it's not a directory or can't be read.
+	 * 	The returned array must not be modified.
+	 */
+	File[] list(File dir) {
+		long lastModified = dir.lastModified();
+		Listing l = cache.get(dir);
+		if (l != null && l.lastModified == lastModified && lastModified != 0)
+			return l.files;
+
+		File[] files = (filter == null ? dir.listFiles() : dir.listFiles(filter));
+		if (files == null)
+			files = new File[0];
+		Arrays.sort(files);
+
+		if (lastModified != 0 && System.currentTimeMillis() - lastModified > SETTLE_TIME) {
+			if (cache.size() >= MAX_ENTRIES)
+				cache.clear();
+			cache.put(dir, new Listing(lastModified, files));
+		} else {
+			cache.remove(dir);
+		}
+		return files;
+	}
+
+	private static final class Listing {
+		final long lastModified;
+		final File[] files;
+
+		Listing(long lastModified, File[] files) {
+			this.lastModified = lastModified;
+			this.files = files;
+		}
+	}
+}
@@ -62,6 +62,7 @@ import org.apache.juneau.utils.*;
 		@Property(name=HTML_uriAnchorText, value=PROPERTY_NAME),
 		@Property(name=HTMLDOC_links, value="{up:'$R{requestParentURI}',options:'?method=OPTIONS',source:'$R{servletParentURI}/source?classes=(org.apache.juneau.server.samples.DirectoryResource)'}"),
 		@Property(name=REST_allowMethodParam, value="*"),
+		@Property(name=REST_cacheSwagger, value="false"),
 		@Property(name="DirectoryResource.rootDir", value=""),
 		@Property(name="DirectoryResource.allowViews", value="false"),
 		@Property(name="DirectoryResource.allowDeletes", value="false"),
@@ -72,6 +73,7 @@ public class DirectoryResource extends Resource {
 	private static final long serialVersionUID = 1L;
 
 	private File rootDir;     // The root directory
+	private final DirectoryIndex index = new DirectoryIndex(null);
 
 	// Settings enabled through servlet init parameters
 	private boolean allowDeletes, allowPuts, allowViews;
@@ -129,12 +131,9 @@ public class DirectoryResource extends Resource {
 
 		if (f.isDirectory()) {
 			List<FileResource> l = new LinkedList<FileResource>();
-			File[] files = f.listFiles();
-			if (files != null) {
-				for (File fc : files) {
-					URL fUrl = new URL(req.getRequestURL().append("/").append(fc.getName()).toString());
-					l.add(new FileResource(fc, fUrl));
-				}
+			for (File fc : index.list(f)) {
+				URL fUrl = new URL(req.getRequestURL().append("/").append(fc.getName()).toString());
+				l.add(new FileResource(fc, fUrl));
 			}
 			return l;
 		}
@@ -191,16 +190,17 @@ public class DirectoryResource extends Resource {
 	 * [VIEW /*]
 	 * 	View the contents of a file.
 	 * 	Applies to files only.
+	 * 	Supports <code>Range</code> and <code>If-Modified-Since</code> headers.
 	 *
 	 * @param req The HTTP request.
 	 * @param res The HTTP response.
-	 * @return A Reader containing the contents of the file.
+	 * @return The contents of the file.
 	 * @throws Exception - If file could not be read or access was not granted.
 	 */
 	@RestMethod(name="VIEW", path="/*",
 		description="View the contents of a file.\nApplies to files only."
 	)
-	public Reader doView(RestRequest req, RestResponse res) throws Exception {
+	public FileStreamResource doView(RestRequest req, RestResponse res) throws Exception {
 		checkAccess(req);
 
 		File f = new File(rootDir.getAbsolutePath() + req.getPathInfo());
@@ -211,24 +211,24 @@ public class DirectoryResource extends Resource {
 		if (f.isDirectory())
 			throw new RestException(SC_METHOD_NOT_ALLOWED, "VIEW not available on directories");
 
-		res.setContentType("text/plain");
-		return new FileReader(f);
+		return new FileStreamResource(f, "text/plain");
 	}
 
 	/**
 	 * [DOWNLOAD /*]
 	 * 	Download the contents of a file.
 	 * 	Applies to files only.
+	 * 	Supports <code>Range</code> and <code>If-Modified-Since</code> headers.
 	 *
 	 * @param req The HTTP request.
 	 * @param res The HTTP response.
-	 * @return A Reader containing the contents of the file.
+	 * @return The contents of the file.
 	 * @throws Exception - If file could not be read or access was not granted.
 	 */
 	@RestMethod(name="DOWNLOAD", path="/*",
 		description="Download the contents of a file.\nApplies to files only."
 	)
-	public Reader doDownload(RestRequest req, RestResponse res) throws Exception {
+	public FileStreamResource doDownload(RestRequest req, RestResponse res) throws Exception {
 		checkAccess(req);
 
 		File f = new File(rootDir.getAbsolutePath() + req.getPathInfo());
@@ -239,8 +239,7 @@ public class DirectoryResource extends Resource {
 		if (f.isDirectory())
 			throw new RestException(SC_METHOD_NOT_ALLOWED, "DOWNLOAD not available on directories");
 
-		res.setContentType("application");
-		return new FileReader(f);
+		return new FileStreamResource(f, "application/octet-stream");
 	}
 
 	/**
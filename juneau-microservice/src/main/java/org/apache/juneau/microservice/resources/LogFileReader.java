@@ -0,0 +1,125 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.charset.*;
+
+/**
+ * Reads lines from a log file while keeping track of their byte positions in the file.
+ * <p>
+ * 	Used by {@link LogParser} and {@link LogIndex} to start reading at arbitrary positions in the file and
+ * 	to pick up lines as they're appended to the file.
+ * <p>
+ * 	Lines are terminated by <js>'\n'</js> or <js>"\r\n"</js> and are decoded using the default charset.
+ */
+final class LogFileReader implements Closeable {
+
+	private final RandomAccessFile raf;
+	private final Charset charset = Charset.defaultCharset();
+	private final long limit;
+	private byte[] buf = new byte[8192], line = new byte[256];
+	private long bufStart;
+	private int bufPos, bufLen;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param f The file to read.
+	 * @param start The byte position of the first line to read.
+	 * @param limit Don't return lines starting at or after this byte position.  <code>-1</code> means no limit.
+	 * @throws IOException
+	 */
+	LogFileReader(File f, long start, long limit) throws IOException {
+		this.raf = new RandomAccessFile(f, "r");
+		this.limit = (limit == -1 ? Long.MAX_VALUE : limit);
+		seek(start);
+	}
+
+	/**
+	 * Returns the byte position of the next line to be read.
+	 *
+	 * @return The byte position of the next line to be read.
+	 */
+	long getPosition() {
+		return bufStart + bufPos;
+	}
+
+	private void seek(long pos) throws IOException {
+		raf.seek(pos);
+		bufStart = pos;
+		bufPos = bufLen = 0;
+	}
+
+	/**
+	 * Reads the next line.
+	 *
+	 * @param partial If <jk>true</jk>, an unterminated line at the end of the file is returned.
+	 * 	If <jk>false</jk>, it's left unread so that it can be read once it's been completely written.
+	 * @return The next line without the line terminator, or <jk>null</jk> if there are no more lines.
+	 * @throws IOException
+	 */
+	String readLine(boolean partial) throws IOException {
+		long lineStart = getPosition();
+		if (lineStart >= limit)
+			return null;
+		int lineLen = 0;
+		while (true) {
+			if (bufPos == bufLen && ! fill()) {
+				if (lineLen > 0 && partial)
+					return decode(lineLen);
+				if (lineLen > 0)
+					seek(lineStart);
+				return null;
+			}
+			int i = bufPos;
+			while (i < bufLen && buf[i] != '\n')
+				i++;
+			int n = i - bufPos;
+			if (lineLen + n > line.length) {
+				byte[] b = new byte[Math.max(line.length * 2, lineLen + n)];
+				System.arraycopy(line, 0, b, 0, lineLen);
+				line = b;
+			}
+			System.arraycopy(buf, bufPos, line, lineLen, n);
+			lineLen += n;
+			if (i < bufLen) {
+				bufPos = i + 1;
+				return decode(lineLen);
+			}
+			bufPos = bufLen;
+		}
+	}
+
+	private boolean fill() throws IOException {
+		long pos = bufStart + bufLen;
+		int n = raf.read(buf, 0, buf.length);
+		if (n <= 0)
+			return false;
+		bufStart = pos;
+		bufPos = 0;
+		bufLen = n;
+		return true;
+	}
+
+	private String decode(int len) {
+		if (len > 0 && line[len-1] == '\r')
+			len--;
+		return new String(line, 0, len, charset);
+	}
+
+	@Override /* Closeable */
+	public void close() throws IOException {
+		raf.close();
+	}
+}
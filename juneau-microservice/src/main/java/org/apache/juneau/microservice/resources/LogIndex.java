@@ -0,0 +1,195 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.text.*;
+import java.util.*;
+import java.util.regex.*;
+
+/**
+ * Sparse timestamp index on a log file.
+ * <p>
+ * Divides the log file into blocks of roughly {@link #BLOCK_SIZE} bytes that start on log record boundaries,
+ * 	and keeps track of the earliest and latest timestamps of the records in each block.
+ * This allows {@link LogParser} to skip directly to the parts of the file that can contain records in a date range
+ * 	instead of parsing every line from the beginning of the file.
+ * Since the minimum and maximum are tracked per block, the results are exact even if records aren't written in strict
+ * 	timestamp order.
+ * Blocks are found by binary search, so lookups take logarithmic time in the size of the file.
+ * <p>
+ * The index is built incrementally.
+ * Each call to {@link #getRange(Date, Date)} only scans the bytes appended to the file since the previous call.
+ * If the file shrinks or its first bytes change (e.g. the log was rotated), the index is rebuilt.
+ * <p>
+ * This class is thread safe.
+ */
+public final class LogIndex {
+
+	/** The approximate number of bytes of log records covered by each index entry. */
+	public static final int BLOCK_SIZE = 65536;
+
+	private final File file;
+	private final LogEntryFormatter formatter;
+	private final DateFormat df;
+
+	// Block start positions.
+	// maxDates[i] is the latest timestamp in blocks 0..i, and minDates[i] is the earliest timestamp in blocks i..size-1,
+	// so both arrays are sorted even if the records aren't.
+	private long[] offsets = new long[16], minDates = new long[16], maxDates = new long[16];
+	private int size;               // Number of blocks, including the last one which may still be growing.
+	private long indexedLength;     // Position after the last complete line scanned.
+	private byte[] head;            // First bytes of the file for detecting when it's been replaced.
+
+	/**
+	 * Constructor.
+	 *
+	 * @param formatter The log entry formatter used to parse the log file.
+	 * @param f The log file.
+	 */
+	public LogIndex(LogEntryFormatter formatter, File f) {
+		this.file = f;
+		this.formatter = formatter;
+		this.df = (DateFormat)formatter.getDateFormat().clone();
+	}
+
+	/**
+	 * Returns the log file of this index.
+	 *
+	 * @return The log file of this index.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Returns the range of bytes in the log file that contains all records within the specified dates.
+	 * <p>
+	 * The range starts and ends on record boundaries.
+	 *
+	 * @param start The start date, or <jk>null</jk> to start at the beginning of the file.
+	 * @param end The end date, or <jk>null</jk> to go to the end of the file.
+	 * @return A two-element array containing the start position and the end position, or <code>-1</code> as the end
+	 * 	position if the range extends to the end of the file.
+	 * @throws IOException If the file could not be read.
+	 */
+	public synchronized long[] getRange(Date start, Date end) throws IOException {
+		update();
+		long s = 0, e = -1;
+		if (start != null) {
+			// First block containing a record at or after the start date.
+			int i = search(maxDates, start.getTime());
+			s = (i == size ? indexedLength : offsets[i]);
+		}
+		if (end != null) {
+			// Block after the last one containing a record at or before the end date.
+			int i = search(minDates, end.getTime() + 1);
+			e = (i == size ? -1 : offsets[i]);
+			if (e != -1 && e < s)
+				e = s;
+		}
+		return new long[]{s, e};
+	}
+
+	/*
+	 * Returns the index of the first block whose date in the specified sorted array is at or after the specified time,
+	 * or size if there isn't one.
+	 */
+	private int search(long[] dates, long t) {
+		int lo = 0, hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (dates[mid] < t)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+
+	/*
+	 * Scans the lines appended to the file since the last call.
+	 */
+	private void update() throws IOException {
+		long length = file.length();
+		if (length < indexedLength || (head != null && ! Arrays.equals(head, readHead(head.length))))
+			reset();
+		if (length == indexedLength)
+			return;
+
+		Pattern p = formatter.getLogEntryPattern();
+		LogFileReader r = new LogFileReader(file, indexedLength, -1);
+		try {
+			String line;
+			long pos = r.getPosition();
+			while ((line = r.readLine(false)) != null) {
+				Matcher m = p.matcher(line);
+				if (m.matches()) {
+					String s = formatter.getField("date", m);
+					if (s != null) {
+						try {
+							add(pos, df.parse(s).getTime());
+						} catch (ParseException e) {
+							// Not a record we can index.
+						}
+					}
+				}
+				pos = r.getPosition();
+			}
+			indexedLength = pos;
+		} finally {
+			r.close();
+		}
+		if (head == null || head.length < 64)
+			head = readHead(64);
+	}
+
+	private void add(long pos, long date) {
+		if (size == 0 || pos - offsets[size-1] >= BLOCK_SIZE) {
+			if (size == offsets.length) {
+				offsets = Arrays.copyOf(offsets, size * 2);
+				minDates = Arrays.copyOf(minDates, size * 2);
+				maxDates = Arrays.copyOf(maxDates, size * 2);
+			}
+			offsets[size] = pos;
+			minDates[size] = Long.MAX_VALUE;
+			maxDates[size] = (size == 0 ? Long.MIN_VALUE : maxDates[size-1]);
+			size++;
+		}
+		int i = size-1;
+		if (date > maxDates[i])
+			maxDates[i] = date;
+		// Usually stops right away since records are mostly written in timestamp order.
+		for (; i >= 0 && date < minDates[i]; i--)
+			minDates[i] = date;
+	}
+
+	private void reset() {
+		size = 0;
+		indexedLength = 0;
+		head = null;
+	}
+
+	private byte[] readHead(int max) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			byte[] b = new byte[(int)Math.min(max, raf.length())];
+			raf.readFully(b);
+			return b;
+		} catch (EOFException e) {
+			return new byte[0];
+		} finally {
+			raf.close();
+		}
+	}
+}
@@ -13,7 +13,6 @@
 package org.apache.juneau.microservice.resources;
 
 import java.io.*;
-import java.nio.charset.*;
 import java.text.*;
 import java.util.*;
 import java.util.regex.*;
@@ -23,14 +22,22 @@ import java.util.regex.*;
  * <p>
  * Provides the capability of returning splices of log files based on dates and filtering based
  * on thread and logger names.
+ * <p>
+ * If a {@link LogIndex} is specified, only the parts of the file that can contain entries between the start and end
+ * dates are read.
+ * <p>
+ * The {@link #follow(Writer, long, long)} method can be used to continue writing entries as they're appended to the file.
  */
 public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.Entry> {
-	private BufferedReader br;
+	private File file;
+	private LogFileReader reader;
 	private LogEntryFormatter formatter;
+	private DateFormat df;
 	private Date start, end;
 	private Set<String> loggerFilter, severityFilter;
 	private String threadFilter;
 	private Entry next;
+	private boolean started, completeLinesOnly, lastMatched;
 
 	/**
 	 * Constructor.
@@ -45,8 +52,36 @@ public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.
 	 * @throws IOException
 	 */
 	public LogParser(LogEntryFormatter formatter, File f, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
-		br = new BufferedReader(new InputStreamReader(new FileInputStream(f), Charset.defaultCharset()));
+		this(formatter, f, new long[]{0, -1}, start, end, thread, loggers, severity);
+	}
+
+	/**
+	 * Constructor.
+	 * <p>
+	 * Uses the specified index to skip the parts of the log file outside the start and end dates.
+	 *
+	 * @param formatter The log entry formatter.
+	 * @param index The log file index.
+	 * @param start Don't return rows before this date.  If <jk>null</jk>, start from the beginning of the file.
+	 * @param end Don't return rows after this date.  If <jk>null</jk>, go to the end of the file.
+	 * @param thread Only return log entries with this thread name.
+	 * @param loggers Only return log entries produced by these loggers (simple class names).
+	 * @param severity Only return log entries with the specified severity.
+	 * @throws IOException
+	 */
+	public LogParser(LogEntryFormatter formatter, LogIndex index, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
+		this(formatter, index.getFile(), index.getRange(start, end), start, end, thread, loggers, severity);
+	}
+
+	/*
+	 * Reads the lines starting within the specified range of bytes (end position of -1 means end of file).
+	 * If the range doesn't start on a line boundary, the partial line is ignored as a continuation line.
+	 */
+	LogParser(LogEntryFormatter formatter, File f, long[] range, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
+		this.file = f;
+		this.reader = new LogFileReader(f, range[0], range[1]);
 		this.formatter = formatter;
+		this.df = (DateFormat)formatter.getDateFormat().clone();
 		this.start = start;
 		this.end = end;
 		this.threadFilter = thread;
@@ -54,32 +89,47 @@ public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.
 			this.loggerFilter = new HashSet<String>(Arrays.asList(loggers));
 		if (severity != null)
 			this.severityFilter = new HashSet<String>(Arrays.asList(severity));
+	}
 
-		// Find the first line.
-		String line;
-		while (next == null && (line = br.readLine()) != null) {
-			Entry e = new Entry(line);
-			if (e.matches())
-				next = e;
+	/*
+	 * Finds the first line.
+	 */
+	private void start() {
+		started = true;
+		try {
+			String line;
+			while (next == null && (line = reader.readLine(! completeLinesOnly)) != null) {
+				Entry e = new Entry(line);
+				if (e.matches())
+					next = e;
+			}
+			lastMatched = (next != null);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
 	}
 
 	@Override /* Iterator */
 	public boolean hasNext() {
+		if (! started)
+			start();
 		return next != null;
 	}
 
 	@Override /* Iterator */
 	public Entry next() {
+		if (! started)
+			start();
 		Entry current = next;
 		Entry prev = next;
 		try {
 			next = null;
 			String line = null;
-			while (next == null && (line = br.readLine()) != null) {
+			while (next == null && (line = reader.readLine(! completeLinesOnly)) != null) {
 				Entry e = new Entry(line);
 				if (e.isRecord) {
-					if (e.matches())
+					lastMatched = e.matches();
+					if (lastMatched)
 						next = e;
 					prev = null;
  				} else {
@@ -109,7 +159,7 @@ public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.
 	 * @throws IOException
 	 */
 	public void close() throws IOException {
-		br.close();
+		reader.close();
 	}
 
 	/**
@@ -130,6 +180,60 @@ public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.
 		}
 	}
 
+	/**
+	 * Writes the matching entries to the specified writer, and then continues writing matching entries
+	 * as they're appended to the log file (similar to <code>tail -f</code>).
+	 * <p>
+	 * The writer is flushed after each batch of new entries.
+	 * If the file shrinks (e.g. the log was rotated), reading restarts at the beginning of the file.
+	 * Stops and closes the underlying reader when the timeout is reached, the thread is interrupted, or
+	 * the writer fails (e.g. the client disconnected).
+	 *
+	 * @param w The writer to write the log entries to.
+	 * @param pollInterval How often to check the file for new entries in milliseconds.
+	 * @param timeout How long to follow the file in milliseconds.
+	 * @throws IOException
+	 */
+	public void follow(Writer w, long pollInterval, long timeout) throws IOException {
+		long stop = System.currentTimeMillis() + timeout;
+		try {
+			completeLinesOnly = true;
+			for (LogParser.Entry le : this)
+				le.append(w);
+			w.flush();
+			while (! isClosed(w) && System.currentTimeMillis() < stop) {
+				if (file.exists() && file.length() < reader.getPosition()) {
+					reader.close();
+					reader = new LogFileReader(file, 0, -1);
+					lastMatched = false;
+				}
+				boolean found = false;
+				String line;
+				while ((line = reader.readLine(false)) != null) {
+					Entry e = new Entry(line);
+					if (e.isRecord)
+						lastMatched = e.matches();
+					if (lastMatched) {
+						w.append(line).append('\n');
+						found = true;
+					}
+				}
+				if (found)
+					w.flush();
+				else
+					Thread.sleep(pollInterval);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			close();
+		}
+	}
+
+	private static boolean isClosed(Writer w) {
+		return (w instanceof PrintWriter && ((PrintWriter)w).checkError());
+	}
+
 	/**
 	 * Represents a single line from the log file.
 	 */
@@ -150,7 +254,7 @@ public class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.
 					isRecord = true;
 					String s = formatter.getField("date", m);
 					if (s != null)
-						date = formatter.getDateFormat().parse(s);
+						date = df.parse(s);
 					thread = formatter.getField("thread", m);
 					severity = formatter.getField("level", m);
 					logger = formatter.getField("logger", m);
@@ -18,8 +18,8 @@ import static org.apache.juneau.server.RestServletContext.*;
 
 import java.io.*;
 import java.net.*;
-import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -69,6 +69,9 @@ public class LogsResource extends Resource {
 		}
 	};
 
+	private final DirectoryIndex index = new DirectoryIndex(filter);
+	private final ConcurrentHashMap<File,LogIndex> logIndexes = new ConcurrentHashMap<File,LogIndex>();
+
 	/**
 	 * [GET /*] - Get file details or directory listing.
 	 *
@@ -85,12 +88,9 @@ public class LogsResource extends Resource {
 
 		if (f.isDirectory()) {
 			Set<FileResource> l = new TreeSet<FileResource>(new FileResourceComparator());
-			File[] files = f.listFiles(filter);
-			if (files != null) {
-				for (File fc : files) {
-					URL fUrl = new URL(req.getTrimmedRequestURL().append('/').append(fc.getName()).toString());
-					l.add(new FileResource(fc, fUrl));
-				}
+			for (File fc : index.list(f)) {
+				URL fUrl = new URL(req.getTrimmedRequestURL().append('/').append(fc.getName()).toString());
+				l.add(new FileResource(fc, fUrl));
 			}
 			properties.put(HTMLDOC_description, "Contents of " + f.getAbsolutePath());
 			return l;
@@ -102,6 +102,8 @@ public class LogsResource extends Resource {
 
 	/**
 	 * [VIEW /*] - Retrieve the contents of a log file.
+	 * <p>
+	 * Unfiltered and unhighlighted views support <code>Range</code> and <code>If-Modified-Since</code> headers.
 	 *
 	 * @param req The HTTP request.
 	 * @param res The HTTP response.
@@ -126,12 +128,11 @@ public class LogsResource extends Resource {
 		Date startDate = StringUtils.parseISO8601Date(start), endDate = StringUtils.parseISO8601Date(end);
 
 		if (! highlight) {
-			Object o = getReader(f, startDate, endDate, thread, loggers, severity);
-			res.setContentType("text/plain");
-			if (o instanceof Reader)
-				res.setOutput(o);
-			else {
-				LogParser p = (LogParser)o;
+			if (startDate == null && endDate == null && thread == null && loggers == null) {
+				res.setOutput(new FileStreamResource(f, "text/plain"));
+			} else {
+				res.setContentType("text/plain");
+				LogParser p = getLogParser(f, startDate, endDate, thread, loggers, severity);
 				Writer w = res.getNegotiatedWriter();
 				try {
 					p.writeTo(w);
@@ -202,6 +203,9 @@ public class LogsResource extends Resource {
 
 	/**
 	 * [DOWNLOAD /*] - Download file.
+	 * <p>
+	 * Supports <code>Range</code> and <code>If-Modified-Since</code> headers so that large log files can be
+	 * 	retrieved incrementally.
 	 *
 	 * @param res The HTTP response.
 	 * @param path The log file path.
@@ -216,9 +220,41 @@ public class LogsResource extends Resource {
 		if (f.isDirectory())
 			throw new RestException(SC_METHOD_NOT_ALLOWED, "Download not available on directories");
 
-		res.setContentType("application/octet-stream"); //$NON-NLS-1$
-		res.setContentLength((int)f.length());
-		return new FileInputStream(f);
+		return new FileStreamResource(f, "application/octet-stream"); //$NON-NLS-1$
+	}
+
+	/**
+	 * [TAIL /*] - Stream new entries as they're appended to a log file.
+	 * <p>
+	 * Writes the entries logged since the start timestamp (or none if not specified), and then continues writing
+	 * 	entries as they're appended to the file until the timeout is reached or the client disconnects.
+	 *
+	 * @param res The HTTP response.
+	 * @param path The log file path.
+	 * @param start Optional start timestamp.  Don't print lines logged before the specified timestamp.  Example:  "&start=2014-01-23 11:25:47".
+	 * @param thread Optional thread name filter.  Only show log entries with the specified thread name.  Example: "&thread=pool-33-thread-1".
+	 * @param loggers Optional logger filter.  Only show log entries if they were produced by one of the specified loggers (simple class name).  Example: "&loggers=(LinkIndexService,LinkIndexRestService)".
+	 * @param severity Optional severity filter.  Only show log entries with the specified severity.  Example: "&severity=(ERROR,WARN)".
+	 * @param timeout Optional number of seconds to stream the file for.  Default is <js>"Logging/tailTimeout"</js>, or 300 seconds if not specified.
+	 * @throws Exception
+	 */
+	@RestMethod(name="TAIL", path="/*", responses={@Response(200),@Response(404)})
+	public void tailFile(RestResponse res, @PathRemainder String path, @Query("start") String start, @Query("thread") String thread, @Query("loggers") String[] loggers, @Query("severity") String[] severity, @Query("timeout") Integer timeout) throws Exception {
+
+		File f = getFile(path);
+		if (f.isDirectory())
+			throw new RestException(SC_METHOD_NOT_ALLOWED, "Tail not available on directories");
+
+		Date startDate = StringUtils.parseISO8601Date(start);
+		if (timeout == null)
+			timeout = cf.getInt("Logging/tailTimeout", 300);
+
+		LogParser p;
+		if (startDate == null)
+			p = new LogParser(leFormatter, f, new long[]{f.length(), -1}, null, null, thread, loggers, severity);
+		else
+			p = new LogParser(leFormatter, getLogIndex(f), startDate, null, thread, loggers, severity);
+		p.follow(res.getDirectWriter("text/plain"), 1000, timeout * 1000L);
 	}
 
 	/**
@@ -239,14 +275,11 @@ public class LogsResource extends Resource {
 		if (f.canWrite())
 			if (! f.delete())
 				throw new RestException(SC_FORBIDDEN, "Could not delete file.");
+		logIndexes.remove(f);
 
 		return new Redirect(path + "/.."); //$NON-NLS-1$
 	}
 
-	private static BufferedReader getReader(File f) throws IOException {
-		return new BufferedReader(new InputStreamReader(new FileInputStream(f), Charset.defaultCharset()));
-	}
-
 	private File getFile(String path) {
 		if (path != null && path.indexOf("..") != -1)
 			throw new RestException(SC_NOT_FOUND, "File not found.");
@@ -266,7 +299,7 @@ public class LogsResource extends Resource {
 		public Object name;
 		public Long size;
 		@BeanProperty(swap=DateSwap.Medium.class) public Date lastModified;
-		public URL view, highlighted, parsed, download, delete;
+		public URL view, highlighted, parsed, tail, download, delete;
 
 		public FileResource(File f, URL url) throws IOException {
 			this.f = f;
@@ -278,6 +311,7 @@ public class LogsResource extends Resource {
 				this.view = new URL(url + "?method=VIEW");
 				this.highlighted = new URL(url + "?method=VIEW&highlight=true");
 				this.parsed = new URL(url + "?method=PARSE");
+				this.tail = new URL(url + "?method=TAIL");
 				this.download = new URL(url + "?method=DOWNLOAD");
 				this.delete = new URL(url + "?method=DELETE");
 			}
@@ -293,13 +327,20 @@ public class LogsResource extends Resource {
 		}
 	}
 
-	private Object getReader(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		if (start == null && end == null && thread == null && loggers == null)
-			return getReader(f);
-		return getLogParser(f, start, end, thread, loggers, severity);
+	private LogParser getLogParser(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
+		if (start == null && end == null)
+			return new LogParser(leFormatter, f, start, end, thread, loggers, severity);
+		return new LogParser(leFormatter, getLogIndex(f), start, end, thread, loggers, severity);
 	}
 
-	private LogParser getLogParser(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		return new LogParser(leFormatter, f, start, end, thread, loggers, severity);
+	private LogIndex getLogIndex(File f) {
+		LogIndex i = logIndexes.get(f);
+		if (i == null) {
+			i = new LogIndex(leFormatter, f);
+			LogIndex i2 = logIndexes.putIfAbsent(f, i);
+			if (i2 != null)
+				i = i2;
+		}
+		return i;
 	}
 }
@@ -0,0 +1,111 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class LogFileReaderTest {
+
+	private File f;
+
+	@Before
+	public void setUp() throws Exception {
+		f = File.createTempFile("LogFileReaderTest", ".log");
+	}
+
+	@After
+	public void tearDown() {
+		f.delete();
+	}
+
+	//====================================================================================================
+	// Line positions with mixed line terminators.
+	//====================================================================================================
+	@Test
+	public void testPositions() throws Exception {
+		write(false, "foo\r\nbar\n\nbaz");
+		LogFileReader r = new LogFileReader(f, 0, -1);
+		try {
+			assertEquals(0, r.getPosition());
+			assertEquals("foo", r.readLine(false));
+			assertEquals(5, r.getPosition());
+			assertEquals("bar", r.readLine(false));
+			assertEquals(9, r.getPosition());
+			assertEquals("", r.readLine(false));
+			assertEquals(10, r.getPosition());
+			// Unterminated line is left unread.
+			assertNull(r.readLine(false));
+			assertEquals(10, r.getPosition());
+			assertEquals("baz", r.readLine(true));
+			assertEquals(13, r.getPosition());
+			assertNull(r.readLine(true));
+		} finally {
+			r.close();
+		}
+	}
+
+	//====================================================================================================
+	// Starting in the middle of the file and stopping at a limit.
+	//====================================================================================================
+	@Test
+	public void testStartAndLimit() throws Exception {
+		write(false, "foo\nbar\nbaz\nqux\n");
+		LogFileReader r = new LogFileReader(f, 4, 9);
+		try {
+			assertEquals("bar", r.readLine(true));
+			// Line starting before the limit is read in full.
+			assertEquals("baz", r.readLine(true));
+			assertNull(r.readLine(true));
+			assertEquals(12, r.getPosition());
+		} finally {
+			r.close();
+		}
+	}
+
+	//====================================================================================================
+	// Lines appended after reaching the end of the file, including lines longer than the buffer.
+	//====================================================================================================
+	@Test
+	public void testAppend() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+			sb.append((char)('a' + i % 26));
+		String longLine = sb.toString();
+
+		write(false, "foo\nba");
+		LogFileReader r = new LogFileReader(f, 0, -1);
+		try {
+			assertEquals("foo", r.readLine(false));
+			assertNull(r.readLine(false));
+			write(true, "r\n" + longLine + "\n" + longLine);
+			assertEquals("bar", r.readLine(false));
+			assertEquals(longLine, r.readLine(false));
+			assertNull(r.readLine(false));
+			assertEquals(longLine, r.readLine(true));
+			assertEquals(f.length(), r.getPosition());
+		} finally {
+			r.close();
+		}
+	}
+
+	private void write(boolean append, String s) throws IOException {
+		Writer w = new FileWriter(f, append);
+		w.write(s);
+		w.close();
+	}
+}
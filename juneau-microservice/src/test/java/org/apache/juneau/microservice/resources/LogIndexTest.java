@@ -0,0 +1,199 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.text.*;
+import java.util.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class LogIndexTest {
+
+	static final LogEntryFormatter FORMATTER = new LogEntryFormatter("[{date} {level}] {msg}%n", "yyyy.MM.dd HH:mm:ss", false);
+	static final long T0 = date("2016.01.01 00:00:00").getTime();
+
+	private File f;
+
+	@Before
+	public void setUp() throws Exception {
+		f = File.createTempFile("LogIndexTest", ".log");
+	}
+
+	@After
+	public void tearDown() {
+		f.delete();
+	}
+
+	//====================================================================================================
+	// Ranges spanning several blocks return the same entries as a full scan.
+	//====================================================================================================
+	@Test
+	public void testRangeAcrossBlocks() throws Exception {
+		// About 5 blocks with one record per second and a continuation line every 10 records.
+		Writer w = new FileWriter(f);
+		for (int i = 0; i < 8000; i++) {
+			w.write(record(T0 + i*1000, "Message " + i));
+			if (i % 10 == 0)
+				w.write("\tat continuation line " + i + "\n");
+		}
+		w.close();
+		assertTrue(f.length() > 4 * LogIndex.BLOCK_SIZE);
+
+		LogIndex index = new LogIndex(FORMATTER, f);
+		assertRange(index, null, null);
+		assertRange(index, 0, null);
+		assertRange(index, null, 7999);
+		assertRange(index, 1234, 5678);
+		assertRange(index, 4000, 4000);
+		assertRange(index, 7999, 100000);
+		assertRange(index, -100, -1);
+		assertRange(index, 100000, null);
+
+		// The range for a few seconds in the middle of the file covers at most two blocks.
+		long[] r = index.getRange(new Date(T0 + 4000*1000), new Date(T0 + 4010*1000));
+		assertTrue(r[0] > 0);
+		assertTrue(r[1] != -1 && r[1] - r[0] <= 2 * LogIndex.BLOCK_SIZE);
+
+		// The continuation lines of the last record are included.
+		List<String> l = parse(index, 4000, 4000);
+		assertEquals(1, l.size());
+		assertEquals("Message 4000\n\tat continuation line 4000", l.get(0));
+	}
+
+	//====================================================================================================
+	// Records that aren't in timestamp order.
+	//====================================================================================================
+	@Test
+	public void testUnorderedRecords() throws Exception {
+		Writer w = new FileWriter(f);
+		Random rand = new Random(1);
+		for (int i = 0; i < 8000; i++)
+			w.write(record(T0 + (i + rand.nextInt(2000) - 1000)*1000, "Message " + i));
+		// A record much older than the rest at the end of the file.
+		w.write(record(T0, "Old message"));
+		w.close();
+
+		LogIndex index = new LogIndex(FORMATTER, f);
+		assertRange(index, 0, 0);
+		assertRange(index, 1234, 5678);
+		assertRange(index, 7000, null);
+		assertRange(index, null, 500);
+		assertTrue(parse(index, 0, 0).contains("Old message"));
+	}
+
+	//====================================================================================================
+	// Lines appended after the index was built.
+	//====================================================================================================
+	@Test
+	public void testIncremental() throws Exception {
+		Writer w = new FileWriter(f);
+		for (int i = 0; i < 4000; i++)
+			w.write(record(T0 + i*1000, "Message " + i));
+		// Partially written line.
+		w.write("[2016.01.01 01:06:40 INF");
+		w.close();
+
+		LogIndex index = new LogIndex(FORMATTER, f);
+		assertRange(index, 3990, null);
+		assertEquals(0, parse(index, 4000, null).size());
+
+		w = new FileWriter(f, true);
+		w.write("O] Message 4000\n");
+		for (int i = 4001; i < 8000; i++)
+			w.write(record(T0 + i*1000, "Message " + i));
+		w.close();
+
+		assertRange(index, 3990, null);
+		assertRange(index, 6000, 6010);
+		assertEquals(Arrays.asList("Message 4000", "Message 4001"), parse(index, 4000, 4001));
+		assertTrue(index.getRange(new Date(T0 + 6000*1000), null)[0] > 2 * LogIndex.BLOCK_SIZE);
+	}
+
+	//====================================================================================================
+	// The index is rebuilt when the log file is rotated or truncated.
+	//====================================================================================================
+	@Test
+	public void testRotation() throws Exception {
+		Writer w = new FileWriter(f);
+		for (int i = 0; i < 4000; i++)
+			w.write(record(T0 + i*1000, "Message " + i));
+		w.close();
+
+		LogIndex index = new LogIndex(FORMATTER, f);
+		assertRange(index, 1000, 2000);
+
+		// Replaced with a longer file with later dates.
+		w = new FileWriter(f);
+		for (int i = 10000; i < 18000; i++)
+			w.write(record(T0 + i*1000, "Message " + i));
+		w.close();
+		assertRange(index, 1000, 2000);
+		assertRange(index, 12000, 13000);
+		assertEquals(0, parse(index, 1000, 2000).size());
+
+		// Truncated.
+		w = new FileWriter(f);
+		for (int i = 20000; i < 20010; i++)
+			w.write(record(T0 + i*1000, "Message " + i));
+		w.close();
+		assertRange(index, 12000, 13000);
+		assertRange(index, 20005, null);
+		assertEquals(Arrays.asList("Message 20008", "Message 20009"), parse(index, 20008, null));
+	}
+
+	//====================================================================================================
+	// Empty file.
+	//====================================================================================================
+	@Test
+	public void testEmpty() throws Exception {
+		LogIndex index = new LogIndex(FORMATTER, f);
+		assertEquals("[0, -1]", Arrays.toString(index.getRange(null, null)));
+		assertEquals("[0, -1]", Arrays.toString(index.getRange(new Date(T0), new Date(T0))));
+	}
+
+	/*
+	 * Checks that the indexed parser returns the same entries as a full scan for the specified seconds after T0.
+	 */
+	private void assertRange(LogIndex index, Integer start, Integer end) throws Exception {
+		assertEquals(parse(null, start, end), parse(index, start, end));
+	}
+
+	private List<String> parse(LogIndex index, Integer start, Integer end) throws Exception {
+		Date s = (start == null ? null : new Date(T0 + start*1000L)), e = (end == null ? null : new Date(T0 + end*1000L));
+		LogParser p = (index == null ? new LogParser(FORMATTER, f, s, e, null, null, null) : new LogParser(FORMATTER, index, s, e, null, null, null));
+		List<String> l = new ArrayList<String>();
+		try {
+			for (LogParser.Entry le : p)
+				l.add(le.getText());
+		} finally {
+			p.close();
+		}
+		return l;
+	}
+
+	static String record(long date, String msg) {
+		return "[" + new SimpleDateFormat("yyyy.MM.dd HH:mm:ss").format(new Date(date)) + " INFO] " + msg + "\n";
+	}
+
+	static Date date(String s) {
+		try {
+			return new SimpleDateFormat("yyyy.MM.dd HH:mm:ss").parse(s);
+		} catch (ParseException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import static org.apache.juneau.microservice.resources.LogIndexTest.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class LogParserTest {
+
+	private File f;
+
+	@Before
+	public void setUp() throws Exception {
+		f = File.createTempFile("LogParserTest", ".log");
+	}
+
+	@After
+	public void tearDown() {
+		f.delete();
+	}
+
+	//====================================================================================================
+	// follow() returns once the timeout is reached.
+	//====================================================================================================
+	@Test
+	public void testFollowTimeout() throws Exception {
+		write(false, record(T0, "Message 0"));
+		StringWriter sw = new StringWriter();
+		long t = System.currentTimeMillis();
+		new LogParser(FORMATTER, f, null, null, null, null, null).follow(sw, 10, 200);
+		t = System.currentTimeMillis() - t;
+		assertTrue(t >= 200 && t < 5000);
+		assertEquals(record(T0, "Message 0"), sw.toString());
+	}
+
+	//====================================================================================================
+	// follow() picks up appended lines, but not partially written ones, and restarts when the file is truncated.
+	//====================================================================================================
+	@Test
+	public void testFollowAppendAndTruncate() throws Exception {
+		write(false, record(T0, "Message 0") + "[2016.01.01 00:00:01 IN");
+		final StringWriter sw = new StringWriter();
+		Thread t = new Thread() {
+			@Override /* Thread */
+			public void run() {
+				try {
+					new LogParser(FORMATTER, f, null, null, null, null, null).follow(sw, 10, 60000);
+				} catch (IOException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		};
+		t.start();
+		try {
+			waitFor(sw, record(T0, "Message 0"));
+			write(true, "FO] Message 1\n");
+			waitFor(sw, record(T0, "Message 0") + record(T0+1000, "Message 1"));
+			write(false, record(T0+2000, "Message 2"));
+			waitFor(sw, record(T0, "Message 0") + record(T0+1000, "Message 1") + record(T0+2000, "Message 2"));
+		} finally {
+			t.interrupt();
+			t.join(5000);
+		}
+		assertFalse(t.isAlive());
+	}
+
+	private void waitFor(StringWriter sw, String expected) throws Exception {
+		for (int i = 0; i < 500 && ! expected.equals(current(sw)); i++)
+			Thread.sleep(10);
+		assertEquals(expected, current(sw));
+	}
+
+	private static String current(StringWriter sw) {
+		synchronized (sw.getBuffer()) {
+			return sw.toString();
+		}
+	}
+
+	private void write(boolean append, String s) throws IOException {
+		Writer w = new FileWriter(f, append);
+		w.write(s);
+		w.close();
+	}
+}
@@ -16,8 +16,6 @@ import static org.apache.juneau.html.HtmlDocSerializerContext.*;
 
 import java.io.*;
 
-import org.apache.commons.fileupload.*;
-import org.apache.commons.fileupload.servlet.*;
 import org.apache.juneau.server.*;
 import org.apache.juneau.server.annotation.*;
 import org.apache.juneau.utils.*;
@@ -50,17 +48,15 @@ public class TempDirResource extends DirectoryResource {
 
 	/**
 	 * [POST /upload] - Upload a file as a multipart form post.
-	 * Shows how to use the Apache Commons ServletFileUpload class for handling multi-part form posts.
+	 * Shows how to use the {@link MultipartIterator} class for streaming multi-part form posts.
 	 */
 	@RestMethod(name="POST", path="/upload", matchers=TempDirResource.MultipartFormDataMatcher.class)
-	public Redirect uploadFile(RestRequest req) throws Exception {
-		ServletFileUpload upload = new ServletFileUpload();
-		FileItemIterator iter = upload.getItemIterator(req);
-		while (iter.hasNext()) {
-			FileItemStream item = iter.next();
-			if (item.getFieldName().equals("contents")) { //$NON-NLS-1$
-				File f = new File(getRootDir(), item.getName());
-				IOPipe.create(item.openStream(), new FileOutputStream(f)).closeOut().run();
+	public Redirect uploadFile(@Body MultipartIterator parts) throws Exception {
+		while (parts.hasNext()) {
+			MultipartPart part = parts.next();
+			if (part.getName().equals("contents")) { //$NON-NLS-1$
+				File f = new File(getRootDir(), new File(part.getFilename()).getName());
+				IOPipe.create(part.getInputStream(), new FileOutputStream(f)).closeOut().run();
 			}
 		}
 		return new Redirect(); // Redirect to the servlet root.
@@ -0,0 +1,48 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.test;
+
+import org.apache.juneau.plaintext.*;
+import org.apache.juneau.server.*;
+import org.apache.juneau.server.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ */
+@RestResource(
+	path="/testBenchmark",
+	serializers=PlainTextSerializer.class
+)
+public class BenchmarkResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	private static final String OUTPUT = "ok";
+
+	//====================================================================================================
+	// Measure per-request overhead of methods that do little work.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/string")
+	public String testString() {
+		return OUTPUT;
+	}
+
+	@RestMethod(name="GET", path="/void")
+	public void testVoid(RestResponse res) {
+		res.setStatus(204);
+	}
+
+	@RestMethod(name="GET", path="/query")
+	public String testQuery(@Query("p1") String p1, @Query("p2") int p2) {
+		return p1 + p2;
+	}
+}
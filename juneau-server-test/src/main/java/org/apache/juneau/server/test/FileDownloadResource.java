@@ -0,0 +1,53 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.test;
+
+import java.io.*;
+
+import javax.servlet.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.server.*;
+import org.apache.juneau.server.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ */
+@RestResource(
+	path="/testFileDownload"
+)
+public class FileDownloadResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	private File file;
+
+	@Override /* Servlet */
+	public void init() throws ServletException {
+		try {
+			file = File.createTempFile("FileDownloadResource", ".txt");
+			file.deleteOnExit();
+			IOUtils.write(file, new StringReader("0123456789"));
+			file.setLastModified(1000000000000L);
+		} catch (IOException e) {
+			throw new ServletException(e);
+		}
+	}
+
+	//====================================================================================================
+	// Range and If-Modified-Since headers.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/")
+	public FileStreamResource test() {
+		return new FileStreamResource(file, "text/plain").setHeader("Foo", "bar");
+	}
+}
@@ -0,0 +1,61 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.test;
+
+import static org.apache.juneau.server.RestServletContext.*;
+
+import java.util.*;
+
+import org.apache.juneau.server.*;
+import org.apache.juneau.server.annotation.*;
+import org.apache.juneau.server.matchers.*;
+
+/**
+ * JUnit automated testcase resource.
+ */
+@RestResource(
+	path="/testMultipart",
+	properties={
+		@Property(name=REST_multipartSpillThreshold, value="100")
+	}
+)
+public class MultipartResource extends RestServletDefault {
+	private static final long serialVersionUID = 1L;
+
+	//====================================================================================================
+	// Parts read as they're streamed.
+	//====================================================================================================
+	@RestMethod(name="POST", path="/streamed", matchers=MultipartFormDataMatcher.class)
+	public List<String> testStreamed(@Body MultipartIterator parts) throws Exception {
+		List<String> l = new ArrayList<String>();
+		while (parts.hasNext()) {
+			MultipartPart p = parts.next();
+			l.add(p.getName() + '|' + p.getFilename() + '|' + p.getContentType() + '|' + p.getString());
+		}
+		return l;
+	}
+
+	//====================================================================================================
+	// Parts buffered and read after the body has been consumed.
+	//====================================================================================================
+	@RestMethod(name="POST", path="/buffered")
+	public List<String> testBuffered(RestRequest req) throws Exception {
+		List<MultipartPart> parts = new ArrayList<MultipartPart>();
+		for (MultipartIterator i = req.getMultipartParts(); i.hasNext();)
+			parts.add(i.next().buffer());
+		List<String> l = new ArrayList<String>();
+		for (MultipartPart p : parts)
+			l.add(p.getName() + '|' + p.getSize() + '|' + (p.getFile() != null) + '|' + p.getString());
+		return l;
+	}
+}
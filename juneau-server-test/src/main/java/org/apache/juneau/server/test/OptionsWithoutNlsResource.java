@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.server.test;
 
+import static org.apache.juneau.server.RestServletContext.*;
+
 import org.apache.juneau.dto.swagger.*;
 import org.apache.juneau.server.*;
 import org.apache.juneau.server.annotation.*;
@@ -20,7 +22,8 @@ import org.apache.juneau.server.annotation.*;
  * JUnit automated testcase resource.
  */
 @RestResource(
-	path="/testOptionsWithoutNls"
+	path="/testOptionsWithoutNls",
+	description="Options for $R{pathInfo}"
 )
 public class OptionsWithoutNlsResource extends RestServletDefault {
 	private static final long serialVersionUID = 1L;
@@ -41,4 +44,17 @@ public class OptionsWithoutNlsResource extends RestServletDefault {
 		return req.getMessage("bad", 1, 2, 3);
 	}
 
+	//====================================================================================================
+	// Same resource with Swagger caching enabled.
+	//====================================================================================================
+	@RestResource(
+		path="/testOptionsWithoutNlsCached",
+		properties={
+			@Property(name=REST_cacheSwagger, value="true")
+		}
+	)
+	public static class Cached extends OptionsWithoutNlsResource {
+		private static final long serialVersionUID = 1L;
+	}
+
 }
@@ -262,6 +262,18 @@ public class ParamsResource extends RestServletDefault {
 		public boolean c;
 	}
 
+	//====================================================================================================
+	// Test simple parameter types that are converted without the URL-encoding parser.
+	//====================================================================================================
+	@RestMethod(name="GET", path="/testSimpleParams/{p0}")
+	public String testSimpleParams(RestRequest req, @Path("p0") long p0, @Query("p1") String p1, @Query("p2") Integer p2, @Query("p3") boolean p3, @Query("p4") E p4) throws Exception {
+		return "p0=["+p0+"],p1=["+p1+","+req.getQueryParameter("p1", String.class)+"],p2=["+p2+","+req.getQueryParameter("p2", Integer.class)+"],p3=["+p3+"],p4=["+p4+"]";
+	}
+
+	public static enum E {
+		FOO, BAR
+	}
+
 	//====================================================================================================
 	// Test multi-part parameter keys on bean properties of type array/Collection (i.e. &key=val1,&key=val2)
 	// using URLENC_expandedParams property.
@@ -22,6 +22,7 @@ import org.apache.juneau.server.labels.*;
 	children={
 		AcceptCharsetResource.class,
 		BeanContextPropertiesResource.class,
+		BenchmarkResource.class,
 		CallbackStringsResource.class,
 		CharsetEncodingsResource.class,
 		ClientVersionResource.class,
@@ -29,6 +30,7 @@ import org.apache.juneau.server.labels.*;
 		ContentResource.class,
 		DefaultContentTypesResource.class,
 		ErrorConditionsResource.class,
+		FileDownloadResource.class,
 		TransformsResource.class,
 		GroupsResource.class,
 		GzipResource.TestGzipOff.class,
@@ -41,12 +43,14 @@ import org.apache.juneau.server.labels.*;
 		LargePojosResource.class,
 		MessagesResource.Messages2Resource.class,
 		MessagesResource.class,
+		MultipartResource.class,
 		NlsResource.class,
 		NlsPropertyResource.class,
 		NoParserInputResource.class,
 		OnPostCallResource.class,
 		OnPreCallResource.class,
 		OptionsWithoutNlsResource.class,
+		OptionsWithoutNlsResource.Cached.class,
 		OverlappingMethodsResource.class,
 		ParamsResource.class,
 		ParsersResource.class,
@@ -0,0 +1,67 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.test;
+
+import java.lang.management.*;
+
+import org.apache.juneau.client.*;
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+/**
+ * Measures the time and memory allocated per request for methods that do little work.
+ * <p>
+ * 	Allocation is measured across all threads in the JVM, so it includes both the client and the server side.
+ * 	The results are logged at <jsf>INFO</jsf> level.
+ * 	Compare the numbers before and after a change to see its effect on per-request overhead.
+ */
+@Ignore
+public class BenchmarkTest {
+
+	private static final JuneauLogger LOG = JuneauLogger.getLogger(BenchmarkTest.class);
+	private static String URL = "/testBenchmark";
+	private static int WARMUP = 2000, COUNT = 10000;
+
+	//====================================================================================================
+	// Test the allocation per request for various method types.
+	//====================================================================================================
+	@Test
+	public void test() throws Exception {
+		RestClient c = new TestRestClient().setHeader("Accept", "text/plain");
+		run(c, "/string");
+		run(c, "/void");
+		run(c, "/query?p1=foo&p2=123");
+		c.closeQuietly();
+	}
+
+	private static void run(RestClient c, String path) throws Exception {
+		for (int i = 0; i < WARMUP; i++)
+			c.doGet(URL + path).getResponseAsString();
+		long b = getAllocatedBytes();
+		long t = System.currentTimeMillis();
+		for (int i = 0; i < COUNT; i++)
+			c.doGet(URL + path).getResponseAsString();
+		t = System.currentTimeMillis() - t;
+		b = getAllocatedBytes() - b;
+		LOG.info("GET {0}: [{1}] bytes/request, [{2}] us/request", path, b/COUNT, t*1000/COUNT);
+	}
+
+	private static long getAllocatedBytes() {
+		com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		long total = 0;
+		for (long b : mx.getThreadAllocatedBytes(mx.getAllThreadIds()))
+			if (b > 0)
+				total += b;
+		return total;
+	}
+}
@@ -0,0 +1,130 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.test;
+
+import static org.junit.Assert.*;
+
+import org.apache.http.*;
+import org.apache.juneau.client.*;
+import org.junit.*;
+
+public class FileDownloadTest {
+
+	private static String URL = "/testFileDownload";
+	private static String LAST_MODIFIED = "Sun, 09 Sep 2001 01:46:40 GMT";
+
+	//====================================================================================================
+	// Entire file.
+	//====================================================================================================
+	@Test
+	public void testFullContent() throws Exception {
+		RestClient c = new TestRestClient();
+		RestCall r;
+
+		r = c.doGet(URL);
+		assertEquals("0123456789", r.getResponseAsString());
+		HttpResponse res = r.getResponse();
+		assertEquals(200, res.getStatusLine().getStatusCode());
+		assertEquals("10", res.getFirstHeader("Content-Length").getValue());
+		assertEquals("bytes", res.getFirstHeader("Accept-Ranges").getValue());
+		assertEquals(LAST_MODIFIED, res.getFirstHeader("Last-Modified").getValue());
+		assertEquals("bar", res.getFirstHeader("Foo").getValue());
+		assertTrue(res.getFirstHeader("Content-Type").getValue().startsWith("text/plain"));
+
+		// Multiple ranges and malformed ranges are ignored.
+		assertEquals("0123456789", c.doGet(URL).setHeader("Range", "bytes=0-1,3-4").getResponseAsString());
+		assertEquals("0123456789", c.doGet(URL).setHeader("Range", "bytes=x-").getResponseAsString());
+		assertEquals("0123456789", c.doGet(URL).setHeader("Range", "bytes=5-4").getResponseAsString());
+		assertEquals("0123456789", c.doGet(URL).setHeader("Range", "lines=1-2").getResponseAsString());
+
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Range header.
+	//====================================================================================================
+	@Test
+	public void testRange() throws Exception {
+		RestClient c = new TestRestClient();
+		RestCall r;
+		HttpResponse res;
+
+		r = c.doGet(URL).setHeader("Range", "bytes=2-4");
+		assertEquals("234", r.getResponseAsString());
+		res = r.getResponse();
+		assertEquals(206, res.getStatusLine().getStatusCode());
+		assertEquals("bytes 2-4/10", res.getFirstHeader("Content-Range").getValue());
+		assertEquals("3", res.getFirstHeader("Content-Length").getValue());
+
+		r = c.doGet(URL).setHeader("Range", "bytes=7-");
+		assertEquals("789", r.getResponseAsString());
+		assertEquals("bytes 7-9/10", r.getResponse().getFirstHeader("Content-Range").getValue());
+
+		r = c.doGet(URL).setHeader("Range", "bytes=-3");
+		assertEquals("789", r.getResponseAsString());
+		assertEquals("bytes 7-9/10", r.getResponse().getFirstHeader("Content-Range").getValue());
+
+		r = c.doGet(URL).setHeader("Range", "bytes=8-100");
+		assertEquals("89", r.getResponseAsString());
+		assertEquals("bytes 8-9/10", r.getResponse().getFirstHeader("Content-Range").getValue());
+
+		r = c.doGet(URL).setHeader("Range", "bytes=-100");
+		assertEquals("0123456789", r.getResponseAsString());
+		assertEquals(206, r.getResponse().getStatusLine().getStatusCode());
+
+		// If-Range matches.
+		r = c.doGet(URL).setHeader("Range", "bytes=2-4").setHeader("If-Range", LAST_MODIFIED);
+		assertEquals("234", r.getResponseAsString());
+
+		// If-Range doesn't match.
+		r = c.doGet(URL).setHeader("Range", "bytes=2-4").setHeader("If-Range", "Sat, 08 Sep 2001 01:46:40 GMT");
+		assertEquals("0123456789", r.getResponseAsString());
+		r = c.doGet(URL).setHeader("Range", "bytes=2-4").setHeader("If-Range", "Mon, 10 Sep 2001 01:46:40 GMT");
+		assertEquals("0123456789", r.getResponseAsString());
+		assertEquals(200, r.getResponse().getStatusLine().getStatusCode());
+		r = c.doGet(URL).setHeader("Range", "bytes=2-4").setHeader("If-Range", "\"etag\"");
+		assertEquals("0123456789", r.getResponseAsString());
+
+		// Unsatisfiable ranges.
+		try {
+			c.doGet(URL).setHeader("Range", "bytes=10-").run();
+			fail("Exception expected.");
+		} catch (RestCallException e) {
+			assertEquals(416, e.getResponseCode());
+			assertEquals("bytes */10", e.getHttpResponse().getFirstHeader("Content-Range").getValue());
+		}
+		try {
+			c.doGet(URL).setHeader("Range", "bytes=-0").run();
+			fail("Exception expected.");
+		} catch (RestCallException e) {
+			assertEquals(416, e.getResponseCode());
+		}
+
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// If-Modified-Since header.
+	//====================================================================================================
+	@Test
+	public void testIfModifiedSince() throws Exception {
+		RestClient c = new TestRestClient();
+
+		assertEquals(304, c.doGet(URL).setHeader("If-Modified-Since", LAST_MODIFIED).run());
+		assertEquals(304, c.doGet(URL).setHeader("If-Modified-Since", "Mon, 10 Sep 2001 01:46:40 GMT").run());
+		assertEquals(200, c.doGet(URL).setHeader("If-Modified-Since", "Sat, 08 Sep 2001 01:46:40 GMT").run());
+		assertEquals(200, c.doGet(URL).setHeader("If-Modified-Since", "foo").run());
+
+		c.closeQuietly();
+	}
+}
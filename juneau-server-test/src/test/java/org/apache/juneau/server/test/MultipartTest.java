@@ -0,0 +1,110 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.test;
+
+import static org.junit.Assert.*;
+
+import org.apache.http.entity.*;
+import org.apache.juneau.client.*;
+import org.junit.*;
+
+public class MultipartTest {
+
+	private static String URL = "/testMultipart";
+	private static String BOUNDARY = "----Boundary7MA4YWxkTrZu0gW";
+
+	//====================================================================================================
+	// Parts read as they're streamed.
+	//====================================================================================================
+	@Test
+	public void testStreamed() throws Exception {
+		RestClient c = new TestRestClient().setAccept("text/json+simple");
+		String r;
+
+		r = c.doPost(URL + "/streamed", createEntity(
+			"preamble",
+			"--" + BOUNDARY,
+			"Content-Disposition: form-data; name=\"a\"",
+			"",
+			"foo",
+			"--" + BOUNDARY,
+			"Content-Disposition: form-data; name=\"b\"; filename=\"b.txt\"",
+			"Content-Type: text/plain",
+			"",
+			"bar\r\n--baz",
+			"--" + BOUNDARY + "--",
+			"epilogue"
+		)).getResponseAsString();
+		assertEquals("['a|null|null|foo','b|b.txt|text/plain|bar\\r\\n--baz']", r);
+
+		// No parts.
+		r = c.doPost(URL + "/streamed", createEntity("--" + BOUNDARY + "--")).getResponseAsString();
+		assertEquals("[]", r);
+
+		// Truncated body.
+		try {
+			c.doPost(URL + "/streamed?noTrace=true", createEntity("--" + BOUNDARY, "Content-Disposition: form-data; name=\"a\"", "", "foo")).getResponseAsString();
+			fail("Exception expected.");
+		} catch (RestCallException e) {
+			assertEquals(400, e.getResponseCode());
+		}
+
+		c.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Parts buffered and read after the body has been consumed.
+	//====================================================================================================
+	@Test
+	public void testBuffered() throws Exception {
+		RestClient c = new TestRestClient().setAccept("text/json+simple");
+		String r;
+
+		StringBuilder big = new StringBuilder();
+		for (int i = 0; i < 50; i++)
+			big.append("0123456789");
+
+		// Parts larger than the spill threshold of 100 bytes are written to temporary files.
+		r = c.doPost(URL + "/buffered", createEntity(
+			"--" + BOUNDARY,
+			"Content-Disposition: form-data; name=\"a\"",
+			"",
+			"foo",
+			"--" + BOUNDARY,
+			"Content-Disposition: form-data; name=\"b\"; filename=\"b.txt\"",
+			"",
+			big.toString(),
+			"--" + BOUNDARY + "--"
+		)).getResponseAsString();
+		assertEquals("['a|3|false|foo','b|500|true|" + big + "']", r);
+
+		// Not a multipart body.
+		try {
+			c.doPost(URL + "/buffered?noTrace=true", new StringEntity("foo", ContentType.TEXT_PLAIN)).getResponseAsString();
+			fail("Exception expected.");
+		} catch (RestCallException e) {
+			assertEquals(400, e.getResponseCode());
+		}
+
+		c.closeQuietly();
+	}
+
+	private static StringEntity createEntity(String...lines) throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < lines.length; i++)
+			sb.append(i == 0 ? "" : "\r\n").append(lines[i]);
+		StringEntity e = new StringEntity(sb.toString(), "UTF-8");
+		e.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+		return e;
+	}
+}
@@ -22,6 +22,7 @@ import org.junit.*;
 public class OptionsWithoutNlsTest {
 
 	private static String URL = "/testOptionsWithoutNls";
+	private static String URL_CACHED = "/testOptionsWithoutNlsCached";
 
 	//====================================================================================================
 	// Should get to the options page without errors
@@ -48,4 +49,41 @@ public class OptionsWithoutNlsTest {
 
 		client.closeQuietly();
 	}
+
+	//====================================================================================================
+	// Swagger text using request variables isn't cached by default.
+	//====================================================================================================
+	@Test
+	public void testOptionsDifferentPaths() throws Exception {
+		RestClient client = new TestRestClient(JsonSerializer.DEFAULT, JsonParser.DEFAULT);
+		Swagger o = client.doOptions(URL + "/testOptions/foo").getResponse(Swagger.class);
+		assertEquals("Options for /testOptions/foo", o.getInfo().getDescription());
+		o = client.doOptions(URL + "/testOptions/bar").getResponse(Swagger.class);
+		assertEquals("Options for /testOptions/bar", o.getInfo().getDescription());
+		assertNull(client.doOptions(URL + "/testOptions/bar").getResponse().getFirstHeader("ETag"));
+
+		client.closeQuietly();
+	}
+
+	//====================================================================================================
+	// Swagger documents are cached and served with ETags when enabled.
+	//====================================================================================================
+	@Test
+	public void testOptionsETag() throws Exception {
+		RestClient client = new TestRestClient(JsonSerializer.DEFAULT, JsonParser.DEFAULT);
+		RestCall r = client.doOptions(URL_CACHED + "/testOptions");
+		String s1 = r.getResponseAsString();
+		String etag = r.getResponse().getFirstHeader("ETag").getValue();
+		assertTrue(etag.startsWith("W/\""));
+
+		r = client.doOptions(URL_CACHED + "/testOptions");
+		assertEquals(s1, r.getResponseAsString());
+		assertEquals(etag, r.getResponse().getFirstHeader("ETag").getValue());
+
+		assertEquals(304, client.doOptions(URL_CACHED + "/testOptions").setHeader("If-None-Match", etag).run());
+		assertEquals(304, client.doOptions(URL_CACHED + "/testOptions").setHeader("If-None-Match", "\"foo\", " + etag).run());
+		assertEquals(200, client.doOptions(URL_CACHED + "/testOptions").setHeader("If-None-Match", "\"foo\"").run());
+
+		client.closeQuietly();
+	}
 }
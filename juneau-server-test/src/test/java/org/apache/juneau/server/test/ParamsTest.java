@@ -202,6 +202,12 @@ public class ParamsTest {
 		r = client.doGet(url + "?p1&p2=1").getResponseAsString();
 		assertEquals("p1=[null,null,null],p2=[1,1,1]", r);
 
+		// Numbers are decoded the same way by bound parameters and getQueryParameter().
+		r = client.doGet(url + "?p1=p1&p2=010").getResponseAsString();
+		assertEquals("p1=[p1,p1,p1],p2=[8,010,8]", r);
+		r = client.doGet(url + "?p1=p1&p2=-0x10").getResponseAsString();
+		assertEquals("p1=[p1,p1,p1],p2=[-16,-0x10,-16]", r);
+
 		String x = "a%2Fb%25c%3Dd+e"; // [x/y%z=a+b]
 		r = client.doGet(url + "?p1="+x+"&p2=1").getResponseAsString();
 		assertEquals("p1=[a/b%c=d e,a/b%c=d e,a/b%c=d e],p2=[1,1,1]", r);
@@ -634,6 +640,30 @@ public class ParamsTest {
 		client.closeQuietly();
 	}
 
+	//====================================================================================================
+	// Test simple parameter types that are converted without the URL-encoding parser.
+	//====================================================================================================
+	@Test
+	public void testSimpleParams() throws Exception {
+		RestClient client = new TestRestClient().setHeader("Accept", "text/plain");
+		String r;
+		String url = URL + "/testSimpleParams";
+
+		r = client.doGet(url + "/456?p1=foo&p2=123&p3=true&p4=BAR").getResponseAsString();
+		assertEquals("p0=[456],p1=[foo,foo],p2=[123,123],p3=[true],p4=[BAR]", r);
+
+		r = client.doGet(url + "/456?p1=(foo)&p2=$n(123)&p3=$b(true)&p4=(FOO)").getResponseAsString();
+		assertEquals("p0=[456],p1=[foo,foo],p2=[123,123],p3=[true],p4=[FOO]", r);
+
+		r = client.doGet(url + "/456?p1&p2&p3&p4").getResponseAsString();
+		assertEquals("p0=[456],p1=[null,null],p2=[null,null],p3=[false],p4=[null]", r);
+
+		r = client.doGet(url + "/456?p1=a~~b").getResponseAsString();
+		assertEquals("p0=[456],p1=[a~b,a~b],p2=[null,null],p3=[false],p4=[null]", r);
+
+		client.closeQuietly();
+	}
+
 	//====================================================================================================
 	// Test multi-part parameter keys on bean properties of type array/Collection (i.e. &key=val1,&key=val2)
 	// using URLENC_expandedParams property.
@@ -27,6 +27,7 @@ import org.junit.runners.Suite.*;
 @SuiteClasses({
 	AcceptCharsetTest.class,
 	BeanContextPropertiesTest.class,
+	BenchmarkTest.class,
 	CallbackStringsTest.class,
 	CharsetEncodingsTest.class,
 	ClientVersionTest.class,
@@ -34,12 +35,14 @@ import org.junit.runners.Suite.*;
 	ContentTest.class,
 	DefaultContentTypesTest.class,
 	ErrorConditionsTest.class,
+	FileDownloadTest.class,
 	GroupsTest.class,
 	GzipTest.class,
 	InheritanceTest.class,
 	JacocoDummyTest.class,
 	LargePojosTest.class,
 	MessagesTest.class,
+	MultipartTest.class,
 	NlsPropertyTest.class,
 	NlsTest.class,
 	NoParserInputTest.class,
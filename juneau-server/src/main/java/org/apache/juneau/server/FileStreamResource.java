@@ -0,0 +1,136 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.server.response.*;
+
+/**
+ * Represents the contents of a file on the file system with convenience methods for adding HTTP response headers.
+ * <p>
+ * Unlike {@link StreamResource}, the contents are not loaded into memory.
+ * This class is handled special by the {@link FileStreamResourceHandler} class, which copies the file to the
+ * 	response using {@link FileChannel#transferTo(long, long, WritableByteChannel)}, and supports
+ * 	<code>If-Modified-Since</code> and single byte-range <code>Range</code> requests.
+ * <p>
+ * Useful for serving large files such as logs.
+ *
+ * <h6 class='topic'>Example:</h6>
+ * <p class='bcode'>
+ * 	<ja>@RestMethod</ja>(name=<js>"GET"</js>, path=<js>"/logs/{name}"</js>)
+ * 	<jk>public</jk> FileStreamResource getLog(<ja>@Path</ja> String name) {
+ * 		<jk>return new</jk> FileStreamResource(<jk>new</jk> File(logDir, name), <js>"text/plain"</js>);
+ * 	}
+ * </p>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public class FileStreamResource implements Streamable {
+
+	private final File file;
+	private final String mediaType;
+	private Map<String,String> headers = new LinkedHashMap<String,String>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param file The file.
+	 * @param mediaType The resource media type.
+	 */
+	public FileStreamResource(File file, String mediaType) {
+		this.file = file;
+		this.mediaType = mediaType;
+	}
+
+	/**
+	 * Add an HTTP response header.
+	 *
+	 * @param name The header name.
+	 * @param value The header value, converted to a string using {@link Object#toString()}.
+	 * @return This object (for method chaining).
+	 */
+	public FileStreamResource setHeader(String name, Object value) {
+		headers.put(name, value == null ? "" : value.toString());
+		return this;
+	}
+
+	/**
+	 * Get the HTTP response headers.
+	 *
+	 * @return The HTTP response headers.  Never <jk>null</jk>.
+	 */
+	public Map<String,String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the file being served.
+	 *
+	 * @return The file.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Copies the specified range of the file to the specified output stream.
+	 *
+	 * @param os The output stream to write to.
+	 * @param start The starting byte position.
+	 * @param length The number of bytes to copy.
+	 * @throws IOException If the file could not be read, or is shorter than the requested range.
+	 */
+	public void streamTo(OutputStream os, long start, long length) throws IOException {
+		WritableByteChannel out = toChannel(os);
+		FileInputStream fis = new FileInputStream(file);
+		try {
+			FileChannel fc = fis.getChannel();
+			long pos = start, end = start + length;
+			while (pos < end) {
+				long n = fc.transferTo(pos, end - pos, out);
+				if (n <= 0) {
+					if (pos >= fc.size())
+						throw new EOFException("File '"+file+"' truncated while being sent.");
+					continue;
+				}
+				pos += n;
+			}
+		} finally {
+			fis.close();
+		}
+	}
+
+	@Override /* Streamable */
+	public void streamTo(OutputStream os) throws IOException {
+		streamTo(os, 0, file.length());
+	}
+
+	@Override /* Streamable */
+	public String getMediaType() {
+		return mediaType;
+	}
+
+	/*
+	 * Streams that are already channels (e.g. some servlet containers' output streams) are used as-is so that
+	 * FileChannel.transferTo() can hand the copy off to the container.
+	 */
+	private static WritableByteChannel toChannel(OutputStream os) {
+		if (os instanceof WritableByteChannel)
+			return (WritableByteChannel)os;
+		return Channels.newChannel(os);
+	}
+}
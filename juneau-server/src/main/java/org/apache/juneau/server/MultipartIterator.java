@@ -0,0 +1,302 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Streaming parser for <js>"multipart/form-data"</js> request bodies.
+ * <p>
+ * 	Parts are read from the request input stream one at a time as the iterator is advanced, so arbitrarily large
+ * 	uploads can be handled without holding them in memory.
+ * 	The contents of a part are available through {@link MultipartPart#getInputStream()} until the next part is requested,
+ * 	at which point any unread contents are skipped.
+ * 	Parts that need to be kept around can be buffered with {@link MultipartPart#buffer()}, which holds the contents in memory
+ * 	up to the spill threshold, and in a temporary file beyond that.
+ * <p>
+ * 	Since {@link Iterator} methods can't throw checked exceptions, malformed input and I/O errors are thrown from
+ * 	{@link #hasNext()} and {@link #next()} as {@link RestException RestExceptions} with status <code>400</code>.
+ * <p>
+ * 	Temporary files are deleted when the iterator is closed.
+ * 	Iterators returned by {@link RestRequest#getMultipartParts()} are closed automatically at the end of the request.
+ *
+ * <h6 class='topic'>Example:</h6>
+ * <p class='bcode'>
+ * 	<ja>@RestMethod</ja>(name=<js>"POST"</js>, path=<js>"/upload"</js>, matchers=MultipartFormDataMatcher.<jk>class</jk>)
+ * 	<jk>public</jk> Redirect upload(<ja>@Body</ja> MultipartIterator parts) <jk>throws</jk> Exception {
+ * 		<jk>while</jk> (parts.hasNext()) {
+ * 			MultipartPart p = parts.next();
+ * 			<jk>if</jk> (p.isFile())
+ * 				IOPipe.<jsm>create</jsm>(p.getInputStream(), <jk>new</jk> FileOutputStream(<jk>new</jk> File(<jf>dir</jf>, p.getFilename()))).closeOut().run();
+ * 		}
+ * 		<jk>return new</jk> Redirect();
+ * 	}
+ * </p>
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class MultipartIterator implements Iterator<MultipartPart>, Closeable {
+
+	private static final int BUFFER_SIZE = 16384, MAX_HEADER_LINE = 8192;
+
+	private final InputStream in;
+	private final byte[] delimiter, buf;
+	private final String charset;
+	final long spillThreshold;
+	private final List<MultipartPart> spilled = new LinkedList<MultipartPart>();
+	private int head, tail;
+	private boolean eof, finished;
+	private PartInputStream current;
+	private MultipartPart last, next;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The request body.
+	 * @param boundary The boundary parameter of the <code>Content-Type</code> header.
+	 * @param charset The character set of the part headers, and the default character set of text parts.
+	 * @param spillThreshold The size in bytes above which buffered parts are written to temporary files.
+	 */
+	public MultipartIterator(InputStream in, String boundary, String charset, long spillThreshold) {
+		this.in = in;
+		try {
+			this.delimiter = ("\r\n--" + boundary).getBytes("ISO-8859-1");
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e); // Never happens.
+		}
+		this.buf = new byte[Math.max(BUFFER_SIZE, delimiter.length * 4)];
+		this.charset = charset;
+		this.spillThreshold = spillThreshold;
+
+		// The first boundary isn't preceded by a line break, so pretend that it is and treat anything before it as a part.
+		buf[tail++] = '\r';
+		buf[tail++] = '\n';
+		current = new PartInputStream();
+	}
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (next == null && ! finished) {
+			try {
+				next = readPart();
+			} catch (IOException e) {
+				finished = true;
+				throw new RestException(SC_BAD_REQUEST, e);
+			}
+		}
+		return next != null;
+	}
+
+	@Override /* Iterator */
+	public MultipartPart next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		MultipartPart p = next;
+		next = null;
+		return p;
+	}
+
+	@Override /* Iterator */
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Deletes the temporary files of parts that were buffered to disk.
+	 * <p>
+	 * 	Does not close the underlying input stream.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		finished = true;
+		for (MultipartPart p : spilled)
+			p.delete();
+		spilled.clear();
+	}
+
+	/*
+	 * Called by MultipartPart when its contents are written to a temporary file.
+	 */
+	void spilled(MultipartPart p) {
+		spilled.add(p);
+	}
+
+	private MultipartPart readPart() throws IOException {
+
+		// Skip whatever is left of the previous part.
+		current.skipAll();
+		if (last != null)
+			last.expire();
+
+		// The last delimiter is followed by "--".  Anything after that is ignored.
+		if (! fill(2))
+			throw new IOException("Unexpected end of multipart stream.");
+		if (buf[head] == '-' && buf[head+1] == '-') {
+			finished = true;
+			return null;
+		}
+		while (fill(1) && (buf[head] == ' ' || buf[head] == '\t'))
+			head++;
+		if (! fill(2) || buf[head] != '\r' || buf[head+1] != '\n')
+			throw new IOException("Malformed multipart boundary.");
+		head += 2;
+
+		Map<String,String> headers = new TreeMap<String,String>(String.CASE_INSENSITIVE_ORDER);
+		for (String line = readLine(); line.length() > 0; line = readLine()) {
+			int i = line.indexOf(':');
+			if (i == -1)
+				throw new IOException("Malformed multipart header: " + line);
+			headers.put(line.substring(0, i).trim(), line.substring(i+1).trim());
+		}
+
+		current = new PartInputStream();
+		last = new MultipartPart(this, headers, current, charset);
+		return last;
+	}
+
+	/*
+	 * Reads a CRLF-terminated header line.
+	 */
+	private String readLine() throws IOException {
+		for (int i = 0; ; i++) {
+			if (i > MAX_HEADER_LINE)
+				throw new IOException("Multipart header line too long.");
+			if (! fill(i+2))
+				throw new IOException("Unexpected end of multipart stream.");
+			if (buf[head+i] == '\r' && buf[head+i+1] == '\n') {
+				String s = new String(buf, head, i, charset);
+				head += i+2;
+				return s;
+			}
+		}
+	}
+
+	/*
+	 * Makes sure there are at least the specified number of unread bytes in the buffer.
+	 * Returns false if the end of the stream was reached first.
+	 */
+	private boolean fill(int n) throws IOException {
+		while (tail - head < n) {
+			if (eof)
+				return false;
+			if (head > 0) {
+				System.arraycopy(buf, head, buf, 0, tail - head);
+				tail -= head;
+				head = 0;
+			}
+			int i = in.read(buf, tail, buf.length - tail);
+			if (i == -1)
+				eof = true;
+			else
+				tail += i;
+		}
+		return true;
+	}
+
+	/*
+	 * Returns the position of the next delimiter in the buffer, or -1 if there isn't a complete one.
+	 */
+	private int indexOfDelimiter() {
+		byte d0 = delimiter[0];
+		int dl = delimiter.length;
+		outer: for (int i = head, last = tail - dl; i <= last; i++) {
+			if (buf[i] != d0)
+				continue;
+			for (int j = 1; j < dl; j++)
+				if (buf[i+j] != delimiter[j])
+					continue outer;
+			return i;
+		}
+		return -1;
+	}
+
+	/*
+	 * The contents of a single part, ending at the next delimiter.
+	 */
+	private final class PartInputStream extends InputStream {
+		private boolean ended;
+		private int avail;  // Number of bytes at the head of the buffer known to belong to this part.
+
+		@Override /* InputStream */
+		public int read() throws IOException {
+			if (readable() == -1)
+				return -1;
+			avail--;
+			return buf[head++] & 0xFF;
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (len == 0)
+				return 0;
+			int n = readable();
+			if (n == -1)
+				return -1;
+			n = Math.min(n, len);
+			System.arraycopy(buf, head, b, off, n);
+			head += n;
+			avail -= n;
+			return n;
+		}
+
+		@Override /* InputStream */
+		public long skip(long n) throws IOException {
+			int r = readable();
+			if (r == -1)
+				return 0;
+			r = (int)Math.min(r, n);
+			head += r;
+			avail -= r;
+			return r;
+		}
+
+		void skipAll() throws IOException {
+			int n;
+			while ((n = readable()) != -1) {
+				head += n;
+				avail = 0;
+			}
+		}
+
+		/*
+		 * Returns the number of bytes in the buffer that are part of this part, reading more input if necessary,
+		 * or -1 if the end of the part has been reached.
+		 */
+		private int readable() throws IOException {
+			if (ended)
+				return -1;
+			if (avail > 0)
+				return avail;
+			while (true) {
+				int i = indexOfDelimiter();
+				if (i == head) {
+					ended = true;
+					head += delimiter.length;
+					return -1;
+				}
+				if (i != -1)
+					return avail = i - head;
+
+				// Anything before the last delimiter.length-1 bytes can't be the start of a delimiter.
+				int safe = tail - head - (delimiter.length - 1);
+				if (safe > 0)
+					return avail = safe;
+				if (! fill(tail - head + 1))
+					throw new IOException("Unexpected end of multipart stream.");
+			}
+		}
+	}
+}
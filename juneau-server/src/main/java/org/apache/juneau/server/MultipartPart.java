@@ -0,0 +1,253 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * A single part of a <js>"multipart/form-data"</js> request body returned by {@link MultipartIterator}.
+ * <p>
+ * 	The contents are streamed directly from the request body, and are only available until the next part is requested
+ * 	from the iterator.
+ * 	Call {@link #buffer()} to keep the contents around longer.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class MultipartPart {
+
+	private final MultipartIterator iterator;
+	private final Map<String,String> headers;
+	private final String name, filename, contentType, charset;
+	private InputStream in;
+	private byte[] bytes;
+	private File file;
+	private long size = -1;
+
+	MultipartPart(MultipartIterator iterator, Map<String,String> headers, InputStream in, String defaultCharset) {
+		this.iterator = iterator;
+		this.headers = Collections.unmodifiableMap(headers);
+		this.in = in;
+		String cd = headers.get("Content-Disposition");
+		this.name = getParameter(cd, "name");
+		this.filename = getParameter(cd, "filename");
+		this.contentType = headers.get("Content-Type");
+		String cs = getParameter(contentType, "charset");
+		this.charset = (cs == null ? defaultCharset : cs);
+	}
+
+	/**
+	 * Returns the form field name from the <code>Content-Disposition</code> header.
+	 *
+	 * @return The field name, or <jk>null</jk> if not specified.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the file name from the <code>Content-Disposition</code> header.
+	 * <p>
+	 * 	Note that some browsers send the full path of the file on the client.
+	 *
+	 * @return The file name, or <jk>null</jk> if this part isn't a file.
+	 */
+	public String getFilename() {
+		return filename;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this part is a file upload.
+	 *
+	 * @return <jk>true</jk> if the <code>Content-Disposition</code> header has a file name.
+	 */
+	public boolean isFile() {
+		return filename != null;
+	}
+
+	/**
+	 * Returns the value of the <code>Content-Type</code> header of this part.
+	 *
+	 * @return The content type, or <jk>null</jk> if not specified.
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Returns the value of the specified header of this part.
+	 *
+	 * @param name The header name.  Case insensitive.
+	 * @return The header value, or <jk>null</jk> if not specified.
+	 */
+	public String getHeader(String name) {
+		return headers.get(name);
+	}
+
+	/**
+	 * Returns the headers of this part.
+	 *
+	 * @return An unmodifiable map of header names to values.
+	 */
+	public Map<String,String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the contents of this part.
+	 * <p>
+	 * 	If this part hasn't been buffered, the stream reads directly from the request body and can only be consumed once.
+	 *
+	 * @return The contents of this part.
+	 * @throws IOException If the temporary file could not be opened.
+	 * @throws IllegalStateException If the iterator has moved past this part and it wasn't buffered.
+	 */
+	public InputStream getInputStream() throws IOException {
+		if (bytes != null)
+			return new ByteArrayInputStream(bytes);
+		if (file != null)
+			return new FileInputStream(file);
+		if (in == null)
+			throw new IllegalStateException("The contents of multipart part '"+name+"' are no longer available.  Call buffer() to keep the contents of parts.");
+		return in;
+	}
+
+	/**
+	 * Returns the contents of this part as a string.
+	 * <p>
+	 * 	Uses the <code>charset</code> parameter of the <code>Content-Type</code> header of this part, or the character
+	 * 	encoding of the request if not specified.
+	 *
+	 * @return The contents of this part.
+	 * @throws IOException If the contents could not be read.
+	 */
+	public String getString() throws IOException {
+		return IOUtils.read(new InputStreamReader(getInputStream(), charset));
+	}
+
+	/**
+	 * Reads the remaining contents of this part so that they're still available after the iterator moves on.
+	 * <p>
+	 * 	Contents up to the spill threshold of the iterator are kept in memory.
+	 * 	Larger contents are written to a temporary file that's deleted when the iterator is closed.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws IOException If the contents could not be read or the temporary file could not be written.
+	 */
+	public MultipartPart buffer() throws IOException {
+		if (bytes != null || file != null)
+			return this;
+		InputStream is = getInputStream();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream out = baos;
+		byte[] b = BufferPool.DEFAULT.getBytes(8192);
+		long n = 0;
+		try {
+			int i;
+			while ((i = is.read(b)) != -1) {
+				n += i;
+				if (out == baos && n > iterator.spillThreshold) {
+					file = File.createTempFile("multipart", ".tmp");
+					iterator.spilled(this);
+					out = new BufferedOutputStream(new FileOutputStream(file));
+					baos.writeTo(out);
+				}
+				out.write(b, 0, i);
+			}
+		} finally {
+			BufferPool.DEFAULT.release(b);
+			out.close();
+		}
+		if (file == null)
+			bytes = baos.toByteArray();
+		size = n;
+		in = null;
+		return this;
+	}
+
+	/**
+	 * Returns the size of this part.
+	 *
+	 * @return The size in bytes, or <code>-1</code> if this part hasn't been buffered.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the temporary file containing the contents of this part.
+	 * <p>
+	 * 	The file can be renamed to keep it after the request ends.
+	 *
+	 * @return The temporary file, or <jk>null</jk> if the contents weren't written to a temporary file.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Deletes the temporary file of this part, if there is one.
+	 */
+	public void delete() {
+		if (file != null) {
+			file.delete();
+			file = null;
+		}
+	}
+
+	/*
+	 * Called by the iterator when it moves past this part.
+	 */
+	void expire() {
+		in = null;
+	}
+
+	/*
+	 * Returns the value of a parameter on a header such as "form-data; name=\"foo\"; filename=\"bar.txt\"".
+	 */
+	static String getParameter(String header, String name) {
+		if (header == null)
+			return null;
+		int len = header.length(), i = header.indexOf(';');
+		while (i != -1) {
+			int eq = header.indexOf('=', i);
+			if (eq == -1)
+				return null;
+			String n = header.substring(i+1, eq).trim();
+			String v;
+			i = eq + 1;
+			while (i < len && header.charAt(i) == ' ')
+				i++;
+			if (i < len && header.charAt(i) == '"') {
+				StringBuilder sb = new StringBuilder();
+				for (i++; i < len && header.charAt(i) != '"'; i++) {
+					char c = header.charAt(i);
+					if (c == '\\' && i+1 < len && header.charAt(i+1) == '"')
+						c = header.charAt(++i);
+					sb.append(c);
+				}
+				v = sb.toString();
+				i = header.indexOf(';', i);
+			} else {
+				int end = header.indexOf(';', i);
+				v = header.substring(i, end == -1 ? len : end).trim();
+				i = end;
+			}
+			if (n.equalsIgnoreCase(name))
+				return v;
+		}
+		return null;
+	}
+}
@@ -70,7 +70,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	private final RestServlet servlet;
 	private String method, pathRemainder, body;
 	Method javaMethod;
-	private ObjectMap properties;
+	private ObjectMap properties, methodProperties;
 	private SerializerGroup serializerGroup;
 	private ParserGroup parserGroup;
 	private Encoder encoder;
@@ -87,6 +87,8 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	private ObjectMap headers;
 	private ConfigFile cf;
 	private Swagger swagger, fileSwagger;
+	private Map<ClassMeta<?>,Map<String,Object>> parsedParams;  // Parsed parameter values keyed by type and raw value.
+	private MultipartIterator multipartParts;
 
 	/**
 	 * Constructor.
@@ -136,15 +138,17 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * Called from RestServlet after a match has been made but before the guard or method invocation.
 	 */
 	@SuppressWarnings("hiding")
-	final void init(Method javaMethod, String pathRemainder, ObjectMap properties, Map<String,String> mDefaultRequestHeaders, String defaultCharset, SerializerGroup mSerializers, ParserGroup mParsers, UrlEncodingParser mUrlEncodingParser) {
+	final void init(Method javaMethod, String pathRemainder, ObjectMap methodProperties, Map<String,String> mDefaultRequestHeaders, String defaultCharset, SerializerGroup mSerializers, ParserGroup mParsers, UrlEncodingParser mUrlEncodingParser) {
 		this.javaMethod = javaMethod;
 		this.pathRemainder = pathRemainder;
-		this.properties = properties;
+		this.methodProperties = methodProperties;
+		this.properties = null;
 		this.defaultMethodHeaders = mDefaultRequestHeaders;
 		this.serializerGroup = mSerializers;
 		this.parserGroup = mParsers;
 		this.urlEncodingParser = mUrlEncodingParser;
 		this.beanContext = urlEncodingParser.getBeanContext();
+		this.parsedParams = null;
 		this.defaultCharset = defaultCharset;
 	}
 
@@ -174,10 +178,15 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * Retrieve the properties active for this request.
 	 * <p>
 	 * 	These properties can be modified by the request.
+	 * <p>
+	 * 	The map is created on first access by {@link RestServlet#createRequestProperties(ObjectMap, RestRequest)}.
+	 * 	Modifications are made to the request-level map and don't affect the method-level properties it delegates to.
 	 *
-	 * @return The properties active for this request.
+	 * @return The properties active for this request, or <jk>null</jk> if called before a Java method has been matched.
 	 */
 	public ObjectMap getProperties() {
+		if (properties == null && methodProperties != null)
+			properties = servlet.createRequestProperties(methodProperties, this);
 		return this.properties;
 	}
 
@@ -566,6 +575,8 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * <p>
 	 * 	This method can be used to retrieve a parameter without triggering the underlying
 	 * 	servlet API to load and parse the request body.
+	 * <p>
+	 * 	Parsed values are cached for the duration of the request, so repeated calls return the same object.
 	 *
 	 * @param name The parameter name.
 	 * @param cm The class type to convert the parameter value to.
@@ -870,6 +881,8 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * 	ClassMeta&lt;Map&lt;String,Integer&gt;&gt; cm = request.getBeanContext().getMapClassMeta(TreeMap.<jk>class</jk>, String.<jk>class</jk>, Integer.<jk>class</jk>);
 	 * 	Map&lt;String,Integer&gt; m = request.getFormDataParameter(<js>"myParameter"</js>, cm);
 	 * </p>
+	 * <p>
+	 * 	Parsed values are cached for the duration of the request, so repeated calls return the same object.
 	 *
 	 * @param name The parameter name.
 	 * @param cm The class type to convert the parameter value to.
@@ -1011,7 +1024,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		Object attr = getPathParameter(name);
 		T t = null;
 		if (attr != null)
-			t = urlEncodingParser.parseParameter(attr.toString(), cm);
+			t = parseParameterCached(attr.toString(), cm);
 		if (t == null && cm.isPrimitive())
 			return cm.getPrimitiveDefault();
 		return t;
@@ -1111,11 +1124,15 @@ public final class RestRequest extends HttpServletRequestWrapper {
 			if (type.isInputStream())
 				return (T)getInputStream();
 
+			if (type.getInnerClass() == MultipartIterator.class)
+				return (T)getMultipartParts();
+
 			String mediaType = getMediaType();
 			Parser p = getParser();
 
 			if (p != null) {
 				try {
+					ObjectMap properties = getProperties();
 					properties.append("mediaType", mediaType).append("characterEncoding", getCharacterEncoding());
 					if (! p.isReaderParser()) {
 						InputStreamParser p2 = (InputStreamParser)p;
@@ -1146,6 +1163,42 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		}
 	}
 
+	/**
+	 * Returns the parts of a <js>"multipart/form-data"</js> request body.
+	 * <p>
+	 * 	Parts are read from the request input stream as the iterator is advanced, so the body is never held in memory
+	 * 	as a whole.
+	 * 	Parts buffered through {@link MultipartPart#buffer()} are kept in memory up to the size specified by the
+	 * 	{@link RestServletContext#REST_multipartSpillThreshold} property, and in temporary files beyond that.
+	 * 	Temporary files are deleted at the end of the request.
+	 * <p>
+	 * 	Can also be retrieved by declaring a {@link org.apache.juneau.server.annotation.Body @Body} parameter of type {@link MultipartIterator} on the Java method.
+	 * <p>
+	 * 	Repeated calls return the same iterator.
+	 *
+	 * @return An iterator over the parts of the request body.
+	 * @throws IOException If the request input stream could not be opened.
+	 * @throws RestException (400) If the request body isn't <js>"multipart/form-data"</js>.
+	 */
+	public MultipartIterator getMultipartParts() throws IOException, RestException {
+		if (multipartParts == null) {
+			String ct = getContentType();
+			String boundary = MultipartPart.getParameter(ct, "boundary");
+			if (boundary == null || ! ct.toLowerCase(Locale.ENGLISH).startsWith("multipart/form-data"))
+				throw new RestException(SC_BAD_REQUEST, "Request body is not multipart/form-data.  Content-Type: ''{0}''", ct);
+			multipartParts = new MultipartIterator(getInputStream(), boundary, getCharacterEncoding(), servlet.context.multipartSpillThreshold);
+		}
+		return multipartParts;
+	}
+
+	/*
+	 * Called from RestServlet at the end of the request to delete any temporary files.
+	 */
+	void close() {
+		if (multipartParts != null)
+			multipartParts.close();
+	}
+
 	/**
 	 * Returns the HTTP body content as a plain string.
 	 * <p>
@@ -1215,6 +1268,10 @@ public final class RestRequest extends HttpServletRequestWrapper {
 					return is2.read();
 				}
 				@Override /* InputStream */
+				public final int read(byte[] b, int off, int len) throws IOException {
+					return is2.read(b, off, len);
+				}
+				@Override /* InputStream */
 				public final void close() throws IOException {
 					is2.close();
 				}
@@ -1798,7 +1855,27 @@ public final class RestRequest extends HttpServletRequestWrapper {
 			if (x != '(' && x != '$' && x != '\u0000' && val.indexOf('~') == -1)
 				return (T)val;
 		}
-		return urlEncodingParser.parseParameter(val, c);
+		return parseParameterCached(val, c);
+	}
+
+	/*
+	 * Parses a parameter value using the URL-encoding parser.
+	 * Values are cached for the duration of the request so that the same value isn't parsed more than once
+	 * (e.g. once when binding a method parameter and again when the method calls getQueryParameter(name, Class)).
+	 */
+	private <T> T parseParameterCached(String val, ClassMeta<T> c) throws ParseException {
+		if (parsedParams == null)
+			parsedParams = new HashMap<ClassMeta<?>,Map<String,Object>>();
+		Map<String,Object> m = parsedParams.get(c);
+		if (m == null) {
+			m = new HashMap<String,Object>();
+			parsedParams.put(c, m);
+		}
+		if (m.containsKey(val))
+			return (T)m.get(val);
+		T t = urlEncodingParser.parseParameter(val, c);
+		m.put(val, t);
+		return t;
 	}
 
 	/*
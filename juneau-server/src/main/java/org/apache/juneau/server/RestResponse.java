@@ -56,7 +56,6 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private final RestRequest request;
 	private Object output;                               // The POJO being sent to the output.
 	private boolean isNullOutput;                        // The output is null (as opposed to not being set at all)
-	private ObjectMap properties;                        // Response properties
 	SerializerGroup serializerGroup;
 	UrlEncodingSerializer urlEncodingSerializer;         // The serializer used to convert arguments passed into Redirect objects.
 	private EncoderGroup encoders;
@@ -90,8 +89,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	 * Called from RestServlet after a match has been made but before the guard or method invocation.
 	 */
 	@SuppressWarnings("hiding")
-	final void init(ObjectMap properties, String defaultCharset, SerializerGroup mSerializers, UrlEncodingSerializer mUrlEncodingSerializer, EncoderGroup encoders) {
-		this.properties = properties;
+	final void init(String defaultCharset, SerializerGroup mSerializers, UrlEncodingSerializer mUrlEncodingSerializer, EncoderGroup encoders) {
 		this.serializerGroup = mSerializers;
 		this.urlEncodingSerializer = mUrlEncodingSerializer;
 		this.encoders = encoders;
@@ -184,17 +182,19 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	 * @return This object (for method chaining).
 	 */
 	public RestResponse setProperty(String key, Object value) {
-		properties.put(key, value);
+		getProperties().put(key, value);
 		return this;
 	}
 
 	/**
 	 * Returns the properties set via {@link #setProperty(String, Object)}.
+	 * <p>
+	 * 	This is the same map returned by {@link RestRequest#getProperties()}.
 	 *
 	 * @return A map of all the property values set.
 	 */
 	public ObjectMap getProperties() {
-		return properties;
+		return request.getProperties();
 	}
 
 	/**
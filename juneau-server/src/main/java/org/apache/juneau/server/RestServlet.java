@@ -120,6 +120,7 @@ public abstract class RestServlet extends HttpServlet {
 	private ResponseHandler[] responseHandlers;
 	private String clientVersionHeader = "";
 	private ConcurrentHashMap<Locale,Swagger> swaggers = new ConcurrentHashMap<Locale,Swagger>();
+	private ConcurrentHashMap<String,Swagger> generatedSwaggers = new ConcurrentHashMap<String,Swagger>();
 
 	RestServletContext context;
 
@@ -763,11 +764,14 @@ public abstract class RestServlet extends HttpServlet {
 				}
 
 		// Add the default handlers.
+		l.add(new FileStreamResourceHandler());
 		l.add(new StreamableHandler());
 		l.add(new WritableHandler());
 		l.add(new ReaderHandler());
 		l.add(new InputStreamHandler());
 		l.add(new RedirectHandler());
+		if (context.cacheSwagger)
+			l.add(new SwaggerHandler());
 		l.add(new DefaultHandler());
 
 		return l.toArray(new ResponseHandler[l.size()]);
@@ -806,12 +810,38 @@ public abstract class RestServlet extends HttpServlet {
 
 	/**
 	 * Returns the localized swagger for this REST resource.
+	 * <p>
+	 * If {@link RestServletContext#REST_cacheSwagger} is enabled, the swagger is built once per locale
+	 * 	and set of methods allowed by guards on the request, and the same instance is returned on subsequent calls.
+	 * 	Cached instances must not be modified.
 	 *
 	 * @param req The incoming HTTP request.
-	 * @return A new Swagger instance.
+	 * @return The Swagger instance.
 	 * @throws RestException
 	 */
 	protected Swagger getSwagger(RestRequest req) throws RestException {
+		if (! context.cacheSwagger)
+			return createSwagger(req);
+
+		StringBuilder sb = new StringBuilder().append(req.getLocale()).append('|');
+		for (MethodMeta sm : javaRestMethods.values())
+			sb.append(sm.isRequestAllowed(req) ? '1' : '0');
+		String key = sb.toString();
+
+		Swagger s = generatedSwaggers.get(key);
+		if (s == null) {
+			s = createSwagger(req);
+			Swagger s2 = generatedSwaggers.putIfAbsent(key, s);
+			if (s2 != null)
+				s = s2;
+		}
+		return s;
+	}
+
+	/*
+	 * Builds the localized swagger from the swagger file if there is one, and the annotations and resource bundle otherwise.
+	 */
+	private Swagger createSwagger(RestRequest req) throws RestException {
 		try {
 			// If a file is defined, use that.
 			Swagger s = req.getSwaggerFromFile();
@@ -946,6 +976,7 @@ public abstract class RestServlet extends HttpServlet {
 
 		log(FINE, "HTTP: {0} {1}", r1.getMethod(), r1.getRequestURI());
 		long startTime = System.currentTimeMillis();
+		RestRequest req = null;
 
 		try {
 
@@ -983,7 +1014,7 @@ public abstract class RestServlet extends HttpServlet {
 				}
 			}
 
-			RestRequest req = createRequest(r1);
+			req = createRequest(r1);
 			RestResponse res = createResponse(req, r2);
 			String method = req.getMethod();
 			String methodUC = method.toUpperCase(Locale.ENGLISH);
@@ -1036,6 +1067,9 @@ public abstract class RestServlet extends HttpServlet {
 			handleError(r1, r2, e);
 		} catch (Throwable e) {
 			handleError(r1, r2, new RestException(SC_INTERNAL_SERVER_ERROR, e));
+		} finally {
+			if (req != null)
+				req.close();
 		}
 		log(FINE, "HTTP: [{0} {1}] finished in {2}ms", r1.getMethod(), r1.getRequestURI(), System.currentTimeMillis()-startTime);
 	}
@@ -1066,17 +1100,22 @@ public abstract class RestServlet extends HttpServlet {
 			throw new ServletException("Invalid method response: " + rc);
 	}
 
-	private synchronized void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
-		Integer c = 1;
+	/*
+	 * Only the stack trace hash counts are synchronized so that logging and writing the error response
+	 * don't block other threads.
+	 */
+	private void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
 		if (context.useStackTraceHashes) {
 			int h = e.hashCode();
-			c = stackTraceHashes.get(h);
-			if (c == null)
-				c = 1;
-			else
-				c++;
-			stackTraceHashes.put(h, c);
-			e.setOccurrence(c);
+			synchronized (stackTraceHashes) {
+				Integer c = stackTraceHashes.get(h);
+				if (c == null)
+					c = 1;
+				else
+					c++;
+				stackTraceHashes.put(h, c);
+				e.setOccurrence(c);
+			}
 		}
 		onError(req, res, e);
 		renderError(req, res, e);
@@ -1274,6 +1313,8 @@ public abstract class RestServlet extends HttpServlet {
 	 */
 	protected void log(Level level, Throwable cause, String msg, Object...args) {
 		JuneauLogger log = getLogger();
+		if (! log.isLoggable(level))
+			return;
 		if (args.length > 0)
 			msg = MessageFormat.format(msg, args);
 		log.log(level, msg, cause);
@@ -2052,6 +2093,7 @@ public abstract class RestServlet extends HttpServlet {
 		Type type;
 		String name = "";
 		boolean multiPart, plainParams;
+		ClassMeta<?> simpleType;  // Non-null if the value can be converted directly from the raw string.
 
 		MethodParam(MethodMeta mm, Type type, Method method, Annotation[] annotations) throws ServletException {
 			this.type = type;
@@ -2124,8 +2166,71 @@ public abstract class RestServlet extends HttpServlet {
 				throw new ServletException("Use of multipart flag on parameter that's not an array or Collection on method" + m);
 		}
 
+		/**
+		 * Called once the method-level bean context is known.
+		 * <p>
+		 * 	Enables direct conversion of single-valued path, query and form data parameters of type
+		 * 	<code>String</code>, <code><jk>int</jk></code>, <code><jk>long</jk></code>, <code><jk>boolean</jk></code>
+		 * 	and enums (and their wrapper types) that don't have a swap defined.
+		 */
+		void compile(BeanContext bc) {
+			if (multiPart || ! paramType.isOneOf(PATH, QUERY, FORMDATA) || ! (type instanceof Class))
+				return;
+			Class<?> c = getWrapperIfPrimitive((Class<?>)type);
+			if (! (c == String.class || c == Integer.class || c == Long.class || c == Boolean.class || c.isEnum()))
+				return;
+			ClassMeta<?> cm = bc.getClassMeta(c);
+			if (cm.getPojoSwap() != null || bc.getClassMeta(type).getPojoSwap() != null)
+				return;
+			simpleType = cm;
+		}
+
+		/**
+		 * Converts a raw parameter value without using the URL-encoding parser.
+		 * <p>
+		 * 	Returns <jk>null</jk> if the value is empty, uses UON notation (e.g. <js>"(foo)"</js> or <js>"$n(1)"</js>),
+		 * 	or can't be converted, in which case the caller falls back to the normal parsing path so that defaults and
+		 * 	error messages are unchanged.
+		 */
+		private Object convertSimple(String s) {
+			if (s == null || s.isEmpty())
+				return null;
+			if (! plainParams) {
+				char x = s.charAt(0);
+				if (x == '(' || x == '$' || x == '\u0000' || s.indexOf('~') != -1)
+					return null;
+			}
+			Class<?> c = simpleType.getInnerClass();
+			try {
+				if (c == String.class)
+					return s;
+				// Same as StringUtils.parseNumber() (e.g. "010" is octal).
+				if (c == Integer.class)
+					return Integer.decode(s);
+				if (c == Long.class)
+					return Long.decode(s);
+				if (c == Boolean.class)
+					return (s.equals("true") ? Boolean.TRUE : s.equals("false") ? Boolean.FALSE : null);
+				return simpleType.newInstanceFromString(null, s);
+			} catch (Exception e) {
+				return null;
+			}
+		}
+
 		@SuppressWarnings("unchecked")
 		private Object getValue(RestRequest req, RestResponse res) throws Exception {
+			if (simpleType != null) {
+				String s = null;
+				switch(paramType) {
+					case PATH:     s = req.getPathParameter(name); break;
+					case QUERY:    s = req.getQueryParameter(name); break;
+					case FORMDATA: s = (plainParams ? req.getFormDataParameter(name) : req.getParameter(name)); break;
+					default:       break;
+				}
+				Object o = convertSimple(s);
+				if (o != null)
+					return o;
+			}
 			BeanContext bc = req.getServlet().getBeanContext();
 			switch(paramType) {
 				case REQ:        return req;
@@ -2343,6 +2448,9 @@ public abstract class RestServlet extends HttpServlet {
 				mParsers.lock();
 				mUrlEncodingParser.lock();
 
+				for (MethodParam mp : params)
+					mp.compile(mUrlEncodingParser.getBeanContext());
+
 				// Need this to access methods in anonymous inner classes.
 				method.setAccessible(true);
 			} catch (Exception e) {
@@ -2666,8 +2774,8 @@ public abstract class RestServlet extends HttpServlet {
 			for (int i = 0; i < pathPattern.vars.length; i++)
 				req.setPathParameter(pathPattern.vars[i], patternVals[i]);
 
-			req.init(method, remainder, createRequestProperties(mProperties, req), mDefaultRequestHeaders, mDefaultEncoding, mSerializers, mParsers, mUrlEncodingParser);
-			res.init(req.getProperties(), mDefaultEncoding, mSerializers, mUrlEncodingSerializer, mEncoders);
+			req.init(method, remainder, mProperties, mDefaultRequestHeaders, mDefaultEncoding, mSerializers, mParsers, mUrlEncodingParser);
+			res.init(mDefaultEncoding, mSerializers, mUrlEncodingSerializer, mEncoders);
 
 			// Class-level guards
 			for (RestGuard guard : getGuards())
@@ -2968,6 +3076,9 @@ public abstract class RestServlet extends HttpServlet {
 	 * <p>
 	 * 	This map will automatically resolve any <js>"$X{...}"</js> variables using the {@link VarResolver}
 	 * 	returned by {@link #getVarResolver()}.
+	 * <p>
+	 * 	Called the first time {@link RestRequest#getProperties()} or {@link RestResponse#getProperties()} is called
+	 * 	on a request, so requests whose properties are never used don't create a map.
 	 *
 	 * @param methodProperties The method-level properties.
 	 * @param req The HTTP servlet request.
@@ -2981,18 +3092,15 @@ public abstract class RestServlet extends HttpServlet {
 				Object o = super.get(key);
 				if (o == null) {
 					String k = key.toString();
-					if (k.indexOf('.') != -1) {
-						String prefix = k.substring(0, k.indexOf('.'));
-						String remainder = k.substring(k.indexOf('.')+1);
-						if ("path".equals(prefix))
-							return req.getPathParameter(remainder);
-						if ("query".equals(prefix))
-							return req.getQueryParameter(remainder);
-						if ("formData".equals(prefix))
-							return req.getFormDataParameter(remainder);
-						if ("header".equals(prefix))
-							return req.getHeader(remainder);
-					}
+					// Most lookups are for context properties (e.g. "SerializerContext.maxDepth"), so don't substring the key unless the prefix matches.
+					if (k.startsWith("path."))
+						return req.getPathParameter(k.substring(5));
+					if (k.startsWith("query."))
+						return req.getQueryParameter(k.substring(6));
+					if (k.startsWith("formData."))
+						return req.getFormDataParameter(k.substring(9));
+					if (k.startsWith("header."))
+						return req.getHeader(k.substring(7));
 					if (k.equals(SERIALIZER_absolutePathUriBase)) {
 						int serverPort = req.getServerPort();
 						String serverName = req.getServerName();
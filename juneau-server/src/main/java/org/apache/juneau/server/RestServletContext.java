@@ -226,6 +226,42 @@ public final class RestServletContext extends Context {
 	 */
 	public static final String REST_paramFormat = "RestServlet.paramFormat";
 
+	/**
+	 * <b>Configuration property:</b>  Multipart spill threshold.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"RestServlet.multipartSpillThreshold"</js>
+	 * 	<li><b>Data type:</b> <code>Long</code>
+	 * 	<li><b>Default:</b> <code>262144</code>
+	 * </ul>
+	 * <p>
+	 * 	The size in bytes above which parts of <js>"multipart/form-data"</js> request bodies buffered through
+	 * 	{@link MultipartPart#buffer()} are written to temporary files instead of being kept in memory.
+	 * <p>
+	 * 	Applicable to servlet class only.
+	 */
+	public static final String REST_multipartSpillThreshold = "RestServlet.multipartSpillThreshold";
+
+	/**
+	 * <b>Configuration property:</b>  Cache Swagger documents.
+	 * <p>
+	 * <ul>
+	 * 	<li><b>Name:</b> <js>"RestServlet.cacheSwagger"</js>
+	 * 	<li><b>Data type:</b> <code>Boolean</code>
+	 * 	<li><b>Default:</b> <jk>false</jk>
+	 * </ul>
+	 * <p>
+	 * 	When enabled, the Swagger document returned by {@link RestServlet#getSwagger(RestRequest)} is built once per
+	 * 	locale and set of methods allowed by guards, and its serialized forms are reused with <code>ETag</code> headers
+	 * 	by {@link org.apache.juneau.server.response.SwaggerHandler}.
+	 * <p>
+	 * 	Only enable if titles, descriptions, and other Swagger text don't use variables that differ between requests
+	 * 	for the same locale (e.g. <js>"$R{requestURI}"</js>), since the text is resolved against the first request only.
+	 * <p>
+	 * 	Applicable to servlet class only.
+	 */
+	public static final String REST_cacheSwagger = "RestServlet.cacheSwagger";
+
 	//--------------------------------------------------------------------------------
 	// Automatically added properties.
 	//--------------------------------------------------------------------------------
@@ -324,8 +360,9 @@ public final class RestServletContext extends Context {
 	 */
 	public static final String REST_methodDescription = "RestServlet.methodDescription";
 
-	final boolean allowHeaderParams, allowBodyParam, renderResponseStackTraces, useStackTraceHashes;
+	final boolean allowHeaderParams, allowBodyParam, renderResponseStackTraces, useStackTraceHashes, cacheSwagger;
 	final String defaultCharset, paramFormat;
+	final long multipartSpillThreshold;
 	final Set<String> allowMethodParams;
 
 	/**
@@ -343,6 +380,8 @@ public final class RestServletContext extends Context {
 		useStackTraceHashes = cf.getProperty(REST_useStackTraceHashes, boolean.class, true);
 		defaultCharset = cf.getProperty(REST_defaultCharset, String.class, "utf-8");
 		paramFormat = cf.getProperty(REST_paramFormat, String.class, "");
+		multipartSpillThreshold = cf.getProperty(REST_multipartSpillThreshold, long.class, 262144L);
+		cacheSwagger = cf.getProperty(REST_cacheSwagger, boolean.class, false);
 
 		Set<String> s = new LinkedHashSet<String>();
 		for (String m : StringUtils.split(cf.getProperty(REST_allowMethodParam, String.class, ""), ','))
@@ -49,6 +49,17 @@ import java.lang.annotation.*;
  * 		...
  * 	}
  * </p>
+ * <p>
+ * 	<js>"multipart/form-data"</js> bodies can be read one part at a time by specifying a
+ * 	{@link org.apache.juneau.server.MultipartIterator} parameter.
+ * 	Parts are streamed from the request, so large uploads aren't held in memory.
+ * </p>
+ * <p class='bcode'>
+ * 	<ja>@RestMethod</ja>(name=<js>"POST"</js>, path=<js>"/upload"</js>, matchers=MultipartFormDataMatcher.<jk>class</jk>)
+ * 	<jk>public void</jk> doUpload(<ja>@Body</ja> MultipartIterator parts) {
+ * 		...
+ * 	}
+ * </p>
  * @author James Bognar (james.bognar@salesforce.com)
  */
 @Documented
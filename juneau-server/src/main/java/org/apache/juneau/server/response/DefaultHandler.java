@@ -51,13 +51,13 @@ public class DefaultHandler implements ResponseHandler {
 			if (contentType == null)
 				contentType = matchingAccept;
 			res.setContentType(contentType);
-			ObjectMap headers = s.getResponseHeaders(res.getProperties());
+			ObjectMap p = res.getProperties();
+			ObjectMap headers = s.getResponseHeaders(p);
 			if (headers != null)
 				for (String key : headers.keySet())
 					res.setHeader(key, headers.getString(key));
 
 			try {
-				ObjectMap p = res.getProperties();
 				if (req.isPlainText()) {
 					p.put(SerializerContext.SERIALIZER_useIndentation, true);
 					res.setContentType("text/plain");
@@ -0,0 +1,156 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.response;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.server.*;
+
+/**
+ * Response handler for {@link FileStreamResource} objects.
+ * <p>
+ * Copies the file directly to {@link RestResponse#getOutputStream()} without buffering it in memory or passing
+ * 	it through a writer.
+ * <p>
+ * Sets the <code>Last-Modified</code>, <code>Accept-Ranges</code>, and <code>Content-Length</code> response headers, and handles
+ * 	the following request headers:
+ * <ul class='spaced-list'>
+ * 	<li><code>If-Modified-Since</code> - Returns <code>304 Not Modified</code> with no content if the file hasn't changed.
+ * 	<li><code>Range</code> - Returns <code>206 Partial Content</code> with the requested bytes if the header contains a
+ * 		single byte range (e.g. <js>"bytes=100-199"</js>, <js>"bytes=100-"</js>, <js>"bytes=-100"</js>), or
+ * 		<code>416 Requested Range Not Satisfiable</code> if the range is outside the file.
+ * 		Multiple ranges and malformed headers are ignored and the entire file is sent.
+ * 	<li><code>If-Range</code> - The <code>Range</code> header is ignored if the file has changed since the specified date.
+ * </ul>
+ * <p>
+ * This handler is registered by default on {@link RestServlet RestServlets} via the
+ * 	default implementation of the {@link RestServlet#createResponseHandlers} method.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class FileStreamResourceHandler implements ResponseHandler {
+
+	@Override /* ResponseHandler */
+	public boolean handle(RestRequest req, RestResponse res, Object output) throws IOException, RestException {
+		if (output instanceof FileStreamResource) {
+			FileStreamResource r = (FileStreamResource)output;
+			File f = r.getFile();
+			if (! f.isFile())
+				throw new RestException(SC_NOT_FOUND, "File not found");
+
+			long length = f.length();
+			long lastModified = f.lastModified() / 1000 * 1000;  // HTTP dates have one-second resolution.
+
+			String mediaType = r.getMediaType();
+			if (mediaType != null)
+				res.setContentType(mediaType);
+			for (Map.Entry<String,String> h : r.getHeaders().entrySet())
+				res.setHeader(h.getKey(), h.getValue());
+			res.setDateHeader("Last-Modified", lastModified);
+			res.setHeader("Accept-Ranges", "bytes");
+
+			long ims = getDateHeader(req, "If-Modified-Since");
+			if (ims != -1 && lastModified <= ims) {
+				res.setStatus(SC_NOT_MODIFIED);
+				return true;
+			}
+
+			long start = 0, end = length - 1;
+			long[] range = null;
+			String rangeHeader = req.getHeader("Range");
+			if (rangeHeader != null) {
+				// Unlike If-Modified-Since, If-Range requires an exact match (RFC 7233, section 3.2).
+				long ifRange = getDateHeader(req, "If-Range");
+				if (req.getHeader("If-Range") == null || (ifRange != -1 && lastModified == ifRange / 1000 * 1000))
+					range = parseRange(rangeHeader, length);
+			}
+
+			if (range == RANGE_NOT_SATISFIABLE) {
+				res.setHeader("Content-Range", "bytes */" + length);
+				res.setStatus(SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				return true;
+			} else if (range != null) {
+				start = range[0];
+				end = range[1];
+				res.setHeader("Content-Range", "bytes " + start + '-' + end + '/' + length);
+				res.setStatus(SC_PARTIAL_CONTENT);
+			}
+
+			long n = end - start + 1;
+			res.setHeader("Content-Length", String.valueOf(n));  // Servlet 3.0 doesn't support long content lengths.
+			OutputStream os = res.getOutputStream();
+			if (! "HEAD".equals(req.getMethod()))
+				r.streamTo(os, start, n);
+			os.flush();
+			os.close();
+			return true;
+		}
+		return false;
+	}
+
+	private static final long[] RANGE_NOT_SATISFIABLE = new long[0];
+
+	/*
+	 * Parses a "Range: bytes=..." header.
+	 * Returns the first and last byte positions, RANGE_NOT_SATISFIABLE if the range is outside the file,
+	 * or null if the header should be ignored.
+	 */
+	static long[] parseRange(String h, long length) {
+		h = h.trim();
+		if (! h.startsWith("bytes="))
+			return null;
+		String s = h.substring(6).trim();
+		if (s.indexOf(',') != -1)
+			return null;
+		int i = s.indexOf('-');
+		if (i == -1)
+			return null;
+		String s1 = s.substring(0, i).trim(), s2 = s.substring(i+1).trim();
+		try {
+			long first, last;
+			if (s1.isEmpty()) {
+				if (s2.isEmpty())
+					return null;
+				long suffix = Long.parseLong(s2);
+				if (suffix < 0)
+					return null;
+				if (suffix == 0 || length == 0)
+					return RANGE_NOT_SATISFIABLE;
+				first = Math.max(0, length - suffix);
+				last = length - 1;
+			} else {
+				first = Long.parseLong(s1);
+				last = s2.isEmpty() ? Long.MAX_VALUE : Long.parseLong(s2);
+				if (first < 0 || last < first)
+					return null;
+				if (first >= length)
+					return RANGE_NOT_SATISFIABLE;
+				last = Math.min(last, length - 1);
+			}
+			return new long[]{first, last};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static long getDateHeader(RestRequest req, String name) {
+		try {
+			return req.getDateHeader(name);
+		} catch (IllegalArgumentException e) {
+			return -1;  // Not a date (e.g. an entity tag in If-Range).
+		}
+	}
+}
@@ -0,0 +1,183 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.response;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.dto.swagger.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.server.*;
+
+/**
+ * Response handler for {@link Swagger} documents (e.g. the result of <code>OPTIONS</code> requests).
+ * <p>
+ * Serializes the document the same way as {@link DefaultHandler}, but keeps the serialized bytes for each
+ * 	media type and request URI so that repeated requests for the same document aren't reserialized.
+ * <p>
+ * Sets a weak <code>ETag</code> response header computed from the serialized content, and returns
+ * 	<code>304 Not Modified</code> with no content if it matches the <code>If-None-Match</code> request header.
+ * <p>
+ * Serialized forms are kept for as long as the {@link Swagger} object itself is reachable, so this handler is only
+ * 	useful when the same instances are returned across requests, as done by {@link RestServlet#getSwagger(RestRequest)}
+ * 	when {@link RestServletContext#REST_cacheSwagger} is enabled.
+ * 	Swagger objects must not be modified after they've been returned by a REST method.
+ * <p>
+ * This handler is registered on {@link RestServlet RestServlets} with {@link RestServletContext#REST_cacheSwagger} enabled
+ * 	via the default implementation of the {@link RestServlet#createResponseHandlers} method.
+ *
+ * @author James Bognar (james.bognar@salesforce.com)
+ */
+public final class SwaggerHandler implements ResponseHandler {
+
+	// The maximum number of serialized forms kept per document.
+	private static final int MAX_ENTRIES = 32;
+
+	private final Map<Swagger,Map<String,Entry>> cache = Collections.synchronizedMap(new WeakHashMap<Swagger,Map<String,Entry>>());
+
+	@Override /* ResponseHandler */
+	public boolean handle(RestRequest req, RestResponse res, Object output) throws IOException, RestException {
+		if (! (output instanceof Swagger))
+			return false;
+
+		SerializerGroup g = res.getSerializerGroup();
+		String matchingAccept = g.findMatch(req.getHeader("Accept", ""));
+		if (matchingAccept == null)
+			return false;  // Let DefaultHandler report the error.
+
+		Serializer s = g.getSerializer(matchingAccept);
+		boolean plainText = req.isPlainText();
+		String charset = res.getCharacterEncoding();
+		String query = req.getQueryString();
+		String key = matchingAccept + '|' + plainText + '|' + charset + '|' + req.getRequestURI() + (query == null ? "" : '?' + query);
+
+		Map<String,Entry> m = cache.get(output);
+		if (m == null) {
+			synchronized(cache) {
+				m = cache.get(output);
+				if (m == null) {
+					m = Collections.synchronizedMap(new HashMap<String,Entry>());
+					cache.put((Swagger)output, m);
+				}
+			}
+		}
+
+		Entry e = m.get(key);
+		if (e == null) {
+			e = serialize(req, res, s, matchingAccept, plainText, charset, output);
+			if (e == null)
+				return false;
+			if (m.size() < MAX_ENTRIES)
+				m.put(key, e);
+		}
+
+		res.setContentType(e.contentType);
+		for (Map.Entry<String,String> h : e.headers.entrySet())
+			res.setHeader(h.getKey(), h.getValue());
+		res.setHeader("ETag", e.etag);
+
+		if (matches(req.getHeader("If-None-Match"), e.etag)) {
+			res.setStatus(SC_NOT_MODIFIED);
+			return true;
+		}
+
+		OutputStream os = res.getNegotiatedOutputStream();
+		if (! "HEAD".equals(req.getMethod()))
+			os.write(e.content);
+		os.close();
+		return true;
+	}
+
+	/*
+	 * Serializes the document into a new entry.
+	 * Returns null if the character encoding isn't supported, in which case DefaultHandler reports the error.
+	 */
+	private static Entry serialize(RestRequest req, RestResponse res, Serializer s, String matchingAccept, boolean plainText, String charset, Object output) throws RestException {
+		String contentType = s.getResponseContentType();
+		if (contentType == null)
+			contentType = res.getContentType();
+		if (contentType == null)
+			contentType = matchingAccept;
+
+		Map<String,String> headers = new LinkedHashMap<String,String>();
+		ObjectMap p = res.getProperties();
+		ObjectMap h = s.getResponseHeaders(p);
+		if (h != null)
+			for (String k : h.keySet())
+				headers.put(k, h.getString(k));
+
+		try {
+			if (plainText) {
+				p.put(SerializerContext.SERIALIZER_useIndentation, true);
+				contentType = "text/plain";
+			}
+			p.append("mediaType", matchingAccept).append("characterEncoding", charset);
+			byte[] b;
+			if (! s.isWriterSerializer()) {
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				SerializerSession session = s.createSession(baos, p, req.getJavaMethod());
+				((OutputStreamSerializer)s).serialize(session, output);
+				b = baos.toByteArray();
+			} else {
+				StringWriter sw = new StringWriter();
+				SerializerSession session = s.createSession(sw, p, req.getJavaMethod());
+				((WriterSerializer)s).serialize(session, output);
+				b = sw.toString().getBytes(charset);
+			}
+			CRC32 crc = new CRC32();
+			crc.update(b);
+			String etag = "W/\"" + Long.toHexString(crc.getValue()) + '-' + Integer.toHexString(b.length) + '"';
+			return new Entry(contentType, headers, b, etag);
+		} catch (UnsupportedEncodingException e) {
+			return null;
+		} catch (SerializeException e) {
+			throw new RestException(SC_INTERNAL_SERVER_ERROR, e);
+		}
+	}
+
+	/*
+	 * Returns true if the If-None-Match header contains the specified tag using weak comparison.
+	 */
+	static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null)
+			return false;
+		String t = stripWeak(etag);
+		for (String s : ifNoneMatch.split(",")) {
+			s = s.trim();
+			if (s.equals("*") || stripWeak(s).equals(t))
+				return true;
+		}
+		return false;
+	}
+
+	private static String stripWeak(String s) {
+		return s.startsWith("W/") ? s.substring(2) : s;
+	}
+
+	private static final class Entry {
+		final String contentType, etag;
+		final Map<String,String> headers;
+		final byte[] content;
+
+		Entry(String contentType, Map<String,String> headers, byte[] content, String etag) {
+			this.contentType = contentType;
+			this.headers = headers;
+			this.content = content;
+			this.etag = etag;
+		}
+	}
+}